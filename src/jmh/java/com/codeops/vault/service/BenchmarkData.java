@@ -0,0 +1,41 @@
+package com.codeops.vault.service;
+
+import java.util.Random;
+
+/**
+ * Deterministic input data shared by the JMH benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns a printable ASCII payload of the given size.
+     *
+     * @param size Payload size in bytes.
+     * @return Payload bytes.
+     */
+    static byte[] payload(int size) {
+        Random random = new Random(SEED);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + random.nextInt(26));
+        }
+        return data;
+    }
+
+    /**
+     * Returns a random 32-byte key.
+     *
+     * @param seed Seed distinguishing keys.
+     * @return Key bytes.
+     */
+    static byte[] key(long seed) {
+        byte[] key = new byte[32];
+        new Random(seed).nextBytes(key);
+        return key;
+    }
+}
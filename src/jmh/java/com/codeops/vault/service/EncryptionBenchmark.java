@@ -0,0 +1,87 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.VaultProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link EncryptionService} envelope encryption and KEK derivation.
+ *
+ * <p>Measures envelope encrypt and decrypt from 64 B to 1 MB payloads, with
+ * and without the {@link DerivedKeyCache}, plus a raw HKDF derivation. The
+ * {@code *Bytes} variants exercise the binary envelope path without Base64 and
+ * String conversion, which isolates the envelope's own allocations; run them
+ * with {@code -Djmh.args="-prof gc"} to report {@code gc.alloc.rate.norm}
+ * (bytes allocated per operation).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptionBenchmark {
+
+    @Param({"64", "1024", "65536", "1048576"})
+    private int payloadBytes;
+
+    @Param({"true", "false"})
+    private boolean kekCache;
+
+    private EncryptionService encryptionService;
+    private String plaintext;
+    private String envelope;
+    private byte[] binaryEnvelope;
+
+    @Setup
+    public void setUp() {
+        VaultProperties properties = new VaultProperties();
+        properties.setMasterKey("benchmark-master-key-minimum-32-characters-for-aes256");
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(new SimpleMeterRegistry());
+        if (kekCache) {
+            derivedKeyCache.onUnsealed();
+        }
+        encryptionService = new EncryptionService(properties, derivedKeyCache);
+        plaintext = new String(BenchmarkData.payload(payloadBytes), StandardCharsets.ISO_8859_1);
+        envelope = encryptionService.encrypt(plaintext);
+        binaryEnvelope = encryptionService.encryptToBytes(plaintext);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionService.encrypt(plaintext);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionService.decrypt(envelope);
+    }
+
+    @Benchmark
+    public byte[] encryptBytes() {
+        return encryptionService.encryptToBytes(plaintext);
+    }
+
+    @Benchmark
+    public String decryptBytes() {
+        return encryptionService.decryptFromBytes(binaryEnvelope);
+    }
+
+    @Benchmark
+    public byte[] deriveKey() {
+        return encryptionService.deriveKey("secret-storage");
+    }
+}
@@ -0,0 +1,119 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.CodeOpsVaultApplication;
+import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.SecretResponse;
+import com.codeops.vault.entity.Secret;
+import com.codeops.vault.entity.SecretMetadata;
+import com.codeops.vault.entity.enums.SecretType;
+import com.codeops.vault.repository.SecretMetadataRepository;
+import com.codeops.vault.repository.SecretRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for listing secrets against the embedded test database.
+ *
+ * <p>Boots the application with the {@code test} profile, seeds one page of
+ * secrets with three metadata entries each, and lists that page through
+ * {@link SecretService#listSecrets}. The {@code statements} and
+ * {@code listings} counters report the JDBC statements Hibernate prepared and
+ * the listings performed per iteration; their ratio should stay constant as
+ * the page size grows.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecretListingBenchmark {
+
+    private static final UUID TEAM_ID = UUID.randomUUID();
+
+    @Param({"10", "50", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private SecretService secretService;
+    private Statistics statistics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CodeOpsVaultApplication.class)
+                .run("--spring.profiles.active=test", "--server.port=0",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true");
+        secretService = context.getBean(SecretService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        SecretRepository secretRepository = context.getBean(SecretRepository.class);
+        SecretMetadataRepository metadataRepository = context.getBean(SecretMetadataRepository.class);
+        for (int i = 0; i < pageSize; i++) {
+            Secret secret = secretRepository.save(Secret.builder()
+                    .teamId(TEAM_ID)
+                    .path("/services/app-" + i + "/db")
+                    .name("secret-" + i)
+                    .secretType(SecretType.STATIC)
+                    .build());
+            for (String key : new String[]{"env", "owner", "tier"}) {
+                metadataRepository.save(SecretMetadata.builder()
+                        .secret(secret)
+                        .metadataKey(key)
+                        .metadataValue(key + "-" + i)
+                        .build());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Per-iteration statement and listing counts reported next to the timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class QueryCounter {
+        public long statements;
+        public long listings;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            listings = 0;
+        }
+    }
+
+    @Benchmark
+    public PageResponse<SecretResponse> listSecrets(QueryCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        PageResponse<SecretResponse> page = secretService.listSecrets(
+                TEAM_ID, null, null, false, PageRequest.of(0, pageSize));
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        counter.listings++;
+        return page;
+    }
+}
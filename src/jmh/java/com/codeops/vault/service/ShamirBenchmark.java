@@ -0,0 +1,67 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.VaultProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the Shamir's Secret Sharing math in {@link SealService}.
+ *
+ * <p>Splits a 32-byte master key into N shares with threshold M and
+ * reconstructs it from the first M shares.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShamirBenchmark {
+
+    @Param({"5:3", "10:5", "255:128"})
+    private String sharesAndThreshold;
+
+    private SealService sealService;
+    private byte[] secret;
+    private int totalShares;
+    private byte[][] thresholdShares;
+    private int[] thresholdIndices;
+
+    @Setup
+    public void setUp() {
+        String[] parts = sharesAndThreshold.split(":");
+        totalShares = Integer.parseInt(parts[0]);
+        int threshold = Integer.parseInt(parts[1]);
+        sealService = new SealService(new VaultProperties(), null);
+        secret = BenchmarkData.key(7);
+
+        byte[][] shares = sealService.splitSecret(secret, totalShares, threshold);
+        thresholdShares = new byte[threshold][];
+        thresholdIndices = new int[threshold];
+        for (int i = 0; i < threshold; i++) {
+            thresholdShares[i] = shares[i];
+            thresholdIndices[i] = i + 1;
+        }
+    }
+
+    @Benchmark
+    public byte[][] split() {
+        return sealService.splitSecret(secret, totalShares, thresholdShares.length);
+    }
+
+    @Benchmark
+    public byte[] combine() {
+        return sealService.reconstructSecret(thresholdShares, thresholdIndices);
+    }
+}
@@ -0,0 +1,89 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.config.VaultProperties;
+import com.codeops.vault.entity.TransitKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the transit encrypt path of {@link TransitService}.
+ *
+ * <p>Resolves the current key version of a transit key holding N versions and
+ * encrypts a 1 KB payload with it, with and without the {@link TransitKeyRingCache}.
+ * Repository, mapper and audit collaborators are not on this path and are
+ * left unset.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransitBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int keyVersions;
+
+    @Param({"true", "false"})
+    private boolean keyRingCache;
+
+    private EncryptionService encryptionService;
+    private TransitService transitService;
+    private TransitKey transitKey;
+    private String plaintextBase64;
+
+    @Setup
+    public void setUp() throws Exception {
+        VaultProperties properties = new VaultProperties();
+        properties.setMasterKey("benchmark-master-key-minimum-32-characters-for-aes256");
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(new SimpleMeterRegistry());
+        derivedKeyCache.onUnsealed();
+        encryptionService = new EncryptionService(properties, derivedKeyCache);
+
+        TransitKeyRingCache cache = new TransitKeyRingCache(new CacheProperties(), new SimpleMeterRegistry());
+        if (keyRingCache) {
+            cache.onUnsealed();
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        transitService = new TransitService(null, encryptionService, null, objectMapper, null, cache);
+
+        List<KeyVersion> versions = new ArrayList<>();
+        for (int v = 1; v <= keyVersions; v++) {
+            versions.add(new KeyVersion(v, Base64.getEncoder().encodeToString(BenchmarkData.key(v))));
+        }
+        transitKey = TransitKey.builder()
+                .teamId(UUID.randomUUID())
+                .name("benchmark-key")
+                .currentVersion(keyVersions)
+                .minDecryptionVersion(1)
+                .keyMaterial(encryptionService.encrypt(objectMapper.writeValueAsString(versions)))
+                .build();
+        transitKey.setId(UUID.randomUUID());
+        plaintextBase64 = Base64.getEncoder().encodeToString(BenchmarkData.payload(1024));
+    }
+
+    @Benchmark
+    public String encryptCurrentVersion() {
+        int version = transitKey.getCurrentVersion();
+        byte[] key = transitService.getKeyForVersion(transitKey, version);
+        return encryptionService.encryptWithKey(plaintextBase64, transitKey.getName() + ":v" + version, key);
+    }
+}
@@ -1,8 +1,14 @@
 package com.codeops.vault;
 
+import com.codeops.vault.config.AuditProperties;
+import com.codeops.vault.config.CacheProperties;
 import com.codeops.vault.config.DynamicSecretProperties;
 import com.codeops.vault.config.JwtProperties;
+import com.codeops.vault.config.RateLimitProperties;
+import com.codeops.vault.config.RotationProperties;
+import com.codeops.vault.config.SchedulingProperties;
 import com.codeops.vault.config.ServiceUrlProperties;
+import com.codeops.vault.config.StorageProperties;
 import com.codeops.vault.config.VaultProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -17,7 +23,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  */
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties({DynamicSecretProperties.class, JwtProperties.class, ServiceUrlProperties.class, VaultProperties.class})
+@EnableConfigurationProperties({AuditProperties.class, CacheProperties.class, DynamicSecretProperties.class, JwtProperties.class, RateLimitProperties.class, RotationProperties.class, SchedulingProperties.class, ServiceUrlProperties.class, StorageProperties.class, VaultProperties.class})
 public class CodeOpsVaultApplication {
 
     /**
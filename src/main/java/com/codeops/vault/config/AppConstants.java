@@ -52,6 +52,15 @@ public final class AppConstants {
     /** Current encryption format version. */
     public static final byte ENCRYPTION_FORMAT_VERSION = 1;
 
+    /** Format version of segmented (streaming) encrypted payloads. */
+    public static final byte STREAM_ENCRYPTION_FORMAT_VERSION = 2;
+
+    /** Plaintext segment size used when encrypting streams (64 KB). */
+    public static final int STREAM_SEGMENT_SIZE_BYTES = 65_536;
+
+    /** Largest segment size accepted when decrypting streams (1 MB). */
+    public static final int MAX_STREAM_SEGMENT_SIZE_BYTES = 1_048_576;
+
     /** Default key ID for master-derived keys. */
     public static final String DEFAULT_ENCRYPTION_KEY_ID = "master-v1";
 
@@ -67,6 +76,24 @@ public final class AppConstants {
     /** Maximum random string length. */
     public static final int MAX_RANDOM_LENGTH = 4096;
 
+    /** Maximum number of items in one transit batch request. */
+    public static final int TRANSIT_BATCH_MAX_ITEMS = 10_000;
+
+    /** Transit batches at least this large are processed in parallel across cores. */
+    public static final int TRANSIT_BATCH_PARALLEL_THRESHOLD = 64;
+
+    /** Maximum number of secrets returned by one bulk secret read. */
+    public static final int SECRET_BATCH_GET_MAX_ITEMS = 1000;
+
+    /** Bulk secret reads with at least this many values to decrypt are decrypted in parallel. */
+    public static final int SECRET_BATCH_PARALLEL_THRESHOLD = 16;
+
+    /** Maximum number of checks in one bulk access evaluation. */
+    public static final int POLICY_BATCH_EVALUATE_MAX_ITEMS = 1000;
+
+    /** JPA lock timeout hint value that makes a pessimistic lock skip rows locked by others ({@code SKIP LOCKED}). */
+    public static final String LOCK_TIMEOUT_SKIP_LOCKED = "-2";
+
     /** HKDF info prefix for all Vault key derivations. */
     public static final String HKDF_INFO_PREFIX = "codeops-vault-";
 }
@@ -0,0 +1,89 @@
+package com.codeops.vault.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the audit log write pipeline.
+ *
+ * <p>Controls how {@link com.codeops.vault.service.AuditWriter} persists
+ * audit entries: synchronously in the caller's thread, asynchronously through
+ * a bounded buffer, or through the buffer with the caller waiting for the
+ * batch that contains its entry to commit (group commit).</p>
+ *
+ * <p>Also controls retention of the audit table, maintained by
+ * {@link com.codeops.vault.service.AuditPartitionManager}.</p>
+ */
+@ConfigurationProperties(prefix = "codeops.vault.audit")
+@Getter
+@Setter
+public class AuditProperties {
+
+    /** How audit entries are made durable. Default: GROUP_COMMIT. */
+    private Durability durability = Durability.GROUP_COMMIT;
+
+    /** Capacity of the in-memory audit buffer. Default: 10000. */
+    private int bufferCapacity = 10000;
+
+    /** Maximum number of entries written in one JDBC batch. Default: 500. */
+    private int batchSize = 500;
+
+    /** Maximum time in milliseconds an ASYNC batch waits to fill before it is written. Default: 200. */
+    private long flushIntervalMs = 200;
+
+    /**
+     * Time in milliseconds a caller waits for buffer space when the buffer is full
+     * before writing its entry synchronously instead. Default: 1000.
+     */
+    private long offerTimeoutMs = 1000;
+
+    /**
+     * Time in milliseconds a GROUP_COMMIT caller waits for its batch to commit. A caller
+     * that times out stops waiting and its operation proceeds; the entry stays buffered
+     * and is still written by the next batch. Keep it well above the flush interval plus
+     * the expected batch latency, so that timeouts only occur when the database stalls.
+     * Default: 5000.
+     */
+    private long commitTimeoutMs = 5000;
+
+    /**
+     * Whether {@code vault_audit_log} is range-partitioned by month on {@code created_at}.
+     * Only honored on PostgreSQL. Default: false.
+     */
+    private boolean partitioningEnabled = false;
+
+    /** Number of future monthly partitions kept created ahead of time. Default: 2. */
+    private int partitionPrecreateMonths = 2;
+
+    /**
+     * Number of whole months of audit history kept in the database, not counting the
+     * current month. Older entries are archived and removed. 0 keeps everything. Default: 0.
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * Directory that receives gzip-compressed CSV archives of expired entries. With several
+     * instances, maintenance runs on whichever instance takes the maintenance lock, so this
+     * must be storage shared by all of them (e.g., a network volume). Default: audit-archive.
+     */
+    private String archiveDirectory = "audit-archive";
+
+    /** Rows archived and deleted per transaction when partitioning is not in use. Default: 5000. */
+    private int archiveBatchSize = 5000;
+
+    /** Interval in milliseconds between partition and retention maintenance runs. Default: 3600000. */
+    private long maintenanceIntervalMs = 3600000;
+
+    /**
+     * Audit durability modes.
+     */
+    public enum Durability {
+        /** Each entry is inserted in its own transaction in the caller's thread. */
+        SYNC,
+        /** Entries are buffered and written in batches; callers return immediately. */
+        ASYNC,
+        /** Entries are written in batches; callers wait until their batch has committed. */
+        GROUP_COMMIT
+    }
+}
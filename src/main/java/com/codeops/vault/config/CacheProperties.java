@@ -0,0 +1,54 @@
+package com.codeops.vault.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the Vault's in-memory caches.
+ *
+ * <p>All caches that hold key-derived material are seal-aware — they are
+ * only populated while the Vault is unsealed and are wiped when it seals.
+ * These settings bound how much is held in memory and for how long.</p>
+ */
+@ConfigurationProperties(prefix = "codeops.vault.cache")
+@Getter
+@Setter
+public class CacheProperties {
+
+    /** Maximum number of decrypted transit key rings held in memory. Default: 1000. */
+    private int transitKeyRingMaxEntries = 1000;
+
+    /**
+     * Maximum age in seconds of a compiled per-team policy index before it is
+     * rebuilt. Bounds staleness from policy changes made on other instances. Default: 60.
+     */
+    private int policyIndexMaxAgeSeconds = 60;
+
+    /** Time in seconds a cached access decision is served before it is evaluated again. 0 disables the cache. Default: 60. */
+    private int policyDecisionTtlSeconds = 60;
+
+    /** Maximum number of cached access decisions. Default: 10000. */
+    private int policyDecisionMaxEntries = 10000;
+
+    /**
+     * Whether decrypted current-version secret values are cached in memory.
+     * Opt-in because it keeps plaintext in process memory. Default: false.
+     */
+    private boolean secretValueEnabled = false;
+
+    /** Time in seconds a cached secret value is served before it is decrypted again. Default: 30. */
+    private int secretValueTtlSeconds = 30;
+
+    /** Maximum number of decrypted secret values held in memory. Default: 1000. */
+    private int secretValueMaxEntries = 1000;
+
+    /**
+     * Path prefixes whose secrets may be cached (e.g., {@code /config/}).
+     * Empty means every path. Default: empty.
+     */
+    private List<String> secretValuePathPrefixes = new ArrayList<>();
+}
@@ -10,6 +10,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * <p>Controls dynamic lease behavior including TTL defaults,
  * password generation, and whether to execute SQL against
  * target databases.</p>
+ *
+ * <p>Leases are expired by {@link com.codeops.vault.service.LeaseExpiryTimer}
+ * when their TTL ends, to within {@code expiryTickMs}. A sweep every
+ * {@code reconcileIntervalMs} expires any lease the timer missed.</p>
  */
 @ConfigurationProperties(prefix = "codeops.vault.dynamic-secrets")
 @Getter
@@ -30,4 +34,13 @@ public class DynamicSecretProperties {
 
     /** Username prefix for generated usernames. Default: "v_". */
     private String usernamePrefix = "v_";
+
+    /** Resolution in milliseconds of the lease expiry timer. Default: 100. */
+    private long expiryTickMs = 100;
+
+    /**
+     * Interval in milliseconds between sweeps that expire leases the timer
+     * missed and reload the timer from the database. Default: 300000 (5 minutes).
+     */
+    private long reconcileIntervalMs = 300000;
 }
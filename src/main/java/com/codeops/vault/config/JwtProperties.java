@@ -20,4 +20,7 @@ public class JwtProperties {
     private String secret;
     private int expirationHours;
     private int refreshExpirationDays;
+
+    /** Maximum number of verified tokens cached until expiry; 0 disables the cache. */
+    private int verifiedTokenCacheSize = 10000;
 }
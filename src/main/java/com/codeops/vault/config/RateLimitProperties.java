@@ -0,0 +1,90 @@
+package com.codeops.vault.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the API rate limiter.
+ *
+ * <p>{@link com.codeops.vault.security.RateLimitFilter} gives every client a
+ * token bucket per route: it holds up to {@code burst} requests and refills at
+ * {@code requestsPerMinute}. Clients are identified by their authenticated
+ * principal, or by IP address when the request is unauthenticated. A route
+ * override applies to the requests under its path prefix (longest prefix
+ * wins); a principal override applies to that client on every route. A
+ * {@code requestsPerMinute} of 0 exempts the route or principal.</p>
+ *
+ * <p>Limits apply per instance unless {@code distributed} is enabled, in
+ * which case {@link com.codeops.vault.security.RateLimitSynchronizer} shares
+ * them between instances through the database.</p>
+ */
+@ConfigurationProperties(prefix = "codeops.vault.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /** Path prefix of the requests that are rate limited. Default: /api/v1/vault/. */
+    private String pathPrefix = "/api/v1/vault/";
+
+    /** Sustained requests per minute allowed per client and route. 0 disables limiting. Default: 100. */
+    private int requestsPerMinute = 100;
+
+    /** Requests a client may send at once after being idle. 0 means {@code requestsPerMinute}. Default: 0. */
+    private int burst = 0;
+
+    /** Interval in milliseconds between sweeps that drop the buckets of idle clients. Default: 60000. */
+    private long evictionIntervalMs = 60000;
+
+    /**
+     * Whether limits are shared by every instance through the {@code rate_limit_buckets}
+     * table, instead of applying to each instance separately. Default: false.
+     */
+    private boolean distributed = false;
+
+    /** Interval in milliseconds between synchronizations with the shared buckets. Default: 250. */
+    private long syncIntervalMs = 250;
+
+    /** Limits for specific routes, matched by path prefix. Default: empty. */
+    private List<RouteLimit> routes = new ArrayList<>();
+
+    /** Limits for specific principals (user ID or client IP). Default: empty. */
+    private List<PrincipalLimit> principals = new ArrayList<>();
+
+    /**
+     * Limit applied to the requests under one path prefix.
+     */
+    @Getter
+    @Setter
+    public static class RouteLimit {
+
+        /** Path prefix of the route (e.g., {@code /api/v1/vault/transit/}). */
+        private String pathPrefix;
+
+        /** Sustained requests per minute. 0 disables limiting for the route. */
+        private int requestsPerMinute;
+
+        /** Burst size. 0 means {@code requestsPerMinute}. */
+        private int burst;
+    }
+
+    /**
+     * Limit applied to one client on every route.
+     */
+    @Getter
+    @Setter
+    public static class PrincipalLimit {
+
+        /** User ID of an authenticated principal, or the IP address of an unauthenticated client. */
+        private String principal;
+
+        /** Sustained requests per minute. 0 exempts the principal. */
+        private int requestsPerMinute;
+
+        /** Burst size. 0 means {@code requestsPerMinute}. */
+        private int burst;
+    }
+}
@@ -0,0 +1,36 @@
+package com.codeops.vault.config;
+
+import com.codeops.vault.entity.enums.RotationStrategy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for scheduled secret rotation.
+ *
+ * <p>Controls how {@link com.codeops.vault.service.RotationExecutor} runs due
+ * rotations: how many run at once overall and per rotation strategy, and how
+ * long a single call to an external rotation endpoint may take.</p>
+ */
+@ConfigurationProperties(prefix = "codeops.vault.rotation")
+@Getter
+@Setter
+public class RotationProperties {
+
+    /** Maximum number of rotations running at the same time. Default: 8. */
+    private int maxConcurrentRotations = 8;
+
+    /**
+     * Maximum number of rotations running at the same time per strategy, within
+     * {@code maxConcurrentRotations}. Strategies not listed are only bound by the
+     * overall limit. Default: EXTERNAL_API=4.
+     */
+    private Map<RotationStrategy, Integer> strategyConcurrency =
+            new EnumMap<>(Map.of(RotationStrategy.EXTERNAL_API, 4));
+
+    /** Time in milliseconds a call to an external rotation endpoint may take. 0 disables the timeout. Default: 15000. */
+    private long callTimeoutMs = 15000;
+}
@@ -0,0 +1,38 @@
+package com.codeops.vault.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for running the scheduled jobs on several nodes.
+ *
+ * <p>With claiming enabled, the rotation and lease expiry jobs no longer
+ * process every due row on every node. Each node claims batches of due rows
+ * through {@link com.codeops.vault.service.ScheduledWorkClaimer}, so the work
+ * is split between the nodes and no row is processed twice.</p>
+ */
+@ConfigurationProperties(prefix = "codeops.vault.scheduling")
+@Getter
+@Setter
+public class SchedulingProperties {
+
+    /** Whether scheduled jobs claim due rows before processing them. Default: false. */
+    private boolean claimingEnabled = false;
+
+    /**
+     * Maximum number of rows claimed at once. Rotation claims are further capped
+     * at what the rotation executor can finish within {@code claimTtlSeconds}.
+     * Default: 100.
+     */
+    private int claimBatchSize = 100;
+
+    /**
+     * Time in seconds a claim is held. If the claiming node does not finish in
+     * time (e.g., it crashed), another node may claim the row. Default: 300.
+     */
+    private int claimTtlSeconds = 300;
+
+    /** Identifier recorded as the claim owner. Blank means host name plus a random suffix. Default: blank. */
+    private String nodeId = "";
+}
@@ -0,0 +1,39 @@
+package com.codeops.vault.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for how encrypted secret values and secret
+ * access timestamps are stored.
+ *
+ * <p>Binary envelope storage writes secret versions to the
+ * {@code secret_versions.encrypted_value_bytes} column instead of Base64
+ * text, and migrates existing text rows in the background. It requires that
+ * column to exist and {@code encrypted_value} to be nullable.</p>
+ *
+ * <p>Secret reads record {@code lastAccessedAt} through
+ * {@link com.codeops.vault.service.SecretAccessTracker}, which coalesces
+ * accesses in memory and writes them in batches on a fixed interval.</p>
+ */
+@ConfigurationProperties(prefix = "codeops.vault.storage")
+@Getter
+@Setter
+public class StorageProperties {
+
+    /** Whether new secret versions are stored as binary envelopes. Default: false. */
+    private boolean binaryEnvelopes = false;
+
+    /** Number of secret versions converted per migration transaction. Default: 500. */
+    private int migrationBatchSize = 500;
+
+    /** Delay in milliseconds between background migration runs. Default: 60000. */
+    private long migrationIntervalMs = 60_000;
+
+    /** Delay in milliseconds between flushes of recorded secret access times. Default: 5000. */
+    private long accessFlushIntervalMs = 5_000;
+
+    /** Maximum number of secrets updated by one access-time UPDATE statement. Default: 1000. */
+    private int accessFlushBatchSize = 1000;
+}
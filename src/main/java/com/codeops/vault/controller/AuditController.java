@@ -40,18 +40,18 @@ public class AuditController {
     /**
      * Queries the audit log with optional filters.
      *
-     * <p>Supports filtering by userId, operation, path, resourceType+resourceId,
-     * time range, and success status. Results are paginated and sorted by
-     * creation date descending.</p>
+     * <p>Supports filtering by userId, operation, path, resourceType, resourceId,
+     * time range, and success status; all given filters are combined. Results
+     * are paginated and sorted by creation date descending.</p>
      *
      * @param userId       Filter by acting user (optional).
      * @param operation    Filter by operation type (optional).
      * @param path         Filter by secret path (optional).
-     * @param resourceType Filter by resource type (optional, requires resourceId).
-     * @param resourceId   Filter by resource ID (optional, requires resourceType).
-     * @param successOnly  If false, return only failed operations (optional).
-     * @param startTime    Start of time range (optional, requires endTime).
-     * @param endTime      End of time range (optional, requires startTime).
+     * @param resourceType Filter by resource type (optional).
+     * @param resourceId   Filter by resource ID (optional).
+     * @param successOnly  If true, return only successful operations; if false, only failed ones (optional).
+     * @param startTime    Start of time range, inclusive (optional).
+     * @param endTime      End of time range, inclusive (optional).
      * @param page         Page number (default 0).
      * @param size         Page size (default 20).
      * @return Paginated audit entry responses.
@@ -82,6 +82,29 @@ public class AuditController {
         return ResponseEntity.ok(auditService.queryAuditLog(teamId, query, pageable));
     }
 
+    /**
+     * Lists the team's audit log newest first using cursor pagination.
+     *
+     * <p>Unlike {@code GET /query}, no total count is computed and deep pages
+     * cost the same as the first one; follow {@code nextCursor} until it is
+     * absent.</p>
+     *
+     * @param after The {@code nextCursor} of the previous page (omit for the first page).
+     * @param size  Page size (capped at {@link AppConstants#MAX_PAGE_SIZE}).
+     * @return Page of audit entry responses and the next cursor.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<PageResponse<AuditEntryResponse>> listAuditLogAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+
+        return ResponseEntity.ok(auditService.listAuditLogAfter(teamId, after,
+                Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     /**
      * Gets audit entries for a specific resource.
      *
@@ -108,14 +131,20 @@ public class AuditController {
     }
 
     /**
-     * Gets audit log statistics for the current team.
+     * Gets audit log statistics for the current team, optionally within a time window.
+     *
+     * <p>Answered from hourly rollups; the window is widened to whole UTC hours.</p>
      *
+     * @param from Start of the window, inclusive (optional).
+     * @param to   End of the window, exclusive (optional).
      * @return Map with totalEntries, failedEntries, and operation counts.
      */
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Long>> getAuditStats() {
+    public ResponseEntity<Map<String, Long>> getAuditStats(
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to) {
         sealService.requireUnsealed();
         UUID teamId = SecurityUtils.getCurrentTeamId();
-        return ResponseEntity.ok(auditService.getAuditStats(teamId));
+        return ResponseEntity.ok(auditService.getAuditStats(teamId, from, to));
     }
 }
@@ -1,5 +1,6 @@
 package com.codeops.vault.controller;
 
+import com.codeops.vault.config.AppConstants;
 import com.codeops.vault.dto.request.CreateDynamicLeaseRequest;
 import com.codeops.vault.dto.response.DynamicLeaseResponse;
 import com.codeops.vault.dto.response.PageResponse;
@@ -86,6 +87,25 @@ public class DynamicSecretController {
         return ResponseEntity.ok(dynamicSecretService.listLeases(secretId, pageable));
     }
 
+    /**
+     * Lists leases for a dynamic secret newest first using cursor pagination.
+     *
+     * @param secretId The source secret ID.
+     * @param after    The {@code nextCursor} of the previous page (omit for the first page).
+     * @param size     Page size (capped at {@link AppConstants#MAX_PAGE_SIZE}).
+     * @return 200 with a page of DynamicLeaseResponse and the next cursor.
+     */
+    @GetMapping("/leases/cursor")
+    @Operation(summary = "List leases for a dynamic secret with cursor pagination")
+    public ResponseEntity<PageResponse<DynamicLeaseResponse>> listLeasesAfter(
+            @RequestParam UUID secretId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        sealService.requireUnsealed();
+        return ResponseEntity.ok(dynamicSecretService.listLeasesAfter(secretId, after,
+                Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     // ─── Revocation ─────────────────────────────────────────
 
     /**
@@ -2,9 +2,11 @@ package com.codeops.vault.controller;
 
 import com.codeops.vault.dto.request.CreateBindingRequest;
 import com.codeops.vault.dto.request.CreatePolicyRequest;
+import com.codeops.vault.dto.request.PolicyBatchEvaluateRequest;
 import com.codeops.vault.dto.request.UpdatePolicyRequest;
 import com.codeops.vault.dto.response.AccessPolicyResponse;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.PolicyBatchEvaluateResponse;
 import com.codeops.vault.dto.response.PolicyBindingResponse;
 import com.codeops.vault.entity.enums.BindingType;
 import com.codeops.vault.entity.enums.PolicyPermission;
@@ -223,6 +225,21 @@ public class PolicyController {
         return ResponseEntity.ok(policyService.evaluateServiceAccess(serviceId, teamId, path, permission));
     }
 
+    /**
+     * Evaluates many (path, permission) checks for one user or service in one call.
+     *
+     * @param request The principal and the checks to evaluate.
+     * @return 200 with one decision per check, in request order.
+     */
+    @PostMapping("/evaluate:batch")
+    @Operation(summary = "Evaluate access for a principal on many paths")
+    public ResponseEntity<PolicyBatchEvaluateResponse> evaluateBatch(
+            @Valid @RequestBody PolicyBatchEvaluateRequest request) {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        return ResponseEntity.ok(policyService.evaluateBatch(request, teamId));
+    }
+
     // ─── Statistics ─────────────────────────────────────────
 
     /**
@@ -1,8 +1,11 @@
 package com.codeops.vault.controller;
 
+import com.codeops.vault.config.AppConstants;
 import com.codeops.vault.dto.request.CreateSecretRequest;
+import com.codeops.vault.dto.request.SecretBatchGetRequest;
 import com.codeops.vault.dto.request.UpdateSecretRequest;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.SecretBatchGetResponse;
 import com.codeops.vault.dto.response.SecretResponse;
 import com.codeops.vault.dto.response.SecretValueResponse;
 import com.codeops.vault.dto.response.SecretVersionResponse;
@@ -34,8 +37,9 @@ import java.util.UUID;
  * All endpoints require ADMIN role.</p>
  *
  * <p>Secret values (decrypted) are ONLY returned from explicit
- * value-read endpoints ({@code GET /{id}/value} and
- * {@code GET /{id}/versions/{version}/value}). All other endpoints
+ * value-read endpoints ({@code GET /{id}/value},
+ * {@code GET /{id}/versions/{version}/value} and
+ * {@code POST /values:batchGet}). All other endpoints
  * return metadata only.</p>
  */
 @RestController
@@ -107,6 +111,22 @@ public class SecretController {
         return ResponseEntity.ok(secretService.readSecretValue(id));
     }
 
+    /**
+     * Reads (decrypts) the current values of many secrets in one call.
+     *
+     * @param request The secret IDs, paths and/or path prefix to read.
+     * @return 200 with one result per selected secret.
+     */
+    @PostMapping("/values:batchGet")
+    @Operation(summary = "Read decrypted current values of many secrets")
+    public ResponseEntity<SecretBatchGetResponse> batchGetSecretValues(
+            @Valid @RequestBody SecretBatchGetRequest request) {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        UUID userId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(secretService.batchGetSecretValues(request, teamId, userId));
+    }
+
     /**
      * Reads (decrypts) a specific version of a secret's value.
      *
@@ -197,6 +217,29 @@ public class SecretController {
         return ResponseEntity.ok(secretService.listSecrets(teamId, type, pathPrefix, activeOnly, pageable));
     }
 
+    /**
+     * Lists secrets newest first using cursor pagination.
+     *
+     * <p>Unlike {@code GET /}, no total count is computed; follow
+     * {@code nextCursor} until it is absent.</p>
+     *
+     * @param activeOnly Whether to return only active secrets.
+     * @param after      The {@code nextCursor} of the previous page (omit for the first page).
+     * @param size       Page size (capped at {@link AppConstants#MAX_PAGE_SIZE}).
+     * @return 200 with a page of SecretResponse and the next cursor.
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "List secrets with cursor pagination")
+    public ResponseEntity<PageResponse<SecretResponse>> listSecretsAfter(
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        return ResponseEntity.ok(secretService.listSecretsAfter(teamId, activeOnly, after,
+                Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     /**
      * Searches secrets by name.
      *
@@ -1,11 +1,16 @@
 package com.codeops.vault.controller;
 
 import com.codeops.vault.dto.request.CreateTransitKeyRequest;
+import com.codeops.vault.dto.request.TransitBatchDecryptRequest;
+import com.codeops.vault.dto.request.TransitBatchEncryptRequest;
+import com.codeops.vault.dto.request.TransitBatchRewrapRequest;
 import com.codeops.vault.dto.request.TransitDecryptRequest;
 import com.codeops.vault.dto.request.TransitEncryptRequest;
 import com.codeops.vault.dto.request.TransitRewrapRequest;
 import com.codeops.vault.dto.request.UpdateTransitKeyRequest;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.TransitBatchDecryptResponse;
+import com.codeops.vault.dto.response.TransitBatchEncryptResponse;
 import com.codeops.vault.dto.response.TransitDecryptResponse;
 import com.codeops.vault.dto.response.TransitEncryptResponse;
 import com.codeops.vault.dto.response.TransitKeyResponse;
@@ -14,15 +19,19 @@ import com.codeops.vault.service.SealService;
 import com.codeops.vault.service.TransitService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 
@@ -212,6 +221,116 @@ public class TransitController {
         return ResponseEntity.ok(transitService.generateDataKey(keyName, teamId));
     }
 
+    // ─── Batch Encrypt / Decrypt ────────────────────────────
+
+    /**
+     * Encrypts a batch of plaintexts with a named transit key.
+     *
+     * @param request The batch request with key name and plaintexts.
+     * @return 200 with one result (ciphertext or error) per item.
+     */
+    @PostMapping("/encrypt/batch")
+    @Operation(summary = "Encrypt a batch of values with a named transit key")
+    public ResponseEntity<TransitBatchEncryptResponse> encryptBatch(
+            @Valid @RequestBody TransitBatchEncryptRequest request) {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        return ResponseEntity.ok(transitService.encryptBatch(request, teamId));
+    }
+
+    /**
+     * Decrypts a batch of ciphertexts with a named transit key.
+     *
+     * @param request The batch request with key name and ciphertexts.
+     * @return 200 with one result (plaintext or error) per item.
+     */
+    @PostMapping("/decrypt/batch")
+    @Operation(summary = "Decrypt a batch of values with a named transit key")
+    public ResponseEntity<TransitBatchDecryptResponse> decryptBatch(
+            @Valid @RequestBody TransitBatchDecryptRequest request) {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        return ResponseEntity.ok(transitService.decryptBatch(request, teamId));
+    }
+
+    /**
+     * Re-encrypts a batch of ciphertexts with the current key version.
+     *
+     * @param request The batch request with key name and existing ciphertexts.
+     * @return 200 with one result (ciphertext or error) per item.
+     */
+    @PostMapping("/rewrap/batch")
+    @Operation(summary = "Re-encrypt a batch of ciphertexts with current key version")
+    public ResponseEntity<TransitBatchEncryptResponse> rewrapBatch(
+            @Valid @RequestBody TransitBatchRewrapRequest request) {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        return ResponseEntity.ok(transitService.rewrapBatch(request, teamId));
+    }
+
+    // ─── Streaming Encrypt / Decrypt ────────────────────────
+
+    /**
+     * Stream-encrypts a binary request body with a named transit key.
+     *
+     * <p>Selected when the request has {@code Content-Type: application/octet-stream}.
+     * The body is encrypted in fixed-size segments and written to the response
+     * as it is read, so payload size does not affect heap use.</p>
+     *
+     * @param keyName  The transit key name.
+     * @param request  The servlet request whose body is the plaintext.
+     * @param response The servlet response that receives the encrypted stream.
+     * @throws IOException if the request or response stream fails.
+     */
+    @PostMapping(value = "/encrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Stream-encrypt a binary payload with a named transit key")
+    public void encryptStream(@RequestParam String keyName, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        try {
+            transitService.encryptStream(keyName, teamId, request.getInputStream(), response.getOutputStream());
+        } catch (RuntimeException e) {
+            // Nothing sent yet — clear the binary content type so the error is rendered as JSON
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stream-decrypts a binary request body produced by the streaming encrypt endpoint.
+     *
+     * <p>Each segment is authenticated before it is written. If a later
+     * segment fails, part of the plaintext may already have been sent;
+     * clients must discard the output of a response that does not complete
+     * successfully.</p>
+     *
+     * @param keyName  The transit key name.
+     * @param request  The servlet request whose body is the encrypted stream.
+     * @param response The servlet response that receives the plaintext.
+     * @throws IOException if the request or response stream fails.
+     */
+    @PostMapping(value = "/decrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Stream-decrypt a binary payload with a named transit key")
+    public void decryptStream(@RequestParam String keyName, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        sealService.requireUnsealed();
+        UUID teamId = SecurityUtils.getCurrentTeamId();
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        try {
+            transitService.decryptStream(keyName, teamId, request.getInputStream(), response.getOutputStream());
+        } catch (RuntimeException e) {
+            // Nothing sent yet — clear the binary content type so the error is rendered as JSON
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
     // ─── Statistics ─────────────────────────────────────────
 
     /**
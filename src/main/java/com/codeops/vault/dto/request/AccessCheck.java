@@ -0,0 +1,17 @@
+package com.codeops.vault.dto.request;
+
+import com.codeops.vault.entity.enums.PolicyPermission;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One permission check of a bulk access evaluation.
+ *
+ * @param path       The secret path being accessed.
+ * @param permission The permission being requested.
+ */
+public record AccessCheck(
+        @NotBlank @Size(max = 500) String path,
+        @NotNull PolicyPermission permission
+) {}
@@ -0,0 +1,26 @@
+package com.codeops.vault.dto.request;
+
+import com.codeops.vault.config.AppConstants;
+import com.codeops.vault.entity.enums.BindingType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to evaluate many (path, permission) checks for one principal in one call.
+ *
+ * <p>All checks are evaluated against the same snapshot of the team's policies.</p>
+ *
+ * @param principalType The principal's binding type (USER or SERVICE).
+ * @param principalId   The user or service ID.
+ * @param checks        The checks to evaluate.
+ */
+public record PolicyBatchEvaluateRequest(
+        @NotNull BindingType principalType,
+        @NotNull UUID principalId,
+        @NotEmpty @Size(max = AppConstants.POLICY_BATCH_EVALUATE_MAX_ITEMS) List<@Valid @NotNull AccessCheck> checks
+) {}
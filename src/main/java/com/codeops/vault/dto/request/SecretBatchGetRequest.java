@@ -0,0 +1,26 @@
+package com.codeops.vault.dto.request;
+
+import com.codeops.vault.config.AppConstants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to read the current values of many secrets of the caller's team in one call.
+ *
+ * <p>At least one selector must be given; secrets selected by several
+ * selectors are returned once per selection. Items are resolved independently;
+ * an unknown ID or path is reported in its result slot and does not fail the batch.</p>
+ *
+ * @param ids        Secret IDs to read.
+ * @param paths      Secret paths to read.
+ * @param pathPrefix Read every active secret whose path starts with this prefix.
+ */
+public record SecretBatchGetRequest(
+        @Size(max = AppConstants.SECRET_BATCH_GET_MAX_ITEMS) List<UUID> ids,
+        @Size(max = AppConstants.SECRET_BATCH_GET_MAX_ITEMS) List<@NotBlank @Size(max = 500) String> paths,
+        @Size(max = 500) @Pattern(regexp = "^/.*") String pathPrefix
+) {}
@@ -0,0 +1,22 @@
+package com.codeops.vault.dto.request;
+
+import com.codeops.vault.config.AppConstants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request to decrypt many ciphertexts with a named transit key in one call.
+ *
+ * <p>Items are processed independently; a failing item is reported in its
+ * result slot and does not fail the batch.</p>
+ *
+ * @param keyName    Name of the transit key to use.
+ * @param batchInput Ciphertexts, one per item (may use different key versions).
+ */
+public record TransitBatchDecryptRequest(
+        @NotBlank @Size(max = 200) String keyName,
+        @NotEmpty @Size(max = AppConstants.TRANSIT_BATCH_MAX_ITEMS) List<String> batchInput
+) {}
@@ -0,0 +1,23 @@
+package com.codeops.vault.dto.request;
+
+import com.codeops.vault.config.AppConstants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request to re-encrypt many ciphertexts with the current key version
+ * without exposing the plaintexts.
+ *
+ * <p>Items are processed independently; a failing item is reported in its
+ * result slot and does not fail the batch.</p>
+ *
+ * @param keyName    Name of the transit key to use.
+ * @param batchInput Existing ciphertexts to rewrap, one per item.
+ */
+public record TransitBatchRewrapRequest(
+        @NotBlank @Size(max = 200) String keyName,
+        @NotEmpty @Size(max = AppConstants.TRANSIT_BATCH_MAX_ITEMS) List<String> batchInput
+) {}
@@ -0,0 +1,103 @@
+package com.codeops.vault.dto.response;
+
+import com.codeops.vault.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset-paginated listing.
+ *
+ * <p>Listings ordered by {@code (createdAt DESC, id DESC)} resume strictly
+ * after this position, so each page is a bounded index range scan with no
+ * OFFSET and no count query. Clients receive the cursor as an opaque
+ * URL-safe string in {@link PageResponse#nextCursor()} and pass it back
+ * unchanged as the {@code after} request parameter.</p>
+ *
+ * @param createdAt Creation timestamp of the last row returned.
+ * @param id        Primary key of the last row returned, as a string.
+ */
+public record KeysetCursor(Instant createdAt, String id) {
+
+    /**
+     * Creation timestamp above every stored row, used as the position of the first page.
+     */
+    public static final Instant UPPER_BOUND = Instant.parse("9999-12-31T23:59:59Z");
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Creates a cursor pointing at a row.
+     *
+     * @param createdAt The row's creation timestamp.
+     * @param id        The row's primary key.
+     * @return The cursor.
+     */
+    public static KeysetCursor of(Instant createdAt, Object id) {
+        return new KeysetCursor(createdAt, String.valueOf(id));
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe string.
+     *
+     * @return The encoded cursor.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param encoded The encoded cursor, or {@code null}/blank for the first page.
+     * @return The decoded cursor, or {@code null} for the first page.
+     * @throws ValidationException if the cursor is malformed.
+     */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new ValidationException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Returns the row ID as a UUID.
+     *
+     * @return The UUID primary key.
+     * @throws ValidationException if the ID is not a UUID.
+     */
+    public UUID uuidId() {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Returns the row ID as a long.
+     *
+     * @return The numeric primary key.
+     * @throws ValidationException if the ID is not numeric.
+     */
+    public long longId() {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid pagination cursor");
+        }
+    }
+}
@@ -8,12 +8,19 @@ import java.util.List;
  * Generic paginated response wrapper.
  * Matches the pagination pattern used across all CodeOps services.
  *
+ * <p>Offset-paginated listings fill every field except {@code nextCursor}.
+ * Cursor-paginated listings are not counted: {@code page} is 0,
+ * {@code totalElements} and {@code totalPages} are -1, and
+ * {@code nextCursor} holds the value to pass as {@code after} for the
+ * next page ({@code null} on the last page).</p>
+ *
  * @param content       The elements in the current page.
  * @param page          Current page number (zero-based).
  * @param size          Page size.
- * @param totalElements Total number of elements across all pages.
- * @param totalPages    Total number of pages.
+ * @param totalElements Total number of elements across all pages, or -1 if not counted.
+ * @param totalPages    Total number of pages, or -1 if not counted.
  * @param isLast        Whether this is the last page.
+ * @param nextCursor    Opaque cursor of the next page, or {@code null}.
  * @param <T>           The type of elements in the page.
  */
 public record PageResponse<T>(
@@ -22,8 +29,23 @@ public record PageResponse<T>(
         int size,
         long totalElements,
         int totalPages,
-        boolean isLast
+        boolean isLast,
+        String nextCursor
 ) {
+    /**
+     * Creates an offset-paginated response without a cursor.
+     *
+     * @param content       The elements in the current page.
+     * @param page          Current page number (zero-based).
+     * @param size          Page size.
+     * @param totalElements Total number of elements across all pages.
+     * @param totalPages    Total number of pages.
+     * @param isLast        Whether this is the last page.
+     */
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean isLast) {
+        this(content, page, size, totalElements, totalPages, isLast, null);
+    }
+
     /**
      * Creates a PageResponse from a Spring Data Page.
      *
@@ -41,4 +63,18 @@ public record PageResponse<T>(
                 page.isLast()
         );
     }
+
+    /**
+     * Creates a cursor-paginated response.
+     *
+     * @param content    The elements in the current page.
+     * @param size       Requested page size.
+     * @param nextCursor Cursor of the next page, or {@code null} if this is the last page.
+     * @param <T>        The type of elements in the page.
+     * @return A new PageResponse without totals.
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, KeysetCursor nextCursor) {
+        return new PageResponse<>(content, 0, size, -1, -1, nextCursor == null,
+                nextCursor == null ? null : nextCursor.encode());
+    }
 }
@@ -0,0 +1,14 @@
+package com.codeops.vault.dto.response;
+
+import java.util.List;
+
+/**
+ * Response to a bulk access evaluation.
+ *
+ * @param allowedCount Number of checks that were allowed.
+ * @param results      One result per requested check, in request order.
+ */
+public record PolicyBatchEvaluateResponse(
+        int allowedCount,
+        List<PolicyBatchEvaluateResult> results
+) {}
@@ -0,0 +1,17 @@
+package com.codeops.vault.dto.response;
+
+import com.codeops.vault.entity.enums.PolicyPermission;
+import com.codeops.vault.service.AccessDecision;
+
+/**
+ * Result of one check of a bulk access evaluation.
+ *
+ * @param path       The checked secret path.
+ * @param permission The checked permission.
+ * @param decision   The access decision.
+ */
+public record PolicyBatchEvaluateResult(
+        String path,
+        PolicyPermission permission,
+        AccessDecision decision
+) {}
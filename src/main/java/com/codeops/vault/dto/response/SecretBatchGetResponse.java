@@ -0,0 +1,14 @@
+package com.codeops.vault.dto.response;
+
+import java.util.List;
+
+/**
+ * Response to a bulk secret read.
+ *
+ * @param errorCount Number of items that failed.
+ * @param results    One result per requested ID, then per requested path, then per prefix match.
+ */
+public record SecretBatchGetResponse(
+        int errorCount,
+        List<SecretBatchGetResult> results
+) {}
@@ -0,0 +1,16 @@
+package com.codeops.vault.dto.response;
+
+/**
+ * Result of one item of a bulk secret read.
+ *
+ * <p>Exactly one of {@code secret} and {@code error} is set.</p>
+ *
+ * @param requested The requested secret ID or path.
+ * @param secret    The decrypted current value, or null if the item failed.
+ * @param error     Why the item failed, or null on success.
+ */
+public record SecretBatchGetResult(
+        String requested,
+        SecretValueResponse secret,
+        String error
+) {}
@@ -0,0 +1,14 @@
+package com.codeops.vault.dto.response;
+
+/**
+ * Result of one item of a transit batch decrypt operation.
+ *
+ * <p>Exactly one of {@code plaintext} and {@code error} is set.</p>
+ *
+ * @param plaintext The decrypted plaintext, or null if the item failed.
+ * @param error     Why the item failed, or null on success.
+ */
+public record TransitBatchDecryptResult(
+        String plaintext,
+        String error
+) {}
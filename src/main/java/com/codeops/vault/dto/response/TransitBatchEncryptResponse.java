@@ -0,0 +1,16 @@
+package com.codeops.vault.dto.response;
+
+import java.util.List;
+
+/**
+ * Response to a transit batch encrypt or rewrap operation.
+ *
+ * @param keyName      Name of the transit key used.
+ * @param errorCount   Number of items that failed.
+ * @param batchResults One result per input item, in input order.
+ */
+public record TransitBatchEncryptResponse(
+        String keyName,
+        int errorCount,
+        List<TransitBatchEncryptResult> batchResults
+) {}
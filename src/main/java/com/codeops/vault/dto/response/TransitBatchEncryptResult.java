@@ -0,0 +1,16 @@
+package com.codeops.vault.dto.response;
+
+/**
+ * Result of one item of a transit batch encrypt or rewrap operation.
+ *
+ * <p>Exactly one of {@code ciphertext} and {@code error} is set.</p>
+ *
+ * @param ciphertext The encrypted ciphertext, or null if the item failed.
+ * @param keyVersion Version of the key used, or null if the item failed.
+ * @param error      Why the item failed, or null on success.
+ */
+public record TransitBatchEncryptResult(
+        String ciphertext,
+        Integer keyVersion,
+        String error
+) {}
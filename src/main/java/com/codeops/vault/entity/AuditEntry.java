@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -18,12 +19,13 @@ import java.util.UUID;
 @Entity
 @Table(name = "vault_audit_log",
         indexes = {
-                @Index(name = "idx_val_team_id", columnList = "team_id"),
+                @Index(name = "idx_val_team_created", columnList = "team_id, created_at DESC, id DESC"),
+                @Index(name = "idx_val_team_operation_created", columnList = "team_id, operation, created_at"),
+                @Index(name = "idx_val_team_resource_created",
+                        columnList = "team_id, resource_type, resource_id, created_at"),
                 @Index(name = "idx_val_user_id", columnList = "user_id"),
-                @Index(name = "idx_val_operation", columnList = "operation"),
                 @Index(name = "idx_val_path", columnList = "path"),
-                @Index(name = "idx_val_created_at", columnList = "created_at"),
-                @Index(name = "idx_val_resource", columnList = "resource_type, resource_id")
+                @Index(name = "idx_val_created_at", columnList = "created_at")
         })
 @Getter
 @Setter
@@ -86,10 +88,10 @@ public class AuditEntry {
     private Instant createdAt;
 
     /**
-     * Sets the creation timestamp before persisting.
+     * Sets the creation timestamp before persisting, truncated to the column's microsecond precision.
      */
     @PrePersist
     protected void onCreate() {
-        createdAt = Instant.now();
+        createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,54 @@
+package com.codeops.vault.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Hourly rollup of audit entries for one team, operation and outcome.
+ *
+ * <p>Maintained incrementally by
+ * {@link com.codeops.vault.service.AuditStatsRollup} in the same transaction
+ * that writes the audit entries, so audit statistics for any time window are
+ * a sum over at most a few rows per hour instead of a count over the audit
+ * log. Like {@link AuditEntry}, this entity uses a {@code Long} auto-increment
+ * primary key and does NOT extend {@link BaseEntity}.</p>
+ */
+@Entity
+@Table(name = "vault_audit_stats_hourly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vash_bucket",
+                columnNames = {"team_id", "bucket_start", "operation", "success"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditStatsBucket {
+
+    /** Auto-increment primary key. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Team the counted entries belong to. */
+    @Column(name = "team_id", nullable = false)
+    private UUID teamId;
+
+    /** Start of the UTC hour the counted entries were created in. */
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    /** The operation of the counted entries. */
+    @Column(name = "operation", nullable = false, length = 50)
+    private String operation;
+
+    /** Whether the counted operations succeeded. */
+    @Column(name = "success", nullable = false)
+    private Boolean success;
+
+    /** Number of audit entries in this bucket. */
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+}
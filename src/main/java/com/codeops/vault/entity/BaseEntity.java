@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -12,7 +13,9 @@ import java.util.UUID;
  *
  * <p>All concrete entities extend this mapped superclass to inherit a UUID primary key
  * generated by the JPA provider, plus {@code createdAt} and {@code updatedAt} timestamps
- * managed automatically via {@link PrePersist} and {@link PreUpdate} lifecycle callbacks.</p>
+ * managed automatically via {@link PrePersist} and {@link PreUpdate} lifecycle callbacks.
+ * Timestamps are truncated to microseconds, the precision of the database columns, so an
+ * entity's in-memory value equals the stored one (keyset cursors depend on this).</p>
  */
 @MappedSuperclass
 @Getter
@@ -31,12 +34,12 @@ public abstract class BaseEntity {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = Instant.now();
-        updatedAt = Instant.now();
+        createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = Instant.now();
+        updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
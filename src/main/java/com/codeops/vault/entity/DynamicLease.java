@@ -20,6 +20,7 @@ import java.util.UUID;
         indexes = {
                 @Index(name = "idx_dl_lease_id", columnList = "lease_id"),
                 @Index(name = "idx_dl_secret_id", columnList = "secret_id"),
+                @Index(name = "idx_dl_secret_created", columnList = "secret_id, created_at, id"),
                 @Index(name = "idx_dl_status", columnList = "status"),
                 @Index(name = "idx_dl_expires_at", columnList = "expires_at")
         })
@@ -78,4 +79,12 @@ public class DynamicLease extends BaseEntity {
     /** JSON metadata (connection details, hostname, port, database). */
     @Column(name = "metadata_json", columnDefinition = "TEXT")
     private String metadataJson;
+
+    /** Node that claimed this lease's expiry (null = unclaimed). */
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    /** When the claim lapses and another node may claim the expiry. */
+    @Column(name = "claim_expires_at")
+    private Instant claimExpiresAt;
 }
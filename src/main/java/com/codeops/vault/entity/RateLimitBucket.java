@@ -0,0 +1,33 @@
+package com.codeops.vault.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Rate limit bucket shared by every Vault instance.
+ *
+ * <p>Maintained by {@link com.codeops.vault.security.RateLimitSynchronizer}
+ * when distributed rate limiting is enabled. The bucket state is the time at
+ * which the bucket is full again: each synchronized request moves it one
+ * refill interval further into the future. Keyed by the bucket key of
+ * {@link com.codeops.vault.security.RateLimitFilter} (route and client), so
+ * like {@link AuditEntry} this entity does NOT extend {@link BaseEntity}.</p>
+ */
+@Entity
+@Table(name = "rate_limit_buckets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitBucket {
+
+    /** Route path prefix and client identifier. */
+    @Id
+    @Column(name = "bucket_key", length = 500)
+    private String bucketKey;
+
+    /** Epoch microseconds at which the bucket is full again. */
+    @Column(name = "full_at_micros", nullable = false)
+    private Long fullAtMicros;
+}
@@ -83,4 +83,12 @@ public class RotationPolicy extends BaseEntity {
     /** Pause rotation after this many consecutive failures (null = never pause). */
     @Column(name = "max_failures")
     private Integer maxFailures;
+
+    /** Node that claimed this policy's due rotation (null = unclaimed). */
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    /** When the claim lapses and another node may claim the rotation. */
+    @Column(name = "claim_expires_at")
+    private Instant claimExpiresAt;
 }
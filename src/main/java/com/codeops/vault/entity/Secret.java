@@ -24,6 +24,7 @@ import java.util.UUID;
         uniqueConstraints = @UniqueConstraint(name = "uk_secret_team_path", columnNames = {"team_id", "path"}),
         indexes = {
                 @Index(name = "idx_secret_team_id", columnList = "team_id"),
+                @Index(name = "idx_secret_team_created", columnList = "team_id, created_at, id"),
                 @Index(name = "idx_secret_path", columnList = "path"),
                 @Index(name = "idx_secret_type", columnList = "secret_type")
         })
@@ -11,6 +11,11 @@ import java.util.UUID;
  * <p>Every write to a secret creates a new version — secret values are never
  * overwritten in place. Old versions can be retained for rollback or destroyed
  * permanently by setting {@code isDestroyed} to true.</p>
+ *
+ * <p>The encrypted value is held either as Base64 text ({@code encrypted_value})
+ * or, when binary envelope storage is enabled, as raw bytes
+ * ({@code encrypted_value_bytes}), which is a third smaller and skips Base64
+ * decoding on read.</p>
  */
 @Entity
 @Table(name = "secret_versions",
@@ -35,10 +40,17 @@ public class SecretVersion extends BaseEntity {
     @Column(name = "version_number", nullable = false)
     private Integer versionNumber;
 
-    /** AES-256-GCM encrypted secret value. */
-    @Column(name = "encrypted_value", nullable = false, columnDefinition = "TEXT")
+    /**
+     * AES-256-GCM encrypted secret value as Base64 text. Null once the value
+     * is stored in {@link #encryptedValueBytes}.
+     */
+    @Column(name = "encrypted_value", columnDefinition = "TEXT")
     private String encryptedValue;
 
+    /** AES-256-GCM encrypted secret value as a binary envelope; takes precedence over the text form. */
+    @Column(name = "encrypted_value_bytes", columnDefinition = "BYTEA")
+    private byte[] encryptedValueBytes;
+
     /** Identifier of the encryption key used (for key rotation tracking). */
     @Column(name = "encryption_key_id", length = 100)
     private String encryptionKeyId;
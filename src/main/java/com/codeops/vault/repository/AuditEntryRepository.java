@@ -3,7 +3,11 @@ package com.codeops.vault.repository;
 import com.codeops.vault.entity.AuditEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -14,10 +18,13 @@ import java.util.UUID;
  *
  * <p>Provides query methods for the vault audit log, including
  * team-scoped lookups, operation filtering, time range queries,
- * resource-specific queries, and failure filtering.</p>
+ * resource-specific queries, and failure filtering. Multi-filter queries
+ * go through {@link JpaSpecificationExecutor} with
+ * {@link AuditEntrySpecifications#matching}.</p>
  */
 @Repository
-public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
+public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long>,
+        JpaSpecificationExecutor<AuditEntry> {
 
     /**
      * Returns a page of audit entries for a team.
@@ -28,6 +35,20 @@ public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
      */
     Page<AuditEntry> findByTeamId(UUID teamId, Pageable pageable);
 
+    /**
+     * Returns the next keyset page of a team's audit entries, newest first, without a count query.
+     *
+     * @param teamId    the team ID
+     * @param createdAt creation timestamp of the last entry already returned
+     * @param id        ID of the last entry already returned
+     * @param pageable  page size (page number must be 0)
+     * @return slice of audit entries strictly after the given position
+     */
+    @Query("SELECT a FROM AuditEntry a WHERE a.teamId = :teamId "
+            + "AND (a.createdAt, a.id) < (:createdAt, :id) ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<AuditEntry> findPageAfter(@Param("teamId") UUID teamId, @Param("createdAt") Instant createdAt,
+                                    @Param("id") Long id, Pageable pageable);
+
     /**
      * Returns a page of audit entries for a user.
      *
@@ -87,29 +108,4 @@ public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
      * @return page of failed audit entries
      */
     Page<AuditEntry> findByTeamIdAndSuccessFalse(UUID teamId, Pageable pageable);
-
-    /**
-     * Counts all audit entries for a team.
-     *
-     * @param teamId the team ID
-     * @return entry count
-     */
-    long countByTeamId(UUID teamId);
-
-    /**
-     * Counts audit entries for a team by operation type.
-     *
-     * @param teamId    the team ID
-     * @param operation the operation type
-     * @return count of matching entries
-     */
-    long countByTeamIdAndOperation(UUID teamId, String operation);
-
-    /**
-     * Counts failed audit entries for a team.
-     *
-     * @param teamId the team ID
-     * @return count of failed entries
-     */
-    long countByTeamIdAndSuccessFalse(UUID teamId);
 }
@@ -0,0 +1,52 @@
+package com.codeops.vault.repository;
+
+import com.codeops.vault.entity.AuditStatsBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for {@link AuditStatsBucket} entities.
+ *
+ * <p>Buckets are written by {@link com.codeops.vault.service.AuditStatsRollup}
+ * through JDBC upserts; this repository only reads them.</p>
+ */
+@Repository
+public interface AuditStatsBucketRepository extends JpaRepository<AuditStatsBucket, Long> {
+
+    /**
+     * Sums a team's audit entries per operation and outcome over a range of hourly buckets.
+     *
+     * @param teamId the team ID
+     * @param from   start of the first bucket included (inclusive)
+     * @param to     start of the first bucket excluded (exclusive)
+     * @return one total per operation and outcome present in the range
+     */
+    @Query("SELECT b.operation AS operation, b.success AS success, SUM(b.entryCount) AS entries "
+            + "FROM AuditStatsBucket b "
+            + "WHERE b.teamId = :teamId AND b.bucketStart >= :from AND b.bucketStart < :to "
+            + "GROUP BY b.operation, b.success")
+    List<OperationTotal> sumByOperation(@Param("teamId") UUID teamId,
+                                        @Param("from") Instant from,
+                                        @Param("to") Instant to);
+
+    /**
+     * Number of audit entries with one operation and outcome.
+     */
+    interface OperationTotal {
+
+        /** @return the operation */
+        String getOperation();
+
+        /** @return whether the operations succeeded */
+        Boolean getSuccess();
+
+        /** @return the number of entries */
+        Long getEntries();
+    }
+}
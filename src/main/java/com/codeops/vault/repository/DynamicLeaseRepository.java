@@ -1,13 +1,22 @@
 package com.codeops.vault.repository;
 
+import com.codeops.vault.config.AppConstants;
 import com.codeops.vault.entity.DynamicLease;
 import com.codeops.vault.entity.enums.LeaseStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +55,20 @@ public interface DynamicLeaseRepository extends JpaRepository<DynamicLease, UUID
      */
     Page<DynamicLease> findBySecretId(UUID secretId, Pageable pageable);
 
+    /**
+     * Returns the next keyset page of a secret's leases, newest first, without a count query.
+     *
+     * @param secretId  the source secret ID
+     * @param createdAt creation timestamp of the last lease already returned
+     * @param id        ID of the last lease already returned
+     * @param pageable  page size (page number must be 0)
+     * @return slice of leases strictly after the given position
+     */
+    @Query("SELECT l FROM DynamicLease l WHERE l.secretId = :secretId "
+            + "AND (l.createdAt, l.id) < (:createdAt, :id) ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<DynamicLease> findPageAfter(@Param("secretId") UUID secretId, @Param("createdAt") Instant createdAt,
+                                      @Param("id") UUID id, Pageable pageable);
+
     /**
      * Returns all leases with the given status.
      *
@@ -63,6 +86,50 @@ public interface DynamicLeaseRepository extends JpaRepository<DynamicLease, UUID
      */
     List<DynamicLease> findByStatusAndExpiresAtBefore(LeaseStatus status, Instant now);
 
+    /**
+     * Locks leases with the given status that expired before the given timestamp
+     * and are not claimed by a live claim, earliest first, skipping rows locked
+     * by other transactions ({@code FOR UPDATE SKIP LOCKED}).
+     *
+     * @param status   the lease status
+     * @param now      the current timestamp
+     * @param pageable maximum number of leases to lock (page number must be 0)
+     * @return locked leases available for claiming
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = AppConstants.LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("SELECT l FROM DynamicLease l WHERE l.status = :status AND l.expiresAt < :now "
+            + "AND (l.claimExpiresAt IS NULL OR l.claimExpiresAt < :now) ORDER BY l.expiresAt")
+    List<DynamicLease> lockClaimableExpired(@Param("status") LeaseStatus status, @Param("now") Instant now,
+                                            Pageable pageable);
+
+    /**
+     * Locks the given leases that have the given status, expired at or before the
+     * given timestamp and are not claimed by a live claim, skipping rows locked by
+     * other transactions ({@code FOR UPDATE SKIP LOCKED}).
+     *
+     * @param leaseIds the lease identifiers
+     * @param status   the lease status
+     * @param now      the current timestamp
+     * @return locked leases that are due for expiry
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = AppConstants.LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("SELECT l FROM DynamicLease l WHERE l.leaseId IN :leaseIds AND l.status = :status "
+            + "AND l.expiresAt <= :now AND (l.claimExpiresAt IS NULL OR l.claimExpiresAt < :now)")
+    List<DynamicLease> lockDueByLeaseIds(@Param("leaseIds") Collection<String> leaseIds,
+                                         @Param("status") LeaseStatus status, @Param("now") Instant now);
+
+    /**
+     * Returns the lease ID and expiry of every lease with the given status,
+     * without loading the lease entities.
+     *
+     * @param status the lease status
+     * @return lease expiries
+     */
+    @Query("SELECT l.leaseId AS leaseId, l.expiresAt AS expiresAt FROM DynamicLease l WHERE l.status = :status")
+    List<LeaseExpiry> findExpiriesByStatus(@Param("status") LeaseStatus status);
+
     /**
      * Counts leases for a secret with a specific status.
      *
@@ -79,4 +146,16 @@ public interface DynamicLeaseRepository extends JpaRepository<DynamicLease, UUID
      * @return count of matching leases
      */
     long countByStatus(LeaseStatus status);
+
+    /**
+     * Lease ID and expiry of a lease.
+     */
+    interface LeaseExpiry {
+
+        /** @return the lease identifier */
+        String getLeaseId();
+
+        /** @return when the lease expires */
+        Instant getExpiresAt();
+    }
 }
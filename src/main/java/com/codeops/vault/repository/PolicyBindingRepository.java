@@ -84,4 +84,15 @@ public interface PolicyBindingRepository extends JpaRepository<PolicyBinding, UU
      */
     @Query("SELECT pb FROM PolicyBinding pb JOIN pb.policy p WHERE p.teamId = :teamId AND p.isActive = true AND pb.bindingType = :bindingType AND pb.bindingTargetId = :targetId")
     List<PolicyBinding> findActiveBindingsForTarget(@Param("teamId") UUID teamId, @Param("bindingType") BindingType bindingType, @Param("targetId") UUID targetId);
+
+    /**
+     * Finds every binding of an active policy within a team, with the policy fetched.
+     *
+     * <p>Used to compile the in-memory policy index for a team in a single query.</p>
+     *
+     * @param teamId the team ID
+     * @return list of active bindings with their policies initialized
+     */
+    @Query("SELECT pb FROM PolicyBinding pb JOIN FETCH pb.policy p WHERE p.teamId = :teamId AND p.isActive = true")
+    List<PolicyBinding> findActiveBindingsForTeam(@Param("teamId") UUID teamId);
 }
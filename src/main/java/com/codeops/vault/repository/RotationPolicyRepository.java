@@ -1,7 +1,16 @@
 package com.codeops.vault.repository;
 
+import com.codeops.vault.config.AppConstants;
 import com.codeops.vault.entity.RotationPolicy;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -34,6 +43,45 @@ public interface RotationPolicyRepository extends JpaRepository<RotationPolicy,
      */
     List<RotationPolicy> findByIsActiveTrueAndNextRotationAtBefore(Instant now);
 
+    /**
+     * Locks active, due rotation policies that are not claimed by a live claim,
+     * earliest first, skipping rows locked by other transactions
+     * ({@code FOR UPDATE SKIP LOCKED}).
+     *
+     * @param now      the current timestamp
+     * @param pageable maximum number of policies to lock (page number must be 0)
+     * @return locked policies available for claiming
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = AppConstants.LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("SELECT p FROM RotationPolicy p WHERE p.isActive = true AND p.nextRotationAt < :now "
+            + "AND (p.claimExpiresAt IS NULL OR p.claimExpiresAt < :now) ORDER BY p.nextRotationAt")
+    List<RotationPolicy> lockClaimableDue(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Finds and locks ({@code FOR UPDATE}) the rotation policy for a specific secret,
+     * waiting for a concurrent rotation of the same secret to finish.
+     *
+     * @param secretId the secret ID
+     * @return the locked rotation policy if one exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM RotationPolicy p WHERE p.secret.id = :secretId")
+    Optional<RotationPolicy> lockBySecretId(@Param("secretId") UUID secretId);
+
+    /**
+     * Clears a policy's claim if it is still held by the given node. A claim that
+     * lapsed and was taken over by another node is left untouched.
+     *
+     * @param id     the policy ID
+     * @param nodeId the node releasing its claim
+     * @return number of policies released (0 or 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RotationPolicy p SET p.claimedBy = NULL, p.claimExpiresAt = NULL "
+            + "WHERE p.id = :id AND p.claimedBy = :nodeId")
+    int releaseClaim(@Param("id") UUID id, @Param("nodeId") String nodeId);
+
     /**
      * Returns all active rotation policies.
      *
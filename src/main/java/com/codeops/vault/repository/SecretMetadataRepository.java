@@ -4,6 +4,7 @@ import com.codeops.vault.entity.SecretMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,14 @@ public interface SecretMetadataRepository extends JpaRepository<SecretMetadata,
      */
     List<SecretMetadata> findBySecretId(UUID secretId);
 
+    /**
+     * Returns all metadata entries for several secrets in one query.
+     *
+     * @param secretIds the parent secret IDs
+     * @return list of metadata entries of all given secrets
+     */
+    List<SecretMetadata> findBySecretIdIn(Collection<UUID> secretIds);
+
     /**
      * Finds a specific metadata entry by secret and key.
      *
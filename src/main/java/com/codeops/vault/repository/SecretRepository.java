@@ -4,10 +4,15 @@ import com.codeops.vault.entity.Secret;
 import com.codeops.vault.entity.enums.SecretType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +23,10 @@ import java.util.UUID;
  * <p>Provides CRUD operations and custom query methods for secrets,
  * including team-scoped lookups, path-based searches, type filtering,
  * and expiration checks.</p>
+ *
+ * <p>Queries that return many secrets fetch {@code rotationPolicy} in the same
+ * statement: as the inverse side of a one-to-one it cannot be proxied, so
+ * Hibernate would otherwise issue one extra select per secret.</p>
  */
 @Repository
 public interface SecretRepository extends JpaRepository<Secret, UUID> {
@@ -37,6 +46,7 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      * @param teamId the owning team ID
      * @return list of secrets
      */
+    @EntityGraph(attributePaths = "rotationPolicy")
     List<Secret> findByTeamId(UUID teamId);
 
     /**
@@ -46,8 +56,26 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      * @param pageable pagination parameters
      * @return page of secrets
      */
+    @EntityGraph(attributePaths = "rotationPolicy")
     Page<Secret> findByTeamId(UUID teamId, Pageable pageable);
 
+    /**
+     * Returns the next keyset page of a team's secrets, newest first, without a count query.
+     *
+     * @param teamId     the owning team ID
+     * @param activeOnly whether to return only active secrets
+     * @param createdAt  creation timestamp of the last secret already returned
+     * @param id         ID of the last secret already returned
+     * @param pageable   page size (page number must be 0)
+     * @return slice of secrets strictly after the given position
+     */
+    @EntityGraph(attributePaths = "rotationPolicy")
+    @Query("SELECT s FROM Secret s WHERE s.teamId = :teamId AND (:activeOnly = false OR s.isActive = true) "
+            + "AND (s.createdAt, s.id) < (:createdAt, :id) ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Secret> findPageAfter(@Param("teamId") UUID teamId, @Param("activeOnly") boolean activeOnly,
+                                @Param("createdAt") Instant createdAt, @Param("id") UUID id,
+                                Pageable pageable);
+
     /**
      * Returns a page of secrets for a team filtered by secret type.
      *
@@ -56,6 +84,7 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      * @param pageable   pagination parameters
      * @return page of matching secrets
      */
+    @EntityGraph(attributePaths = "rotationPolicy")
     Page<Secret> findByTeamIdAndSecretType(UUID teamId, SecretType secretType, Pageable pageable);
 
     /**
@@ -66,6 +95,7 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      * @param pageable   pagination parameters
      * @return page of matching secrets
      */
+    @EntityGraph(attributePaths = "rotationPolicy")
     Page<Secret> findByTeamIdAndPathStartingWith(UUID teamId, String pathPrefix, Pageable pageable);
 
     /**
@@ -75,6 +105,7 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      * @param pageable pagination parameters
      * @return page of active secrets
      */
+    @EntityGraph(attributePaths = "rotationPolicy")
     Page<Secret> findByTeamIdAndIsActiveTrue(UUID teamId, Pageable pageable);
 
     /**
@@ -85,6 +116,7 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      * @param pageable pagination parameters
      * @return page of matching secrets
      */
+    @EntityGraph(attributePaths = "rotationPolicy")
     Page<Secret> findByTeamIdAndNameContainingIgnoreCase(UUID teamId, String name, Pageable pageable);
 
     /**
@@ -96,6 +128,26 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
      */
     List<Secret> findByTeamIdAndPathStartingWithAndIsActiveTrue(UUID teamId, String pathPrefix);
 
+    /**
+     * Returns the team's secrets with any of the given IDs.
+     *
+     * @param teamId the owning team ID
+     * @param ids    the secret IDs
+     * @return list of matching secrets (IDs of other teams are not returned)
+     */
+    @EntityGraph(attributePaths = "rotationPolicy")
+    List<Secret> findByTeamIdAndIdIn(UUID teamId, Collection<UUID> ids);
+
+    /**
+     * Returns the team's secrets at any of the given paths.
+     *
+     * @param teamId the owning team ID
+     * @param paths  the secret paths
+     * @return list of matching secrets
+     */
+    @EntityGraph(attributePaths = "rotationPolicy")
+    List<Secret> findByTeamIdAndPathIn(UUID teamId, Collection<String> paths);
+
     /**
      * Checks whether a secret exists at the given team and path.
      *
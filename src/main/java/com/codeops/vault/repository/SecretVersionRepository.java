@@ -4,8 +4,11 @@ import com.codeops.vault.entity.SecretVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -86,4 +89,36 @@ public interface SecretVersionRepository extends JpaRepository<SecretVersion, UU
      * @return list of non-destroyed versions, newest first
      */
     List<SecretVersion> findBySecretIdAndIsDestroyedFalseOrderByVersionNumberDesc(UUID secretId);
+
+    /**
+     * Returns non-destroyed versions whose value is still stored as Base64 text.
+     *
+     * @param pageable batch size of the first scan
+     * @return versions pending migration to binary envelope storage
+     */
+    @Query("SELECT v FROM SecretVersion v WHERE v.encryptedValueBytes IS NULL "
+            + "AND v.encryptedValue IS NOT NULL AND v.isDestroyed = false ORDER BY v.id")
+    List<SecretVersion> findTextEnvelopes(Pageable pageable);
+
+    /**
+     * Returns non-destroyed versions whose value is still stored as Base64
+     * text and whose ID sorts after the given one, for keyset paging.
+     *
+     * @param afterId  ID of the last version of the previous batch
+     * @param pageable batch size of the scan
+     * @return versions pending migration to binary envelope storage
+     */
+    @Query("SELECT v FROM SecretVersion v WHERE v.encryptedValueBytes IS NULL "
+            + "AND v.encryptedValue IS NOT NULL AND v.isDestroyed = false AND v.id > :afterId ORDER BY v.id")
+    List<SecretVersion> findTextEnvelopesAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Returns the current version of each of the given secrets in one query.
+     *
+     * @param secretIds the parent secret IDs
+     * @return the current versions that exist (at most one per secret)
+     */
+    @Query("SELECT v FROM SecretVersion v JOIN v.secret s "
+            + "WHERE s.id IN :secretIds AND v.versionNumber = s.currentVersion")
+    List<SecretVersion> findCurrentVersions(@Param("secretIds") Collection<UUID> secretIds);
 }
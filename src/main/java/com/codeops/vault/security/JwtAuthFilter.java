@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,7 +26,8 @@ import java.util.UUID;
  * JWT tokens from the {@code Authorization} header.
  *
  * <p>When a valid Bearer token is present, this filter extracts the user ID, team ID,
- * roles, and permissions from the token claims and populates the Spring
+ * roles, and permissions from the token claims in a single verification
+ * ({@link JwtTokenValidator#authenticate(String)}) and populates the Spring
  * {@link SecurityContextHolder} with a {@link UsernamePasswordAuthenticationToken}.
  * The principal is set to the user's {@link UUID}, roles are mapped to
  * {@link SimpleGrantedAuthority} instances with a {@code ROLE_} prefix, and permissions
@@ -71,11 +73,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         log.debug("Token extraction attempted for {}", request.getRequestURI());
 
-        if (jwtTokenValidator.validateToken(token)) {
-            UUID userId = jwtTokenValidator.getUserIdFromToken(token);
-            UUID teamId = jwtTokenValidator.getTeamIdFromToken(token);
-            List<String> roles = jwtTokenValidator.getRolesFromToken(token);
-            List<String> permissions = jwtTokenValidator.getPermissionsFromToken(token);
+        Optional<JwtPrincipal> principal = jwtTokenValidator.authenticate(token);
+        if (principal.isPresent()) {
+            UUID userId = principal.get().userId();
+            UUID teamId = principal.get().teamId();
+            List<String> roles = principal.get().roles();
+            List<String> permissions = principal.get().permissions();
 
             List<SimpleGrantedAuthority> authorities = new ArrayList<>();
             roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role)));
@@ -0,0 +1,26 @@
+package com.codeops.vault.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The verified identity carried by a JWT, extracted in a single parse.
+ *
+ * <p>Produced by {@link JwtTokenValidator#authenticate(String)} so that
+ * {@link JwtAuthFilter} can read every claim it needs without verifying
+ * the token signature more than once.</p>
+ *
+ * @param userId      User ID from the {@code sub} claim.
+ * @param teamId      Team ID from the {@code teamId} claim, or {@code null} if absent.
+ * @param roles       Role names from the {@code roles} claim (never null).
+ * @param permissions Permission strings from the {@code permissions} claim (never null).
+ * @param expiresAt   Token expiry from the {@code exp} claim, or {@code null} if absent.
+ */
+public record JwtPrincipal(
+        UUID userId,
+        UUID teamId,
+        List<String> roles,
+        List<String> permissions,
+        Instant expiresAt
+) {}
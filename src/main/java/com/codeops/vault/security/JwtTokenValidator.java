@@ -11,8 +11,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Validates JWT tokens issued by CodeOps-Server.
@@ -23,6 +33,17 @@ import java.util.UUID;
  * <p>Extracts claims: {@code sub} (userId as UUID), {@code teamId} (UUID),
  * {@code roles} (List), and {@code permissions} (List) from validated tokens.</p>
  *
+ * <h3>Performance</h3>
+ * <p>The HMAC signing key and the JJWT parser are built once. {@link #authenticate(String)}
+ * verifies a token and extracts every claim in a single parse. Verified tokens are kept
+ * in a bounded {@link ConcurrentHashMap} keyed by the SHA-256 hash of the token (never the
+ * token itself) until their {@code exp}, so a client reusing the same bearer token skips
+ * signature verification entirely. Cache hits take no lock. When an insert pushes the
+ * cache over {@code codeops.jwt.verified-token-cache-size}, one thread sweeps it: expired
+ * tokens are dropped first, then arbitrary entries until the cache is back under 90% of
+ * the bound. Eviction is therefore approximate rather than least-recently-used; an evicted
+ * token is simply verified again. {@code 0} disables the cache.</p>
+ *
  * @see JwtAuthFilter
  * @see JwtProperties
  */
@@ -34,6 +55,11 @@ public class JwtTokenValidator {
 
     private final JwtProperties jwtProperties;
 
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private volatile JwtParser parser;
+    private volatile ConcurrentHashMap<String, JwtPrincipal> verifiedTokens;
+
     /**
      * Validates that the JWT secret is configured and meets the minimum length requirement
      * of 32 characters. Invoked automatically after dependency injection.
@@ -47,6 +73,7 @@ public class JwtTokenValidator {
             throw new IllegalStateException(
                     "JWT secret must be at least 32 characters. Set the JWT_SECRET environment variable.");
         }
+        getParser();
     }
 
     /**
@@ -58,9 +85,22 @@ public class JwtTokenValidator {
      * @return {@code true} if the token is valid, {@code false} otherwise
      */
     public boolean validateToken(String token) {
+        return authenticate(token).isPresent();
+    }
+
+    /**
+     * Verifies a JWT token and extracts all claims in a single parse.
+     *
+     * <p>Served from the verified-token cache when the same token was verified
+     * before and has not yet expired. All validation failures are logged at WARN
+     * level without exposing details to callers.</p>
+     *
+     * @param token the raw JWT string (without {@code "Bearer "} prefix)
+     * @return the verified principal, or empty if the token is invalid
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return Optional.of(parsePrincipal(token));
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -72,7 +112,7 @@ public class JwtTokenValidator {
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
@@ -82,8 +122,7 @@ public class JwtTokenValidator {
      * @return the user's UUID parsed from the token subject
      */
     public UUID getUserIdFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return UUID.fromString(claims.getSubject());
+        return parsePrincipal(token).userId();
     }
 
     /**
@@ -93,9 +132,7 @@ public class JwtTokenValidator {
      * @return the team UUID, or {@code null} if the claim is absent
      */
     public UUID getTeamIdFromToken(String token) {
-        Claims claims = parseClaims(token);
-        String teamId = claims.get("teamId", String.class);
-        return teamId != null ? UUID.fromString(teamId) : null;
+        return parsePrincipal(token).teamId();
     }
 
     /**
@@ -104,11 +141,8 @@ public class JwtTokenValidator {
      * @param token the raw JWT string (without {@code "Bearer "} prefix)
      * @return the list of role name strings, or an empty list if the claim is absent
      */
-    @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        Claims claims = parseClaims(token);
-        List<String> roles = claims.get("roles", List.class);
-        return roles != null ? roles : List.of();
+        return parsePrincipal(token).roles();
     }
 
     /**
@@ -117,11 +151,78 @@ public class JwtTokenValidator {
      * @param token the raw JWT string (without {@code "Bearer "} prefix)
      * @return the list of permission strings, or an empty list if the claim is absent
      */
-    @SuppressWarnings("unchecked")
     public List<String> getPermissionsFromToken(String token) {
-        Claims claims = parseClaims(token);
-        List<String> permissions = claims.get("permissions", List.class);
-        return permissions != null ? permissions : List.of();
+        return parsePrincipal(token).permissions();
+    }
+
+    /**
+     * Returns the number of verified tokens currently cached.
+     *
+     * @return Cache size (0 when the cache is disabled).
+     */
+    public int verifiedTokenCacheSize() {
+        ConcurrentHashMap<String, JwtPrincipal> cache = verifiedTokens;
+        return cache == null ? 0 : cache.size();
+    }
+
+    /**
+     * Verifies a token and builds its principal, consulting the verified-token cache first.
+     *
+     * @param token the raw JWT string (without {@code "Bearer "} prefix)
+     * @return the verified principal
+     * @throws JwtException             if the token is expired, malformed, or has an invalid signature
+     * @throws IllegalArgumentException if the token is empty or a UUID claim is malformed
+     */
+    JwtPrincipal parsePrincipal(String token) {
+        ConcurrentHashMap<String, JwtPrincipal> cache = getVerifiedTokens();
+        if (cache == null || token == null || token.isEmpty()) {
+            return toPrincipal(parseClaims(token));
+        }
+
+        String cacheKey = hashToken(token);
+        JwtPrincipal cached = cache.get(cacheKey);
+        if (cached != null) {
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                return cached;
+            }
+            cache.remove(cacheKey, cached);
+        }
+
+        JwtPrincipal principal = toPrincipal(parseClaims(token));
+        if (principal.expiresAt() != null) {
+            cache.put(cacheKey, principal);
+            int maxEntries = jwtProperties.getVerifiedTokenCacheSize();
+            if (cache.size() > maxEntries) {
+                sweep(cache, maxEntries);
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * Brings the verified-token cache back under its bound: drops expired tokens, then
+     * arbitrary entries until at most 90% of {@code maxEntries} remain. Only one thread
+     * sweeps at a time; the others skip the sweep and keep serving requests.
+     *
+     * @param cache      the verified-token cache
+     * @param maxEntries the configured cache size
+     */
+    private void sweep(ConcurrentHashMap<String, JwtPrincipal> cache, int maxEntries) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            cache.values().removeIf(principal -> !now.isBefore(principal.expiresAt()));
+            int target = Math.max(1, maxEntries - maxEntries / 10);
+            Iterator<String> keys = cache.keySet().iterator();
+            while (cache.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
     }
 
     /**
@@ -132,13 +233,62 @@ public class JwtTokenValidator {
      * @throws JwtException if the token is expired, malformed, or has an invalid signature
      */
     Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    @SuppressWarnings("unchecked")
+    private JwtPrincipal toPrincipal(Claims claims) {
+        String teamId = claims.get("teamId", String.class);
+        List<String> roles = claims.get("roles", List.class);
+        List<String> permissions = claims.get("permissions", List.class);
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                UUID.fromString(claims.getSubject()),
+                teamId != null ? UUID.fromString(teamId) : null,
+                roles != null ? List.copyOf(roles) : List.of(),
+                permissions != null ? List.copyOf(permissions) : List.of(),
+                expiration != null ? expiration.toInstant() : null);
+    }
+
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
+
+    private ConcurrentHashMap<String, JwtPrincipal> getVerifiedTokens() {
+        if (jwtProperties.getVerifiedTokenCacheSize() <= 0) {
+            return null;
+        }
+        ConcurrentHashMap<String, JwtPrincipal> current = verifiedTokens;
+        if (current == null) {
+            synchronized (this) {
+                current = verifiedTokens;
+                if (current == null) {
+                    current = new ConcurrentHashMap<>();
+                    verifiedTokens = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
     }
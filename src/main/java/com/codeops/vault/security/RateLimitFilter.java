@@ -1,41 +1,139 @@
 package com.codeops.vault.security;
 
+import com.codeops.vault.config.RateLimitProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
- * Servlet filter that enforces per-IP rate limiting on Vault API endpoints
+ * Servlet filter that enforces per-client rate limiting on Vault API endpoints
  * ({@code /api/v1/vault/**}) to prevent abuse.
  *
- * <p>Uses an in-memory sliding window strategy backed by a {@link ConcurrentHashMap}.
- * Each client IP is allowed a maximum of 100 requests per 60-second window.
- * Requests exceeding the limit receive a {@code 429 Too Many Requests} JSON response.</p>
+ * <p>Each client gets a token bucket per route that holds up to
+ * {@code burst} requests and refills continuously at {@code requestsPerMinute},
+ * so there are no window edges at which a client can send twice its limit.
+ * Requests exceeding the limit receive a {@code 429 Too Many Requests} JSON
+ * response with a {@code Retry-After} header. Limits are configured in
+ * {@link RateLimitProperties}, with overrides per route and per principal.</p>
  *
- * <p>Client IP is resolved from the {@code X-Forwarded-For} header (first entry) when
- * present, falling back to {@link HttpServletRequest#getRemoteAddr()} for direct connections.</p>
+ * <p>Clients are identified by the authenticated user ID when
+ * {@link JwtAuthFilter} has authenticated the request, and otherwise by IP
+ * address, resolved from the {@code X-Forwarded-For} header (first entry)
+ * when present, falling back to {@link HttpServletRequest#getRemoteAddr()}
+ * for direct connections.</p>
+ *
+ * <h3>Bucket state</h3>
+ * <p>A bucket is a single {@link AtomicLong} holding the time at which it
+ * will be full again (the theoretical arrival time of the generic cell rate
+ * algorithm, which is equivalent to a token bucket). A request advances that
+ * time by one refill interval with a compare-and-set, and is rejected if the
+ * bucket would have to be more than {@code burst} intervals in the future.
+ * The request path takes no locks: an existing bucket is read with a plain
+ * map lookup, and only a client's first request creates one.</p>
+ *
+ * <h3>Eviction</h3>
+ * <p>{@link #evictIdle()} runs on a timer ({@link RateLimitScheduler}) and
+ * drops every bucket that has refilled completely, since a full bucket is
+ * indistinguishable from a new one. A bucket is marked evicted with a
+ * compare-and-set before it is removed, and a request that finds a marked
+ * bucket looks its key up again, so no request is counted against a bucket
+ * that has left the map.</p>
+ *
+ * <h3>Distributed mode</h3>
+ * <p>With {@code codeops.vault.rate-limit.distributed} enabled, every bucket
+ * also counts the requests it admitted since the last synchronization.
+ * {@link RateLimitSynchronizer} periodically drains those counts with
+ * {@link #drainUsage()}, charges them to a bucket shared by all instances,
+ * and feeds the shared state back through {@link #reconcile(Map)}. Requests
+ * are still decided locally; the shared state only moves local buckets
+ * forward. A bucket with unsynchronized usage is not evicted.</p>
  *
  * @see SecurityConfig
+ * @see RateLimitProperties
  */
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
 
-    private static final int MAX_REQUESTS_PER_MINUTE = 100;
-    private static final long WINDOW_MS = 60_000L;
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final long MAX_TOLERANCE_NANOS = Long.MAX_VALUE / 4;
+
+    /** Bucket state of a bucket removed by {@link #evictIdle()}; real states are never negative. */
+    private static final long EVICTED = -1L;
 
-    private final ConcurrentHashMap<String, RateWindow> buckets = new ConcurrentHashMap<>();
+    /** Result of {@link #tryAcquire} when the bucket was evicted concurrently. */
+    private static final long RETRY = -1L;
+
+    private final String pathPrefix;
+    private final Limit defaultLimit;
+    private final List<Route> routes;
+    private final Map<String, Limit> principalLimits;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final boolean distributed;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the filter from the configured limits.
+     *
+     * @param properties Rate limit configuration.
+     */
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Creates the filter with an explicit monotonic clock (used by tests).
+     *
+     * @param properties Rate limit configuration.
+     * @param nanoClock  Monotonic time source in nanoseconds.
+     */
+    RateLimitFilter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.pathPrefix = properties.getPathPrefix();
+        this.defaultLimit = Limit.of(properties.getRequestsPerMinute(), properties.getBurst());
+        List<Route> configuredRoutes = new ArrayList<>();
+        for (RateLimitProperties.RouteLimit route : properties.getRoutes()) {
+            configuredRoutes.add(new Route(route.getPathPrefix(),
+                    Limit.of(route.getRequestsPerMinute(), route.getBurst())));
+        }
+        configuredRoutes.sort(Comparator.comparingInt((Route route) -> route.pathPrefix().length()).reversed());
+        this.routes = List.copyOf(configuredRoutes);
+        Map<String, Limit> configuredPrincipals = new HashMap<>();
+        for (RateLimitProperties.PrincipalLimit principal : properties.getPrincipals()) {
+            configuredPrincipals.put(principal.getPrincipal(),
+                    Limit.of(principal.getRequestsPerMinute(), principal.getBurst()));
+        }
+        this.principalLimits = Map.copyOf(configuredPrincipals);
+        this.distributed = properties.isDistributed();
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    // ─── Filtering ──────────────────────────────────────────
 
     /**
      * Applies rate limiting to vault endpoint requests and passes all other
@@ -50,29 +148,180 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
-        if (request.getRequestURI().startsWith("/api/v1/vault/")) {
-            String key = getClientIp(request);
-            RateWindow window = buckets.compute(key, (k, existing) -> {
-                long now = System.currentTimeMillis();
-                if (existing == null || now - existing.windowStart > WINDOW_MS) {
-                    return new RateWindow(now, new AtomicInteger(1));
+        String uri = request.getRequestURI();
+        if (uri.startsWith(pathPrefix)) {
+            String client = getClientKey(request);
+            Route route = resolveRoute(uri);
+            Limit limit = principalLimits.getOrDefault(client, route == null ? defaultLimit : route.limit());
+            if (limit != Limit.UNLIMITED) {
+                String key = (route == null ? pathPrefix : route.pathPrefix()) + ' ' + client;
+                long waitNanos = acquire(key, limit);
+                if (waitNanos > 0) {
+                    log.warn("Rate limit exceeded for client={} endpoint={}", client, uri);
+                    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                    response.setHeader(HttpHeaders.RETRY_AFTER,
+                            Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+                    response.setContentType("application/json");
+                    response.getWriter().write("{\"status\":429,\"message\":\"Rate limit exceeded. Try again later.\"}");
+                    return;
                 }
-                existing.count.incrementAndGet();
-                return existing;
-            });
-            if (window.count.get() > MAX_REQUESTS_PER_MINUTE) {
-                log.warn("Rate limit exceeded for IP={} endpoint={} count={}",
-                        key, request.getRequestURI(), window.count.get());
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.setContentType("application/json");
-                response.getWriter().write("{\"status\":429,\"message\":\"Rate limit exceeded. Try again later.\"}");
-                return;
+                log.debug("Rate limit check passed for client={} endpoint={}", client, uri);
             }
-            log.debug("Rate limit check passed for IP={} count={}", key, window.count.get());
         }
         chain.doFilter(request, response);
     }
 
+    /**
+     * Takes one token from a client's bucket.
+     *
+     * @param key   Bucket key (route and client).
+     * @param limit Limit of the bucket.
+     * @return 0 if the request is allowed, otherwise nanoseconds until it would be.
+     */
+    private long acquire(String key, Limit limit) {
+        while (true) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(key, k -> new Bucket(limit));
+            }
+            long waitNanos = tryAcquire(bucket, limit, now());
+            if (waitNanos == 0 && distributed) {
+                bucket.unsynced.incrementAndGet();
+            }
+            if (waitNanos != RETRY) {
+                return waitNanos;
+            }
+        }
+    }
+
+    private static long tryAcquire(AtomicLong state, Limit limit, long now) {
+        while (true) {
+            long fullAt = state.get();
+            if (fullAt == EVICTED) {
+                return RETRY;
+            }
+            long next = Math.max(fullAt, now) + limit.intervalNanos();
+            long excess = next - now - limit.toleranceNanos();
+            if (excess > 0) {
+                return excess;
+            }
+            if (state.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // ─── Eviction ───────────────────────────────────────────
+
+    /**
+     * Drops the buckets of clients that have been idle long enough for their bucket to refill.
+     *
+     * @return Number of buckets dropped.
+     */
+    public int evictIdle() {
+        long now = now();
+        int evicted = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long fullAt = bucket.get();
+            if (fullAt != EVICTED && fullAt <= now && bucket.unsynced.get() == 0
+                    && bucket.compareAndSet(fullAt, EVICTED)) {
+                buckets.remove(entry.getKey(), bucket);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the number of tracked buckets.
+     *
+     * @return Bucket count.
+     */
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    // ─── Synchronization ────────────────────────────────────
+
+    /**
+     * Takes the usage each bucket admitted since the previous call.
+     *
+     * @return Usage of every bucket that admitted requests; empty unless distributed mode is enabled.
+     */
+    public List<Usage> drainUsage() {
+        List<Usage> usage = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            long consumed = bucket.unsynced.getAndSet(0);
+            if (consumed > 0) {
+                usage.add(new Usage(key, consumed, bucket.limit.intervalNanos()));
+            }
+        });
+        return usage;
+    }
+
+    /**
+     * Returns drained usage that could not be synchronized, so it is sent again next time.
+     *
+     * @param usage Usage previously returned by {@link #drainUsage()}.
+     */
+    public void restoreUsage(List<Usage> usage) {
+        for (Usage entry : usage) {
+            Bucket bucket = buckets.get(entry.key());
+            if (bucket != null) {
+                bucket.unsynced.addAndGet(entry.consumed());
+            }
+        }
+    }
+
+    /**
+     * Moves local buckets forward to the state of their shared buckets.
+     *
+     * <p>Each value is how far in the future, in nanoseconds, the shared bucket
+     * is full again (negative if it already is). A local bucket is only moved
+     * forward, so usage it admitted after the shared state was read is kept.</p>
+     *
+     * @param fullInNanos Time until each shared bucket is full, keyed by bucket key.
+     */
+    public void reconcile(Map<String, Long> fullInNanos) {
+        long now = now();
+        fullInNanos.forEach((key, fullIn) -> {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                return;
+            }
+            long sharedFullAt = now + fullIn;
+            long fullAt = bucket.get();
+            while (fullAt != EVICTED && fullAt < sharedFullAt && !bucket.compareAndSet(fullAt, sharedFullAt)) {
+                fullAt = bucket.get();
+            }
+        });
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private long now() {
+        return nanoClock.getAsLong() - origin;
+    }
+
+    private Route resolveRoute(String uri) {
+        for (Route route : routes) {
+            if (uri.startsWith(route.pathPrefix())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String getClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return getClientIp(request);
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xff = request.getHeader("X-Forwarded-For");
         if (xff != null && !xff.isBlank()) {
@@ -81,13 +330,52 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
-    private static class RateWindow {
-        final long windowStart;
-        final AtomicInteger count;
+    /**
+     * Requests a bucket admitted since the last synchronization.
+     *
+     * @param key           Bucket key (route and client).
+     * @param consumed      Number of admitted requests.
+     * @param intervalNanos Refill interval of the bucket, charged once per request.
+     */
+    public record Usage(String key, long consumed, long intervalNanos) {}
+
+    /**
+     * A client's bucket: its state is the time at which it is full again, on the filter's clock.
+     */
+    private static final class Bucket extends AtomicLong {
+
+        private final Limit limit;
+        private final AtomicLong unsynced = new AtomicLong();
+
+        Bucket(Limit limit) {
+            this.limit = limit;
+        }
+    }
+
+    /**
+     * A route override.
+     */
+    private record Route(String pathPrefix, Limit limit) {}
+
+    /**
+     * A bucket's refill interval and how far ahead of now its full time may run.
+     */
+    private record Limit(long intervalNanos, long toleranceNanos) {
+
+        /** No limit; used when {@code requestsPerMinute} is 0. */
+        static final Limit UNLIMITED = new Limit(0, 0);
 
-        RateWindow(long windowStart, AtomicInteger count) {
-            this.windowStart = windowStart;
-            this.count = count;
+        /**
+         * Builds a limit, or {@link #UNLIMITED} when {@code requestsPerMinute} disables limiting.
+         */
+        static Limit of(int requestsPerMinute, int burst) {
+            if (requestsPerMinute <= 0) {
+                return UNLIMITED;
+            }
+            long interval = Math.max(1, NANOS_PER_MINUTE / requestsPerMinute);
+            long size = burst > 0 ? burst : requestsPerMinute;
+            long tolerance = size <= MAX_TOLERANCE_NANOS / interval ? interval * size : MAX_TOLERANCE_NANOS;
+            return new Limit(interval, tolerance);
         }
     }
 }
@@ -0,0 +1,56 @@
+package com.codeops.vault.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled jobs that drop the rate limit buckets of idle clients and
+ * synchronize distributed rate limits.
+ *
+ * <p>Eviction runs every {@code codeops.vault.rate-limit.eviction-interval-ms}
+ * and delegates to {@link RateLimitFilter#evictIdle()} and
+ * {@link RateLimitSynchronizer#purgeExpired()}. Synchronization runs every
+ * {@code codeops.vault.rate-limit.sync-interval-ms} and delegates to
+ * {@link RateLimitSynchronizer#synchronize()}.
+ * Only active in non-test profiles.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile("!test")
+public class RateLimitScheduler {
+
+    private final RateLimitFilter rateLimitFilter;
+    private final RateLimitSynchronizer rateLimitSynchronizer;
+
+    /**
+     * Evicts local and shared rate limit buckets that have refilled completely.
+     */
+    @Scheduled(fixedDelayString = "${codeops.vault.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        try {
+            int evicted = rateLimitFilter.evictIdle();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit buckets, {} remain", evicted, rateLimitFilter.bucketCount());
+            }
+            rateLimitSynchronizer.purgeExpired();
+        } catch (Exception e) {
+            log.error("Error in rate limit eviction scheduler", e);
+        }
+    }
+
+    /**
+     * Charges local rate limit usage to the shared buckets.
+     */
+    @Scheduled(fixedDelayString = "${codeops.vault.rate-limit.sync-interval-ms:250}")
+    public void synchronizeBuckets() {
+        try {
+            rateLimitSynchronizer.synchronize();
+        } catch (Exception e) {
+            log.error("Error in rate limit synchronization scheduler", e);
+        }
+    }
+}
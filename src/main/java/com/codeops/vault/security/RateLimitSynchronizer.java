@@ -0,0 +1,194 @@
+package com.codeops.vault.security;
+
+import com.codeops.vault.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shares {@link RateLimitFilter} limits between Vault instances through the
+ * {@code rate_limit_buckets} table.
+ *
+ * <p>Only active when {@code codeops.vault.rate-limit.distributed} is enabled.
+ * Every {@code codeops.vault.rate-limit.sync-interval-ms}
+ * ({@link RateLimitScheduler}) the requests each local bucket admitted since
+ * the previous run are charged to the shared bucket with the same key, and
+ * the shared state is read back and applied to the local buckets. Requests
+ * never wait for the database: each instance decides locally, and learns
+ * about the other instances' usage within one interval. Global usage can
+ * therefore overshoot a limit by what the instances admit in one interval,
+ * and instance clocks are assumed to be synchronized.</p>
+ *
+ * <h3>Upserts</h3>
+ * <p>Shared buckets are charged in one transaction, in key order so
+ * instances do not deadlock on each other's rows. On PostgreSQL each bucket
+ * is an {@code INSERT ... ON CONFLICT DO UPDATE} in a JDBC batch; on other
+ * databases it is an {@code UPDATE}, followed by an {@code INSERT} if the
+ * bucket does not exist yet. If synchronization fails, the drained usage is
+ * given back to the local buckets and sent again on the next run.</p>
+ *
+ * <p>Shared buckets that have refilled completely are deleted by
+ * {@link #purgeExpired()}, which runs with the local eviction.</p>
+ */
+@Component
+@Slf4j
+public class RateLimitSynchronizer {
+
+    static final String UPSERT_SQL = "INSERT INTO rate_limit_buckets (bucket_key, full_at_micros) VALUES (?, ?) "
+            + "ON CONFLICT (bucket_key) DO UPDATE SET full_at_micros = "
+            + "GREATEST(rate_limit_buckets.full_at_micros, ?) + ?";
+    static final String UPDATE_SQL = "UPDATE rate_limit_buckets SET full_at_micros = GREATEST(full_at_micros, ?) + ? "
+            + "WHERE bucket_key = ?";
+    static final String INSERT_SQL = "INSERT INTO rate_limit_buckets (bucket_key, full_at_micros) VALUES (?, ?)";
+
+    private static final int SELECT_CHUNK_SIZE = 500;
+
+    private final RateLimitFilter rateLimitFilter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Clock clock;
+
+    /** Whether the database supports {@code INSERT ... ON CONFLICT}; resolved on first use. */
+    private volatile Boolean upsertSupported;
+
+    /**
+     * Creates the synchronizer.
+     *
+     * @param rateLimitFilter    Filter holding the local buckets.
+     * @param properties         Rate limit configuration.
+     * @param jdbcTemplate       JDBC template used for the shared buckets.
+     * @param transactionManager Transaction manager for each synchronization.
+     */
+    @Autowired
+    public RateLimitSynchronizer(RateLimitFilter rateLimitFilter, RateLimitProperties properties,
+                                 JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(rateLimitFilter, properties, jdbcTemplate, transactionManager, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the synchronizer with an explicit clock (used by tests).
+     *
+     * @param rateLimitFilter    Filter holding the local buckets.
+     * @param properties         Rate limit configuration.
+     * @param jdbcTemplate       JDBC template used for the shared buckets.
+     * @param transactionManager Transaction manager for each synchronization.
+     * @param clock              Clock the shared bucket times are based on.
+     */
+    RateLimitSynchronizer(RateLimitFilter rateLimitFilter, RateLimitProperties properties,
+                          JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Clock clock) {
+        this.rateLimitFilter = rateLimitFilter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = properties.isDistributed();
+        this.clock = clock;
+    }
+
+    /**
+     * Charges local usage to the shared buckets and applies their state to the local buckets.
+     *
+     * @return Number of buckets synchronized.
+     */
+    public int synchronize() {
+        if (!enabled) {
+            return 0;
+        }
+        List<RateLimitFilter.Usage> usage = rateLimitFilter.drainUsage();
+        if (usage.isEmpty()) {
+            return 0;
+        }
+        usage.sort(Comparator.comparing(RateLimitFilter.Usage::key));
+        Map<String, Long> fullAtMicros;
+        try {
+            fullAtMicros = transactionTemplate.execute(status -> {
+                charge(usage, nowMicros());
+                return read(usage);
+            });
+        } catch (RuntimeException e) {
+            rateLimitFilter.restoreUsage(usage);
+            throw e;
+        }
+        long now = nowMicros();
+        Map<String, Long> fullInNanos = new HashMap<>();
+        fullAtMicros.forEach((key, fullAt) -> fullInNanos.put(key, (fullAt - now) * 1000));
+        rateLimitFilter.reconcile(fullInNanos);
+        return usage.size();
+    }
+
+    /**
+     * Deletes shared buckets that have refilled completely.
+     *
+     * @return Number of buckets deleted.
+     */
+    public int purgeExpired() {
+        if (!enabled) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE full_at_micros < ?", nowMicros());
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private void charge(List<RateLimitFilter.Usage> usage, long now) {
+        if (isUpsertSupported()) {
+            List<Object[]> rows = new ArrayList<>(usage.size());
+            for (RateLimitFilter.Usage entry : usage) {
+                long charged = chargedMicros(entry);
+                rows.add(new Object[]{entry.key(), now + charged, now, charged});
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } else {
+            for (RateLimitFilter.Usage entry : usage) {
+                long charged = chargedMicros(entry);
+                if (jdbcTemplate.update(UPDATE_SQL, now, charged, entry.key()) == 0) {
+                    jdbcTemplate.update(INSERT_SQL, entry.key(), now + charged);
+                }
+            }
+        }
+    }
+
+    private Map<String, Long> read(List<RateLimitFilter.Usage> usage) {
+        Map<String, Long> fullAtMicros = new HashMap<>();
+        for (int from = 0; from < usage.size(); from += SELECT_CHUNK_SIZE) {
+            List<RateLimitFilter.Usage> chunk = usage.subList(from, Math.min(usage.size(), from + SELECT_CHUNK_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT bucket_key, full_at_micros FROM rate_limit_buckets WHERE bucket_key IN ("
+                            + placeholders + ")",
+                    (RowCallbackHandler) rs -> fullAtMicros.put(rs.getString("bucket_key"), rs.getLong("full_at_micros")),
+                    chunk.stream().map(RateLimitFilter.Usage::key).toArray());
+        }
+        return fullAtMicros;
+    }
+
+    private static long chargedMicros(RateLimitFilter.Usage usage) {
+        return usage.consumed() * (usage.intervalNanos() / 1000);
+    }
+
+    private long nowMicros() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, clock.instant());
+    }
+
+    private boolean isUpsertSupported() {
+        if (upsertSupported == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            upsertSupported = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return upsertSupported;
+    }
+}
@@ -21,7 +21,9 @@ import jakarta.servlet.http.HttpServletResponse;
  * <ul>
  *   <li>CSRF is disabled since the API uses stateless JWT tokens (no cookie-based auth)</li>
  *   <li>Session management is set to {@link SessionCreationPolicy#STATELESS}</li>
- *   <li>Health and Swagger UI endpoints are publicly accessible</li>
+ *   <li>Health and Swagger UI endpoints are publicly accessible; {@code /actuator/health}
+ *       only reports its overall status unless the caller has the ADMIN or OWNER role</li>
+ *   <li>All other actuator endpoints (metrics) require the ADMIN or OWNER role</li>
  *   <li>All other {@code /api/**} endpoints require authentication</li>
  *   <li>Security headers include CSP, HSTS, X-Frame-Options DENY, and X-Content-Type-Options</li>
  *   <li>{@link RequestCorrelationFilter}, {@link RateLimitFilter}, and {@link JwtAuthFilter}
@@ -61,6 +63,8 @@ public class SecurityConfig {
                         .requestMatchers("/health").permitAll()
                         .requestMatchers("/api/v1/vault/seal/status").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAnyRole("ADMIN", "OWNER")
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().authenticated()
                 )
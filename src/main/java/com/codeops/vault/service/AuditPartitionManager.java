@@ -0,0 +1,537 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.AuditProperties;
+import com.codeops.vault.exception.CodeOpsVaultException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maintains the monthly partitions and the retention of {@code vault_audit_log}.
+ *
+ * <p>{@link AuditPartitionScheduler} calls {@link #maintain()} every
+ * {@code codeops.vault.audit.maintenance-interval-ms}. What a run does depends
+ * on the database and on {@code codeops.vault.audit.partitioning-enabled}.</p>
+ *
+ * <h3>Partitioned mode (PostgreSQL with partitioning enabled)</h3>
+ * <ul>
+ *   <li>The first run converts the table created by Hibernate into a table
+ *       range-partitioned on {@code created_at}, in one transaction: existing
+ *       rows are copied into monthly partitions and the secondary indexes are
+ *       recreated on the parent. The primary key becomes
+ *       {@code (id, created_at)}, as PostgreSQL requires the partition key in
+ *       every unique constraint, and {@code id} is drawn from the
+ *       {@code vault_audit_log_partitioned_id_seq} sequence. The identity
+ *       sequence Hibernate created for the old table keeps its name
+ *       {@code vault_audit_log_id_seq} after the rename, so the new sequence
+ *       needs a name of its own; the old one is dropped with the old table.</li>
+ *   <li>Every run creates the partitions of the current month and the next
+ *       {@code partition-precreate-months} months. A default partition catches
+ *       rows outside every monthly range.</li>
+ *   <li>Partitions that end on or before the retention cutoff are exported to
+ *       the archive directory, then detached and dropped.</li>
+ * </ul>
+ * <p>Because {@link com.codeops.vault.repository.AuditEntrySpecifications}
+ * turns a query's time range into {@code created_at} predicates, PostgreSQL
+ * prunes the partitions outside that range.</p>
+ *
+ * <h3>Unpartitioned mode (any other configuration)</h3>
+ * <p>Entries older than the retention cutoff are exported to one archive file
+ * per run, then deleted in batches of {@code archive-batch-size}.</p>
+ *
+ * <h3>Several instances</h3>
+ * <p>On PostgreSQL a run first takes a session-level advisory lock
+ * ({@code pg_try_advisory_lock}) on a connection it keeps for the whole run.
+ * An instance that does not get the lock skips the run, so only one instance
+ * converts, creates, archives or deletes at a time. The table conversion also
+ * re-checks, after taking its table lock, that the table is not partitioned
+ * yet. Which instance wins can change from run to run, so in a multi-instance
+ * deployment {@code archive-directory} must be storage shared by every
+ * instance (for example a network volume); otherwise archives end up spread
+ * over the instances' local disks.</p>
+ *
+ * <h3>Retention and archives</h3>
+ * <p>The retention cutoff is the start of the month {@code retention-months}
+ * months before the current one (UTC); {@code 0} disables retention. Archives
+ * are gzip-compressed CSV files with a header row, written to a temporary file
+ * and moved into place once complete. Rows are only removed after their
+ * archive file has been written. Hourly statistics buckets before the cutoff
+ * are deleted as well, so audit statistics describe the retained log.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.audit.archive.rows} — audit entries archived and removed</li>
+ *   <li>{@code vault.audit.archive.failures} — maintenance runs that failed</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AuditPartitionManager {
+
+    static final String TABLE = "vault_audit_log";
+    static final String SEQUENCE = "vault_audit_log_partitioned_id_seq";
+    static final String DEFAULT_PARTITION = "vault_audit_log_default";
+
+    private static final String PARTITION_PREFIX = "vault_audit_log_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{4})(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter ARCHIVE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int FETCH_SIZE = 1000;
+    /** Advisory lock key held by the instance running maintenance ("vaultaud" in ASCII). */
+    static final long MAINTENANCE_LOCK_KEY = 0x7661756c74617564L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final AuditProperties auditProperties;
+    private final Clock clock;
+    private final Counter archivedRows;
+    private final Counter failures;
+
+    /** Whether the database is PostgreSQL; resolved on first run. */
+    private Boolean postgres;
+
+    /**
+     * Creates the manager and registers its meters.
+     *
+     * @param jdbcTemplate       JDBC template used for DDL, export and deletion.
+     * @param transactionManager Transaction manager for independent maintenance transactions.
+     * @param auditProperties    Partitioning and retention configuration.
+     * @param meterRegistry      Registry used to publish maintenance metrics.
+     */
+    @Autowired
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 AuditProperties auditProperties, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, transactionManager, auditProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the manager with the clock that determines the current month.
+     *
+     * @param jdbcTemplate       JDBC template used for DDL, export and deletion.
+     * @param transactionManager Transaction manager for independent maintenance transactions.
+     * @param auditProperties    Partitioning and retention configuration.
+     * @param meterRegistry      Registry used to publish maintenance metrics.
+     * @param clock              Clock used to compute partitions and the retention cutoff.
+     */
+    AuditPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          AuditProperties auditProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.auditProperties = auditProperties;
+        this.clock = clock;
+        this.archivedRows = Counter.builder("vault.audit.archive.rows")
+                .description("Audit entries archived and removed by retention")
+                .register(meterRegistry);
+        this.failures = Counter.builder("vault.audit.archive.failures")
+                .description("Audit maintenance runs that failed")
+                .register(meterRegistry);
+    }
+
+    // ─── Maintenance ────────────────────────────────────────
+
+    /**
+     * Runs one maintenance pass: partition creation (in partitioned mode) and retention.
+     *
+     * <p>On PostgreSQL the pass is skipped if another instance is running one.</p>
+     *
+     * @return The number of audit entries archived and removed.
+     * @throws CodeOpsVaultException if the pass fails; rows are never removed without an archive.
+     */
+    public synchronized long maintain() {
+        try {
+            return isPostgres() ? runExclusively(this::runPass) : runPass();
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a pass while holding the maintenance advisory lock on a dedicated connection.
+     *
+     * @return The pass's result, or 0 if another instance holds the lock.
+     */
+    private long runExclusively(LongSupplier pass) {
+        Long result = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                log.debug("Audit maintenance is running on another instance; skipping this run");
+                return 0L;
+            }
+            try {
+                return pass.getAsLong();
+            } finally {
+                advisoryLock(connection, "pg_advisory_unlock");
+            }
+        });
+        return result == null ? 0 : result;
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, MAINTENANCE_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * Runs one maintenance pass.
+     *
+     * @return The number of audit entries archived and removed.
+     */
+    private long runPass() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        Instant cutoff = retentionCutoff(current);
+        long archived;
+        if (isPartitioned()) {
+            ensurePartitionedTable(current);
+            createPartitions(current);
+            archived = cutoff == null ? 0 : archiveExpiredPartitions(cutoff);
+        } else {
+            archived = cutoff == null ? 0 : archiveExpiredRows(cutoff);
+        }
+        if (cutoff != null) {
+            jdbcTemplate.update("DELETE FROM " + AuditStatsRollup.TABLE + " WHERE bucket_start < ?",
+                    OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC));
+        }
+        archivedRows.increment(archived);
+        return archived;
+    }
+
+    /**
+     * Returns the start of the oldest month kept by retention.
+     *
+     * @param current The current month.
+     * @return The cutoff, or {@code null} if retention is disabled.
+     */
+    Instant retentionCutoff(YearMonth current) {
+        int months = auditProperties.getRetentionMonths();
+        return months <= 0 ? null : monthStart(current.minusMonths(months));
+    }
+
+    private boolean isPartitioned() {
+        if (!auditProperties.isPartitioningEnabled()) {
+            return false;
+        }
+        return isPostgres();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+            if (!postgres && auditProperties.isPartitioningEnabled()) {
+                log.warn("Audit partitioning requires PostgreSQL; {} uses unpartitioned retention", product);
+            }
+        }
+        return postgres;
+    }
+
+    // ─── Partitioned Mode ───────────────────────────────────
+
+    /**
+     * Converts the audit table into a partitioned table if it is not one yet.
+     *
+     * <p>The table kind is checked again after the table lock is taken, so a
+     * conversion that another process finished while this one waited for the
+     * lock is not repeated.</p>
+     */
+    private void ensurePartitionedTable(YearMonth current) {
+        if (isPartitionedTable()) {
+            return;
+        }
+        requiresNew.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+            if (isPartitionedTable()) {
+                return;
+            }
+            log.info("Converting {} to a partitioned table", TABLE);
+            String legacy = TABLE + "_unpartitioned";
+            List<String> indexes = jdbcTemplate.queryForList("""
+                    SELECT indexdef FROM pg_indexes
+                    WHERE schemaname = current_schema() AND tablename = ?
+                      AND indexname NOT IN (SELECT conname FROM pg_constraint
+                                            WHERE conrelid = to_regclass(?) AND contype IN ('p', 'u'))
+                    """, String.class, TABLE, TABLE);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+            jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + legacy + " INCLUDING DEFAULTS) "
+                    + "PARTITION BY RANGE (created_at)");
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE + " OWNED BY " + TABLE + ".id");
+            jdbcTemplate.execute("SELECT setval('" + SEQUENCE + "', "
+                    + "(SELECT COALESCE(max(id), 0) + 1 FROM " + legacy + "), false)");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + SEQUENCE + "')");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PRIMARY KEY (id, created_at)");
+
+            OffsetDateTime oldest = jdbcTemplate.queryForObject(
+                    "SELECT min(created_at) FROM " + legacy, OffsetDateTime.class);
+            YearMonth month = oldest == null ? current
+                    : YearMonth.from(oldest.withOffsetSameInstant(ZoneOffset.UTC));
+            for (; !month.isAfter(current); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION
+                    + " PARTITION OF " + TABLE + " DEFAULT");
+
+            int copied = jdbcTemplate.update("INSERT INTO " + TABLE + " SELECT * FROM " + legacy);
+            jdbcTemplate.execute("ALTER TABLE " + legacy + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            jdbcTemplate.execute("DROP TABLE " + legacy);
+            indexes.forEach(jdbcTemplate::execute);
+            log.info("Converted {} to a partitioned table ({} entries)", TABLE, copied);
+        });
+    }
+
+    private boolean isPartitionedTable() {
+        String relkind = jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, TABLE);
+        return "p".equals(relkind);
+    }
+
+    /**
+     * Creates the partitions of the current month and the pre-created future months.
+     */
+    private void createPartitions(YearMonth current) {
+        int ahead = Math.max(0, auditProperties.getPartitionPrecreateMonths());
+        for (int i = 0; i <= ahead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                requiresNew.executeWithoutResult(status -> createPartition(month));
+            } catch (RuntimeException e) {
+                log.warn("Could not create audit partition for {}: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + monthStart(month) + "') TO ('" + monthStart(month.plusMonths(1)) + "')");
+    }
+
+    /**
+     * Archives, detaches and drops every monthly partition that ends on or before the cutoff.
+     */
+    private long archiveExpiredPartitions(Instant cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?) ORDER BY c.relname
+                """, String.class, TABLE);
+        long archived = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (monthStart(month.plusMonths(1)).isAfter(cutoff)) {
+                continue;
+            }
+            archived += archivePartition(partition);
+        }
+        return archived;
+    }
+
+    private long archivePartition(String partition) {
+        Path archive = archiveDirectory().resolve(partition + ".csv.gz");
+        long exported = export("SELECT * FROM " + partition + " ORDER BY created_at, id", archive);
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                Long remaining = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Long.class);
+                if (remaining == null || remaining != exported) {
+                    throw new CodeOpsVaultException("Audit partition " + partition
+                            + " changed while it was archived");
+                }
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(archive);
+            throw e;
+        }
+        log.info("Archived audit partition {} ({} entries) to {}", partition, exported, archive);
+        return exported;
+    }
+
+    // ─── Unpartitioned Mode ─────────────────────────────────
+
+    /**
+     * Archives every entry created before the cutoff to one file, then deletes those entries in batches.
+     */
+    private long archiveExpiredRows(Instant cutoff) {
+        OffsetDateTime before = OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC);
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT max(id) FROM " + TABLE + " WHERE created_at < ?", Long.class, before);
+        if (maxId == null) {
+            return 0;
+        }
+        Path archive = archiveDirectory().resolve(TABLE + "_before_" + ARCHIVE_STAMP.format(cutoff)
+                + "_" + ARCHIVE_STAMP.format(clock.instant()) + ".csv.gz");
+        long exported = export("SELECT * FROM " + TABLE + " WHERE created_at < ? AND id <= ? ORDER BY id",
+                archive, before, maxId);
+
+        int batchSize = Math.max(1, auditProperties.getArchiveBatchSize());
+        long deleted = 0;
+        long from = Long.MIN_VALUE;
+        while (true) {
+            Long upTo = jdbcTemplate.queryForObject("SELECT max(id) FROM (SELECT id FROM " + TABLE
+                    + " WHERE created_at < ? AND id > ? AND id <= ? ORDER BY id LIMIT ?) b",
+                    Long.class, before, from, maxId, batchSize);
+            if (upTo == null) {
+                break;
+            }
+            long lower = from;
+            Integer count = requiresNew.execute(status -> jdbcTemplate.update(
+                    "DELETE FROM " + TABLE + " WHERE created_at < ? AND id > ? AND id <= ?",
+                    before, lower, upTo));
+            deleted += count == null ? 0 : count;
+            from = upTo;
+        }
+        log.info("Archived {} audit entries created before {} to {}", exported, cutoff, archive);
+        return deleted;
+    }
+
+    // ─── Archive Files ──────────────────────────────────────
+
+    /**
+     * Streams a query's rows into a gzip-compressed CSV file.
+     *
+     * @return The number of rows written.
+     */
+    private long export(String sql, Path archive, Object... args) {
+        Path temp = archive.resolveSibling(archive.getFileName() + ".tmp");
+        long[] rows = {0};
+        try (OutputStream out = Files.newOutputStream(temp);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(out),
+                     StandardCharsets.UTF_8))) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    if (rows[0] == 0) {
+                        writeHeader(writer, rs.getMetaData());
+                    }
+                    writeRow(writer, rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new SQLException("Could not write audit archive " + archive, e);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw new CodeOpsVaultException("Could not write audit archive " + archive, e);
+        }
+        try {
+            Files.move(temp, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new CodeOpsVaultException("Could not write audit archive " + archive, e);
+        }
+        return rows[0];
+    }
+
+    private void writeHeader(Writer writer, ResultSetMetaData metaData) throws SQLException, IOException {
+        List<String> columns = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.add(metaData.getColumnLabel(i).toLowerCase());
+        }
+        writer.write(String.join(",", columns));
+        writer.write('\n');
+    }
+
+    private void writeRow(Writer writer, ResultSet rs) throws SQLException, IOException {
+        int columns = rs.getMetaData().getColumnCount();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            Object value = rs.getObject(i);
+            if (value instanceof Timestamp timestamp) {
+                value = timestamp.toInstant();
+            } else if (value instanceof OffsetDateTime offsetDateTime) {
+                value = offsetDateTime.toInstant();
+            }
+            if (value != null) {
+                writer.write(csv(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private Path archiveDirectory() {
+        Path directory = Path.of(auditProperties.getArchiveDirectory());
+        try {
+            return Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new CodeOpsVaultException("Could not create audit archive directory " + directory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static Instant monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+}
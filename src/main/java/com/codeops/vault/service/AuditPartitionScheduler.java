@@ -0,0 +1,38 @@
+package com.codeops.vault.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that maintains audit log partitions and retention.
+ *
+ * <p>Runs every {@code codeops.vault.audit.maintenance-interval-ms} and
+ * delegates to {@link AuditPartitionManager#maintain()}.
+ * Only active in non-test profiles.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile("!test")
+public class AuditPartitionScheduler {
+
+    private final AuditPartitionManager auditPartitionManager;
+
+    /**
+     * Creates upcoming partitions and archives expired audit entries.
+     */
+    @Scheduled(fixedDelayString = "${codeops.vault.audit.maintenance-interval-ms:3600000}")
+    public void maintainAuditLog() {
+        try {
+            long archived = auditPartitionManager.maintain();
+            if (archived > 0) {
+                log.info("Audit maintenance archived {} entries", archived);
+            }
+        } catch (Exception e) {
+            log.error("Error in audit partition scheduler", e);
+        }
+    }
+}
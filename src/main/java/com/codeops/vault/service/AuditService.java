@@ -4,21 +4,31 @@ import com.codeops.vault.config.RequestCorrelationFilter;
 import com.codeops.vault.dto.mapper.AuditMapper;
 import com.codeops.vault.dto.request.AuditQueryRequest;
 import com.codeops.vault.dto.response.AuditEntryResponse;
+import com.codeops.vault.dto.response.KeysetCursor;
 import com.codeops.vault.dto.response.PageResponse;
 import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.exception.ValidationException;
 import com.codeops.vault.repository.AuditEntryRepository;
+import com.codeops.vault.repository.AuditEntrySpecifications;
+import com.codeops.vault.repository.AuditStatsBucketRepository;
+import com.codeops.vault.repository.AuditStatsBucketRepository.OperationTotal;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +42,10 @@ import java.util.UUID;
  * immutable audit entry. Audit logging is best-effort — failures in
  * audit recording never block the primary operation.</p>
  *
+ * <p>Entries are persisted by {@link AuditWriter}, which writes them
+ * synchronously, asynchronously in batches, or in group-committed batches
+ * depending on {@code codeops.vault.audit.durability}.</p>
+ *
  * <p>Each audit entry captures:</p>
  * <ul>
  *   <li>Team and user context from the JWT</li>
@@ -50,8 +64,16 @@ import java.util.UUID;
 @Slf4j
 public class AuditService {
 
+    /** Lower bound of an unbounded statistics window. */
+    private static final Instant STATS_LOWER_BOUND = Instant.EPOCH;
+
+    /** Upper bound of an unbounded statistics window. */
+    private static final Instant STATS_UPPER_BOUND = Instant.parse("9999-12-31T00:00:00Z");
+
     private final AuditEntryRepository auditEntryRepository;
     private final AuditMapper auditMapper;
+    private final AuditWriter auditWriter;
+    private final AuditStatsBucketRepository auditStatsBucketRepository;
 
     // ─── Logging Methods ────────────────────────────────────
 
@@ -86,7 +108,47 @@ public class AuditService {
                     .correlationId(extractCorrelationId())
                     .detailsJson(detailsJson)
                     .build();
-            writeAuditEntry(entry);
+            auditWriter.write(entry);
+        } catch (Exception e) {
+            log.warn("Failed to write audit log for operation {}: {}", operation, e.getMessage());
+        }
+    }
+
+    /**
+     * Records the same successful operation on several resources, one audit
+     * entry per resource, written together.
+     *
+     * <p>Used by bulk operations so that every resource keeps its own audit
+     * trail without each entry waiting for its own commit. Failures are
+     * silently logged — audit never blocks primary operations.</p>
+     *
+     * @param teamId             Team context.
+     * @param userId             Acting user (nullable for system/scheduled operations).
+     * @param operation          The operation performed (e.g., READ).
+     * @param resourceType       Type of the resources (e.g., SECRET).
+     * @param pathsByResourceId  Path of each affected resource, keyed by resource ID.
+     */
+    public void logSuccessForEach(UUID teamId, UUID userId, String operation, String resourceType,
+                                  Map<UUID, String> pathsByResourceId) {
+        if (pathsByResourceId.isEmpty()) {
+            return;
+        }
+        try {
+            String ipAddress = extractIpAddress();
+            String correlationId = extractCorrelationId();
+            List<AuditEntry> entries = new ArrayList<>(pathsByResourceId.size());
+            pathsByResourceId.forEach((resourceId, path) -> entries.add(AuditEntry.builder()
+                    .teamId(teamId)
+                    .userId(userId)
+                    .operation(operation)
+                    .path(path)
+                    .resourceType(resourceType)
+                    .resourceId(resourceId)
+                    .success(true)
+                    .ipAddress(ipAddress)
+                    .correlationId(correlationId)
+                    .build()));
+            auditWriter.writeAll(entries);
         } catch (Exception e) {
             log.warn("Failed to write audit log for operation {}: {}", operation, e.getMessage());
         }
@@ -123,7 +185,7 @@ public class AuditService {
                     .ipAddress(extractIpAddress())
                     .correlationId(extractCorrelationId())
                     .build();
-            writeAuditEntry(entry);
+            auditWriter.write(entry);
         } catch (Exception e) {
             log.warn("Failed to write audit failure log for operation {}: {}", operation, e.getMessage());
         }
@@ -134,43 +196,60 @@ public class AuditService {
     /**
      * Queries the audit log with optional filters.
      *
-     * <p>Applies the first matching filter in priority order:
-     * resourceType+resourceId, userId, operation, path, time range,
-     * successOnly, or returns all team entries if no filter is set.</p>
+     * <p>All filters that are set are applied together, always scoped to the
+     * team: userId, operation, path, resourceType, resourceId, success status,
+     * and either bound of the time range.</p>
      *
      * @param teamId   Team ID for scoping.
      * @param query    Query parameters with optional filters.
      * @param pageable Pagination parameters.
      * @return Paginated list of audit entry responses.
+     * @throws ValidationException if startTime is after endTime.
      */
     @Transactional(readOnly = true)
     public PageResponse<AuditEntryResponse> queryAuditLog(UUID teamId, AuditQueryRequest query,
                                                            Pageable pageable) {
-        Page<AuditEntry> page;
-
-        if (query.resourceType() != null && query.resourceId() != null) {
-            page = auditEntryRepository.findByTeamIdAndResourceTypeAndResourceId(
-                    teamId, query.resourceType(), query.resourceId(), pageable);
-        } else if (query.userId() != null) {
-            page = auditEntryRepository.findByUserId(query.userId(), pageable);
-        } else if (query.operation() != null) {
-            page = auditEntryRepository.findByTeamIdAndOperation(teamId, query.operation(), pageable);
-        } else if (query.path() != null) {
-            page = auditEntryRepository.findByTeamIdAndPath(teamId, query.path(), pageable);
-        } else if (query.startTime() != null && query.endTime() != null) {
-            page = auditEntryRepository.findByTeamIdAndCreatedAtBetween(
-                    teamId, query.startTime(), query.endTime(), pageable);
-        } else if (Boolean.FALSE.equals(query.successOnly())) {
-            page = auditEntryRepository.findByTeamIdAndSuccessFalse(teamId, pageable);
-        } else {
-            page = auditEntryRepository.findByTeamId(teamId, pageable);
+        if (query.startTime() != null && query.endTime() != null && query.startTime().isAfter(query.endTime())) {
+            throw new ValidationException("startTime must not be after endTime");
         }
+        Page<AuditEntry> page = auditEntryRepository.findAll(
+                AuditEntrySpecifications.matching(teamId, query), pageable);
 
         List<AuditEntryResponse> responses = auditMapper.toResponses(page.getContent());
         return new PageResponse<>(responses, page.getNumber(), page.getSize(),
                 page.getTotalElements(), page.getTotalPages(), page.isLast());
     }
 
+    /**
+     * Lists a team's audit entries newest first using keyset pagination.
+     *
+     * <p>No count query is issued and each page is an index range scan on
+     * {@code (team_id, created_at, id)} starting after the cursor, so paging
+     * deep into a large audit log costs the same as reading the first page.</p>
+     *
+     * @param teamId Team ID for scoping.
+     * @param after  Cursor returned with the previous page, or {@code null} for the first page.
+     * @param size   Page size.
+     * @return Page of audit entry responses with {@code nextCursor} set unless it is the last page.
+     * @throws com.codeops.vault.exception.ValidationException if the cursor is malformed.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<AuditEntryResponse> listAuditLogAfter(UUID teamId, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Slice<AuditEntry> slice = cursor == null
+                ? auditEntryRepository.findPageAfter(teamId, KeysetCursor.UPPER_BOUND, 0L, PageRequest.of(0, size))
+                : auditEntryRepository.findPageAfter(teamId, cursor.createdAt(), cursor.longId(),
+                        PageRequest.of(0, size));
+
+        List<AuditEntry> entries = slice.getContent();
+        KeysetCursor next = null;
+        if (slice.hasNext()) {
+            AuditEntry last = entries.get(entries.size() - 1);
+            next = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+        return PageResponse.ofCursor(auditMapper.toResponses(entries), size, next);
+    }
+
     /**
      * Gets audit entries for a specific resource.
      *
@@ -192,35 +271,54 @@ public class AuditService {
     }
 
     /**
-     * Gets audit statistics for a team.
+     * Gets audit statistics for a team over a time window.
+     *
+     * <p>Statistics are summed from the hourly rollups maintained by
+     * {@link AuditStatsRollup}, so the cost grows with the number of hours in
+     * the window rather than the number of entries. The window is widened to
+     * whole UTC hours: it covers every hour that overlaps {@code [from, to)}.</p>
      *
      * @param teamId Team ID.
+     * @param from   Start of the window, inclusive (optional; unbounded if null).
+     * @param to     End of the window, exclusive (optional; unbounded if null).
      * @return Map with "totalEntries", "failedEntries", and operation counts.
+     * @throws ValidationException if from is after to.
      */
     @Transactional(readOnly = true)
-    public Map<String, Long> getAuditStats(UUID teamId) {
+    public Map<String, Long> getAuditStats(UUID teamId, Instant from, Instant to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("from must not be after to");
+        }
+        Instant start = from == null ? STATS_LOWER_BOUND : from.truncatedTo(ChronoUnit.HOURS);
+        Instant end = STATS_UPPER_BOUND;
+        if (to != null) {
+            Instant hour = to.truncatedTo(ChronoUnit.HOURS);
+            end = hour.equals(to) ? hour : hour.plus(1, ChronoUnit.HOURS);
+        }
+
+        long total = 0;
+        long failed = 0;
+        Map<String, Long> byOperation = new HashMap<>();
+        for (OperationTotal row : auditStatsBucketRepository.sumByOperation(teamId, start, end)) {
+            long entries = row.getEntries() == null ? 0 : row.getEntries();
+            total += entries;
+            if (!Boolean.TRUE.equals(row.getSuccess())) {
+                failed += entries;
+            }
+            byOperation.merge(row.getOperation(), entries, Long::sum);
+        }
+
         Map<String, Long> stats = new LinkedHashMap<>();
-        stats.put("totalEntries", auditEntryRepository.countByTeamId(teamId));
-        stats.put("failedEntries", auditEntryRepository.countByTeamIdAndSuccessFalse(teamId));
-        stats.put("readOperations", auditEntryRepository.countByTeamIdAndOperation(teamId, "READ"));
-        stats.put("writeOperations", auditEntryRepository.countByTeamIdAndOperation(teamId, "WRITE"));
-        stats.put("deleteOperations", auditEntryRepository.countByTeamIdAndOperation(teamId, "DELETE"));
+        stats.put("totalEntries", total);
+        stats.put("failedEntries", failed);
+        stats.put("readOperations", byOperation.getOrDefault("READ", 0L));
+        stats.put("writeOperations", byOperation.getOrDefault("WRITE", 0L));
+        stats.put("deleteOperations", byOperation.getOrDefault("DELETE", 0L));
         return stats;
     }
 
     // ─── Private Helpers ────────────────────────────────────
 
-    /**
-     * Persists an audit entry in a new transaction to avoid coupling
-     * with the calling service's transaction.
-     *
-     * @param entry The audit entry to persist.
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void writeAuditEntry(AuditEntry entry) {
-        auditEntryRepository.save(entry);
-    }
-
     /**
      * Extracts the client IP address from the current HTTP request.
      *
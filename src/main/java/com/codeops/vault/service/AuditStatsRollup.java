@@ -0,0 +1,250 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.entity.AuditEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Savepoint;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Maintains the hourly audit statistics in {@code vault_audit_stats_hourly}.
+ *
+ * <p>{@link AuditWriter} calls {@link #record(Collection)} inside the
+ * transaction that inserts the audit entries, so a bucket is counted exactly
+ * when its entries commit. The bucket updates run behind a savepoint: if they
+ * fail, only the statistics are rolled back, the failure is logged and
+ * counted, and the audit entries still commit. Statistics are derived data
+ * and must never cause audit records to be lost. Entries are grouped by team, UTC hour, operation
+ * and outcome first, so a batch touches each bucket row once. Buckets are
+ * updated in a fixed key order, which keeps concurrent writers from
+ * deadlocking on each other's bucket rows. Entries without a team are not
+ * counted.</p>
+ *
+ * <h3>Upserts</h3>
+ * <p>On PostgreSQL each bucket is one {@code INSERT ... ON CONFLICT DO UPDATE}
+ * in a JDBC batch; on other databases it is an {@code UPDATE}, followed by an
+ * {@code INSERT} if the bucket does not exist yet. If a concurrent writer
+ * inserts the same bucket in between, the {@code INSERT} fails on
+ * {@code uk_vash_bucket} and the {@code UPDATE} is repeated.</p>
+ *
+ * <h3>Backfill</h3>
+ * <p>On startup, if the rollup table is empty, it is filled from the audit
+ * entries already stored. On PostgreSQL the rollup table is locked against
+ * writers while this happens, so entries committed concurrently are counted
+ * exactly once.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.audit.stats.buckets.updated} — bucket upserts performed</li>
+ *   <li>{@code vault.audit.stats.record.failures} — batches whose statistics could not be recorded</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AuditStatsRollup {
+
+    static final String TABLE = "vault_audit_stats_hourly";
+    static final String UPSERT_SQL = "INSERT INTO vault_audit_stats_hourly "
+            + "(team_id, bucket_start, operation, success, entry_count) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (team_id, bucket_start, operation, success) "
+            + "DO UPDATE SET entry_count = vault_audit_stats_hourly.entry_count + EXCLUDED.entry_count";
+    static final String UPDATE_SQL = "UPDATE vault_audit_stats_hourly SET entry_count = entry_count + ? "
+            + "WHERE team_id = ? AND bucket_start = ? AND operation = ? AND success = ?";
+    static final String INSERT_SQL = "INSERT INTO vault_audit_stats_hourly "
+            + "(team_id, bucket_start, operation, success, entry_count) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String HOUR_INDEX = "FLOOR(EXTRACT(EPOCH FROM created_at) / 3600)";
+    private static final String BACKFILL_SQL = "SELECT team_id, " + HOUR_INDEX + " AS hour_index, operation, "
+            + "success, COUNT(*) AS entries FROM vault_audit_log WHERE team_id IS NOT NULL "
+            + "GROUP BY team_id, " + HOUR_INDEX + ", operation, success";
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::teamId)
+            .thenComparing(Key::bucketStart)
+            .thenComparing(Key::operation)
+            .thenComparing(Key::success);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Counter bucketsUpdated;
+    private final Counter recordFailures;
+
+    /** Whether the database supports {@code INSERT ... ON CONFLICT}; resolved on first use. */
+    private volatile Boolean upsertSupported;
+
+    /**
+     * Creates the rollup and registers its meters.
+     *
+     * @param jdbcTemplate       JDBC template used for bucket upserts.
+     * @param transactionManager Transaction manager for the startup backfill.
+     * @param meterRegistry      Registry used to publish rollup metrics.
+     */
+    public AuditStatsRollup(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bucketsUpdated = Counter.builder("vault.audit.stats.buckets.updated")
+                .description("Hourly audit statistics buckets upserted")
+                .register(meterRegistry);
+        this.recordFailures = Counter.builder("vault.audit.stats.record.failures")
+                .description("Audit write batches whose hourly statistics could not be recorded")
+                .register(meterRegistry);
+    }
+
+    // ─── Recording ──────────────────────────────────────────
+
+    /**
+     * Adds audit entries to their hourly buckets. Must run in the transaction that inserts them.
+     *
+     * <p>Never throws: a failure is rolled back to a savepoint taken before the
+     * bucket updates, logged, and counted, leaving the surrounding transaction
+     * usable.</p>
+     *
+     * @param entries Entries just inserted; each must have its {@code createdAt} set.
+     */
+    public void record(Collection<AuditEntry> entries) {
+        Map<Key, Long> counts = new TreeMap<>(KEY_ORDER);
+        for (AuditEntry entry : entries) {
+            if (entry.getTeamId() == null || entry.getCreatedAt() == null || entry.getOperation() == null) {
+                continue;
+            }
+            Key key = new Key(entry.getTeamId(), entry.getCreatedAt().truncatedTo(ChronoUnit.HOURS),
+                    entry.getOperation(), Boolean.TRUE.equals(entry.getSuccess()));
+            counts.merge(key, 1L, Long::sum);
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+        try {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                applyInSavepoint(counts);
+            } else {
+                apply(counts);
+            }
+        } catch (RuntimeException e) {
+            recordFailures.increment();
+            log.error("Failed to update {} hourly audit statistics bucket(s); audit entries are unaffected: {}",
+                    counts.size(), e.getMessage());
+        }
+    }
+
+    private void applyInSavepoint(Map<Key, Long> counts) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                apply(counts);
+            } catch (RuntimeException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    private void apply(Map<Key, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        if (isUpsertSupported()) {
+            List<Object[]> rows = new ArrayList<>(counts.size());
+            counts.forEach((key, count) -> rows.add(new Object[]{
+                    key.teamId(), utc(key.bucketStart()), key.operation(), key.success(), count}));
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } else {
+            counts.forEach(this::updateOrInsert);
+        }
+        bucketsUpdated.increment(counts.size());
+    }
+
+    private void updateOrInsert(Key key, long count) {
+        if (updateBucket(key, count) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                    key.teamId(), utc(key.bucketStart()), key.operation(), key.success(), count);
+        } catch (DuplicateKeyException e) {
+            // A concurrent writer created the bucket after our UPDATE; add to it instead.
+            updateBucket(key, count);
+        }
+    }
+
+    private int updateBucket(Key key, long count) {
+        return jdbcTemplate.update(UPDATE_SQL,
+                count, key.teamId(), utc(key.bucketStart()), key.operation(), key.success());
+    }
+
+    // ─── Backfill ───────────────────────────────────────────
+
+    /**
+     * Fills an empty rollup table from the audit entries already stored.
+     */
+    @PostConstruct
+    public void backfillIfEmpty() {
+        requiresNew.executeWithoutResult(status -> {
+            if (isUpsertSupported()) {
+                jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN SHARE ROW EXCLUSIVE MODE");
+            }
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM (SELECT 1 FROM " + TABLE + " FETCH FIRST 1 ROWS ONLY) b", Integer.class);
+            if (existing != null && existing > 0) {
+                return;
+            }
+            Map<Key, Long> counts = new TreeMap<>(KEY_ORDER);
+            jdbcTemplate.query(BACKFILL_SQL, (RowCallbackHandler) rs -> counts.put(
+                    new Key(rs.getObject("team_id", UUID.class),
+                            Instant.ofEpochSecond(rs.getLong("hour_index") * 3600),
+                            rs.getString("operation"),
+                            rs.getBoolean("success")),
+                    rs.getLong("entries")));
+            apply(counts);
+            if (!counts.isEmpty()) {
+                log.info("Backfilled {} hourly audit statistics buckets", counts.size());
+            }
+        });
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private boolean isUpsertSupported() {
+        if (upsertSupported == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            upsertSupported = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return upsertSupported;
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * Identity of an hourly bucket.
+     */
+    private record Key(UUID teamId, Instant bucketStart, String operation, boolean success) {
+    }
+}
@@ -0,0 +1,395 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.AuditProperties;
+import com.codeops.vault.config.AuditProperties.Durability;
+import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.exception.CodeOpsVaultException;
+import com.codeops.vault.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persists audit entries for {@link AuditService} according to the configured
+ * {@link Durability} mode.
+ *
+ * <ul>
+ *   <li>{@code SYNC} — the entry is inserted in its own transaction in the caller's thread.</li>
+ *   <li>{@code ASYNC} — the entry is placed in a bounded buffer and the caller returns
+ *       immediately. A background writer inserts entries in JDBC batches of up to
+ *       {@code batchSize} entries or after {@code flushIntervalMs}, whichever comes first.</li>
+ *   <li>{@code GROUP_COMMIT} — as ASYNC, but the writer flushes as soon as entries are
+ *       available and the caller waits until the batch containing its entry has committed.
+ *       Concurrent callers share one transaction, so audit stays durable before the
+ *       operation returns while the INSERT cost is amortized.</li>
+ * </ul>
+ *
+ * <p>Every write transaction also updates the hourly statistics through
+ * {@link AuditStatsRollup}, so statistics commit together with their entries. A failed
+ * statistics update is rolled back on its own and never rolls back the entries.</p>
+ *
+ * <h3>Backpressure</h3>
+ * <p>When the buffer is full, callers wait up to {@code offerTimeoutMs} for space and
+ * then write their entry synchronously. Entries are never dropped.</p>
+ *
+ * <h3>Commit Timeout</h3>
+ * <p>A GROUP_COMMIT caller waits at most {@code commitTimeoutMs} for its batch. When the
+ * timeout is hit, {@link #write} throws, which {@link AuditService} logs without failing
+ * the audited operation. The entry is not withdrawn: it stays buffered and commits with
+ * a later batch, so a timeout only means the caller returned before the entry was
+ * durable. The default of 5 seconds is far above normal batch latency, so timeouts signal
+ * a stalled database rather than routine load; watch {@code vault.audit.commit.timeouts}.</p>
+ *
+ * <h3>Failures and Shutdown</h3>
+ * <p>If a batch fails, its entries are retried one by one so a single bad entry cannot
+ * discard the others. On shutdown the writer drains and writes everything still
+ * buffered before the data source is closed.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.audit.buffer.size} — entries waiting to be written</li>
+ *   <li>{@code vault.audit.batches} — batches committed</li>
+ *   <li>{@code vault.audit.entries.written} — entries persisted</li>
+ *   <li>{@code vault.audit.backpressure} — entries written synchronously because the buffer was full</li>
+ *   <li>{@code vault.audit.write.failures} — entries that could not be persisted</li>
+ *   <li>{@code vault.audit.commit.timeouts} — GROUP_COMMIT callers that stopped waiting for their batch</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AuditWriter {
+
+    static final String INSERT_SQL = "INSERT INTO vault_audit_log (team_id, user_id, operation, path, "
+            + "resource_type, resource_id, success, error_message, ip_address, correlation_id, "
+            + "details_json, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final AuditEntryRepository auditEntryRepository;
+    private final AuditStatsRollup auditStatsRollup;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final AuditProperties auditProperties;
+    private final BlockingQueue<Pending> buffer;
+    private final Counter batches;
+    private final Counter entriesWritten;
+    private final Counter backpressure;
+    private final Counter writeFailures;
+    private final Counter commitTimeouts;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /**
+     * Creates the writer and registers its meters.
+     *
+     * @param auditEntryRepository Repository used for single-entry writes.
+     * @param auditStatsRollup     Hourly statistics updated in each write transaction.
+     * @param jdbcTemplate         JDBC template used for batch inserts.
+     * @param transactionManager   Transaction manager for independent audit transactions.
+     * @param auditProperties      Pipeline configuration.
+     * @param meterRegistry        Registry used to publish pipeline metrics.
+     */
+    public AuditWriter(AuditEntryRepository auditEntryRepository, AuditStatsRollup auditStatsRollup,
+                       JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       AuditProperties auditProperties, MeterRegistry meterRegistry) {
+        this.auditEntryRepository = auditEntryRepository;
+        this.auditStatsRollup = auditStatsRollup;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.auditProperties = auditProperties;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, auditProperties.getBufferCapacity()));
+        this.batches = Counter.builder("vault.audit.batches")
+                .description("Audit batches committed")
+                .register(meterRegistry);
+        this.entriesWritten = Counter.builder("vault.audit.entries.written")
+                .description("Audit entries persisted")
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("vault.audit.backpressure")
+                .description("Audit entries written synchronously because the buffer was full")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("vault.audit.write.failures")
+                .description("Audit entries that could not be persisted")
+                .register(meterRegistry);
+        this.commitTimeouts = Counter.builder("vault.audit.commit.timeouts")
+                .description("Group-commit callers that stopped waiting for their batch to commit")
+                .register(meterRegistry);
+        Gauge.builder("vault.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    // ─── Lifecycle ──────────────────────────────────────────
+
+    /**
+     * Starts the background writer unless the durability mode is SYNC.
+     */
+    @PostConstruct
+    public void start() {
+        if (auditProperties.getDurability() == Durability.SYNC || running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "vault-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit writer started (durability={}, batchSize={})",
+                auditProperties.getDurability(), auditProperties.getBatchSize());
+    }
+
+    /**
+     * Stops the background writer and writes every entry still buffered.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Pending> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        log.info("Audit writer stopped");
+    }
+
+    // ─── Writing ────────────────────────────────────────────
+
+    /**
+     * Persists an audit entry according to the configured durability mode.
+     *
+     * @param entry The audit entry. Its {@code createdAt} is set to now if absent.
+     * @throws CodeOpsVaultException if a SYNC or GROUP_COMMIT write could not be committed,
+     *                               or a GROUP_COMMIT caller timed out waiting for its batch.
+     */
+    public void write(AuditEntry entry) {
+        CompletableFuture<Void> committed = enqueue(entry);
+        if (committed != null) {
+            awaitCommit(committed);
+        }
+    }
+
+    /**
+     * Persists several audit entries according to the configured durability
+     * mode. In GROUP_COMMIT mode all entries are buffered before waiting, so
+     * they share batches instead of each waiting for its own commit.
+     *
+     * @param entries The audit entries. Their {@code createdAt} is set to now if absent.
+     * @throws CodeOpsVaultException if a SYNC or GROUP_COMMIT write could not be committed.
+     */
+    public void writeAll(List<AuditEntry> entries) {
+        List<CompletableFuture<Void>> commits = new ArrayList<>();
+        for (AuditEntry entry : entries) {
+            CompletableFuture<Void> committed = enqueue(entry);
+            if (committed != null) {
+                commits.add(committed);
+            }
+        }
+        commits.forEach(this::awaitCommit);
+    }
+
+    /**
+     * Returns the number of entries waiting in the buffer.
+     *
+     * @return Buffer size.
+     */
+    public int pending() {
+        return buffer.size();
+    }
+
+    // ─── Private Helpers ────────────────────────────────────
+
+    /**
+     * Buffers an entry, or writes it synchronously when the writer is not
+     * running or the buffer stays full.
+     *
+     * @return The future to wait on in GROUP_COMMIT mode, otherwise null.
+     */
+    private CompletableFuture<Void> enqueue(AuditEntry entry) {
+        if (entry.getCreatedAt() == null) {
+            entry.setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        }
+        if (!running) {
+            writeNow(entry);
+            return null;
+        }
+
+        CompletableFuture<Void> committed =
+                auditProperties.getDurability() == Durability.GROUP_COMMIT ? new CompletableFuture<>() : null;
+        boolean queued;
+        try {
+            queued = buffer.offer(new Pending(entry, committed),
+                    auditProperties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            backpressure.increment();
+            writeNow(entry);
+            return null;
+        }
+        return committed;
+    }
+
+    private void runWriter() {
+        List<Pending> batch = new ArrayList<>(auditProperties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Collects the next batch: blocks up to one flush interval for the first entry,
+     * then takes whatever is buffered. In ASYNC mode it keeps waiting for more
+     * entries until the batch is full or the flush interval has elapsed.
+     */
+    private void collect(List<Pending> batch) throws InterruptedException {
+        int batchSize = Math.max(1, auditProperties.getBatchSize());
+        long intervalMs = Math.max(1, auditProperties.getFlushIntervalMs());
+
+        Pending first = buffer.poll(intervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        buffer.drainTo(batch, batchSize - batch.size());
+
+        if (auditProperties.getDurability() == Durability.ASYNC) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMs);
+            while (running && batch.size() < batchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                Pending next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+                buffer.drainTo(batch, batchSize - batch.size());
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<AuditEntry> entries = batch.stream().map(Pending::entry).toList();
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), this::bind);
+                auditStatsRollup.record(entries);
+            });
+            batches.increment();
+            entriesWritten.increment(entries.size());
+            batch.forEach(p -> p.complete(null));
+        } catch (Exception e) {
+            log.warn("Audit batch of {} entries failed, retrying individually: {}", entries.size(), e.getMessage());
+            for (Pending pending : batch) {
+                try {
+                    writeNow(pending.entry());
+                    pending.complete(null);
+                } catch (Exception ex) {
+                    pending.complete(ex);
+                }
+            }
+        }
+    }
+
+    private void writeNow(AuditEntry entry) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                auditEntryRepository.save(entry);
+                auditStatsRollup.record(List.of(entry));
+            });
+            entriesWritten.increment();
+        } catch (RuntimeException e) {
+            writeFailures.increment();
+            log.error("Failed to persist audit entry for operation {}: {}", entry.getOperation(), e.getMessage());
+            throw e;
+        }
+    }
+
+    private void awaitCommit(CompletableFuture<Void> committed) {
+        try {
+            committed.get(auditProperties.getCommitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new CodeOpsVaultException("Audit entry could not be committed", e.getCause());
+        } catch (TimeoutException e) {
+            commitTimeouts.increment();
+            throw new CodeOpsVaultException("Timed out waiting for audit entry to commit; it remains buffered");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CodeOpsVaultException("Interrupted while waiting for audit entry to commit");
+        }
+    }
+
+    private void bind(PreparedStatement ps, AuditEntry entry) throws SQLException {
+        ps.setObject(1, entry.getTeamId());
+        ps.setObject(2, entry.getUserId());
+        ps.setString(3, entry.getOperation());
+        ps.setString(4, entry.getPath());
+        ps.setString(5, entry.getResourceType());
+        ps.setObject(6, entry.getResourceId());
+        ps.setBoolean(7, Boolean.TRUE.equals(entry.getSuccess()));
+        ps.setString(8, entry.getErrorMessage());
+        ps.setString(9, entry.getIpAddress());
+        ps.setString(10, entry.getCorrelationId());
+        ps.setString(11, entry.getDetailsJson());
+        ps.setObject(12, OffsetDateTime.ofInstant(entry.getCreatedAt(), ZoneOffset.UTC));
+    }
+
+    /**
+     * A buffered entry and, in GROUP_COMMIT mode, the future its caller waits on.
+     */
+    private record Pending(AuditEntry entry, CompletableFuture<Void> committed) {
+
+        void complete(Exception failure) {
+            if (committed == null) {
+                return;
+            }
+            if (failure == null) {
+                committed.complete(null);
+            } else {
+                committed.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.codeops.vault.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory cache of HKDF-derived Key Encryption Keys, keyed by purpose.
+ *
+ * <p>Derived keys depend only on the master key and the purpose string, so
+ * they are stable for the lifetime of an unsealed Vault. Caching them removes
+ * a full HKDF extract + expand from every envelope encrypt and decrypt.</p>
+ *
+ * <p>The cache only holds material while the Vault is unsealed. On
+ * {@link #onSealed()} every cached key is zeroed and dropped; while sealed,
+ * lookups fall through to the supplied derivation function without storing
+ * the result. Callers always receive a private copy of the key, taken under
+ * the cache lock that wiping also holds, so a lookup can never copy a key
+ * that is being zeroed.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.kek.derivations} — HKDF derivations actually performed</li>
+ *   <li>{@code vault.kek.derivations.avoided} — lookups served from the cache</li>
+ *   <li>{@code vault.kek.cache.size} — number of cached purposes</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class DerivedKeyCache implements SealStateListener {
+
+    /** Cached keys by purpose. Guarded by itself. */
+    private final Map<String, byte[]> keys = new HashMap<>();
+    private final Counter derivations;
+    private final Counter derivationsAvoided;
+
+    /** Whether the Vault is unsealed and caching is permitted. */
+    private volatile boolean active;
+
+    /**
+     * Creates the cache and registers its meters.
+     *
+     * @param meterRegistry Registry used to publish cache metrics.
+     */
+    public DerivedKeyCache(MeterRegistry meterRegistry) {
+        this.derivations = Counter.builder("vault.kek.derivations")
+                .description("HKDF key derivations performed")
+                .register(meterRegistry);
+        this.derivationsAvoided = Counter.builder("vault.kek.derivations.avoided")
+                .description("HKDF key derivations served from the derived-key cache")
+                .register(meterRegistry);
+        Gauge.builder("vault.kek.cache.size", this, DerivedKeyCache::size)
+                .description("Number of derived keys held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the derived key for a purpose, deriving and caching it on first use.
+     *
+     * @param purpose The key derivation purpose (e.g., "secret-storage").
+     * @param deriver Function that performs the actual derivation for a purpose.
+     * @return A copy of the derived key; the caller may zero it after use.
+     */
+    public byte[] get(String purpose, Function<String, byte[]> deriver) {
+        if (!active) {
+            derivations.increment();
+            return deriver.apply(purpose);
+        }
+
+        synchronized (keys) {
+            byte[] cached = keys.get(purpose);
+            if (cached != null) {
+                derivationsAvoided.increment();
+                return cached.clone();
+            }
+        }
+
+        byte[] derived = deriver.apply(purpose);
+        derivations.increment();
+        synchronized (keys) {
+            byte[] existing = keys.get(purpose);
+            if (existing != null) {
+                Arrays.fill(derived, (byte) 0);
+                return existing.clone();
+            }
+            keys.put(purpose, derived.clone());
+        }
+        if (!active) {
+            // Sealed while deriving — do not leave material behind
+            wipe();
+        }
+        return derived;
+    }
+
+    /**
+     * Returns the number of cached derived keys.
+     *
+     * @return Cache size.
+     */
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    /**
+     * Enables caching once the Vault is unsealed.
+     */
+    @Override
+    public void onUnsealed() {
+        active = true;
+        log.debug("Derived-key cache enabled");
+    }
+
+    /**
+     * Disables caching and zeroes all cached key material.
+     */
+    @Override
+    public void onSealed() {
+        active = false;
+        wipe();
+        log.debug("Derived-key cache wiped");
+    }
+
+    /**
+     * Zeroes and removes every cached key.
+     */
+    private void wipe() {
+        synchronized (keys) {
+            keys.values().forEach(key -> Arrays.fill(key, (byte) 0));
+            keys.clear();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.codeops.vault.config.DynamicSecretProperties;
 import com.codeops.vault.dto.mapper.LeaseMapper;
 import com.codeops.vault.dto.request.CreateDynamicLeaseRequest;
 import com.codeops.vault.dto.response.DynamicLeaseResponse;
+import com.codeops.vault.dto.response.KeysetCursor;
 import com.codeops.vault.dto.response.PageResponse;
 import com.codeops.vault.entity.DynamicLease;
 import com.codeops.vault.entity.Secret;
@@ -20,7 +21,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,7 @@ import java.sql.DriverManager;
 import java.sql.Statement;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +77,8 @@ public class DynamicSecretService {
     private final LeaseMapper leaseMapper;
     private final DynamicSecretProperties dynamicSecretProperties;
     private final AuditService auditService;
+    private final ScheduledWorkClaimer scheduledWorkClaimer;
+    private final LeaseExpiryTimer leaseExpiryTimer;
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final int MAX_USERNAME_LENGTH = 63;
@@ -91,6 +97,7 @@ public class DynamicSecretService {
      *   <li>If executeSql=true: create the database user on the target backend</li>
      *   <li>Encrypt the credentials JSON</li>
      *   <li>Create DynamicLease entity with ACTIVE status and calculated expiresAt</li>
+     *   <li>Schedule the lease's expiry in the {@link LeaseExpiryTimer}</li>
      *   <li>Return response with decrypted credentials (only time caller sees them)</li>
      * </ol>
      *
@@ -170,6 +177,7 @@ public class DynamicSecretService {
                 .build();
 
         lease = leaseRepository.save(lease);
+        leaseExpiryTimer.schedule(leaseId, expiresAt);
 
         log.info("Created dynamic lease {} for secret {} (backend: {}, TTL: {}s, user: {})",
                 leaseId, request.secretId(), backendType, request.ttlSeconds(), username);
@@ -216,6 +224,36 @@ public class DynamicSecretService {
                 page.getTotalElements(), page.getTotalPages(), page.isLast());
     }
 
+    /**
+     * Lists leases for a dynamic secret newest first using keyset pagination.
+     *
+     * @param secretId The source secret ID.
+     * @param after    Cursor returned with the previous page, or {@code null} for the first page.
+     * @param size     Page size.
+     * @return Page of DynamicLeaseResponse with {@code nextCursor} set unless it is the last page.
+     * @throws ValidationException if the cursor is malformed.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<DynamicLeaseResponse> listLeasesAfter(UUID secretId, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Slice<DynamicLease> slice = cursor == null
+                ? leaseRepository.findPageAfter(secretId, KeysetCursor.UPPER_BOUND, new UUID(0, 0),
+                        PageRequest.of(0, size))
+                : leaseRepository.findPageAfter(secretId, cursor.createdAt(), cursor.uuidId(),
+                        PageRequest.of(0, size));
+
+        List<DynamicLease> leases = slice.getContent();
+        KeysetCursor next = null;
+        if (slice.hasNext()) {
+            DynamicLease last = leases.get(leases.size() - 1);
+            next = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+        List<DynamicLeaseResponse> responses = leases.stream()
+                .map(lease -> leaseMapper.toResponse(lease, null))
+                .toList();
+        return PageResponse.ofCursor(responses, size, next);
+    }
+
     /**
      * Revokes an active lease — cleans up the database user and marks revoked.
      *
@@ -239,6 +277,7 @@ public class DynamicSecretService {
         lease.setRevokedAt(Instant.now());
         lease.setRevokedByUserId(userId);
         leaseRepository.save(lease);
+        leaseExpiryTimer.cancel(leaseId);
 
         log.info("Revoked lease {} (secret: {})", leaseId, lease.getSecretId());
 
@@ -265,6 +304,7 @@ public class DynamicSecretService {
                 lease.setRevokedAt(Instant.now());
                 lease.setRevokedByUserId(userId);
                 leaseRepository.save(lease);
+                leaseExpiryTimer.cancel(lease.getLeaseId());
                 count++;
             }
         }
@@ -278,29 +318,99 @@ public class DynamicSecretService {
 
     // ─── Expiry Processing ──────────────────────────────────
 
+    /**
+     * Expires the given leases that are still ACTIVE and past their expiresAt,
+     * cleaning up credentials.
+     *
+     * <p>Called by the lease expiry scheduler with the leases its
+     * {@link LeaseExpiryTimer} reports as due. The leases are locked with
+     * {@code SKIP LOCKED}, and leases claimed by another node's sweep are left
+     * alone, so no lease is cleaned up twice.</p>
+     *
+     * @param leaseIds Lease identifiers reported due.
+     * @return Number of leases expired.
+     */
+    @Transactional
+    public int expireLeases(Collection<String> leaseIds) {
+        if (leaseIds.isEmpty()) {
+            return 0;
+        }
+        List<DynamicLease> dueLeases = leaseRepository.lockDueByLeaseIds(leaseIds, LeaseStatus.ACTIVE, Instant.now());
+        for (DynamicLease lease : dueLeases) {
+            expireLease(lease);
+        }
+        return dueLeases.size();
+    }
+
     /**
      * Processes expired leases — finds ACTIVE leases past their expiresAt
      * and transitions them to EXPIRED, cleaning up credentials.
      *
-     * <p>Called by the lease expiry scheduler.</p>
+     * <p>Called by the lease expiry scheduler's reconciliation sweep, as a
+     * safety net for leases its timer missed. When claiming is enabled
+     * ({@link ScheduledWorkClaimer}), expired leases are claimed in batches
+     * and only the leases this node claimed are expired, so several nodes
+     * share the work without cleaning up a lease twice.</p>
      *
      * @return Number of leases expired.
      */
     @Transactional
     public int processExpiredLeases() {
+        if (scheduledWorkClaimer.isEnabled()) {
+            return processClaimedLeases();
+        }
         List<DynamicLease> expiredLeases = leaseRepository
                 .findByStatusAndExpiresAtBefore(LeaseStatus.ACTIVE, Instant.now());
 
         for (DynamicLease lease : expiredLeases) {
-            cleanupLeaseCredentials(lease);
-            lease.setStatus(LeaseStatus.EXPIRED);
-            leaseRepository.save(lease);
-            log.debug("Expired lease {} for secret {}", lease.getLeaseId(), lease.getSecretId());
+            expireLease(lease);
         }
 
         return expiredLeases.size();
     }
 
+    /**
+     * Claims expired leases batch by batch and expires each claimed lease
+     * that is still active and still claimed by this node.
+     *
+     * @return Number of leases expired.
+     */
+    private int processClaimedLeases() {
+        int count = 0;
+        while (true) {
+            List<UUID> claimed = scheduledWorkClaimer.claimExpiredLeases();
+            if (claimed.isEmpty()) {
+                return count;
+            }
+            for (DynamicLease lease : leaseRepository.findAllById(claimed)) {
+                if (lease.getStatus() == LeaseStatus.ACTIVE
+                        && scheduledWorkClaimer.nodeId().equals(lease.getClaimedBy())) {
+                    expireLease(lease);
+                    count++;
+                }
+            }
+            if (claimed.size() < scheduledWorkClaimer.batchSize()) {
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Cleans up a lease's credentials and marks it expired.
+     *
+     * @param lease The lease to expire.
+     */
+    private void expireLease(DynamicLease lease) {
+        cleanupLeaseCredentials(lease);
+        lease.setStatus(LeaseStatus.EXPIRED);
+        lease.setClaimedBy(null);
+        lease.setClaimExpiresAt(null);
+        leaseRepository.save(lease);
+        leaseExpiryTimer.cancel(lease.getLeaseId());
+        leaseExpiryTimer.recordExpiry(lease.getExpiresAt());
+        log.debug("Expired lease {} for secret {}", lease.getLeaseId(), lease.getSecretId());
+    }
+
     // ─── Backend Operations (package-private) ───────────────
 
     /**
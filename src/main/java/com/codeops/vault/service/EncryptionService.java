@@ -13,13 +13,21 @@ import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HexFormat;
+import java.util.function.Function;
 
 /**
  * Core cryptographic service for the CodeOps Vault.
@@ -37,6 +45,9 @@ import java.util.HexFormat;
  * [12 bytes: IV] [N bytes: ciphertext + GCM tag]
  * </pre>
  *
+ * <p>Large transit payloads use a segmented binary format instead (see
+ * {@link #encryptStream}), so that they can be processed in constant memory.</p>
+ *
  * <h3>Key Hierarchy</h3>
  * <ul>
  *   <li>Master Key — configured via {@code codeops.vault.master-key}</li>
@@ -44,8 +55,12 @@ import java.util.HexFormat;
  *   <li>DEK (Data Encryption Key) — randomly generated per encryption, encrypted by KEK</li>
  * </ul>
  *
- * <p>This service is stateless and thread-safe. All methods can be called
- * concurrently without synchronization.</p>
+ * <p>This service is thread-safe. All methods can be called concurrently
+ * without synchronization. The only shared state is the {@link DerivedKeyCache},
+ * which holds master-derived KEKs while the Vault is unsealed so that
+ * {@link #encrypt} and {@link #decrypt} do not re-run HKDF per call. Each
+ * thread also keeps its own AES-GCM {@link Cipher} and DEK scratch buffer,
+ * and envelopes are built and parsed in place by offset.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -53,11 +68,30 @@ import java.util.HexFormat;
 public class EncryptionService {
 
     private final VaultProperties vaultProperties;
+    private final DerivedKeyCache derivedKeyCache;
 
     private static final String AES_GCM_ALGORITHM = "AES/GCM/NoPadding";
     private static final String AES_ALGORITHM = "AES";
+    private static final String SECRET_STORAGE_PURPOSE = "secret-storage";
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
+    private static final int GCM_TAG_SIZE_BYTES = AppConstants.GCM_TAG_SIZE_BITS / 8;
+    private static final int STREAM_NONCE_PREFIX_BYTES = 7;
+    private static final int FINAL_SEGMENT_FLAG = 0x80000000;
+    private static final int WRAPPED_DEK_BLOCK_BYTES =
+            AppConstants.GCM_IV_SIZE_BYTES + AppConstants.AES_KEY_SIZE_BYTES + GCM_TAG_SIZE_BYTES;
+
+    /**
+     * Per-thread AES-GCM cipher and scratch buffers. {@code Cipher.getInstance}
+     * is comparatively expensive and every envelope needs two cipher operations,
+     * so each thread initializes its own instance per operation instead.
+     */
+    private static final ThreadLocal<Cipher> GCM_CIPHER = ThreadLocal.withInitial(EncryptionService::newGcmCipher);
+    private static final ThreadLocal<byte[]> DEK_BUFFER =
+            ThreadLocal.withInitial(() -> new byte[AppConstants.AES_KEY_SIZE_BYTES]);
+    private static final ThreadLocal<byte[]> IV_BUFFER =
+            ThreadLocal.withInitial(() -> new byte[AppConstants.GCM_IV_SIZE_BYTES]);
+
     private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private static final String ALPHA = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
     private static final String NUMERIC = "0123456789";
@@ -78,8 +112,12 @@ public class EncryptionService {
      */
     public String encrypt(String plaintext) {
         validatePlaintext(plaintext);
-        byte[] kek = deriveKey("secret-storage");
-        return encryptWithKey(plaintext, AppConstants.DEFAULT_ENCRYPTION_KEY_ID, kek);
+        byte[] kek = derivedKeyCache.get(SECRET_STORAGE_PURPOSE, this::deriveKey);
+        try {
+            return encryptWithKey(plaintext, AppConstants.DEFAULT_ENCRYPTION_KEY_ID, kek);
+        } finally {
+            Arrays.fill(kek, (byte) 0);
+        }
     }
 
     /**
@@ -100,45 +138,28 @@ public class EncryptionService {
             throw new ValidationException("Key material must be exactly " + AppConstants.AES_KEY_SIZE_BYTES + " bytes");
         }
 
-        try {
-            // Generate a random DEK
-            byte[] dek = generateDataKey();
-
-            // Encrypt the plaintext with the DEK
-            byte[] iv = generateIv();
-            byte[] ciphertext = aesGcmEncrypt(dek, iv, plaintext.getBytes(StandardCharsets.UTF_8));
-
-            // Encrypt the DEK with the KEK (key material)
-            byte[] dekIv = generateIv();
-            byte[] encryptedDek = aesGcmEncrypt(keyMaterial, dekIv, dek);
-
-            // Build envelope: version + keyId + encryptedDEK(with its IV) + IV + ciphertext
-            byte[] keyIdBytes = keyId.getBytes(StandardCharsets.UTF_8);
-
-            // Combine DEK IV + encrypted DEK into a single block
-            byte[] dekBlock = new byte[AppConstants.GCM_IV_SIZE_BYTES + encryptedDek.length];
-            System.arraycopy(dekIv, 0, dekBlock, 0, AppConstants.GCM_IV_SIZE_BYTES);
-            System.arraycopy(encryptedDek, 0, dekBlock, AppConstants.GCM_IV_SIZE_BYTES, encryptedDek.length);
-
-            ByteBuffer envelope = ByteBuffer.allocate(
-                    1 + 4 + keyIdBytes.length + 4 + dekBlock.length + AppConstants.GCM_IV_SIZE_BYTES + ciphertext.length);
-
-            envelope.put(AppConstants.ENCRYPTION_FORMAT_VERSION);
-            envelope.putInt(keyIdBytes.length);
-            envelope.put(keyIdBytes);
-            envelope.putInt(dekBlock.length);
-            envelope.put(dekBlock);
-            envelope.put(iv);
-            envelope.put(ciphertext);
-
-            String result = Base64.getEncoder().encodeToString(envelope.array());
-            log.debug("Encrypted data with key ID '{}', envelope size: {} bytes", keyId, envelope.capacity());
-            return result;
+        byte[] envelope = encryptEnvelope(plaintext.getBytes(StandardCharsets.UTF_8), keyId, keyMaterial);
+        return Base64.getEncoder().encodeToString(envelope);
+    }
 
-        } catch (ValidationException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new CodeOpsVaultException("Encryption failed", e);
+    /**
+     * Encrypts plaintext with the master-derived KEK into a raw binary envelope.
+     *
+     * <p>Produces the same envelope layout as {@link #encrypt} without the
+     * Base64 encoding, for storage in binary columns.</p>
+     *
+     * @param plaintext The data to encrypt (UTF-8 string).
+     * @return The binary encrypted envelope.
+     * @throws ValidationException if plaintext is null or empty.
+     */
+    public byte[] encryptToBytes(String plaintext) {
+        validatePlaintext(plaintext);
+        byte[] kek = derivedKeyCache.get(SECRET_STORAGE_PURPOSE, this::deriveKey);
+        try {
+            return encryptEnvelope(plaintext.getBytes(StandardCharsets.UTF_8),
+                    AppConstants.DEFAULT_ENCRYPTION_KEY_ID, kek);
+        } finally {
+            Arrays.fill(kek, (byte) 0);
         }
     }
 
@@ -155,8 +176,12 @@ public class EncryptionService {
      * @throws CodeOpsVaultException if decryption fails (wrong key, tampered data, etc.).
      */
     public String decrypt(String encryptedEnvelope) {
-        byte[] kek = deriveKey("secret-storage");
-        return decryptWithKey(encryptedEnvelope, kek);
+        byte[] kek = derivedKeyCache.get(SECRET_STORAGE_PURPOSE, this::deriveKey);
+        try {
+            return decryptWithKey(encryptedEnvelope, kek);
+        } finally {
+            Arrays.fill(kek, (byte) 0);
+        }
     }
 
     /**
@@ -174,64 +199,34 @@ public class EncryptionService {
             throw new ValidationException("Key material must be exactly " + AppConstants.AES_KEY_SIZE_BYTES + " bytes");
         }
 
+        byte[] envelopeBytes;
         try {
-            byte[] envelopeBytes = Base64.getDecoder().decode(encryptedEnvelope);
-            ByteBuffer buffer = ByteBuffer.wrap(envelopeBytes);
-
-            // Read version
-            byte version = buffer.get();
-            if (version != AppConstants.ENCRYPTION_FORMAT_VERSION) {
-                throw new ValidationException("Unsupported encryption format version: " + version);
-            }
-
-            // Read key ID
-            int keyIdLength = buffer.getInt();
-            if (keyIdLength < 0 || keyIdLength > 1000) {
-                throw new ValidationException("Invalid key ID length: " + keyIdLength);
-            }
-            byte[] keyIdBytes = new byte[keyIdLength];
-            buffer.get(keyIdBytes);
-
-            // Read encrypted DEK block (contains DEK IV + encrypted DEK)
-            int dekBlockLength = buffer.getInt();
-            if (dekBlockLength < AppConstants.GCM_IV_SIZE_BYTES || dekBlockLength > 1000) {
-                throw new ValidationException("Invalid encrypted DEK block length: " + dekBlockLength);
-            }
-            byte[] dekBlock = new byte[dekBlockLength];
-            buffer.get(dekBlock);
-
-            // Extract DEK IV and encrypted DEK from the block
-            byte[] dekIv = new byte[AppConstants.GCM_IV_SIZE_BYTES];
-            System.arraycopy(dekBlock, 0, dekIv, 0, AppConstants.GCM_IV_SIZE_BYTES);
-            byte[] encryptedDek = new byte[dekBlockLength - AppConstants.GCM_IV_SIZE_BYTES];
-            System.arraycopy(dekBlock, AppConstants.GCM_IV_SIZE_BYTES, encryptedDek, 0, encryptedDek.length);
-
-            // Decrypt the DEK with the KEK
-            byte[] dek = aesGcmDecrypt(keyMaterial, dekIv, encryptedDek);
-
-            // Read data IV and ciphertext
-            byte[] iv = new byte[AppConstants.GCM_IV_SIZE_BYTES];
-            buffer.get(iv);
-            byte[] ciphertext = new byte[buffer.remaining()];
-            buffer.get(ciphertext);
-
-            // Decrypt the ciphertext with the DEK
-            byte[] decrypted = aesGcmDecrypt(dek, iv, ciphertext);
-
-            String keyId = new String(keyIdBytes, StandardCharsets.UTF_8);
-            log.debug("Decrypted data with key ID '{}'", keyId);
-            return new String(decrypted, StandardCharsets.UTF_8);
-
-        } catch (ValidationException e) {
-            throw e;
-        } catch (AEADBadTagException e) {
-            throw new CodeOpsVaultException("Decryption failed: authentication tag mismatch (wrong key or tampered data)", e);
-        } catch (Exception e) {
-            if (e instanceof CodeOpsVaultException) {
-                throw (CodeOpsVaultException) e;
-            }
+            envelopeBytes = Base64.getDecoder().decode(encryptedEnvelope);
+        } catch (IllegalArgumentException e) {
             throw new CodeOpsVaultException("Decryption failed: " + e.getMessage(), e);
         }
+        return new String(decryptEnvelope(envelopeBytes, keyMaterial), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decrypts a raw binary envelope produced by {@link #encryptToBytes}
+     * with the master-derived KEK.
+     *
+     * @param envelope The binary encrypted envelope.
+     * @return The decrypted plaintext string.
+     * @throws ValidationException     if the envelope is null, empty, or malformed.
+     * @throws CodeOpsVaultException if decryption fails (wrong key, tampered data, etc.).
+     */
+    public String decryptFromBytes(byte[] envelope) {
+        if (envelope == null || envelope.length == 0) {
+            throw new ValidationException("Encrypted envelope must not be null or empty");
+        }
+        byte[] kek = derivedKeyCache.get(SECRET_STORAGE_PURPOSE, this::deriveKey);
+        try {
+            return new String(decryptEnvelope(envelope, kek), StandardCharsets.UTF_8);
+        } finally {
+            Arrays.fill(kek, (byte) 0);
+        }
     }
 
     // --- Key Management Operations ---
@@ -240,7 +235,9 @@ public class EncryptionService {
      * Derives a purpose-specific key from the master key using HKDF.
      *
      * <p>Uses HMAC-SHA256 based HKDF (RFC 5869) to derive keys for
-     * specific purposes (e.g., "secret-storage", "transit", "dynamic-creds").</p>
+     * specific purposes (e.g., "secret-storage", "transit", "dynamic-creds").
+     * Always performs a fresh derivation; {@link #encrypt} and {@link #decrypt}
+     * go through the {@link DerivedKeyCache} instead.</p>
      *
      * @param purpose A purpose string that differentiates derived keys
      *                (e.g., "secret-storage", "transit", "dynamic-credentials").
@@ -316,9 +313,20 @@ public class EncryptionService {
             throw new ValidationException("New key ID must not be null or blank");
         }
 
-        // Decrypt with old key, re-encrypt with new key
-        String plaintext = decryptWithKey(encryptedEnvelope, oldKeyMaterial);
-        return encryptWithKey(plaintext, newKeyId, newKeyMaterial);
+        byte[] envelopeBytes;
+        try {
+            envelopeBytes = Base64.getDecoder().decode(encryptedEnvelope);
+        } catch (IllegalArgumentException e) {
+            throw new CodeOpsVaultException("Decryption failed: " + e.getMessage(), e);
+        }
+
+        // Decrypt with old key, re-encrypt with new key without a String round-trip
+        byte[] plaintext = decryptEnvelope(envelopeBytes, oldKeyMaterial);
+        try {
+            return Base64.getEncoder().encodeToString(encryptEnvelope(plaintext, newKeyId, newKeyMaterial));
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+        }
     }
 
     /**
@@ -360,6 +368,205 @@ public class EncryptionService {
         }
     }
 
+    // --- Streaming Operations ---
+
+    /**
+     * Encrypts a byte stream in fixed-size authenticated segments (for
+     * streaming transit encryption of large payloads).
+     *
+     * <p>Reads the input one segment at a time and writes each encrypted
+     * segment as soon as it is sealed, so heap use is bounded by the segment
+     * size regardless of the payload size. The output is binary:</p>
+     * <pre>
+     * Header:  [1 byte: version 2] [4 bytes: key ID length] [key ID bytes]
+     *          [4 bytes: encrypted DEK length] [encrypted DEK bytes]
+     *          [7 bytes: nonce prefix] [4 bytes: segment size]
+     * Segment: [4 bytes: final flag (high bit) | sealed length] [ciphertext + GCM tag]
+     * </pre>
+     *
+     * <p>Segment {@code i} is encrypted with a random per-stream DEK under the
+     * nonce {@code prefix || i || finalFlag} with the header as associated
+     * data, so reordered, dropped, truncated, or spliced segments fail
+     * authentication.</p>
+     *
+     * @param in          The plaintext stream (not closed).
+     * @param out         Receives the encrypted stream (flushed, not closed).
+     * @param keyId       The key identifier to include in the header.
+     * @param keyMaterial The raw key material (32 bytes for AES-256) that wraps the DEK.
+     * @return Number of plaintext bytes encrypted.
+     * @throws ValidationException     if any parameter is null or invalid.
+     * @throws CodeOpsVaultException if encryption or stream I/O fails.
+     */
+    public long encryptStream(InputStream in, OutputStream out, String keyId, byte[] keyMaterial) {
+        if (in == null || out == null) {
+            throw new ValidationException("Streams must not be null");
+        }
+        if (keyId == null || keyId.isBlank()) {
+            throw new ValidationException("Key ID must not be null or blank");
+        }
+        if (keyMaterial == null || keyMaterial.length != AppConstants.AES_KEY_SIZE_BYTES) {
+            throw new ValidationException("Key material must be exactly " + AppConstants.AES_KEY_SIZE_BYTES + " bytes");
+        }
+
+        byte[] dek = generateDataKey();
+        try {
+            byte[] dekIv = generateIv();
+            byte[] encryptedDek = aesGcmEncrypt(keyMaterial, dekIv, dek);
+            byte[] noncePrefix = new byte[STREAM_NONCE_PREFIX_BYTES];
+            SECURE_RANDOM.nextBytes(noncePrefix);
+            int segmentSize = AppConstants.STREAM_SEGMENT_SIZE_BYTES;
+
+            byte[] header = buildStreamHeader(keyId, dekIv, encryptedDek, noncePrefix, segmentSize);
+            out.write(header);
+
+            Cipher cipher = Cipher.getInstance(AES_GCM_ALGORITHM);
+            SecretKeySpec dekSpec = new SecretKeySpec(dek, AES_ALGORITHM);
+            PushbackInputStream input = new PushbackInputStream(in, 1);
+            byte[] plain = new byte[segmentSize];
+            byte[] sealed = new byte[segmentSize + GCM_TAG_SIZE_BYTES];
+            byte[] frame = new byte[4];
+
+            long total = 0;
+            int index = 0;
+            boolean last;
+            do {
+                int read = input.readNBytes(plain, 0, segmentSize);
+                last = read < segmentSize || !hasMoreInput(input);
+
+                cipher.init(Cipher.ENCRYPT_MODE, dekSpec, segmentSpec(noncePrefix, index, last));
+                cipher.updateAAD(header);
+                int sealedLength = cipher.doFinal(plain, 0, read, sealed, 0);
+
+                ByteBuffer.wrap(frame).putInt(last ? sealedLength | FINAL_SEGMENT_FLAG : sealedLength);
+                out.write(frame);
+                out.write(sealed, 0, sealedLength);
+
+                total += read;
+                index = nextSegmentIndex(index);
+            } while (!last);
+
+            out.flush();
+            log.debug("Stream-encrypted {} bytes in {} segments with key ID '{}'", total, index, keyId);
+            return total;
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CodeOpsVaultException("Stream encryption failed", e);
+        } finally {
+            Arrays.fill(dek, (byte) 0);
+        }
+    }
+
+    /**
+     * Decrypts a stream produced by {@link #encryptStream}.
+     *
+     * <p>Each segment is authenticated before its plaintext is written, and
+     * heap use is bounded by the segment size. A stream that ends before its
+     * final segment, or continues after it, is rejected — but only once the
+     * preceding segments have been written, so callers must treat output
+     * written before an exception as incomplete.</p>
+     *
+     * @param in          The encrypted stream (not closed).
+     * @param out         Receives the plaintext (flushed, not closed).
+     * @param keyResolver Maps the key ID in the stream header to the raw key material.
+     * @return Number of plaintext bytes written.
+     * @throws ValidationException     if the stream header is malformed.
+     * @throws CodeOpsVaultException if decryption fails (wrong key, tampered or truncated data).
+     */
+    public long decryptStream(InputStream in, OutputStream out, Function<String, byte[]> keyResolver) {
+        if (in == null || out == null) {
+            throw new ValidationException("Streams must not be null");
+        }
+
+        byte[] dek = null;
+        try {
+            DataInputStream input = new DataInputStream(in);
+
+            // Read header
+            byte version = input.readByte();
+            if (version != AppConstants.STREAM_ENCRYPTION_FORMAT_VERSION) {
+                throw new ValidationException("Unsupported stream encryption format version: " + version);
+            }
+            int keyIdLength = input.readInt();
+            if (keyIdLength < 0 || keyIdLength > 1000) {
+                throw new ValidationException("Invalid key ID length: " + keyIdLength);
+            }
+            byte[] keyIdBytes = new byte[keyIdLength];
+            input.readFully(keyIdBytes);
+            int dekBlockLength = input.readInt();
+            if (dekBlockLength < AppConstants.GCM_IV_SIZE_BYTES || dekBlockLength > 1000) {
+                throw new ValidationException("Invalid encrypted DEK block length: " + dekBlockLength);
+            }
+            byte[] dekIv = new byte[AppConstants.GCM_IV_SIZE_BYTES];
+            input.readFully(dekIv);
+            byte[] encryptedDek = new byte[dekBlockLength - AppConstants.GCM_IV_SIZE_BYTES];
+            input.readFully(encryptedDek);
+            byte[] noncePrefix = new byte[STREAM_NONCE_PREFIX_BYTES];
+            input.readFully(noncePrefix);
+            int segmentSize = input.readInt();
+            if (segmentSize < 1 || segmentSize > AppConstants.MAX_STREAM_SEGMENT_SIZE_BYTES) {
+                throw new ValidationException("Invalid stream segment size: " + segmentSize);
+            }
+
+            String keyId = new String(keyIdBytes, StandardCharsets.UTF_8);
+            byte[] header = buildStreamHeader(keyId, dekIv, encryptedDek, noncePrefix, segmentSize);
+
+            byte[] keyMaterial = keyResolver.apply(keyId);
+            if (keyMaterial == null || keyMaterial.length != AppConstants.AES_KEY_SIZE_BYTES) {
+                throw new ValidationException("Key material must be exactly " + AppConstants.AES_KEY_SIZE_BYTES + " bytes");
+            }
+            dek = aesGcmDecrypt(keyMaterial, dekIv, encryptedDek);
+
+            Cipher cipher = Cipher.getInstance(AES_GCM_ALGORITHM);
+            SecretKeySpec dekSpec = new SecretKeySpec(dek, AES_ALGORITHM);
+            byte[] sealed = new byte[segmentSize + GCM_TAG_SIZE_BYTES];
+            byte[] plain = new byte[segmentSize];
+
+            long total = 0;
+            int index = 0;
+            boolean last = false;
+            while (!last) {
+                int frame = input.readInt();
+                last = (frame & FINAL_SEGMENT_FLAG) != 0;
+                int sealedLength = frame & ~FINAL_SEGMENT_FLAG;
+                if (sealedLength < GCM_TAG_SIZE_BYTES || sealedLength > sealed.length
+                        || (!last && sealedLength != sealed.length)) {
+                    throw new ValidationException("Invalid stream segment length: " + sealedLength);
+                }
+                input.readFully(sealed, 0, sealedLength);
+
+                cipher.init(Cipher.DECRYPT_MODE, dekSpec, segmentSpec(noncePrefix, index, last));
+                cipher.updateAAD(header);
+                int plainLength = cipher.doFinal(sealed, 0, sealedLength, plain, 0);
+                out.write(plain, 0, plainLength);
+
+                total += plainLength;
+                index = nextSegmentIndex(index);
+            }
+            if (input.read() != -1) {
+                throw new CodeOpsVaultException("Decryption failed: unexpected data after final segment");
+            }
+
+            out.flush();
+            log.debug("Stream-decrypted {} bytes in {} segments with key ID '{}'", total, index, keyId);
+            return total;
+
+        } catch (CodeOpsVaultException e) {
+            throw e;
+        } catch (AEADBadTagException e) {
+            throw new CodeOpsVaultException("Decryption failed: authentication tag mismatch (wrong key or tampered data)", e);
+        } catch (EOFException e) {
+            throw new CodeOpsVaultException("Decryption failed: encrypted stream is truncated", e);
+        } catch (Exception e) {
+            throw new CodeOpsVaultException("Decryption failed: " + e.getMessage(), e);
+        } finally {
+            if (dek != null) {
+                Arrays.fill(dek, (byte) 0);
+            }
+        }
+    }
+
     // --- Utility Operations ---
 
     /**
@@ -458,10 +665,7 @@ public class EncryptionService {
      * @throws Exception if encryption fails.
      */
     private byte[] aesGcmEncrypt(byte[] key, byte[] iv, byte[] plaintext) throws Exception {
-        Cipher cipher = Cipher.getInstance(AES_GCM_ALGORITHM);
-        GCMParameterSpec gcmSpec = new GCMParameterSpec(AppConstants.GCM_TAG_SIZE_BITS, iv);
-        SecretKeySpec keySpec = new SecretKeySpec(key, AES_ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmSpec);
+        Cipher cipher = initGcmCipher(Cipher.ENCRYPT_MODE, key, iv, 0);
         return cipher.doFinal(plaintext);
     }
 
@@ -475,13 +679,234 @@ public class EncryptionService {
      * @throws Exception if decryption fails (includes AEADBadTagException for auth failure).
      */
     private byte[] aesGcmDecrypt(byte[] key, byte[] iv, byte[] ciphertext) throws Exception {
-        Cipher cipher = Cipher.getInstance(AES_GCM_ALGORITHM);
-        GCMParameterSpec gcmSpec = new GCMParameterSpec(AppConstants.GCM_TAG_SIZE_BITS, iv);
-        SecretKeySpec keySpec = new SecretKeySpec(key, AES_ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmSpec);
+        Cipher cipher = initGcmCipher(Cipher.DECRYPT_MODE, key, iv, 0);
         return cipher.doFinal(ciphertext);
     }
 
+    /**
+     * Initializes this thread's AES-GCM cipher with a key and an IV read
+     * from {@code ivSource} at {@code ivOffset}.
+     *
+     * @return The initialized cipher.
+     * @throws Exception if the key or IV is rejected.
+     */
+    private Cipher initGcmCipher(int mode, byte[] key, byte[] ivSource, int ivOffset) throws Exception {
+        Cipher cipher = GCM_CIPHER.get();
+        cipher.init(mode, new SecretKeySpec(key, AES_ALGORITHM),
+                new GCMParameterSpec(AppConstants.GCM_TAG_SIZE_BITS, ivSource, ivOffset, AppConstants.GCM_IV_SIZE_BYTES));
+        return cipher;
+    }
+
+    private static Cipher newGcmCipher() {
+        try {
+            return Cipher.getInstance(AES_GCM_ALGORITHM);
+        } catch (Exception e) {
+            throw new IllegalStateException("AES-GCM cipher is not available", e);
+        }
+    }
+
+    /**
+     * Builds a binary envelope: encrypts the plaintext with a fresh DEK and
+     * wraps the DEK with the given key material.
+     *
+     * @param plaintext   The plaintext bytes.
+     * @param keyId       The key identifier to include in the envelope.
+     * @param keyMaterial The 32-byte key that wraps the DEK.
+     * @return The binary encrypted envelope.
+     * @throws CodeOpsVaultException if encryption fails.
+     */
+    private byte[] encryptEnvelope(byte[] plaintext, String keyId, byte[] keyMaterial) {
+        byte[] dek = DEK_BUFFER.get();
+        try {
+            // Layout: version + keyId + DEK block (DEK IV + encrypted DEK) + IV + ciphertext.
+            // Both cipher operations write straight into the envelope.
+            byte[] keyIdBytes = keyId.getBytes(StandardCharsets.UTF_8);
+            int dekBlockOffset = 1 + 4 + keyIdBytes.length + 4;
+            int ivOffset = dekBlockOffset + WRAPPED_DEK_BLOCK_BYTES;
+            int ciphertextOffset = ivOffset + AppConstants.GCM_IV_SIZE_BYTES;
+            byte[] envelope = new byte[ciphertextOffset + plaintext.length + GCM_TAG_SIZE_BYTES];
+
+            envelope[0] = AppConstants.ENCRYPTION_FORMAT_VERSION;
+            writeInt(envelope, 1, keyIdBytes.length);
+            System.arraycopy(keyIdBytes, 0, envelope, 5, keyIdBytes.length);
+            writeInt(envelope, dekBlockOffset - 4, WRAPPED_DEK_BLOCK_BYTES);
+
+            // Generate a random DEK and wrap it with the KEK (key material)
+            SECURE_RANDOM.nextBytes(dek);
+            writeRandomIv(envelope, dekBlockOffset);
+            initGcmCipher(Cipher.ENCRYPT_MODE, keyMaterial, envelope, dekBlockOffset)
+                    .doFinal(dek, 0, dek.length, envelope, dekBlockOffset + AppConstants.GCM_IV_SIZE_BYTES);
+
+            // Encrypt the plaintext with the DEK
+            writeRandomIv(envelope, ivOffset);
+            initGcmCipher(Cipher.ENCRYPT_MODE, dek, envelope, ivOffset)
+                    .doFinal(plaintext, 0, plaintext.length, envelope, ciphertextOffset);
+
+            log.debug("Encrypted data with key ID '{}', envelope size: {} bytes", keyId, envelope.length);
+            return envelope;
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CodeOpsVaultException("Encryption failed", e);
+        } finally {
+            Arrays.fill(dek, (byte) 0);
+        }
+    }
+
+    /**
+     * Parses a binary envelope, unwraps its DEK with the given key material,
+     * and decrypts the payload.
+     *
+     * <p>Fields are addressed by offset into the envelope rather than copied
+     * out; the unwrapped DEK lives in a per-thread buffer that is cleared
+     * afterwards. The only allocation is the returned plaintext.</p>
+     *
+     * @param envelope    The binary envelope.
+     * @param keyMaterial The 32-byte key that wrapped the DEK.
+     * @return The decrypted plaintext bytes.
+     * @throws ValidationException     if the envelope is malformed.
+     * @throws CodeOpsVaultException if decryption fails.
+     */
+    private byte[] decryptEnvelope(byte[] envelope, byte[] keyMaterial) {
+        byte[] dek = DEK_BUFFER.get();
+        try {
+            // Read version
+            requireEnvelopeBytes(envelope, 0, 1 + 4);
+            byte version = envelope[0];
+            if (version != AppConstants.ENCRYPTION_FORMAT_VERSION) {
+                throw new ValidationException("Unsupported encryption format version: " + version);
+            }
+
+            // Skip key ID
+            int keyIdLength = readInt(envelope, 1);
+            if (keyIdLength < 0 || keyIdLength > 1000) {
+                throw new ValidationException("Invalid key ID length: " + keyIdLength);
+            }
+            int dekBlockLengthOffset = 5 + keyIdLength;
+
+            // Locate encrypted DEK block (contains DEK IV + encrypted DEK)
+            requireEnvelopeBytes(envelope, dekBlockLengthOffset, 4);
+            int dekBlockLength = readInt(envelope, dekBlockLengthOffset);
+            if (dekBlockLength != WRAPPED_DEK_BLOCK_BYTES) {
+                throw new ValidationException("Invalid encrypted DEK block length: " + dekBlockLength);
+            }
+            int dekBlockOffset = dekBlockLengthOffset + 4;
+            int ivOffset = dekBlockOffset + dekBlockLength;
+            int ciphertextOffset = ivOffset + AppConstants.GCM_IV_SIZE_BYTES;
+            requireEnvelopeBytes(envelope, ciphertextOffset, GCM_TAG_SIZE_BYTES);
+
+            // Decrypt the DEK with the KEK
+            initGcmCipher(Cipher.DECRYPT_MODE, keyMaterial, envelope, dekBlockOffset)
+                    .doFinal(envelope, dekBlockOffset + AppConstants.GCM_IV_SIZE_BYTES,
+                            dekBlockLength - AppConstants.GCM_IV_SIZE_BYTES, dek, 0);
+
+            // Decrypt the ciphertext with the DEK
+            int ciphertextLength = envelope.length - ciphertextOffset;
+            byte[] decrypted = new byte[ciphertextLength - GCM_TAG_SIZE_BYTES];
+            initGcmCipher(Cipher.DECRYPT_MODE, dek, envelope, ivOffset)
+                    .doFinal(envelope, ciphertextOffset, ciphertextLength, decrypted, 0);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Decrypted data with key ID '{}'",
+                        new String(envelope, 5, keyIdLength, StandardCharsets.UTF_8));
+            }
+            return decrypted;
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (AEADBadTagException e) {
+            throw new CodeOpsVaultException("Decryption failed: authentication tag mismatch (wrong key or tampered data)", e);
+        } catch (Exception e) {
+            if (e instanceof CodeOpsVaultException) {
+                throw (CodeOpsVaultException) e;
+            }
+            throw new CodeOpsVaultException("Decryption failed: " + e.getMessage(), e);
+        } finally {
+            Arrays.fill(dek, (byte) 0);
+        }
+    }
+
+    /**
+     * Throws if fewer than {@code length} bytes remain in the envelope at {@code offset}.
+     */
+    private void requireEnvelopeBytes(byte[] envelope, int offset, int length) {
+        if (envelope.length - offset < length) {
+            throw new ValidationException("Encrypted envelope is truncated");
+        }
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return ((source[offset] & 0xFF) << 24)
+                | ((source[offset + 1] & 0xFF) << 16)
+                | ((source[offset + 2] & 0xFF) << 8)
+                | (source[offset + 3] & 0xFF);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Writes a fresh random GCM IV into {@code target} at {@code offset}.
+     */
+    private void writeRandomIv(byte[] target, int offset) {
+        byte[] iv = IV_BUFFER.get();
+        SECURE_RANDOM.nextBytes(iv);
+        System.arraycopy(iv, 0, target, offset, iv.length);
+    }
+
+    /**
+     * Serializes a stream header. Also used on decryption to rebuild the
+     * exact header bytes that are authenticated with every segment.
+     */
+    private byte[] buildStreamHeader(String keyId, byte[] dekIv, byte[] encryptedDek,
+                                     byte[] noncePrefix, int segmentSize) {
+        byte[] keyIdBytes = keyId.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(1 + 4 + keyIdBytes.length + 4 + dekIv.length
+                + encryptedDek.length + noncePrefix.length + 4);
+        header.put(AppConstants.STREAM_ENCRYPTION_FORMAT_VERSION);
+        header.putInt(keyIdBytes.length);
+        header.put(keyIdBytes);
+        header.putInt(dekIv.length + encryptedDek.length);
+        header.put(dekIv);
+        header.put(encryptedDek);
+        header.put(noncePrefix);
+        header.putInt(segmentSize);
+        return header.array();
+    }
+
+    /**
+     * Builds the GCM parameters for a stream segment: the 7-byte nonce
+     * prefix, the 4-byte segment index, and a 1-byte final-segment flag.
+     */
+    private GCMParameterSpec segmentSpec(byte[] noncePrefix, int index, boolean last) {
+        ByteBuffer nonce = ByteBuffer.allocate(AppConstants.GCM_IV_SIZE_BYTES);
+        nonce.put(noncePrefix);
+        nonce.putInt(index);
+        nonce.put((byte) (last ? 1 : 0));
+        return new GCMParameterSpec(AppConstants.GCM_TAG_SIZE_BITS, nonce.array());
+    }
+
+    private int nextSegmentIndex(int index) {
+        if (index == Integer.MAX_VALUE) {
+            throw new ValidationException("Stream exceeds the maximum number of segments");
+        }
+        return index + 1;
+    }
+
+    private boolean hasMoreInput(PushbackInputStream input) throws IOException {
+        int next = input.read();
+        if (next < 0) {
+            return false;
+        }
+        input.unread(next);
+        return true;
+    }
+
     /**
      * Generates a random 12-byte IV for GCM.
      *
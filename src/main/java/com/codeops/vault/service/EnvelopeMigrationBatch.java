@@ -0,0 +1,27 @@
+package com.codeops.vault.service;
+
+import java.util.UUID;
+
+/**
+ * Result of converting one batch of secret versions to binary envelope storage.
+ *
+ * @param migrated Number of versions converted.
+ * @param skipped  Number of versions left unchanged because their text is not valid Base64.
+ * @param lastId   ID of the last version scanned, from which the next batch continues
+ *                 (null if the batch was empty).
+ */
+public record EnvelopeMigrationBatch(
+        int migrated,
+        int skipped,
+        UUID lastId
+) {
+
+    /**
+     * Returns the number of versions scanned in this batch.
+     *
+     * @return Migrated plus skipped versions.
+     */
+    public int scanned() {
+        return migrated + skipped;
+    }
+}
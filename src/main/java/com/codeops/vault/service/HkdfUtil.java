@@ -1,6 +1,7 @@
 package com.codeops.vault.service;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -13,12 +14,18 @@ import java.util.Arrays;
  * HMAC-SHA256. Given the same inputs, always produces the same output,
  * enabling purpose-specific key derivation without storing derived keys.</p>
  *
- * <p>This is a stateless utility class with only static methods.</p>
+ * <p>This is a stateless utility class with only static methods. Each thread
+ * reuses one {@link Mac} instance, and the expand step feeds its inputs to the
+ * MAC directly instead of concatenating them, so a derivation allocates little
+ * beyond its output.</p>
  */
 public final class HkdfUtil {
 
     private static final String HMAC_ALGORITHM = "HmacSHA256";
     private static final int HASH_LENGTH = 32; // SHA-256 output length in bytes
+    private static final byte[] ZERO_SALT = new byte[HASH_LENGTH];
+    private static final byte[] EMPTY_INFO = new byte[0];
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(HkdfUtil::newMac);
 
     private HkdfUtil() {} // prevent instantiation
 
@@ -58,9 +65,10 @@ public final class HkdfUtil {
      */
     static byte[] extract(byte[] salt, byte[] inputKeyMaterial) {
         if (salt == null || salt.length == 0) {
-            salt = new byte[HASH_LENGTH];
+            salt = ZERO_SALT;
         }
-        return hmacSha256(salt, inputKeyMaterial);
+        Mac mac = initMac(salt);
+        return mac.doFinal(inputKeyMaterial);
     }
 
     /**
@@ -76,41 +84,57 @@ public final class HkdfUtil {
      */
     static byte[] expand(byte[] prk, byte[] info, int outputLength) {
         if (info == null) {
-            info = new byte[0];
+            info = EMPTY_INFO;
         }
 
-        int iterations = (int) Math.ceil((double) outputLength / HASH_LENGTH);
-        byte[] okm = new byte[iterations * HASH_LENGTH];
-        byte[] previousT = new byte[0];
+        byte[] okm = new byte[outputLength];
+        byte[] t = new byte[HASH_LENGTH];
+        int tLength = 0;
 
-        for (int i = 1; i <= iterations; i++) {
-            // T(i) = HMAC-Hash(PRK, T(i-1) || info || i)
-            byte[] input = new byte[previousT.length + info.length + 1];
-            System.arraycopy(previousT, 0, input, 0, previousT.length);
-            System.arraycopy(info, 0, input, previousT.length, info.length);
-            input[input.length - 1] = (byte) i;
+        try {
+            for (int i = 1, written = 0; written < outputLength; i++) {
+                // T(i) = HMAC-Hash(PRK, T(i-1) || info || i)
+                Mac mac = initMac(prk);
+                mac.update(t, 0, tLength);
+                mac.update(info);
+                mac.update((byte) i);
+                mac.doFinal(t, 0);
+                tLength = HASH_LENGTH;
 
-            previousT = hmacSha256(prk, input);
-            System.arraycopy(previousT, 0, okm, (i - 1) * HASH_LENGTH, HASH_LENGTH);
+                int chunk = Math.min(HASH_LENGTH, outputLength - written);
+                System.arraycopy(t, 0, okm, written, chunk);
+                written += chunk;
+            }
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("HMAC-SHA256 computation failed", e);
+        } finally {
+            Arrays.fill(t, (byte) 0);
         }
 
-        return Arrays.copyOf(okm, outputLength);
+        return okm;
     }
 
     /**
-     * Computes HMAC-SHA256.
+     * Returns this thread's HMAC-SHA256 instance, initialized with the given key.
      *
-     * @param key  The HMAC key.
-     * @param data The data to authenticate.
-     * @return The 32-byte HMAC value.
+     * @param key The HMAC key.
+     * @return The initialized Mac.
      */
-    private static byte[] hmacSha256(byte[] key, byte[] data) {
+    private static Mac initMac(byte[] key) {
         try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            Mac mac = HMAC.get();
             mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
-            return mac.doFinal(data);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            return mac;
+        } catch (InvalidKeyException e) {
             throw new IllegalStateException("HMAC-SHA256 computation failed", e);
         }
     }
+
+    private static Mac newMac() {
+        try {
+            return Mac.getInstance(HMAC_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
 }
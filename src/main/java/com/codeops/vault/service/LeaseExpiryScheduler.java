@@ -1,17 +1,42 @@
 package com.codeops.vault.service;
 
+import com.codeops.vault.config.DynamicSecretProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Scheduled job that processes expired dynamic secret leases.
+ * Expires dynamic secret leases when their TTL ends.
+ *
+ * <p>Once the application is ready, loads the active leases into the
+ * {@link LeaseExpiryTimer} and starts a dedicated thread that polls it every
+ * {@code codeops.vault.dynamic-secrets.expiry-tick-ms} and passes the due
+ * leases to {@link DynamicSecretService#expireLeases}. The thread does not
+ * share the scheduler pool, so long-running jobs cannot delay expiries.</p>
+ *
+ * <h3>Failures</h3>
+ * <p>If expiring a batch fails, the batch is split in half and each half is
+ * retried at once, down to single leases, so one bad lease does not hold back
+ * the rest of its batch. A single lease that still fails is rescheduled with
+ * exponential backoff ({@value #RETRY_BASE_DELAY_SECONDS} s doubling up to
+ * {@value #RETRY_MAX_DELAY_SECONDS} s). After {@value #MAX_ATTEMPTS} failed
+ * attempts the timer gives up on the lease and leaves it to the
+ * reconciliation sweep, which reloads it with a fresh set of attempts.</p>
  *
- * <p>Runs every 30 seconds and delegates to
- * {@link DynamicSecretService#processExpiredLeases()}.
- * Only active in non-test profiles.</p>
+ * <p>As a safety net, every {@code reconcile-interval-ms} it also runs
+ * {@link DynamicSecretService#processExpiredLeases()} and reloads the timer,
+ * which picks up leases created on other instances and any expiry the timer
+ * missed. Only active in non-test profiles.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -19,20 +44,124 @@ import org.springframework.stereotype.Component;
 @Profile("!test")
 public class LeaseExpiryScheduler {
 
+    private static final int EXPIRY_BATCH_SIZE = 500;
+    private static final long RETRY_BASE_DELAY_SECONDS = 1;
+    private static final long RETRY_MAX_DELAY_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 6;
+
     private final DynamicSecretService dynamicSecretService;
+    private final LeaseExpiryTimer leaseExpiryTimer;
+    private final DynamicSecretProperties dynamicSecretProperties;
+
+    /** Failed expiry attempts per lease still being retried by the timer. */
+    private final Map<String, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    private volatile Thread timerThread;
+
+    /**
+     * Loads the active leases into the timer and starts the timer thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            int loaded = leaseExpiryTimer.rebuild();
+            log.info("Lease expiry timer started with {} active lease(s)", loaded);
+        } catch (Exception e) {
+            log.error("Failed to load active leases into the expiry timer", e);
+        }
+        timerThread = Thread.ofPlatform().name("lease-expiry-timer").daemon().start(this::runTimer);
+    }
+
+    /**
+     * Stops the timer thread.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = timerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
 
     /**
-     * Checks for and processes expired leases every 30 seconds.
+     * Expires leases the timer missed and reloads the timer from the database.
      */
-    @Scheduled(fixedDelay = 30_000)
-    public void processExpiredLeases() {
+    @Scheduled(fixedDelayString = "${codeops.vault.dynamic-secrets.reconcile-interval-ms:300000}",
+            initialDelayString = "${codeops.vault.dynamic-secrets.reconcile-interval-ms:300000}")
+    public void reconcile() {
         try {
             int count = dynamicSecretService.processExpiredLeases();
             if (count > 0) {
-                log.info("Expired {} dynamic lease(s)", count);
+                log.warn("Reconciliation expired {} dynamic lease(s) missed by the expiry timer", count);
             }
+            leaseExpiryTimer.rebuild();
         } catch (Exception e) {
-            log.error("Error in lease expiry scheduler", e);
+            log.error("Error in lease expiry reconciliation", e);
+        }
+    }
+
+    private void runTimer() {
+        long tickMillis = Math.max(1, dynamicSecretProperties.getExpiryTickMs());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                expireDueLeases();
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error in lease expiry timer", e);
+            }
+        }
+    }
+
+    /**
+     * Expires the leases the timer reports as due, in batches.
+     */
+    void expireDueLeases() {
+        List<String> due = leaseExpiryTimer.pollDue();
+        int count = 0;
+        for (int from = 0; from < due.size(); from += EXPIRY_BATCH_SIZE) {
+            count += expireBatch(due.subList(from, Math.min(from + EXPIRY_BATCH_SIZE, due.size())));
+        }
+        if (count > 0) {
+            log.info("Expired {} dynamic lease(s)", count);
+        }
+    }
+
+    /**
+     * Expires a batch in one transaction; if that fails, bisects it until the
+     * failing leases are isolated and schedules those for a retry.
+     *
+     * @param batch Lease identifiers.
+     * @return Number of leases expired.
+     */
+    private int expireBatch(List<String> batch) {
+        try {
+            int expired = dynamicSecretService.expireLeases(batch);
+            batch.forEach(failedAttempts::remove);
+            return expired;
+        } catch (Exception e) {
+            if (batch.size() > 1) {
+                log.debug("Failed to expire {} dynamic lease(s); bisecting", batch.size(), e);
+                int middle = batch.size() / 2;
+                return expireBatch(batch.subList(0, middle)) + expireBatch(batch.subList(middle, batch.size()));
+            }
+            retryLater(batch.get(0), e);
+            return 0;
+        }
+    }
+
+    private void retryLater(String leaseId, Exception cause) {
+        int attempts = failedAttempts.merge(leaseId, 1, Integer::sum);
+        if (attempts >= MAX_ATTEMPTS) {
+            failedAttempts.remove(leaseId);
+            log.error("Giving up expiring dynamic lease {} after {} attempts; leaving it to reconciliation",
+                    leaseId, attempts, cause);
+            return;
         }
+        long delaySeconds = Math.min(RETRY_MAX_DELAY_SECONDS, RETRY_BASE_DELAY_SECONDS << (attempts - 1));
+        log.warn("Failed to expire dynamic lease {} (attempt {} of {}); retrying in {} s: {}",
+                leaseId, attempts, MAX_ATTEMPTS, delaySeconds, cause.getMessage());
+        leaseExpiryTimer.schedule(leaseId, Instant.now().plusSeconds(delaySeconds));
     }
 }
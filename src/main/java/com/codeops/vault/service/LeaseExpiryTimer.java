@@ -0,0 +1,166 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.DynamicSecretProperties;
+import com.codeops.vault.entity.enums.LeaseStatus;
+import com.codeops.vault.repository.DynamicLeaseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory timer that tracks when each active dynamic lease expires.
+ *
+ * <p>{@link DynamicSecretService} schedules a lease when it is created and
+ * cancels it when it is revoked; both take effect once the surrounding
+ * transaction commits. {@link LeaseExpiryScheduler} reloads the timer from
+ * the database at startup, polls {@link #pollDue()} every
+ * {@code codeops.vault.dynamic-secrets.expiry-tick-ms} and expires the leases
+ * it returns, so a lease outlives its TTL by about one tick instead of a full
+ * polling interval. Deadlines are kept in a {@link TimerWheel}, which makes
+ * scheduling, cancelling and polling independent of the number of leases.</p>
+ *
+ * <p>The timer only knows the leases created on this instance since startup,
+ * plus those loaded by {@link #rebuild()}. The reconciliation sweep in
+ * {@link LeaseExpiryScheduler} covers the rest.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.lease.expiry.lag} — histogram of the time between a lease's expiry and its cleanup</li>
+ *   <li>{@code vault.lease.expiry.scheduled} — number of leases in the timer</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class LeaseExpiryTimer {
+
+    private final DynamicLeaseRepository leaseRepository;
+    private final LongSupplier currentMillis;
+    private final TimerWheel<String> wheel;
+    private final Timer expiryLag;
+
+    /**
+     * Creates the timer and registers its meters.
+     *
+     * @param leaseRepository         Repository used to reload active leases.
+     * @param dynamicSecretProperties Dynamic secret configuration (timer resolution).
+     * @param meterRegistry           Registry used to publish expiry metrics.
+     */
+    @Autowired
+    public LeaseExpiryTimer(DynamicLeaseRepository leaseRepository, DynamicSecretProperties dynamicSecretProperties,
+                            MeterRegistry meterRegistry) {
+        this(leaseRepository, dynamicSecretProperties, meterRegistry, System::currentTimeMillis);
+    }
+
+    LeaseExpiryTimer(DynamicLeaseRepository leaseRepository, DynamicSecretProperties dynamicSecretProperties,
+                     MeterRegistry meterRegistry, LongSupplier currentMillis) {
+        this.leaseRepository = leaseRepository;
+        this.currentMillis = currentMillis;
+        this.wheel = new TimerWheel<>(dynamicSecretProperties.getExpiryTickMs(), currentMillis.getAsLong());
+        this.expiryLag = Timer.builder("vault.lease.expiry.lag")
+                .description("Time between a lease's expiry and the cleanup of its credentials")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("vault.lease.expiry.scheduled", this, LeaseExpiryTimer::scheduledCount)
+                .description("Number of leases tracked by the expiry timer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Schedules a lease to expire at the given time, once the current transaction commits.
+     *
+     * @param leaseId   The lease identifier.
+     * @param expiresAt When the lease expires.
+     */
+    public void schedule(String leaseId, Instant expiresAt) {
+        afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.schedule(leaseId, expiresAt.toEpochMilli());
+            }
+        });
+    }
+
+    /**
+     * Removes a lease from the timer, once the current transaction commits.
+     *
+     * @param leaseId The lease identifier.
+     */
+    public void cancel(String leaseId) {
+        afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.cancel(leaseId);
+            }
+        });
+    }
+
+    /**
+     * Schedules every active lease stored in the database. Leases already in
+     * the timer keep a single deadline; leases already expired become due at once.
+     *
+     * @return Number of active leases loaded.
+     */
+    public int rebuild() {
+        List<DynamicLeaseRepository.LeaseExpiry> expiries = leaseRepository.findExpiriesByStatus(LeaseStatus.ACTIVE);
+        synchronized (wheel) {
+            for (DynamicLeaseRepository.LeaseExpiry expiry : expiries) {
+                wheel.schedule(expiry.getLeaseId(), expiry.getExpiresAt().toEpochMilli());
+            }
+        }
+        log.debug("Loaded {} active lease(s) into the expiry timer", expiries.size());
+        return expiries.size();
+    }
+
+    /**
+     * Removes and returns the leases whose expiry has passed.
+     *
+     * @return IDs of the due leases, earliest first.
+     */
+    public List<String> pollDue() {
+        synchronized (wheel) {
+            return wheel.advance(currentMillis.getAsLong());
+        }
+    }
+
+    /**
+     * Records that a lease was expired, for the expiry lag histogram.
+     *
+     * @param expiresAt When the lease was due to expire.
+     */
+    public void recordExpiry(Instant expiresAt) {
+        long lagMillis = currentMillis.getAsLong() - expiresAt.toEpochMilli();
+        expiryLag.record(Duration.ofMillis(Math.max(0, lagMillis)));
+    }
+
+    /**
+     * Returns the number of leases in the timer.
+     *
+     * @return Scheduled lease count.
+     */
+    public int scheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.entity.enums.BindingType;
+import com.codeops.vault.entity.enums.PolicyPermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of {@link AccessDecision} results, keyed by principal,
+ * team, secret path and permission.
+ *
+ * <p>Services and MCP clients evaluate the same access tuple thousands of
+ * times per minute. {@link PolicyService} serves those evaluations from this
+ * cache and only walks the team's {@link PolicyIndex} on a miss. Decisions
+ * live in a {@link ConcurrentHashMap}, so lookups take no lock.</p>
+ *
+ * <h3>Invalidation</h3>
+ * <p>Every policy or binding mutation in {@link PolicyService} calls
+ * {@link #invalidateAll()}, which bumps a generation counter and drops every
+ * cached decision; the invalidation is repeated after the surrounding
+ * transaction commits. Each entry records the generation it was evaluated
+ * under and is only served while that generation is current, so a decision
+ * computed from superseded policies is never returned, even if it was stored
+ * concurrently with an invalidation. Decisions also expire after
+ * {@code codeops.vault.cache.policy-decision-ttl-seconds}, which bounds
+ * staleness from changes made by other instances together with the policy
+ * index age.</p>
+ *
+ * <h3>Eviction</h3>
+ * <p>When an insert pushes the cache over
+ * {@code codeops.vault.cache.policy-decision-max-entries}, one thread sweeps
+ * it: expired and superseded decisions are dropped first, then arbitrary
+ * entries until the cache is back under 90% of the bound. Eviction is
+ * approximate rather than least-recently-used; an evicted decision is simply
+ * evaluated again.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.policy.decision.cache.hits} — evaluations served from the cache</li>
+ *   <li>{@code vault.policy.decision.cache.misses} — evaluations that consulted the policy index</li>
+ *   <li>{@code vault.policy.decision.cache.hit.ratio} — hits divided by all lookups</li>
+ *   <li>{@code vault.policy.decision.cache.evictions} — decisions evicted by the size bound</li>
+ *   <li>{@code vault.policy.decision.cache.invalidations} — generation bumps caused by policy changes</li>
+ *   <li>{@code vault.policy.decision.cache.size} — number of cached decisions</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PolicyDecisionCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    /**
+     * Creates the cache and registers its meters.
+     *
+     * @param cacheProperties Cache configuration (TTL and size bound).
+     * @param meterRegistry   Registry used to publish cache metrics.
+     */
+    public PolicyDecisionCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.enabled = cacheProperties.getPolicyDecisionTtlSeconds() > 0
+                && cacheProperties.getPolicyDecisionMaxEntries() > 0;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(cacheProperties.getPolicyDecisionTtlSeconds());
+        this.maxEntries = Math.max(1, cacheProperties.getPolicyDecisionMaxEntries());
+        this.hits = Counter.builder("vault.policy.decision.cache.hits")
+                .description("Access evaluations served from the decision cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("vault.policy.decision.cache.misses")
+                .description("Access evaluations that consulted the policy index")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("vault.policy.decision.cache.evictions")
+                .description("Access decisions evicted by the cache size bound")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("vault.policy.decision.cache.invalidations")
+                .description("Decision cache generations invalidated by policy or binding changes")
+                .register(meterRegistry);
+        Gauge.builder("vault.policy.decision.cache.size", this, PolicyDecisionCache::size)
+                .description("Number of cached access decisions")
+                .register(meterRegistry);
+        Gauge.builder("vault.policy.decision.cache.hit.ratio", this, PolicyDecisionCache::hitRatio)
+                .description("Fraction of access evaluations served from the decision cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached decision for an access tuple, evaluating and caching it on a miss.
+     *
+     * @param principalType The principal's binding type (USER or SERVICE).
+     * @param principalId   The user or service ID.
+     * @param teamId        The team context.
+     * @param secretPath    The secret path being accessed.
+     * @param permission    The permission being requested.
+     * @param evaluator     Evaluates the decision on a miss.
+     * @return The access decision.
+     */
+    public AccessDecision get(BindingType principalType, UUID principalId, UUID teamId, String secretPath,
+                              PolicyPermission permission, Supplier<AccessDecision> evaluator) {
+        if (!enabled) {
+            return evaluator.get();
+        }
+        Key key = new Key(principalType, principalId, teamId, secretPath, permission);
+        long loadGeneration = generation.get();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (isLive(entry, loadGeneration, System.nanoTime())) {
+                hits.increment();
+                return entry.decision;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+
+        AccessDecision decision = evaluator.get();
+        if (generation.get() == loadGeneration) {
+            entries.put(key, new Entry(decision, loadGeneration));
+            if (entries.size() > maxEntries) {
+                sweep();
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * Drops every cached decision, now and again after the current transaction commits.
+     */
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            entries.clear();
+            invalidations.increment();
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the invalidation generation.
+     *
+     * @return The current generation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the number of cached decisions.
+     *
+     * @return Cache size.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Brings the cache back under its bound: drops expired and superseded decisions, then
+     * arbitrary entries until at most 90% of the bound remain. Only one thread sweeps at a
+     * time; the others skip the sweep and keep serving evaluations.
+     */
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long currentGeneration = generation.get();
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> !isLive(entry, currentGeneration, now));
+            int target = Math.max(1, maxEntries - maxEntries / 10);
+            Iterator<Key> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+                evictions.increment();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private boolean isLive(Entry entry, long currentGeneration, long nowNanos) {
+        return entry.generation == currentGeneration && nowNanos - entry.loadedAtNanos < ttlNanos;
+    }
+
+    private double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups == 0 ? 0.0 : hits.count() / lookups;
+    }
+
+    // ─── Entries ────────────────────────────────────────────
+
+    /**
+     * An access tuple.
+     */
+    private record Key(BindingType principalType, UUID principalId, UUID teamId, String secretPath,
+                       PolicyPermission permission) {}
+
+    /**
+     * One cached decision, the generation it was evaluated under, and when.
+     */
+    private static final class Entry {
+
+        private final AccessDecision decision;
+        private final long generation;
+        private final long loadedAtNanos = System.nanoTime();
+
+        Entry(AccessDecision decision, long generation) {
+            this.decision = decision;
+            this.generation = generation;
+        }
+    }
+}
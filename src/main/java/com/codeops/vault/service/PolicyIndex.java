@@ -0,0 +1,380 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.dto.request.AccessCheck;
+import com.codeops.vault.entity.AccessPolicy;
+import com.codeops.vault.entity.PolicyBinding;
+import com.codeops.vault.entity.enums.BindingType;
+import com.codeops.vault.entity.enums.PolicyPermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory, per-team compiled index of access policies used by
+ * {@link PolicyService} to evaluate access without database round-trips.
+ *
+ * <p>For each team, all bindings of active policies are loaded in one query
+ * and compiled into one path-segment trie per binding target (user, team, or
+ * service). Each trie node holds the policies whose pattern ends there, with
+ * their permissions pre-parsed into bitsets. Evaluating a path walks the
+ * principal's trie and the team's trie once, following both the exact and
+ * the {@code *} child at every segment.</p>
+ *
+ * <h3>Evaluation Semantics</h3>
+ * <p>Identical to {@link PolicyService}: deny overrides allow, principal
+ * bindings are consulted before team bindings, and within each the first
+ * matching policy in binding order decides.</p>
+ *
+ * <h3>Invalidation</h3>
+ * <p>{@link PolicyService} invalidates the affected team on every policy or
+ * binding mutation; the next evaluation recompiles that team only. When a
+ * transaction is active the invalidation is repeated after commit, so an
+ * index compiled from pre-commit data is never kept. Indexes also expire
+ * after {@code codeops.vault.cache.policy-index-max-age-seconds} to bound
+ * staleness from changes made by other instances.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.policy.index.builds} — team indexes compiled</li>
+ *   <li>{@code vault.policy.index.teams} — number of compiled team indexes</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PolicyIndex {
+
+    private final Map<UUID, TeamIndex> teams = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long maxAgeNanos;
+    private final Counter builds;
+
+    /**
+     * Creates the index and registers its meters.
+     *
+     * @param cacheProperties Cache configuration (maximum index age).
+     * @param meterRegistry   Registry used to publish index metrics.
+     */
+    public PolicyIndex(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(cacheProperties.getPolicyIndexMaxAgeSeconds());
+        this.builds = Counter.builder("vault.policy.index.builds")
+                .description("Per-team policy indexes compiled")
+                .register(meterRegistry);
+        Gauge.builder("vault.policy.index.teams", teams, Map::size)
+                .description("Number of compiled per-team policy indexes")
+                .register(meterRegistry);
+    }
+
+    // ─── Evaluation ─────────────────────────────────────────
+
+    /**
+     * Evaluates a permission on a secret path for a principal within a team.
+     *
+     * @param teamId        The team context.
+     * @param principalType The principal's binding type (USER or SERVICE).
+     * @param principalId   The user or service ID.
+     * @param secretPath    The secret path being accessed.
+     * @param permission    The permission being requested.
+     * @param loader        Loads all active bindings of the team when the index must be compiled.
+     * @return AccessDecision.
+     */
+    public AccessDecision evaluate(UUID teamId, BindingType principalType, UUID principalId,
+                                   String secretPath, PolicyPermission permission,
+                                   Supplier<List<PolicyBinding>> loader) {
+        TeamIndex index = getOrCompile(teamId, loader);
+        return index.evaluate(new Target(principalType, principalId), new Target(BindingType.TEAM, teamId),
+                secretPath, permission);
+    }
+
+    /**
+     * Evaluates many checks for one principal against a single compiled index of the team,
+     * so every decision reflects the same policy set.
+     *
+     * @param teamId        The team context.
+     * @param principalType The principal's binding type (USER or SERVICE).
+     * @param principalId   The user or service ID.
+     * @param checks        The (path, permission) checks to evaluate.
+     * @param loader        Loads all active bindings of the team when the index must be compiled.
+     * @return One AccessDecision per check, in order.
+     */
+    public List<AccessDecision> evaluateAll(UUID teamId, BindingType principalType, UUID principalId,
+                                            List<AccessCheck> checks, Supplier<List<PolicyBinding>> loader) {
+        TeamIndex index = getOrCompile(teamId, loader);
+        Target principal = new Target(principalType, principalId);
+        Target team = new Target(BindingType.TEAM, teamId);
+        List<AccessDecision> decisions = new ArrayList<>(checks.size());
+        for (AccessCheck check : checks) {
+            decisions.add(index.evaluate(principal, team, check.path(), check.permission()));
+        }
+        return decisions;
+    }
+
+    // ─── Invalidation ───────────────────────────────────────
+
+    /**
+     * Drops the compiled index of a team, now and again after the current transaction commits.
+     *
+     * @param teamId The team whose policies or bindings changed.
+     */
+    public void invalidateTeam(UUID teamId) {
+        if (teamId == null) {
+            return;
+        }
+        evict(index -> false, teamId);
+    }
+
+    /**
+     * Drops every compiled index that contains a policy.
+     *
+     * @param policyId The changed or deleted policy.
+     */
+    public void invalidatePolicy(UUID policyId) {
+        evict(index -> index.policyIds.contains(policyId), null);
+    }
+
+    /**
+     * Drops every compiled index that contains a binding.
+     *
+     * @param bindingId The deleted binding.
+     */
+    public void invalidateBinding(UUID bindingId) {
+        evict(index -> index.bindingIds.contains(bindingId), null);
+    }
+
+    /**
+     * Returns the number of compiled team indexes.
+     *
+     * @return Index count.
+     */
+    public int size() {
+        return teams.size();
+    }
+
+    // ─── Private Helpers ────────────────────────────────────
+
+    private TeamIndex getOrCompile(UUID teamId, Supplier<List<PolicyBinding>> loader) {
+        TeamIndex index = teams.get(teamId);
+        if (index != null && System.nanoTime() - index.compiledAtNanos < maxAgeNanos) {
+            return index;
+        }
+
+        long startGeneration = generation.get();
+        TeamIndex compiled = TeamIndex.compile(loader.get());
+        builds.increment();
+        teams.put(teamId, compiled);
+        if (generation.get() != startGeneration) {
+            // Invalidated while compiling — serve this result but do not keep it
+            teams.remove(teamId, compiled);
+        }
+        log.debug("Compiled policy index for team {} ({} policies)", teamId, compiled.policyIds.size());
+        return compiled;
+    }
+
+    private void evict(Predicate<TeamIndex> matcher, UUID teamId) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            if (teamId != null) {
+                teams.remove(teamId);
+            }
+            teams.values().removeIf(matcher);
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    // ─── Compiled Structures ────────────────────────────────
+
+    /**
+     * A binding target: the (type, id) pair a policy is bound to.
+     */
+    private record Target(BindingType type, UUID id) {}
+
+    /**
+     * A policy reduced to what evaluation needs.
+     */
+    private record CompiledPolicy(UUID id, String name, boolean deny, int permissionMask, int order) {}
+
+    /**
+     * Best deny and allow candidates found while walking one trie.
+     */
+    private static final class Match {
+        private CompiledPolicy deny;
+        private CompiledPolicy allow;
+
+        void offer(CompiledPolicy policy) {
+            if (policy.deny()) {
+                if (deny == null || policy.order() < deny.order()) {
+                    deny = policy;
+                }
+            } else if (allow == null || policy.order() < allow.order()) {
+                allow = policy;
+            }
+        }
+    }
+
+    /**
+     * One node of a path-segment trie.
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private final List<CompiledPolicy> policies = new ArrayList<>();
+        private int permissionMask;
+
+        Node child(String segment) {
+            if ("*".equals(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        void collect(String[] segments, int index, int permissionBit, Match match) {
+            if (index == segments.length) {
+                if ((permissionMask & permissionBit) != 0) {
+                    for (CompiledPolicy policy : policies) {
+                        if ((policy.permissionMask() & permissionBit) != 0) {
+                            match.offer(policy);
+                        }
+                    }
+                }
+                return;
+            }
+            Node exact = children.get(segments[index]);
+            if (exact != null) {
+                exact.collect(segments, index + 1, permissionBit, match);
+            }
+            if (wildcard != null) {
+                wildcard.collect(segments, index + 1, permissionBit, match);
+            }
+        }
+    }
+
+    /**
+     * Compiled policies of one team, one trie per binding target.
+     */
+    private static final class TeamIndex {
+        private final Map<Target, Node> roots = new HashMap<>();
+        private final Set<UUID> policyIds = new HashSet<>();
+        private final Set<UUID> bindingIds = new HashSet<>();
+        private final long compiledAtNanos = System.nanoTime();
+
+        static TeamIndex compile(List<PolicyBinding> bindings) {
+            TeamIndex index = new TeamIndex();
+            int order = 0;
+            for (PolicyBinding binding : bindings) {
+                AccessPolicy policy = binding.getPolicy();
+                index.bindingIds.add(binding.getId());
+                index.policyIds.add(policy.getId());
+                String[] segments = splitPath(policy.getPathPattern());
+                if (segments == null) {
+                    continue;
+                }
+                CompiledPolicy compiled = new CompiledPolicy(policy.getId(), policy.getName(),
+                        Boolean.TRUE.equals(policy.getIsDenyPolicy()),
+                        permissionMask(policy.getPermissions()), order++);
+
+                Node node = index.roots.computeIfAbsent(
+                        new Target(binding.getBindingType(), binding.getBindingTargetId()), t -> new Node());
+                for (String segment : segments) {
+                    node = node.child(segment);
+                }
+                node.policies.add(compiled);
+                node.permissionMask |= compiled.permissionMask();
+            }
+            return index;
+        }
+
+        AccessDecision evaluate(Target principal, Target team, String secretPath, PolicyPermission permission) {
+            String[] segments = splitPath(secretPath);
+            if (segments == null) {
+                return AccessDecision.defaultDenied();
+            }
+            int permissionBit = 1 << permission.ordinal();
+
+            Match principalMatch = new Match();
+            Match teamMatch = new Match();
+            Node principalRoot = roots.get(principal);
+            if (principalRoot != null) {
+                principalRoot.collect(segments, 0, permissionBit, principalMatch);
+            }
+            Node teamRoot = roots.get(team);
+            if (teamRoot != null) {
+                teamRoot.collect(segments, 0, permissionBit, teamMatch);
+            }
+
+            CompiledPolicy deny = principalMatch.deny != null ? principalMatch.deny : teamMatch.deny;
+            if (deny != null) {
+                log.debug("Access DENIED by policy '{}' for path '{}', permission {}",
+                        deny.name(), secretPath, permission);
+                return AccessDecision.denied(deny.id(), deny.name());
+            }
+            CompiledPolicy allow = principalMatch.allow != null ? principalMatch.allow : teamMatch.allow;
+            if (allow != null) {
+                log.debug("Access ALLOWED by policy '{}' for path '{}', permission {}",
+                        allow.name(), secretPath, permission);
+                return AccessDecision.allowed(allow.id(), allow.name());
+            }
+
+            log.debug("Access DENIED (default) for path '{}', permission {}", secretPath, permission);
+            return AccessDecision.defaultDenied();
+        }
+
+        /**
+         * Splits a path or pattern into segments using the same normalization as
+         * {@link PolicyService#matchesPath(String, String)}.
+         *
+         * @return The segments, or {@code null} for a blank path.
+         */
+        private static String[] splitPath(String path) {
+            if (path == null || path.isBlank()) {
+                return null;
+            }
+            if (path.length() > 1 && path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            return path.split("/", -1);
+        }
+
+        private static int permissionMask(String permissions) {
+            int mask = 0;
+            if (permissions == null || permissions.isBlank()) {
+                return mask;
+            }
+            for (String permission : permissions.split(",")) {
+                try {
+                    mask |= 1 << PolicyPermission.valueOf(permission.trim()).ordinal();
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring unknown policy permission '{}'", permission);
+                }
+            }
+            return mask;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.codeops.vault.service;
 
 import com.codeops.vault.dto.mapper.PolicyMapper;
+import com.codeops.vault.dto.request.AccessCheck;
 import com.codeops.vault.dto.request.CreateBindingRequest;
 import com.codeops.vault.dto.request.CreatePolicyRequest;
+import com.codeops.vault.dto.request.PolicyBatchEvaluateRequest;
 import com.codeops.vault.dto.request.UpdatePolicyRequest;
 import com.codeops.vault.dto.response.AccessPolicyResponse;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.PolicyBatchEvaluateResponse;
+import com.codeops.vault.dto.response.PolicyBatchEvaluateResult;
 import com.codeops.vault.dto.response.PolicyBindingResponse;
 import com.codeops.vault.entity.AccessPolicy;
 import com.codeops.vault.entity.PolicyBinding;
@@ -22,14 +26,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Service for managing Vault access policies, bindings, and permission evaluation.
@@ -55,6 +57,13 @@ import java.util.stream.Stream;
  *   <li>Exact paths match exactly</li>
  *   <li>Trailing {@code /*} matches all direct children</li>
  * </ul>
+ *
+ * <h3>Compiled Index</h3>
+ * <p>Evaluation is served from a {@link PolicyIndex} compiled per team from
+ * a single query, so repeated decisions need no database round-trips. Every
+ * policy or binding mutation invalidates the affected team's index. Decisions
+ * for repeated access tuples are cached in {@link PolicyDecisionCache}, which
+ * every mutation invalidates as a whole.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -65,6 +74,8 @@ public class PolicyService {
     private final PolicyBindingRepository bindingRepository;
     private final PolicyMapper policyMapper;
     private final AuditService auditService;
+    private final PolicyIndex policyIndex;
+    private final PolicyDecisionCache policyDecisionCache;
 
     // ─── Policy CRUD ────────────────────────────────────────
 
@@ -95,6 +106,8 @@ public class PolicyService {
                 .build();
 
         policy = policyRepository.save(policy);
+        policyIndex.invalidateTeam(teamId);
+        policyDecisionCache.invalidateAll();
         log.info("Created policy '{}' for team {}", request.name(), teamId);
 
         try { auditService.logSuccess(teamId, userId, "POLICY_CREATE", request.pathPattern(), "POLICY", policy.getId(), null); }
@@ -180,6 +193,8 @@ public class PolicyService {
         }
 
         policy = policyRepository.save(policy);
+        policyIndex.invalidateTeam(policy.getTeamId());
+        policyDecisionCache.invalidateAll();
         int bindingCount = (int) bindingRepository.countByPolicyId(policyId);
         log.info("Updated policy '{}'", policy.getName());
 
@@ -202,6 +217,8 @@ public class PolicyService {
         }
         bindingRepository.deleteByPolicyId(policyId);
         policyRepository.deleteById(policyId);
+        policyIndex.invalidatePolicy(policyId);
+        policyDecisionCache.invalidateAll();
         log.info("Deleted policy {} and all bindings", policyId);
 
         try { auditService.logSuccess(null, null, "POLICY_DELETE", null, "POLICY", policyId, null); }
@@ -237,6 +254,8 @@ public class PolicyService {
                 .build();
 
         binding = bindingRepository.save(binding);
+        policyIndex.invalidateTeam(policy.getTeamId());
+        policyDecisionCache.invalidateAll();
         log.info("Created binding for policy '{}' ({} -> {})",
                 policy.getName(), request.bindingType(), request.bindingTargetId());
 
@@ -293,6 +312,8 @@ public class PolicyService {
             throw new NotFoundException("PolicyBinding", bindingId);
         }
         bindingRepository.deleteById(bindingId);
+        policyIndex.invalidateBinding(bindingId);
+        policyDecisionCache.invalidateAll();
         log.info("Deleted binding {}", bindingId);
 
         try { auditService.logSuccess(null, null, "UNBIND", null, "POLICY_BINDING", bindingId, null); }
@@ -308,6 +329,10 @@ public class PolicyService {
      * policies (user-level and team-level bindings) and applies
      * deny-overrides-allow semantics.</p>
      *
+     * <p>Decisions are cached in {@link PolicyDecisionCache}; on a miss they
+     * come from the team's compiled {@link PolicyIndex}, and the database is
+     * only queried when that index must be (re)compiled.</p>
+     *
      * <p>Evaluation steps:</p>
      * <ol>
      *   <li>Find all active bindings for the user (USER type) and team (TEAM type)</li>
@@ -324,16 +349,9 @@ public class PolicyService {
      * @param permission The permission being requested.
      * @return An AccessDecision indicating ALLOWED or DENIED with reason.
      */
-    @Transactional(readOnly = true)
     public AccessDecision evaluateAccess(UUID userId, UUID teamId, String secretPath,
                                           PolicyPermission permission) {
-        List<PolicyBinding> userBindings = bindingRepository.findActiveBindingsForTarget(
-                teamId, BindingType.USER, userId);
-        List<PolicyBinding> teamBindings = bindingRepository.findActiveBindingsForTarget(
-                teamId, BindingType.TEAM, teamId);
-
-        List<AccessPolicy> policies = collectPoliciesFromBindings(userBindings, teamBindings);
-        return evaluatePolicies(policies, secretPath, permission);
+        return evaluate(BindingType.USER, userId, teamId, secretPath, permission);
     }
 
     /**
@@ -345,16 +363,51 @@ public class PolicyService {
      * @param permission The permission being requested.
      * @return AccessDecision.
      */
-    @Transactional(readOnly = true)
     public AccessDecision evaluateServiceAccess(UUID serviceId, UUID teamId, String secretPath,
                                                  PolicyPermission permission) {
-        List<PolicyBinding> serviceBindings = bindingRepository.findActiveBindingsForTarget(
-                teamId, BindingType.SERVICE, serviceId);
-        List<PolicyBinding> teamBindings = bindingRepository.findActiveBindingsForTarget(
-                teamId, BindingType.TEAM, teamId);
+        return evaluate(BindingType.SERVICE, serviceId, teamId, secretPath, permission);
+    }
 
-        List<AccessPolicy> policies = collectPoliciesFromBindings(serviceBindings, teamBindings);
-        return evaluatePolicies(policies, secretPath, permission);
+    /**
+     * Evaluates many (path, permission) checks for one principal in one call.
+     *
+     * <p>The team's bindings are loaded at most once, and every check is
+     * evaluated against the same compiled {@link PolicyIndex}, so all
+     * decisions reflect one policy set. The decision cache is bypassed.</p>
+     *
+     * @param request The principal and the checks to evaluate.
+     * @param teamId  The team context.
+     * @return One result per check, in request order.
+     * @throws ValidationException if the principal type is not USER or SERVICE.
+     */
+    public PolicyBatchEvaluateResponse evaluateBatch(PolicyBatchEvaluateRequest request, UUID teamId) {
+        if (request.principalType() != BindingType.USER && request.principalType() != BindingType.SERVICE) {
+            throw new ValidationException("principalType must be USER or SERVICE");
+        }
+        List<AccessCheck> checks = request.checks();
+        List<AccessDecision> decisions = policyIndex.evaluateAll(teamId, request.principalType(),
+                request.principalId(), checks, () -> bindingRepository.findActiveBindingsForTeam(teamId));
+
+        List<PolicyBatchEvaluateResult> results = new ArrayList<>(checks.size());
+        int allowed = 0;
+        for (int i = 0; i < checks.size(); i++) {
+            AccessDecision decision = decisions.get(i);
+            if (decision.allowed()) {
+                allowed++;
+            }
+            results.add(new PolicyBatchEvaluateResult(checks.get(i).path(), checks.get(i).permission(), decision));
+        }
+        return new PolicyBatchEvaluateResponse(allowed, results);
+    }
+
+    /**
+     * Serves a decision from the decision cache, evaluating it against the team's index on a miss.
+     */
+    private AccessDecision evaluate(BindingType principalType, UUID principalId, UUID teamId,
+                                    String secretPath, PolicyPermission permission) {
+        return policyDecisionCache.get(principalType, principalId, teamId, secretPath, permission,
+                () -> policyIndex.evaluate(teamId, principalType, principalId, secretPath, permission,
+                        () -> bindingRepository.findActiveBindingsForTeam(teamId)));
     }
 
     // ─── Path Matching ──────────────────────────────────────
@@ -450,84 +503,6 @@ public class PolicyService {
                 .collect(Collectors.joining(","));
     }
 
-    /**
-     * Parses a comma-separated permissions string into a list of PolicyPermission enums.
-     *
-     * @param permissions The comma-separated string.
-     * @return List of PolicyPermission values.
-     */
-    private List<PolicyPermission> parsePermissions(String permissions) {
-        if (permissions == null || permissions.isBlank()) {
-            return Collections.emptyList();
-        }
-        return Arrays.stream(permissions.split(","))
-                .map(String::trim)
-                .map(PolicyPermission::valueOf)
-                .toList();
-    }
-
-    /**
-     * Collects all policies from multiple binding lists, combining them into a single list.
-     *
-     * @param bindingLists The binding lists to collect policies from.
-     * @return Combined list of AccessPolicy entities.
-     */
-    @SafeVarargs
-    private List<AccessPolicy> collectPoliciesFromBindings(List<PolicyBinding>... bindingLists) {
-        return Stream.of(bindingLists)
-                .flatMap(List::stream)
-                .map(PolicyBinding::getPolicy)
-                .toList();
-    }
-
-    /**
-     * Evaluates a list of policies against a secret path and permission.
-     *
-     * <p>Implements deny-overrides-allow semantics:</p>
-     * <ol>
-     *   <li>Filter to policies whose pathPattern matches the path</li>
-     *   <li>If any matching deny policy includes the permission → DENIED</li>
-     *   <li>If any matching allow policy includes the permission → ALLOWED</li>
-     *   <li>Default → DENIED</li>
-     * </ol>
-     *
-     * @param policies   The policies to evaluate.
-     * @param secretPath The secret path being accessed.
-     * @param permission The permission being requested.
-     * @return AccessDecision.
-     */
-    private AccessDecision evaluatePolicies(List<AccessPolicy> policies, String secretPath,
-                                             PolicyPermission permission) {
-        List<AccessPolicy> matchingPolicies = policies.stream()
-                .filter(p -> matchesPath(secretPath, p.getPathPattern()))
-                .toList();
-
-        for (AccessPolicy policy : matchingPolicies) {
-            if (policy.getIsDenyPolicy()) {
-                List<PolicyPermission> perms = parsePermissions(policy.getPermissions());
-                if (perms.contains(permission)) {
-                    log.debug("Access DENIED by policy '{}' for path '{}', permission {}",
-                            policy.getName(), secretPath, permission);
-                    return AccessDecision.denied(policy.getId(), policy.getName());
-                }
-            }
-        }
-
-        for (AccessPolicy policy : matchingPolicies) {
-            if (!policy.getIsDenyPolicy()) {
-                List<PolicyPermission> perms = parsePermissions(policy.getPermissions());
-                if (perms.contains(permission)) {
-                    log.debug("Access ALLOWED by policy '{}' for path '{}', permission {}",
-                            policy.getName(), secretPath, permission);
-                    return AccessDecision.allowed(policy.getId(), policy.getName());
-                }
-            }
-        }
-
-        log.debug("Access DENIED (default) for path '{}', permission {}", secretPath, permission);
-        return AccessDecision.defaultDenied();
-    }
-
     /**
      * Normalizes a path by removing trailing slashes.
      *
@@ -0,0 +1,242 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.RotationProperties;
+import com.codeops.vault.entity.RotationPolicy;
+import com.codeops.vault.entity.enums.RotationStrategy;
+import com.codeops.vault.exception.CodeOpsVaultException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs due secret rotations concurrently on virtual threads.
+ *
+ * <p>{@link RotationService#processDueRotations()} hands every due policy to
+ * {@link #runAll(List, Consumer)}, which starts one virtual thread per
+ * rotation and waits for all of them. Each rotation runs in its own
+ * transaction, so a failing or slow rotation neither rolls back nor holds up
+ * the others.</p>
+ *
+ * <h3>Concurrency limits</h3>
+ * <p>At most {@code codeops.vault.rotation.max-concurrent-rotations} rotations
+ * run at once. A strategy listed in
+ * {@code codeops.vault.rotation.strategy-concurrency} is further limited to its
+ * own number of concurrent rotations. A rotation takes its strategy permit
+ * before the overall one, so rotations waiting on a saturated strategy (for
+ * example a slow external endpoint) never hold overall permits that other
+ * strategies could use.</p>
+ *
+ * <h3>Call timeouts</h3>
+ * <p>{@link #callWithTimeout(Callable)} bounds a single blocking call made
+ * during a rotation to {@code codeops.vault.rotation.call-timeout-ms}. A call
+ * that takes longer is interrupted and the rotation fails.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.rotation.queue.depth} — rotations waiting for a permit</li>
+ *   <li>{@code vault.rotation.running} — rotations currently running</li>
+ *   <li>{@code vault.rotation.call.timeouts} — rotation calls that exceeded the call timeout</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class RotationExecutor {
+
+    private static final ThreadFactory WORKER_FACTORY = Thread.ofVirtual().name("vault-rotation-", 0).factory();
+
+    private final TransactionTemplate requiresNew;
+    private final Semaphore rotationPermits;
+    private final Map<RotationStrategy, Semaphore> strategyPermits = new EnumMap<>(RotationStrategy.class);
+    private final int minConcurrency;
+    private final long callTimeoutMs;
+    private final ExecutorService callExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("vault-rotation-call-", 0).factory());
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Counter callTimeouts;
+
+    /**
+     * Creates the executor and registers its meters.
+     *
+     * @param rotationProperties Rotation configuration (concurrency limits and call timeout).
+     * @param transactionManager Transaction manager for the per-rotation transactions.
+     * @param meterRegistry      Registry used to publish rotation metrics.
+     */
+    public RotationExecutor(RotationProperties rotationProperties, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rotationPermits = new Semaphore(Math.max(1, rotationProperties.getMaxConcurrentRotations()), true);
+        rotationProperties.getStrategyConcurrency().forEach((strategy, limit) -> {
+            if (limit != null && limit > 0) {
+                strategyPermits.put(strategy, new Semaphore(limit, true));
+            }
+        });
+        this.minConcurrency = strategyPermits.values().stream()
+                .mapToInt(Semaphore::availablePermits)
+                .reduce(rotationPermits.availablePermits(), Math::min);
+        this.callTimeoutMs = rotationProperties.getCallTimeoutMs();
+        this.callTimeouts = Counter.builder("vault.rotation.call.timeouts")
+                .description("Rotation calls that exceeded the call timeout")
+                .register(meterRegistry);
+        Gauge.builder("vault.rotation.queue.depth", queued, AtomicInteger::get)
+                .description("Due rotations waiting for a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("vault.rotation.running", running, AtomicInteger::get)
+                .description("Rotations currently running")
+                .register(meterRegistry);
+    }
+
+    // ─── Rotations ──────────────────────────────────────────
+
+    /**
+     * Rotates the secrets of the given policies concurrently and waits for every rotation to finish.
+     *
+     * <p>Each rotation runs in its own transaction. Failures are logged and do
+     * not affect the other rotations.</p>
+     *
+     * @param policies Due rotation policies.
+     * @param rotation Rotates the secret with the given ID.
+     * @return Number of rotations attempted.
+     */
+    public int runAll(List<RotationPolicy> policies, Consumer<UUID> rotation) {
+        try (ExecutorService workers = Executors.newThreadPerTaskExecutor(WORKER_FACTORY)) {
+            for (RotationPolicy policy : policies) {
+                UUID secretId = policy.getSecret().getId();
+                Semaphore strategyLimit = strategyPermits.get(policy.getStrategy());
+                queued.incrementAndGet();
+                workers.execute(() -> run(secretId, strategyLimit, rotation));
+            }
+        }
+        return policies.size();
+    }
+
+    /**
+     * Returns how many rotations are guaranteed to finish within the given time,
+     * assuming every rotation runs at the most constrained strategy's concurrency
+     * and takes the full call timeout: {@code concurrency × seconds / call timeout}.
+     *
+     * @param seconds The time available, e.g. the claim TTL.
+     * @return Number of rotations that fit (at least 1), or {@link Integer#MAX_VALUE}
+     *         when call timeouts are disabled.
+     */
+    public int capacityWithin(long seconds) {
+        if (callTimeoutMs <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        long capacity = minConcurrency * TimeUnit.SECONDS.toMillis(seconds) / callTimeoutMs;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, capacity));
+    }
+
+    private void run(UUID secretId, Semaphore strategyLimit, Consumer<UUID> rotation) {
+        boolean dequeued = false;
+        try {
+            if (strategyLimit != null) {
+                strategyLimit.acquire();
+            }
+            try {
+                rotationPermits.acquire();
+                try {
+                    queued.decrementAndGet();
+                    dequeued = true;
+                    running.incrementAndGet();
+                    requiresNew.executeWithoutResult(status -> rotation.accept(secretId));
+                } finally {
+                    running.decrementAndGet();
+                    rotationPermits.release();
+                }
+            } finally {
+                if (strategyLimit != null) {
+                    strategyLimit.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Scheduled rotation interrupted for secret {}", secretId);
+        } catch (Exception e) {
+            log.error("Scheduled rotation failed for secret {}: {}", secretId, e.getMessage());
+        } finally {
+            if (!dequeued) {
+                queued.decrementAndGet();
+            }
+        }
+    }
+
+    // ─── Call Timeouts ──────────────────────────────────────
+
+    /**
+     * Runs a blocking call made during a rotation, bounded by the configured call timeout.
+     *
+     * @param call The call to run.
+     * @param <T>  The call's result type.
+     * @return The call's result.
+     * @throws CodeOpsVaultException if the call times out, is interrupted, or throws a checked exception.
+     */
+    public <T> T callWithTimeout(Callable<T> call) {
+        if (callTimeoutMs <= 0) {
+            try {
+                return call.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CodeOpsVaultException("Rotation call failed: " + e.getMessage(), e);
+            }
+        }
+        Future<T> future = callExecutor.submit(call);
+        try {
+            return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            callTimeouts.increment();
+            throw new CodeOpsVaultException("Rotation call timed out after " + callTimeoutMs + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CodeOpsVaultException("Interrupted while waiting for rotation call", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CodeOpsVaultException("Rotation call failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of rotations waiting for a permit.
+     *
+     * @return Queue depth.
+     */
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Interrupts outstanding rotation calls on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        callExecutor.shutdownNow();
+    }
+}
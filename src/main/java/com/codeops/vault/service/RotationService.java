@@ -67,6 +67,8 @@ public class RotationService {
     private final RotationMapper rotationMapper;
     private final RestTemplate restTemplate;
     private final AuditService auditService;
+    private final RotationExecutor rotationExecutor;
+    private final ScheduledWorkClaimer scheduledWorkClaimer;
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -257,6 +259,7 @@ public class RotationService {
             policy.setNextRotationAt(Instant.now().plus(policy.getRotationIntervalHours(), ChronoUnit.HOURS));
             policy.setFailureCount(0);
             rotationPolicyRepository.save(policy);
+            rotationPolicyRepository.releaseClaim(policy.getId(), scheduledWorkClaimer.nodeId());
 
             // Update secret's lastRotatedAt
             updatedSecret.setLastRotatedAt(Instant.now());
@@ -298,6 +301,7 @@ public class RotationService {
             // Always advance nextRotationAt to prevent retry storm
             policy.setNextRotationAt(Instant.now().plus(policy.getRotationIntervalHours(), ChronoUnit.HOURS));
             rotationPolicyRepository.save(policy);
+            rotationPolicyRepository.releaseClaim(policy.getId(), scheduledWorkClaimer.nodeId());
 
             log.error("Rotation failed for secret {}: {}", secretId, e.getMessage());
 
@@ -339,29 +343,76 @@ public class RotationService {
      * Processes all due rotation policies.
      *
      * <p>Finds all active policies where {@code nextRotationAt} is in the past
-     * and executes rotation for each. Failures are logged but do not prevent
-     * other rotations from executing.</p>
+     * and hands them to {@link RotationExecutor}, which rotates them
+     * concurrently within its concurrency limits, each in its own transaction.
+     * Failures are logged but do not prevent other rotations from executing.</p>
+     *
+     * <p>When claiming is enabled ({@link ScheduledWorkClaimer}), due policies
+     * are claimed and rotated in batches until no due policy is left
+     * unclaimed, so several nodes share the work without rotating a secret
+     * twice. A batch is never larger than {@link RotationExecutor} can rotate
+     * within the claim TTL. Each rotation re-reads and locks its policy in its
+     * own transaction and is skipped unless this node still holds a live
+     * claim; the rotation releases the claim only if it is still this
+     * node's.</p>
      *
      * @return Number of rotations attempted.
      */
-    @Transactional
     public int processDueRotations() {
+        if (scheduledWorkClaimer.isEnabled()) {
+            return processClaimedRotations();
+        }
         List<RotationPolicy> duePolicies = rotationPolicyRepository
                 .findByIsActiveTrueAndNextRotationAtBefore(Instant.now());
 
+        return rotationExecutor.runAll(duePolicies, secretId -> rotateSecret(secretId, null));
+    }
+
+    /**
+     * Claims due policies batch by batch and rotates each batch.
+     *
+     * @return Number of rotations attempted.
+     */
+    private int processClaimedRotations() {
+        int limit = Math.min(scheduledWorkClaimer.batchSize(),
+                rotationExecutor.capacityWithin(scheduledWorkClaimer.claimTtlSeconds()));
         int count = 0;
-        for (RotationPolicy policy : duePolicies) {
-            try {
-                rotateSecret(policy.getSecret().getId(), null);
-                count++;
-            } catch (Exception e) {
-                log.error("Scheduled rotation failed for secret {}: {}",
-                        policy.getSecret().getId(), e.getMessage());
-                count++;
+        while (true) {
+            List<UUID> claimed = scheduledWorkClaimer.claimDueRotations(limit);
+            if (claimed.isEmpty()) {
+                return count;
+            }
+            count += rotationExecutor.runAll(rotationPolicyRepository.findAllById(claimed),
+                    this::rotateClaimedSecret);
+            if (claimed.size() < limit) {
+                return count;
             }
         }
+    }
 
-        return count;
+    /**
+     * Rotates a secret whose policy this node claimed, if the claim is still this node's.
+     *
+     * <p>Runs inside the rotation's own transaction. The policy row is locked
+     * first, so a node that took over a lapsed claim cannot rotate the secret at
+     * the same time, and the claim is re-checked under that lock: if it lapsed
+     * while the rotation was queued, the rotation is skipped and left to whichever
+     * node claims it next.</p>
+     *
+     * @param secretId The secret to rotate.
+     */
+    void rotateClaimedSecret(UUID secretId) {
+        RotationPolicy policy = rotationPolicyRepository.lockBySecretId(secretId).orElse(null);
+        Instant now = Instant.now();
+        if (policy == null
+                || !scheduledWorkClaimer.nodeId().equals(policy.getClaimedBy())
+                || policy.getClaimExpiresAt() == null
+                || !policy.getClaimExpiresAt().isAfter(now)) {
+            log.info("Skipping rotation of secret {}: claim no longer held by node {}",
+                    secretId, scheduledWorkClaimer.nodeId());
+            return;
+        }
+        rotateSecret(secretId, null);
     }
 
     // ─── History ────────────────────────────────────────────
@@ -436,7 +487,8 @@ public class RotationService {
     }
 
     /**
-     * Calls an external API endpoint to obtain a new secret value.
+     * Calls an external API endpoint to obtain a new secret value, bounded by
+     * the rotation call timeout.
      *
      * @param url            The endpoint URL.
      * @param headersJson    JSON-encoded HTTP headers (nullable).
@@ -453,7 +505,8 @@ public class RotationService {
             }
 
             HttpEntity<Void> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = rotationExecutor.callWithTimeout(
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity, String.class));
 
             if (response.getBody() == null || response.getBody().isBlank()) {
                 throw new CodeOpsVaultException("External API returned empty response from: " + url);
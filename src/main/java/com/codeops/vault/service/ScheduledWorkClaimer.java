@@ -0,0 +1,160 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.SchedulingProperties;
+import com.codeops.vault.entity.BaseEntity;
+import com.codeops.vault.entity.DynamicLease;
+import com.codeops.vault.entity.RotationPolicy;
+import com.codeops.vault.entity.enums.LeaseStatus;
+import com.codeops.vault.repository.DynamicLeaseRepository;
+import com.codeops.vault.repository.RotationPolicyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims due rotations and expired leases for this node, so that several
+ * nodes can run the scheduled jobs without processing the same row twice.
+ *
+ * <p>Only used when {@code codeops.vault.scheduling.claiming-enabled} is set.
+ * A claim locks a batch of due rows with {@code SELECT ... FOR UPDATE SKIP
+ * LOCKED}, so concurrent claimers on other nodes skip them instead of
+ * waiting, and records this node and a claim expiry on the rows in
+ * {@code claimed_by} and {@code claim_expires_at}. Each claim commits in its
+ * own transaction, which releases the row locks at once. The claim itself
+ * keeps other nodes away until the row has been processed: processing clears
+ * the claim and moves the row out of the due set. If a node stops before
+ * then, the claim lapses after {@code claim-ttl-seconds} and the row can be
+ * claimed again.</p>
+ */
+@Component
+@Slf4j
+public class ScheduledWorkClaimer {
+
+    private final RotationPolicyRepository rotationPolicyRepository;
+    private final DynamicLeaseRepository leaseRepository;
+    private final SchedulingProperties schedulingProperties;
+    private final String nodeId;
+
+    /**
+     * Creates the claimer and resolves this node's identifier.
+     *
+     * @param rotationPolicyRepository Repository of rotation policies.
+     * @param leaseRepository          Repository of dynamic leases.
+     * @param schedulingProperties     Claiming configuration.
+     */
+    public ScheduledWorkClaimer(RotationPolicyRepository rotationPolicyRepository,
+                                DynamicLeaseRepository leaseRepository,
+                                SchedulingProperties schedulingProperties) {
+        this.rotationPolicyRepository = rotationPolicyRepository;
+        this.leaseRepository = leaseRepository;
+        this.schedulingProperties = schedulingProperties;
+        this.nodeId = schedulingProperties.getNodeId() == null || schedulingProperties.getNodeId().isBlank()
+                ? defaultNodeId()
+                : schedulingProperties.getNodeId();
+    }
+
+    /**
+     * Returns whether scheduled jobs should claim their rows.
+     *
+     * @return {@code true} if claiming is enabled.
+     */
+    public boolean isEnabled() {
+        return schedulingProperties.isClaimingEnabled();
+    }
+
+    /**
+     * Returns the maximum number of rows claimed at once.
+     *
+     * @return Claim batch size.
+     */
+    public int batchSize() {
+        return Math.max(1, schedulingProperties.getClaimBatchSize());
+    }
+
+    /**
+     * Returns how long a claim is held before another node may take it over.
+     *
+     * @return Claim TTL in seconds.
+     */
+    public long claimTtlSeconds() {
+        return schedulingProperties.getClaimTtlSeconds();
+    }
+
+    /**
+     * Returns the identifier this node records as claim owner.
+     *
+     * @return Node identifier.
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Claims a batch of due rotation policies for this node.
+     *
+     * <p>The batch is at most {@link #batchSize()} and at most {@code limit}
+     * policies, so the caller can keep a claim no larger than it can rotate
+     * before the claims lapse.</p>
+     *
+     * @param limit Maximum number of policies to claim.
+     * @return IDs of the claimed policies, earliest due first.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<UUID> claimDueRotations(int limit) {
+        Instant now = Instant.now();
+        int size = Math.max(1, Math.min(batchSize(), limit));
+        List<RotationPolicy> policies = rotationPolicyRepository.lockClaimableDue(now, PageRequest.of(0, size));
+        Instant claimExpiresAt = claimExpiry(now);
+        for (RotationPolicy policy : policies) {
+            policy.setClaimedBy(nodeId);
+            policy.setClaimExpiresAt(claimExpiresAt);
+        }
+        if (!policies.isEmpty()) {
+            log.debug("Node {} claimed {} due rotation(s)", nodeId, policies.size());
+        }
+        return policies.stream().map(BaseEntity::getId).toList();
+    }
+
+    /**
+     * Claims a batch of expired active leases for this node.
+     *
+     * @return IDs of the claimed leases, earliest expired first.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<UUID> claimExpiredLeases() {
+        Instant now = Instant.now();
+        List<DynamicLease> leases = leaseRepository.lockClaimableExpired(
+                LeaseStatus.ACTIVE, now, PageRequest.of(0, batchSize()));
+        Instant claimExpiresAt = claimExpiry(now);
+        for (DynamicLease lease : leases) {
+            lease.setClaimedBy(nodeId);
+            lease.setClaimExpiresAt(claimExpiresAt);
+        }
+        if (!leases.isEmpty()) {
+            log.debug("Node {} claimed {} expired lease(s)", nodeId, leases.size());
+        }
+        return leases.stream().map(BaseEntity::getId).toList();
+    }
+
+    private Instant claimExpiry(Instant now) {
+        return now.plus(schedulingProperties.getClaimTtlSeconds(), ChronoUnit.SECONDS);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "vault";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
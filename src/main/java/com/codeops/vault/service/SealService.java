@@ -7,6 +7,7 @@ import com.codeops.vault.exception.CodeOpsVaultException;
 import com.codeops.vault.exception.ValidationException;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -38,6 +39,11 @@ import java.util.Map;
  * reconstruct the original key. This uses polynomial interpolation over
  * a finite field (GF(256)).</p>
  *
+ * <h3>Seal State Listeners</h3>
+ * <p>Components that cache key-derived material implement
+ * {@link SealStateListener} and are notified on every transition, so
+ * nothing derived from the master key outlives an unsealed Vault.</p>
+ *
  * <h3>Auto-Unseal (Development)</h3>
  * <p>When {@code codeops.vault.seal.auto-unseal=true} (default), the Vault
  * automatically unseals at startup using the configured master key.
@@ -49,6 +55,7 @@ public class SealService {
 
     private final VaultProperties vaultProperties;
     private final AuditService auditService;
+    private final List<SealStateListener> sealStateListeners;
 
     /** Current seal status — volatile for visibility across threads. */
     private volatile SealStatus status = SealStatus.SEALED;
@@ -134,14 +141,30 @@ public class SealService {
     }
 
     /**
-     * Creates a new SealService with the given Vault properties and audit service.
+     * Creates a new SealService with the given Vault properties and audit service
+     * and no seal state listeners.
      *
      * @param vaultProperties Configuration containing the master key.
      * @param auditService    Audit logging service (nullable for testing).
      */
     public SealService(VaultProperties vaultProperties, AuditService auditService) {
+        this(vaultProperties, auditService, List.of());
+    }
+
+    /**
+     * Creates a new SealService with the given Vault properties, audit service,
+     * and components to notify on seal state transitions.
+     *
+     * @param vaultProperties    Configuration containing the master key.
+     * @param auditService       Audit logging service (nullable for testing).
+     * @param sealStateListeners Components holding key material that must be wiped on seal.
+     */
+    @Autowired
+    public SealService(VaultProperties vaultProperties, AuditService auditService,
+                       List<SealStateListener> sealStateListeners) {
         this.vaultProperties = vaultProperties;
         this.auditService = auditService;
+        this.sealStateListeners = sealStateListeners;
     }
 
     /**
@@ -155,6 +178,7 @@ public class SealService {
             log.info("Auto-unseal enabled — Vault is unsealing automatically");
             this.status = SealStatus.UNSEALED;
             this.unsealedAt = Instant.now();
+            notifyUnsealed();
             log.info("Vault unsealed successfully (auto-unseal)");
         } else {
             log.warn("Vault is SEALED — provide {} of {} key shares to unseal", threshold, totalShares);
@@ -221,6 +245,7 @@ public class SealService {
         this.status = SealStatus.SEALED;
         this.sealedAt = Instant.now();
         this.unsealedAt = null;
+        notifySealed();
         log.info("Vault sealed");
 
         try { if (auditService != null) auditService.logSuccess(null, null, "SEAL", null, "VAULT", null, null); }
@@ -286,6 +311,7 @@ public class SealService {
             this.unsealedAt = Instant.now();
             collectedShares.clear();
             collectedShareIndices.clear();
+            notifyUnsealed();
             log.info("Vault unsealed successfully with {} key shares", threshold);
 
             try { if (auditService != null) auditService.logSuccess(null, null, "UNSEAL", null, "VAULT", null, null); }
@@ -454,6 +480,30 @@ public class SealService {
         return info;
     }
 
+    // ─── Listener Notification ──────────────────────────────
+
+    /**
+     * Notifies all seal state listeners that the Vault is unsealed.
+     * Listener failures are logged and never abort the transition.
+     */
+    private void notifyUnsealed() {
+        for (SealStateListener listener : sealStateListeners) {
+            try { listener.onUnsealed(); }
+            catch (Exception e) { log.warn("Seal listener {} failed on unseal: {}", listener.getClass().getSimpleName(), e.getMessage()); }
+        }
+    }
+
+    /**
+     * Notifies all seal state listeners that the Vault is sealed so they can
+     * wipe cached key material. Listener failures are logged and never abort the seal.
+     */
+    private void notifySealed() {
+        for (SealStateListener listener : sealStateListeners) {
+            try { listener.onSealed(); }
+            catch (Exception e) { log.warn("Seal listener {} failed on seal: {}", listener.getClass().getSimpleName(), e.getMessage()); }
+        }
+    }
+
     // ─── GF(256) Arithmetic ─────────────────────────────────
 
     /**
@@ -0,0 +1,24 @@
+package com.codeops.vault.service;
+
+/**
+ * Callback for components that keep key-derived material in memory and must
+ * follow the Vault seal lifecycle.
+ *
+ * <p>{@link SealService} notifies every registered listener when the Vault
+ * becomes operational and when it is sealed again. Implementations must not
+ * depend on {@link SealService} themselves and should return quickly —
+ * callbacks run while the seal state is being changed.</p>
+ */
+public interface SealStateListener {
+
+    /**
+     * Called after the Vault transitions to {@code UNSEALED}.
+     */
+    void onUnsealed();
+
+    /**
+     * Called after the Vault transitions to {@code SEALED}. Implementations
+     * must discard (and zero, where possible) any cached key material.
+     */
+    void onSealed();
+}
@@ -0,0 +1,35 @@
+package com.codeops.vault.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that writes recorded secret access times.
+ *
+ * <p>Runs every {@code codeops.vault.storage.access-flush-interval-ms} and
+ * delegates to {@link SecretAccessTracker#flush()}.
+ * Only active in non-test profiles.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile("!test")
+public class SecretAccessFlushScheduler {
+
+    private final SecretAccessTracker secretAccessTracker;
+
+    /**
+     * Flushes pending secret access times.
+     */
+    @Scheduled(fixedDelayString = "${codeops.vault.storage.access-flush-interval-ms:5000}")
+    public void flushAccessTimes() {
+        try {
+            secretAccessTracker.flush();
+        } catch (Exception e) {
+            log.error("Error in secret access flush scheduler", e);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.StorageProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind tracker for {@code secrets.last_accessed_at}.
+ *
+ * <p>Reading a secret value used to update its row in the same transaction,
+ * turning every read into a write and serializing concurrent readers of a
+ * hot secret on its row lock. Reads now call {@link #record(UUID)}, which only
+ * keeps the latest access time per secret in memory, and
+ * {@link SecretAccessFlushScheduler} periodically calls {@link #flush()}.</p>
+ *
+ * <h3>Flushing</h3>
+ * <p>A flush writes all pending accesses in one transaction. On PostgreSQL
+ * each chunk of up to {@code access-flush-batch-size} secrets is a single
+ * {@code UPDATE ... FROM (VALUES ...)} statement; on other databases it is
+ * a JDBC batch of single-row updates. A timestamp never moves backwards, so
+ * flushes from several instances can interleave freely. If a flush fails,
+ * its accesses are re-queued for the next one. Pending accesses are flushed
+ * on shutdown.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.secret.access.pending} — secrets with an unflushed access</li>
+ *   <li>{@code vault.secret.access.flushed} — access times written</li>
+ *   <li>{@code vault.secret.access.flush.failures} — flushes that failed and were re-queued</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class SecretAccessTracker {
+
+    static final String UPDATE_SQL = "UPDATE secrets SET last_accessed_at = ? "
+            + "WHERE id = ? AND (last_accessed_at IS NULL OR last_accessed_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final StorageProperties storageProperties;
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final Counter flushed;
+    private final Counter flushFailures;
+
+    /** Whether the database supports {@code UPDATE ... FROM (VALUES ...)}; resolved on first flush. */
+    private Boolean valuesUpdateSupported;
+
+    /**
+     * Creates the tracker and registers its meters.
+     *
+     * @param jdbcTemplate       JDBC template used for the batched updates.
+     * @param transactionManager Transaction manager for independent flush transactions.
+     * @param storageProperties  Flush configuration.
+     * @param meterRegistry      Registry used to publish tracker metrics.
+     */
+    public SecretAccessTracker(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               StorageProperties storageProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.storageProperties = storageProperties;
+        this.flushed = Counter.builder("vault.secret.access.flushed")
+                .description("Secret access times written to the database")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("vault.secret.access.flush.failures")
+                .description("Secret access flushes that failed and were re-queued")
+                .register(meterRegistry);
+        Gauge.builder("vault.secret.access.pending", pending, Map::size)
+                .description("Secrets with an access time not yet written")
+                .register(meterRegistry);
+    }
+
+    // ─── Recording ──────────────────────────────────────────
+
+    /**
+     * Records that a secret's value was read now.
+     *
+     * @param secretId The secret ID.
+     */
+    public void record(UUID secretId) {
+        record(secretId, Instant.now());
+    }
+
+    /**
+     * Records that a secret's value was read at the given time, keeping the
+     * latest time if an access is already pending.
+     *
+     * @param secretId   The secret ID.
+     * @param accessedAt When the value was read.
+     */
+    public void record(UUID secretId, Instant accessedAt) {
+        if (secretId == null) {
+            return;
+        }
+        pending.merge(secretId, accessedAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /**
+     * Returns the number of secrets with an unflushed access.
+     *
+     * @return Pending count.
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    // ─── Flushing ───────────────────────────────────────────
+
+    /**
+     * Writes every pending access time to the database in one transaction.
+     *
+     * @return Number of access times written (0 if nothing was pending or the flush failed).
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(pending.size());
+        for (UUID secretId : pending.keySet()) {
+            Instant accessedAt = pending.remove(secretId);
+            if (accessedAt != null) {
+                batch.add(Map.entry(secretId, accessedAt));
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int chunkSize = Math.max(1, storageProperties.getAccessFlushBatchSize());
+            requiresNew.executeWithoutResult(status -> {
+                for (int from = 0; from < batch.size(); from += chunkSize) {
+                    write(batch.subList(from, Math.min(batch.size(), from + chunkSize)));
+                }
+            });
+            flushed.increment(batch.size());
+            log.debug("Flushed {} secret access time(s)", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            flushFailures.increment();
+            batch.forEach(entry -> record(entry.getKey(), entry.getValue()));
+            log.warn("Secret access flush of {} entries failed, re-queued: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Flushes pending access times before the data source is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ─── Private Helpers ────────────────────────────────────
+
+    private void write(List<Map.Entry<UUID, Instant>> chunk) {
+        if (isValuesUpdateSupported()) {
+            String values = String.join(", ",
+                    Collections.nCopies(chunk.size(), "(CAST(? AS uuid), CAST(? AS timestamptz))"));
+            String sql = "UPDATE secrets AS s SET last_accessed_at = v.accessed_at FROM (VALUES " + values
+                    + ") AS v(id, accessed_at) WHERE s.id = v.id "
+                    + "AND (s.last_accessed_at IS NULL OR s.last_accessed_at < v.accessed_at)";
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (Map.Entry<UUID, Instant> entry : chunk) {
+                    ps.setObject(index++, entry.getKey());
+                    ps.setObject(index++, toTimestamp(entry.getValue()));
+                }
+            });
+        } else {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), this::bind);
+        }
+    }
+
+    private boolean isValuesUpdateSupported() {
+        if (valuesUpdateSupported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            valuesUpdateSupported = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return valuesUpdateSupported;
+    }
+
+    private void bind(PreparedStatement ps, Map.Entry<UUID, Instant> entry) throws SQLException {
+        OffsetDateTime accessedAt = toTimestamp(entry.getValue());
+        ps.setObject(1, accessedAt);
+        ps.setObject(2, entry.getKey());
+        ps.setObject(3, accessedAt);
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
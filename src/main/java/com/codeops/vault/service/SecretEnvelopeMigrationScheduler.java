@@ -0,0 +1,63 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.StorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Scheduled job that migrates secret versions from Base64 text to binary
+ * envelope storage.
+ *
+ * <p>Runs only while {@code codeops.vault.storage.binary-envelopes} is
+ * enabled, every {@code codeops.vault.storage.migration-interval-ms}, and
+ * delegates to {@link SecretService#migrateTextEnvelopes(UUID, int)} one
+ * batch (one transaction) at a time, paging by version ID, until no full
+ * batch remains. Versions that could not be converted are reported as
+ * skipped and retried on the next run.
+ * Only active in non-test profiles.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile("!test")
+public class SecretEnvelopeMigrationScheduler {
+
+    private final SecretService secretService;
+    private final StorageProperties storageProperties;
+
+    /**
+     * Converts pending secret versions in batches.
+     */
+    @Scheduled(fixedDelayString = "${codeops.vault.storage.migration-interval-ms:60000}")
+    public void migrateTextEnvelopes() {
+        if (!storageProperties.isBinaryEnvelopes()) {
+            return;
+        }
+        try {
+            int batchSize = storageProperties.getMigrationBatchSize();
+            int migrated = 0;
+            int skipped = 0;
+            UUID afterId = null;
+            EnvelopeMigrationBatch batch;
+            do {
+                batch = secretService.migrateTextEnvelopes(afterId, batchSize);
+                migrated += batch.migrated();
+                skipped += batch.skipped();
+                afterId = batch.lastId();
+            } while (batch.scanned() == batchSize);
+            if (migrated > 0) {
+                log.info("Migrated {} secret version(s) to binary envelope storage", migrated);
+            }
+            if (skipped > 0) {
+                log.warn("Skipped {} secret version(s) whose stored value is not valid Base64", skipped);
+            }
+        } catch (Exception e) {
+            log.error("Error in secret envelope migration scheduler", e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.codeops.vault.service;
 
 import com.codeops.vault.config.AppConstants;
+import com.codeops.vault.config.StorageProperties;
 import com.codeops.vault.dto.mapper.SecretMapper;
 import com.codeops.vault.dto.request.CreateSecretRequest;
+import com.codeops.vault.dto.request.SecretBatchGetRequest;
 import com.codeops.vault.dto.request.UpdateSecretRequest;
+import com.codeops.vault.dto.response.KeysetCursor;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.SecretBatchGetResponse;
+import com.codeops.vault.dto.response.SecretBatchGetResult;
 import com.codeops.vault.dto.response.SecretResponse;
 import com.codeops.vault.dto.response.SecretValueResponse;
 import com.codeops.vault.dto.response.SecretVersionResponse;
@@ -20,17 +25,29 @@ import com.codeops.vault.repository.SecretVersionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Core service for secret lifecycle management in the CodeOps Vault.
@@ -47,7 +64,11 @@ import java.util.stream.Collectors;
  * <p>All secret values are encrypted via {@link EncryptionService} using
  * AES-256-GCM envelope encryption before being stored. Values are only
  * decrypted when explicitly requested through {@link #readSecretValue}
- * or {@link #readSecretVersionValue}.</p>
+ * or {@link #readSecretVersionValue}. When
+ * {@code codeops.vault.storage.binary-envelopes} is enabled, envelopes are
+ * stored as raw bytes rather than Base64 text, and
+ * {@link #migrateTextEnvelopes(UUID, int)} converts existing versions. Current
+ * values can optionally be served from the {@link SecretValueCache}.</p>
  *
  * <h3>Path Hierarchy</h3>
  * <p>Secrets are organized by hierarchical paths (e.g.,
@@ -65,6 +86,9 @@ public class SecretService {
     private final EncryptionService encryptionService;
     private final SecretMapper secretMapper;
     private final AuditService auditService;
+    private final StorageProperties storageProperties;
+    private final SecretValueCache secretValueCache;
+    private final SecretAccessTracker secretAccessTracker;
 
     // ─── Create ─────────────────────────────────────────────
 
@@ -114,15 +138,14 @@ public class SecretService {
         secret = secretRepository.save(secret);
 
         if (request.secretType() != SecretType.REFERENCE) {
-            String encryptedValue = encryptionService.encrypt(request.value());
             SecretVersion version = SecretVersion.builder()
                     .secret(secret)
                     .versionNumber(1)
-                    .encryptedValue(encryptedValue)
                     .encryptionKeyId(AppConstants.DEFAULT_ENCRYPTION_KEY_ID)
                     .createdByUserId(userId)
                     .isDestroyed(false)
                     .build();
+            storeEncryptedValue(version, request.value());
             secretVersionRepository.save(version);
         }
 
@@ -172,14 +195,30 @@ public class SecretService {
      * Reads and decrypts the current version of a secret's value.
      *
      * <p>This is the only method that returns a decrypted secret value.
-     * Updates {@code lastAccessedAt} on the Secret entity.</p>
+     * Records the access with {@link SecretAccessTracker}, which updates
+     * {@code lastAccessedAt} asynchronously, so the read runs in a read-only
+     * transaction. When the {@link SecretValueCache} is enabled, the value is
+     * served from it while fresh. Every read is audited either way.</p>
      *
      * @param secretId The secret ID.
      * @return SecretValueResponse containing the decrypted value.
      * @throws NotFoundException if the secret or its current version does not exist.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public SecretValueResponse readSecretValue(UUID secretId) {
+        SecretValueCache.CachedSecretValue cached = secretValueCache.get(secretId);
+        if (cached != null) {
+            secretAccessTracker.record(secretId);
+            log.debug("Read secret value for secret {} (version {}) from cache",
+                    secretId, cached.response().versionNumber());
+
+            try { auditService.logSuccess(cached.teamId(), null, "READ", cached.response().path(), "SECRET", secretId, null); }
+            catch (Exception e) { log.warn("Audit log failed for readSecretValue: {}", e.getMessage()); }
+
+            return cached.response();
+        }
+
+        long cacheGeneration = secretValueCache.generation();
         Secret secret = findSecretById(secretId);
 
         SecretVersion version = secretVersionRepository
@@ -187,25 +226,27 @@ public class SecretService {
                 .orElseThrow(() -> new NotFoundException("SecretVersion", "versionNumber",
                         String.valueOf(secret.getCurrentVersion())));
 
-        String decryptedValue = encryptionService.decrypt(version.getEncryptedValue());
+        String decryptedValue = decryptStoredValue(version);
 
-        secret.setLastAccessedAt(Instant.now());
-        secretRepository.save(secret);
+        secretAccessTracker.record(secretId);
 
         log.debug("Read secret value for secret {} (version {})", secretId, version.getVersionNumber());
 
         try { auditService.logSuccess(secret.getTeamId(), null, "READ", secret.getPath(), "SECRET", secretId, null); }
         catch (Exception e) { log.warn("Audit log failed for readSecretValue: {}", e.getMessage()); }
 
-        return new SecretValueResponse(
+        SecretValueResponse response = new SecretValueResponse(
                 secret.getId(), secret.getPath(), secret.getName(),
                 version.getVersionNumber(), decryptedValue, version.getCreatedAt());
+        secretValueCache.put(cacheGeneration, secret.getTeamId(), response);
+        return response;
     }
 
     /**
      * Reads and decrypts a specific historical version of a secret.
      *
-     * <p>Updates {@code lastAccessedAt} on the Secret entity.</p>
+     * <p>Records the access with {@link SecretAccessTracker}, which updates
+     * {@code lastAccessedAt} asynchronously.</p>
      *
      * @param secretId      The secret ID.
      * @param versionNumber The version to read.
@@ -213,7 +254,7 @@ public class SecretService {
      * @throws NotFoundException   if the secret or version does not exist.
      * @throws ValidationException if the version has been destroyed.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public SecretValueResponse readSecretVersionValue(UUID secretId, int versionNumber) {
         Secret secret = findSecretById(secretId);
 
@@ -226,10 +267,9 @@ public class SecretService {
             throw new ValidationException("Version " + versionNumber + " has been destroyed and cannot be read");
         }
 
-        String decryptedValue = encryptionService.decrypt(version.getEncryptedValue());
+        String decryptedValue = decryptStoredValue(version);
 
-        secret.setLastAccessedAt(Instant.now());
-        secretRepository.save(secret);
+        secretAccessTracker.record(secretId);
 
         log.debug("Read secret version {} for secret {}", versionNumber, secretId);
 
@@ -241,6 +281,140 @@ public class SecretService {
                 version.getVersionNumber(), decryptedValue, version.getCreatedAt());
     }
 
+    /**
+     * Reads the current values of many secrets of a team in one call.
+     *
+     * <p>Secrets are selected by ID, by path, and/or by path prefix (active
+     * secrets only), resolved with one {@code IN} query per selector. Values
+     * held by the {@link SecretValueCache} are served from it; the current
+     * versions of the rest are loaded with one {@code IN} query and decrypted
+     * in parallel once there are at least
+     * {@link AppConstants#SECRET_BATCH_PARALLEL_THRESHOLD} of them. Each item
+     * succeeds or fails on its own; a destroyed current version is reported as
+     * destroyed without being decrypted. Every secret read is audited with its own
+     * READ entry, written together.</p>
+     *
+     * @param request The selectors.
+     * @param teamId  The caller's team; secrets of other teams are reported as not found.
+     * @param userId  The caller, for the audit trail.
+     * @return One result per selected secret, in request order.
+     * @throws ValidationException if no selector is given or more than
+     *                             {@link AppConstants#SECRET_BATCH_GET_MAX_ITEMS} secrets are selected.
+     */
+    @Transactional(readOnly = true)
+    public SecretBatchGetResponse batchGetSecretValues(SecretBatchGetRequest request, UUID teamId, UUID userId) {
+        List<UUID> ids = request.ids() != null ? request.ids() : List.of();
+        List<String> paths = request.paths() != null ? request.paths() : List.of();
+        String pathPrefix = request.pathPrefix();
+        if (ids.isEmpty() && paths.isEmpty() && (pathPrefix == null || pathPrefix.isBlank())) {
+            throw new ValidationException("At least one of ids, paths or pathPrefix is required");
+        }
+
+        long cacheGeneration = secretValueCache.generation();
+
+        // Resolve selectors to secrets, keeping request order
+        List<String> requested = new ArrayList<>();
+        List<Secret> selected = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            Map<UUID, Secret> byId = secretRepository.findByTeamIdAndIdIn(teamId, ids).stream()
+                    .collect(Collectors.toMap(Secret::getId, Function.identity()));
+            for (UUID id : ids) {
+                requested.add(String.valueOf(id));
+                selected.add(byId.get(id));
+            }
+        }
+        if (!paths.isEmpty()) {
+            Map<String, Secret> byPath = secretRepository.findByTeamIdAndPathIn(teamId, paths).stream()
+                    .collect(Collectors.toMap(Secret::getPath, Function.identity()));
+            for (String path : paths) {
+                requested.add(path);
+                selected.add(byPath.get(path));
+            }
+        }
+        if (pathPrefix != null && !pathPrefix.isBlank()) {
+            secretRepository.findByTeamIdAndPathStartingWithAndIsActiveTrue(teamId, pathPrefix).stream()
+                    .sorted(Comparator.comparing(Secret::getPath))
+                    .forEach(secret -> {
+                        requested.add(secret.getPath());
+                        selected.add(secret);
+                    });
+        }
+        if (selected.size() > AppConstants.SECRET_BATCH_GET_MAX_ITEMS) {
+            throw new ValidationException("Batch selects " + selected.size() + " secrets; at most "
+                    + AppConstants.SECRET_BATCH_GET_MAX_ITEMS + " are allowed");
+        }
+
+        // Serve cached values, then load the remaining current versions in one query
+        Map<UUID, SecretValueResponse> values = new ConcurrentHashMap<>();
+        Set<UUID> toLoad = new LinkedHashSet<>();
+        for (Secret secret : selected) {
+            if (secret == null || values.containsKey(secret.getId()) || toLoad.contains(secret.getId())) {
+                continue;
+            }
+            SecretValueCache.CachedSecretValue cached = secretValueCache.get(secret.getId());
+            if (cached != null) {
+                values.put(secret.getId(), cached.response());
+            } else {
+                toLoad.add(secret.getId());
+            }
+        }
+        List<SecretVersion> versions = toLoad.isEmpty()
+                ? List.of() : secretVersionRepository.findCurrentVersions(toLoad);
+
+        Map<UUID, Secret> secretsById = new HashMap<>();
+        selected.stream().filter(Objects::nonNull).forEach(secret -> secretsById.put(secret.getId(), secret));
+        Map<UUID, String> errors = new ConcurrentHashMap<>();
+        IntStream indexes = IntStream.range(0, versions.size());
+        if (versions.size() >= AppConstants.SECRET_BATCH_PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            SecretVersion version = versions.get(i);
+            Secret secret = secretsById.get(version.getSecret().getId());
+            if (version.getIsDestroyed()) {
+                errors.put(secret.getId(), "Version " + version.getVersionNumber()
+                        + " has been destroyed and cannot be read");
+                return;
+            }
+            try {
+                SecretValueResponse response = new SecretValueResponse(
+                        secret.getId(), secret.getPath(), secret.getName(),
+                        version.getVersionNumber(), decryptStoredValue(version), version.getCreatedAt());
+                values.put(secret.getId(), response);
+                secretValueCache.put(cacheGeneration, teamId, response);
+            } catch (RuntimeException e) {
+                errors.put(secret.getId(), "Decryption failed");
+                log.warn("Batch read failed to decrypt secret {}: {}", secret.getId(), e.getMessage());
+            }
+        });
+
+        // Assemble per-item results
+        List<SecretBatchGetResult> results = new ArrayList<>(selected.size());
+        Map<UUID, String> audited = new LinkedHashMap<>();
+        int errorCount = 0;
+        for (int i = 0; i < selected.size(); i++) {
+            Secret secret = selected.get(i);
+            SecretValueResponse value = secret != null ? values.get(secret.getId()) : null;
+            if (value != null) {
+                results.add(new SecretBatchGetResult(requested.get(i), value, null));
+                audited.put(secret.getId(), secret.getPath());
+                continue;
+            }
+            String error = secret == null ? "Secret not found"
+                    : errors.getOrDefault(secret.getId(), "Current version not found");
+            results.add(new SecretBatchGetResult(requested.get(i), null, error));
+            errorCount++;
+        }
+
+        audited.keySet().forEach(secretAccessTracker::record);
+        log.debug("Batch read {} secret value(s) for team {} ({} failed)", audited.size(), teamId, errorCount);
+
+        try { auditService.logSuccessForEach(teamId, userId, "READ", "SECRET", audited); }
+        catch (Exception e) { log.warn("Audit log failed for batchGetSecretValues: {}", e.getMessage()); }
+
+        return new SecretBatchGetResponse(errorCount, results);
+    }
+
     // ─── List ───────────────────────────────────────────────
 
     /**
@@ -272,9 +446,7 @@ public class SecretService {
             page = secretRepository.findByTeamId(teamId, pageable);
         }
 
-        List<SecretResponse> responses = page.getContent().stream()
-                .map(s -> secretMapper.toResponse(s, buildMetadataMap(s.getId())))
-                .toList();
+        List<SecretResponse> responses = toResponses(page.getContent());
 
         return new PageResponse<>(responses, page.getNumber(), page.getSize(),
                 page.getTotalElements(), page.getTotalPages(), page.isLast());
@@ -292,14 +464,44 @@ public class SecretService {
     public PageResponse<SecretResponse> searchSecrets(UUID teamId, String query, Pageable pageable) {
         Page<Secret> page = secretRepository.findByTeamIdAndNameContainingIgnoreCase(teamId, query, pageable);
 
-        List<SecretResponse> responses = page.getContent().stream()
-                .map(s -> secretMapper.toResponse(s, buildMetadataMap(s.getId())))
-                .toList();
+        List<SecretResponse> responses = toResponses(page.getContent());
 
         return new PageResponse<>(responses, page.getNumber(), page.getSize(),
                 page.getTotalElements(), page.getTotalPages(), page.isLast());
     }
 
+    /**
+     * Lists a team's secrets newest first using keyset pagination.
+     *
+     * <p>Unlike {@link #listSecrets}, no count query is issued and each page is
+     * an index range scan starting after the cursor, so deep pages cost the same
+     * as the first one.</p>
+     *
+     * @param teamId     The team ID.
+     * @param activeOnly Whether to return only active secrets.
+     * @param after      Cursor returned with the previous page, or {@code null} for the first page.
+     * @param size       Page size.
+     * @return Page of SecretResponse with {@code nextCursor} set unless it is the last page.
+     * @throws ValidationException if the cursor is malformed.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<SecretResponse> listSecretsAfter(UUID teamId, boolean activeOnly, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Slice<Secret> slice = cursor == null
+                ? secretRepository.findPageAfter(teamId, activeOnly, KeysetCursor.UPPER_BOUND,
+                        new UUID(0, 0), PageRequest.of(0, size))
+                : secretRepository.findPageAfter(teamId, activeOnly, cursor.createdAt(),
+                        cursor.uuidId(), PageRequest.of(0, size));
+
+        List<Secret> secrets = slice.getContent();
+        KeysetCursor next = null;
+        if (slice.hasNext()) {
+            Secret last = secrets.get(secrets.size() - 1);
+            next = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+        return PageResponse.ofCursor(toResponses(secrets), size, next);
+    }
+
     /**
      * Lists all paths under a given prefix for a team.
      *
@@ -347,21 +549,21 @@ public class SecretService {
     @Transactional
     public SecretResponse updateSecret(UUID secretId, UpdateSecretRequest request, UUID userId) {
         Secret secret = findSecretById(secretId);
+        secretValueCache.invalidate(secretId);
         boolean newVersionCreated = false;
 
         if (request.value() != null && !request.value().isBlank()) {
             int newVersionNumber = secret.getCurrentVersion() + 1;
-            String encryptedValue = encryptionService.encrypt(request.value());
 
             SecretVersion version = SecretVersion.builder()
                     .secret(secret)
                     .versionNumber(newVersionNumber)
-                    .encryptedValue(encryptedValue)
                     .encryptionKeyId(AppConstants.DEFAULT_ENCRYPTION_KEY_ID)
                     .changeDescription(request.changeDescription())
                     .createdByUserId(userId)
                     .isDestroyed(false)
                     .build();
+            storeEncryptedValue(version, request.value());
             secretVersionRepository.save(version);
             secret.setCurrentVersion(newVersionNumber);
             newVersionCreated = true;
@@ -416,6 +618,7 @@ public class SecretService {
         Secret secret = findSecretById(secretId);
         secret.setIsActive(false);
         secretRepository.save(secret);
+        secretValueCache.invalidate(secretId);
         log.info("Soft-deleted secret {}", secretId);
 
         try { auditService.logSuccess(secret.getTeamId(), null, "DELETE", secret.getPath(), "SECRET", secretId, null); }
@@ -438,6 +641,7 @@ public class SecretService {
         String path = secret.getPath();
         secretMetadataRepository.deleteBySecretId(secretId);
         secretRepository.delete(secret);
+        secretValueCache.invalidate(secretId);
         log.info("Hard-deleted secret {}", secretId);
 
         try { auditService.logSuccess(teamId, null, "DELETE", path, "SECRET", secretId, null); }
@@ -510,6 +714,7 @@ public class SecretService {
                         String.valueOf(versionNumber)));
 
         destroyVersionRecord(version);
+        secretValueCache.invalidate(secretId);
         log.info("Destroyed version {} of secret {}", versionNumber, secretId);
 
         try { auditService.logSuccess(secret.getTeamId(), null, "DELETE", secret.getPath(), "SECRET", secretId, null); }
@@ -699,13 +904,54 @@ public class SecretService {
         Instant deadline = now.plus(withinHours, ChronoUnit.HOURS);
 
         List<Secret> secrets = secretRepository.findByTeamId(teamId);
-        return secrets.stream()
+        return toResponses(secrets.stream()
                 .filter(s -> s.getIsActive())
                 .filter(s -> s.getExpiresAt() != null)
                 .filter(s -> !s.getExpiresAt().isBefore(now))
                 .filter(s -> s.getExpiresAt().isBefore(deadline))
-                .map(s -> secretMapper.toResponse(s, buildMetadataMap(s.getId())))
-                .toList();
+                .toList());
+    }
+
+    // ─── Storage Migration ──────────────────────────────────
+
+    /**
+     * Converts one batch of secret versions from Base64 text to binary
+     * envelope storage.
+     *
+     * <p>The binary envelope is the Base64-decoded text, so no decryption or
+     * re-encryption takes place and the Vault may be sealed. Versions whose
+     * text is not valid Base64 are logged, counted as skipped and left
+     * unchanged.</p>
+     *
+     * <p>Batches are paged by version ID: pass the {@code lastId} of the
+     * previous batch to continue after it, or {@code null} to start from the
+     * beginning. Skipped versions therefore never hold back the versions
+     * after them.</p>
+     *
+     * @param afterId   ID of the last version of the previous batch, or null for the first batch.
+     * @param batchSize Maximum number of versions to scan.
+     * @return Number of versions converted and skipped, and the last version ID scanned.
+     */
+    @Transactional
+    public EnvelopeMigrationBatch migrateTextEnvelopes(UUID afterId, int batchSize) {
+        PageRequest page = PageRequest.of(0, batchSize);
+        List<SecretVersion> versions = afterId == null
+                ? secretVersionRepository.findTextEnvelopes(page)
+                : secretVersionRepository.findTextEnvelopesAfter(afterId, page);
+        int migrated = 0;
+        int skipped = 0;
+        for (SecretVersion version : versions) {
+            try {
+                version.setEncryptedValueBytes(Base64.getDecoder().decode(version.getEncryptedValue()));
+                version.setEncryptedValue(null);
+                migrated++;
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping migration of secret version {}: stored value is not valid Base64", version.getId());
+                skipped++;
+            }
+        }
+        UUID lastId = versions.isEmpty() ? null : versions.get(versions.size() - 1).getId();
+        return new EnvelopeMigrationBatch(migrated, skipped, lastId);
     }
 
     // ─── Private Helpers ────────────────────────────────────
@@ -735,6 +981,28 @@ public class SecretService {
                         SecretMetadata::getMetadataValue));
     }
 
+    /**
+     * Maps secrets to responses, loading the metadata of all of them with a
+     * single {@code secret_id IN (...)} query instead of one query per secret.
+     *
+     * @param secrets The secrets to map.
+     * @return Responses in the same order.
+     */
+    private List<SecretResponse> toResponses(List<Secret> secrets) {
+        if (secrets.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Map<String, String>> metadataBySecret = new HashMap<>();
+        List<UUID> secretIds = secrets.stream().map(Secret::getId).toList();
+        for (SecretMetadata md : secretMetadataRepository.findBySecretIdIn(secretIds)) {
+            metadataBySecret.computeIfAbsent(md.getSecret().getId(), id -> new HashMap<>())
+                    .put(md.getMetadataKey(), md.getMetadataValue());
+        }
+        return secrets.stream()
+                .map(s -> secretMapper.toResponse(s, metadataBySecret.getOrDefault(s.getId(), Map.of())))
+                .toList();
+    }
+
     /**
      * Saves metadata entries from a request map.
      *
@@ -766,6 +1034,35 @@ public class SecretService {
     private void destroyVersionRecord(SecretVersion version) {
         version.setIsDestroyed(true);
         version.setEncryptedValue("DESTROYED");
+        version.setEncryptedValueBytes(null);
         secretVersionRepository.save(version);
     }
+
+    /**
+     * Encrypts a value into a version, as a binary envelope or Base64 text
+     * depending on the configured storage format.
+     *
+     * @param version The version to populate.
+     * @param value   The plaintext value.
+     */
+    private void storeEncryptedValue(SecretVersion version, String value) {
+        if (storageProperties.isBinaryEnvelopes()) {
+            version.setEncryptedValueBytes(encryptionService.encryptToBytes(value));
+        } else {
+            version.setEncryptedValue(encryptionService.encrypt(value));
+        }
+    }
+
+    /**
+     * Decrypts a version's value from whichever storage format it uses.
+     *
+     * @param version The version to decrypt.
+     * @return The plaintext value.
+     */
+    private String decryptStoredValue(SecretVersion version) {
+        if (version.getEncryptedValueBytes() != null) {
+            return encryptionService.decryptFromBytes(version.getEncryptedValueBytes());
+        }
+        return encryptionService.decrypt(version.getEncryptedValue());
+    }
 }
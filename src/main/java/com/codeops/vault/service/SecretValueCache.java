@@ -0,0 +1,286 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.dto.response.SecretValueResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in, bounded TTL cache of decrypted current-version secret values,
+ * keyed by secret ID (one entry per team path).
+ *
+ * <p>Hot configuration secrets are polled by services every few seconds;
+ * each uncached read costs two queries and a full envelope decrypt. When
+ * {@code codeops.vault.cache.secret-value-enabled} is set, {@link SecretService}
+ * serves {@link SecretService#readSecretValue} from this cache for up to
+ * {@code secret-value-ttl-seconds}, optionally restricted to secrets under
+ * {@code secret-value-path-prefixes}.</p>
+ *
+ * <h3>Plaintext Handling</h3>
+ * <p>Values are held as UTF-8 byte arrays, never as cached Strings, so that
+ * every expired, evicted, invalidated or wiped entry is zeroed. Each hit
+ * decodes a fresh String for the response.</p>
+ *
+ * <h3>Consistency</h3>
+ * <p>{@link SecretService} calls {@link #invalidate(UUID)} on update, version
+ * destruction, soft delete and hard delete; the invalidation is repeated after
+ * the surrounding transaction commits. Readers capture {@link #generation()}
+ * before loading, and {@link #put} discards a value if any invalidation
+ * happened in between, so a value read before a concurrent update is never
+ * kept. Changes made by other instances are bounded by the TTL.</p>
+ *
+ * <h3>Seal Lifecycle</h3>
+ * <p>Values are only cached and served while the Vault is unsealed. On
+ * {@link #onSealed()} every cached value is zeroed and dropped.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.secret.value.cache.hits} — reads served from the cache</li>
+ *   <li>{@code vault.secret.value.cache.misses} — reads that decrypted the value</li>
+ *   <li>{@code vault.secret.value.cache.evictions} — values evicted by the size bound</li>
+ *   <li>{@code vault.secret.value.cache.size} — number of cached values</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class SecretValueCache implements SealStateListener {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final List<String> pathPrefixes;
+    private final Map<UUID, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /** Whether the Vault is unsealed and caching is permitted. */
+    private volatile boolean active;
+
+    /**
+     * Creates the cache and registers its meters.
+     *
+     * @param cacheProperties Cache configuration (enablement, TTL, size bound, path prefixes).
+     * @param meterRegistry   Registry used to publish cache metrics.
+     */
+    public SecretValueCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.enabled = cacheProperties.isSecretValueEnabled() && cacheProperties.getSecretValueTtlSeconds() > 0;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(cacheProperties.getSecretValueTtlSeconds());
+        this.pathPrefixes = List.copyOf(cacheProperties.getSecretValuePathPrefixes());
+        int maxEntries = Math.max(1, cacheProperties.getSecretValueMaxEntries());
+        this.hits = Counter.builder("vault.secret.value.cache.hits")
+                .description("Secret value reads served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("vault.secret.value.cache.misses")
+                .description("Secret value reads that decrypted the stored value")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("vault.secret.value.cache.evictions")
+                .description("Secret values evicted by the cache size bound")
+                .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                if (size() > maxEntries) {
+                    eldest.getValue().wipe();
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("vault.secret.value.cache.size", this, SecretValueCache::size)
+                .description("Number of decrypted secret values held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached current value of a secret.
+     *
+     * @param secretId The secret ID.
+     * @return The cached value, or {@code null} on a miss (or when caching is disabled).
+     */
+    public CachedSecretValue get(UUID secretId) {
+        if (!enabled) {
+            return null;
+        }
+        if (active && secretId != null) {
+            synchronized (entries) {
+                Entry entry = entries.get(secretId);
+                if (entry != null && System.nanoTime() - entry.loadedAtNanos < ttlNanos) {
+                    hits.increment();
+                    return entry.toValue(secretId);
+                }
+                if (entry != null) {
+                    entries.remove(secretId);
+                    entry.wipe();
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the invalidation generation. Readers capture it before loading
+     * a value and pass it to {@link #put}.
+     *
+     * @return The current generation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a freshly decrypted current value, unless caching is disabled,
+     * the path is not eligible, or an invalidation happened since
+     * {@code loadGeneration} was captured.
+     *
+     * @param loadGeneration The {@link #generation()} captured before loading.
+     * @param teamId         The secret's team (needed to audit cache hits).
+     * @param response       The value response to cache.
+     */
+    public void put(long loadGeneration, UUID teamId, SecretValueResponse response) {
+        if (!enabled || !active || response.secretId() == null || !isCacheablePath(response.path())) {
+            return;
+        }
+        Entry entry = new Entry(teamId, response);
+        synchronized (entries) {
+            if (!active || generation.get() != loadGeneration) {
+                entry.wipe();
+                return;
+            }
+            Entry previous = entries.put(response.secretId(), entry);
+            if (previous != null) {
+                previous.wipe();
+            }
+        }
+    }
+
+    /**
+     * Drops (and zeroes) the cached value of a secret, now and again after the
+     * current transaction commits.
+     *
+     * @param secretId The secret whose value or lifecycle changed.
+     */
+    public void invalidate(UUID secretId) {
+        if (!enabled || secretId == null) {
+            return;
+        }
+        Runnable eviction = () -> {
+            synchronized (entries) {
+                generation.incrementAndGet();
+                Entry removed = entries.remove(secretId);
+                if (removed != null) {
+                    removed.wipe();
+                }
+            }
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return Cache size.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Enables caching once the Vault is unsealed.
+     */
+    @Override
+    public void onUnsealed() {
+        active = true;
+        log.debug("Secret value cache enabled");
+    }
+
+    /**
+     * Disables caching and zeroes all cached values.
+     */
+    @Override
+    public void onSealed() {
+        active = false;
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.values().forEach(Entry::wipe);
+            entries.clear();
+        }
+        log.debug("Secret value cache wiped");
+    }
+
+    private boolean isCacheablePath(String path) {
+        if (pathPrefixes.isEmpty()) {
+            return true;
+        }
+        return path != null && pathPrefixes.stream().anyMatch(path::startsWith);
+    }
+
+    // ─── Entries ────────────────────────────────────────────
+
+    /**
+     * A cached secret value together with the team that owns it.
+     *
+     * @param teamId   The secret's team.
+     * @param response The value response, with a freshly decoded value.
+     */
+    public record CachedSecretValue(UUID teamId, SecretValueResponse response) {}
+
+    /**
+     * One cached value. The plaintext is kept only as zeroable UTF-8 bytes.
+     */
+    private static final class Entry {
+
+        private final UUID teamId;
+        private final String path;
+        private final String name;
+        private final int versionNumber;
+        private final Instant createdAt;
+        private final byte[] value;
+        private final long loadedAtNanos = System.nanoTime();
+
+        Entry(UUID teamId, SecretValueResponse response) {
+            this.teamId = teamId;
+            this.path = response.path();
+            this.name = response.name();
+            this.versionNumber = response.versionNumber();
+            this.createdAt = response.createdAt();
+            this.value = response.value().getBytes(StandardCharsets.UTF_8);
+        }
+
+        CachedSecretValue toValue(UUID secretId) {
+            return new CachedSecretValue(teamId, new SecretValueResponse(secretId, path, name, versionNumber,
+                    new String(value, StandardCharsets.UTF_8), createdAt));
+        }
+
+        void wipe() {
+            Arrays.fill(value, (byte) 0);
+        }
+    }
+}
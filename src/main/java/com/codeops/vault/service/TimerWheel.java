@@ -0,0 +1,203 @@
+package com.codeops.vault.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timer wheel holding one deadline per key.
+ *
+ * <p>Time is divided into ticks of {@code tickMillis}. The wheel has
+ * {@value #LEVELS} levels of {@value #SLOTS} slots; a slot on level
+ * {@code n} spans {@code SLOTS^n} ticks. A deadline is stored on the level of
+ * the highest digit (in base {@value #SLOTS}) in which its tick differs from
+ * the current tick, in the slot given by that digit. As the wheel advances,
+ * each slot of a higher level is cascaded down when the current tick reaches
+ * its start, so a deadline reaches level 0 before it is due. Scheduling and
+ * cancelling are O(1); advancing is O(1) per tick plus the entries moved, and
+ * skips the stretches in which the lower levels are empty.
+ * Deadlines beyond the top level wait in an overflow set that is re-sorted
+ * whenever the top level wraps.</p>
+ *
+ * <p>A deadline fires on the first tick boundary at or after it, never
+ * before. Not thread-safe; callers synchronize.</p>
+ *
+ * @param <K> Key type.
+ */
+final class TimerWheel<K> {
+
+    static final int LEVELS = 5;
+    static final int SLOTS = 64;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final List<List<Set<Entry<K>>>> levels = new ArrayList<>(LEVELS);
+    private final Set<Entry<K>> overflow = new LinkedHashSet<>();
+    private final Set<K> ready = new LinkedHashSet<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final int[] levelCounts = new int[LEVELS + 1];
+    private long currentTick;
+
+    /**
+     * Creates an empty wheel positioned at the given time.
+     *
+     * @param tickMillis Tick length in milliseconds.
+     * @param nowMillis  Current time in epoch milliseconds.
+     */
+    TimerWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.currentTick = Math.floorDiv(nowMillis, this.tickMillis);
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Entry<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedules a key, replacing any deadline it already has. A deadline that
+     * has already passed fires on the next {@link #advance(long)}.
+     *
+     * @param key            The key.
+     * @param deadlineMillis Deadline in epoch milliseconds.
+     */
+    void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, Math.ceilDiv(deadlineMillis, tickMillis));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Removes a key's deadline.
+     *
+     * @param key The key.
+     * @return {@code true} if the key was scheduled.
+     */
+    boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            entry.bucket.remove(entry);
+            levelCounts[entry.level]--;
+        } else {
+            ready.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time and removes the keys that are due.
+     *
+     * @param nowMillis Current time in epoch milliseconds.
+     * @return Keys whose deadline is at or before {@code nowMillis}, in firing order.
+     */
+    List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick = Math.min(nextEventTick(), targetTick);
+            cascade();
+            expire(levels.get(0).get((int) (currentTick & SLOT_MASK)));
+        }
+        List<K> due = new ArrayList<>(ready);
+        ready.clear();
+        due.forEach(entries::remove);
+        return due;
+    }
+
+    /**
+     * Returns the number of scheduled keys.
+     *
+     * @return Scheduled key count.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    // ─── Placement ──────────────────────────────────────────
+
+    /**
+     * Returns the next tick at which anything can fire or cascade: the next
+     * tick if level 0 holds entries, otherwise the start of the next slot of
+     * the lowest level that does.
+     */
+    private long nextEventTick() {
+        int emptyLevels = 0;
+        while (emptyLevels < LEVELS && levelCounts[emptyLevels] == 0) {
+            emptyLevels++;
+        }
+        long span = 1L << (emptyLevels * SLOT_BITS);
+        return Math.floorDiv(currentTick, span) * span + span;
+    }
+
+    private void place(Entry<K> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            entry.bucket = null;
+            ready.add(entry.key);
+            return;
+        }
+        long differing = entry.deadlineTick ^ currentTick;
+        int level = (63 - Long.numberOfLeadingZeros(differing)) / SLOT_BITS;
+        Set<Entry<K>> bucket = level < LEVELS
+                ? levels.get(level).get((int) ((entry.deadlineTick >>> (level * SLOT_BITS)) & SLOT_MASK))
+                : overflow;
+        entry.bucket = bucket;
+        entry.level = Math.min(level, LEVELS);
+        levelCounts[entry.level]++;
+        bucket.add(entry);
+    }
+
+    private void cascade() {
+        for (int level = 1; level <= LEVELS; level++) {
+            long lowerTicks = currentTick & ((1L << (level * SLOT_BITS)) - 1);
+            if (lowerTicks != 0) {
+                return;
+            }
+            Set<Entry<K>> bucket = level < LEVELS
+                    ? levels.get(level).get((int) ((currentTick >>> (level * SLOT_BITS)) & SLOT_MASK))
+                    : overflow;
+            if (!bucket.isEmpty()) {
+                List<Entry<K>> moved = new ArrayList<>(bucket);
+                bucket.clear();
+                levelCounts[level] -= moved.size();
+                moved.forEach(this::place);
+            }
+        }
+    }
+
+    private void expire(Set<Entry<K>> bucket) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        for (Entry<K> entry : bucket) {
+            entry.bucket = null;
+            ready.add(entry.key);
+        }
+        levelCounts[0] -= bucket.size();
+        bucket.clear();
+    }
+
+    /**
+     * One scheduled deadline and the slot that currently holds it ({@code null} once due).
+     */
+    private static final class Entry<K> {
+
+        private final K key;
+        private final long deadlineTick;
+        private Set<Entry<K>> bucket;
+        private int level;
+
+        Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
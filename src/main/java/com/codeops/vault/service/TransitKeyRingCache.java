@@ -0,0 +1,237 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.entity.TransitKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of decrypted transit key rings, keyed by transit key ID.
+ *
+ * <p>Loading a key ring requires a master-key envelope decrypt of the whole
+ * {@code keyMaterial} column plus a JSON parse. This cache keeps the decoded
+ * key bytes of every version in an array indexed by version number, so
+ * repeated encrypt/decrypt/rewrap calls on the same key skip both steps.</p>
+ *
+ * <h3>Consistency</h3>
+ * <p>Each cached ring remembers the encrypted {@code keyMaterial} it was
+ * decoded from. A lookup whose entity carries different material (e.g., the
+ * key was rotated by another instance) reloads the ring. {@link TransitService}
+ * additionally calls {@link #invalidate(UUID)} on rotate, update and delete.</p>
+ *
+ * <h3>Seal Lifecycle</h3>
+ * <p>Rings are only cached while the Vault is unsealed. On {@link #onSealed()}
+ * all cached key bytes are zeroed and dropped. Evicted rings are zeroed as
+ * well. Callers always receive a private copy of the key bytes, taken under
+ * the cache lock, so wiping never races with an in-flight lookup.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code vault.transit.keyring.hits} — lookups served from the cache</li>
+ *   <li>{@code vault.transit.keyring.misses} — lookups that decrypted the key ring</li>
+ *   <li>{@code vault.transit.keyring.evictions} — rings evicted by the size bound</li>
+ *   <li>{@code vault.transit.keyring.cache.size} — number of cached rings</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class TransitKeyRingCache implements SealStateListener {
+
+    private final Map<UUID, KeyRing> rings;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /** Whether the Vault is unsealed and caching is permitted. */
+    private volatile boolean active;
+
+    /**
+     * Creates the cache and registers its meters.
+     *
+     * @param cacheProperties Cache configuration (maximum number of rings).
+     * @param meterRegistry   Registry used to publish cache metrics.
+     */
+    public TransitKeyRingCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        int maxEntries = Math.max(1, cacheProperties.getTransitKeyRingMaxEntries());
+        this.hits = Counter.builder("vault.transit.keyring.hits")
+                .description("Transit key ring lookups served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("vault.transit.keyring.misses")
+                .description("Transit key ring lookups that decrypted the key material")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("vault.transit.keyring.evictions")
+                .description("Transit key rings evicted by the cache size bound")
+                .register(meterRegistry);
+        this.rings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, KeyRing> eldest) {
+                if (size() > maxEntries) {
+                    eldest.getValue().wipe();
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("vault.transit.keyring.cache.size", this, TransitKeyRingCache::size)
+                .description("Number of decrypted transit key rings held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the raw key bytes for one version of a transit key, loading and
+     * caching the whole key ring on a miss.
+     *
+     * @param transitKey The transit key entity.
+     * @param version    The key version to return.
+     * @param loader     Function that decrypts and parses the key ring of an entity.
+     * @return A copy of the raw key bytes, or {@code null} if the version does not exist.
+     */
+    public byte[] getKey(TransitKey transitKey, int version, Function<TransitKey, List<KeyVersion>> loader) {
+        UUID keyId = transitKey.getId();
+        String material = transitKey.getKeyMaterial();
+
+        if (active && keyId != null) {
+            synchronized (rings) {
+                KeyRing cached = rings.get(keyId);
+                if (cached != null && Objects.equals(cached.source, material)) {
+                    hits.increment();
+                    return cached.copyOf(version);
+                }
+            }
+        }
+
+        misses.increment();
+        KeyRing loaded = KeyRing.of(material, loader.apply(transitKey));
+        byte[] result = loaded.copyOf(version);
+
+        if (!active || keyId == null) {
+            loaded.wipe();
+            return result;
+        }
+
+        synchronized (rings) {
+            KeyRing previous = rings.put(keyId, loaded);
+            if (previous != null) {
+                previous.wipe();
+            }
+        }
+        if (!active) {
+            // Sealed while loading — do not leave material behind
+            wipe();
+        }
+        return result;
+    }
+
+    /**
+     * Drops (and zeroes) the cached key ring of a transit key, if present.
+     *
+     * @param keyId The transit key ID.
+     */
+    public void invalidate(UUID keyId) {
+        if (keyId == null) {
+            return;
+        }
+        synchronized (rings) {
+            KeyRing removed = rings.remove(keyId);
+            if (removed != null) {
+                removed.wipe();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached key rings.
+     *
+     * @return Cache size.
+     */
+    public int size() {
+        synchronized (rings) {
+            return rings.size();
+        }
+    }
+
+    /**
+     * Enables caching once the Vault is unsealed.
+     */
+    @Override
+    public void onUnsealed() {
+        active = true;
+        log.debug("Transit key ring cache enabled");
+    }
+
+    /**
+     * Disables caching and zeroes all cached key rings.
+     */
+    @Override
+    public void onSealed() {
+        active = false;
+        wipe();
+        log.debug("Transit key ring cache wiped");
+    }
+
+    /**
+     * Zeroes and removes every cached key ring.
+     */
+    private void wipe() {
+        synchronized (rings) {
+            rings.values().forEach(KeyRing::wipe);
+            rings.clear();
+        }
+    }
+
+    // ─── Key Ring ───────────────────────────────────────────
+
+    /**
+     * Decoded key bytes of every version of one transit key, indexed by version.
+     */
+    private static final class KeyRing {
+
+        private final String source;
+        private final byte[][] keysByVersion;
+
+        private KeyRing(String source, byte[][] keysByVersion) {
+            this.source = source;
+            this.keysByVersion = keysByVersion;
+        }
+
+        static KeyRing of(String source, List<KeyVersion> keyVersions) {
+            int maxVersion = keyVersions.stream().mapToInt(KeyVersion::version).max().orElse(0);
+            byte[][] keys = new byte[maxVersion + 1][];
+            for (KeyVersion kv : keyVersions) {
+                if (kv.version() > 0) {
+                    keys[kv.version()] = Base64.getDecoder().decode(kv.key());
+                }
+            }
+            return new KeyRing(source, keys);
+        }
+
+        byte[] copyOf(int version) {
+            if (version <= 0 || version >= keysByVersion.length) {
+                return null;
+            }
+            byte[] key = keysByVersion[version];
+            return key != null ? key.clone() : null;
+        }
+
+        void wipe() {
+            for (byte[] key : keysByVersion) {
+                if (key != null) {
+                    Arrays.fill(key, (byte) 0);
+                }
+            }
+        }
+    }
+}
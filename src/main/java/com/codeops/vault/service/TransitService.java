@@ -1,12 +1,20 @@
 package com.codeops.vault.service;
 
+import com.codeops.vault.config.AppConstants;
 import com.codeops.vault.dto.mapper.TransitKeyMapper;
 import com.codeops.vault.dto.request.CreateTransitKeyRequest;
+import com.codeops.vault.dto.request.TransitBatchDecryptRequest;
+import com.codeops.vault.dto.request.TransitBatchEncryptRequest;
+import com.codeops.vault.dto.request.TransitBatchRewrapRequest;
 import com.codeops.vault.dto.request.TransitDecryptRequest;
 import com.codeops.vault.dto.request.TransitEncryptRequest;
 import com.codeops.vault.dto.request.TransitRewrapRequest;
 import com.codeops.vault.dto.request.UpdateTransitKeyRequest;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.TransitBatchDecryptResponse;
+import com.codeops.vault.dto.response.TransitBatchDecryptResult;
+import com.codeops.vault.dto.response.TransitBatchEncryptResponse;
+import com.codeops.vault.dto.response.TransitBatchEncryptResult;
 import com.codeops.vault.dto.response.TransitDecryptResponse;
 import com.codeops.vault.dto.response.TransitEncryptResponse;
 import com.codeops.vault.dto.response.TransitKeyResponse;
@@ -25,12 +33,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Encryption-as-a-service using named, versioned transit keys.
@@ -48,7 +63,21 @@ import java.util.UUID;
  *
  * <h3>Key Material Storage</h3>
  * <p>Key material is stored as an encrypted JSON array in the TransitKey
- * entity. The array itself is encrypted with the Vault master key.</p>
+ * entity. The array itself is encrypted with the Vault master key.
+ * Decrypted key rings are held in a {@link TransitKeyRingCache} while the
+ * Vault is unsealed, and invalidated whenever a key is rotated, updated,
+ * or deleted.</p>
+ *
+ * <h3>Batch Operations</h3>
+ * <p>The batch variants of encrypt, decrypt and rewrap resolve each key
+ * version once per batch, process large batches in parallel across cores,
+ * report success or failure per item, and write one aggregated audit
+ * record per batch.</p>
+ *
+ * <h3>Streaming</h3>
+ * <p>Binary payloads of any size can be encrypted and decrypted as streams
+ * in fixed-size authenticated segments (see
+ * {@link EncryptionService#encryptStream}) with constant heap use.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -60,6 +89,7 @@ public class TransitService {
     private final TransitKeyMapper transitKeyMapper;
     private final ObjectMapper objectMapper;
     private final AuditService auditService;
+    private final TransitKeyRingCache keyRingCache;
 
     private static final String DEFAULT_ALGORITHM = "AES-256-GCM";
 
@@ -200,6 +230,7 @@ public class TransitService {
         }
 
         key = transitKeyRepository.save(key);
+        keyRingCache.invalidate(keyId);
 
         log.info("Updated transit key {}", keyId);
         return transitKeyMapper.toResponse(key);
@@ -241,6 +272,7 @@ public class TransitService {
         key.setKeyMaterial(encryptedMaterial);
         key.setCurrentVersion(newVersion);
         key = transitKeyRepository.save(key);
+        keyRingCache.invalidate(keyId);
 
         log.info("Rotated transit key {} to version {}", keyId, newVersion);
 
@@ -270,6 +302,7 @@ public class TransitService {
         UUID teamId = key.getTeamId();
         String keyName = key.getName();
         transitKeyRepository.delete(key);
+        keyRingCache.invalidate(keyId);
         log.info("Deleted transit key {} ('{}')", keyId, keyName);
 
         try { auditService.logSuccess(teamId, null, "DELETE", keyName, "TRANSIT_KEY", keyId, null); }
@@ -399,6 +432,184 @@ public class TransitService {
         return result;
     }
 
+    // ─── Batch Operations ───────────────────────────────────
+
+    /**
+     * Encrypts many plaintexts with the current version of a named transit key.
+     *
+     * <p>The key is resolved once for the whole batch. An item that cannot be
+     * encrypted is reported in its result slot; the other items are unaffected.</p>
+     *
+     * @param request Contains keyName and the Base64-encoded plaintexts.
+     * @param teamId  Team ID from JWT.
+     * @return TransitBatchEncryptResponse with one result per input item, in input order.
+     * @throws NotFoundException if the key does not exist or is inactive.
+     */
+    @Transactional(readOnly = true)
+    public TransitBatchEncryptResponse encryptBatch(TransitBatchEncryptRequest request, UUID teamId) {
+        TransitKey key = findActiveKeyByName(teamId, request.keyName());
+        int version = key.getCurrentVersion();
+        byte[] keyBytes = getKeyForVersion(key, version);
+        String keyId = key.getName() + ":v" + version;
+
+        List<String> inputs = request.batchInput();
+        TransitBatchEncryptResult[] results = new TransitBatchEncryptResult[inputs.size()];
+        forEachItem(inputs.size(), i -> {
+            try {
+                String ciphertext = encryptionService.encryptWithKey(requireItem(inputs.get(i)), keyId, keyBytes);
+                results[i] = new TransitBatchEncryptResult(ciphertext, version, null);
+            } catch (RuntimeException e) {
+                results[i] = new TransitBatchEncryptResult(null, null, e.getMessage());
+            }
+        });
+
+        int errorCount = (int) Arrays.stream(results).filter(r -> r.error() != null).count();
+        log.debug("Batch encrypted {} items with transit key '{}' version {} ({} failed)",
+                inputs.size(), request.keyName(), version, errorCount);
+        auditKeyOperation(teamId, "TRANSIT_BATCH_ENCRYPT", key, Map.of("items", inputs.size(), "failed", errorCount));
+        return new TransitBatchEncryptResponse(request.keyName(), errorCount, List.of(results));
+    }
+
+    /**
+     * Decrypts many ciphertexts with a named transit key.
+     *
+     * <p>Items may have been encrypted with different key versions; each
+     * distinct version is resolved once. An item whose version is unknown or
+     * below {@code minDecryptionVersion}, or that fails to decrypt, is reported
+     * in its result slot.</p>
+     *
+     * @param request Contains keyName and the ciphertexts.
+     * @param teamId  Team ID from JWT.
+     * @return TransitBatchDecryptResponse with one result per input item, in input order.
+     * @throws NotFoundException if the key does not exist.
+     */
+    @Transactional(readOnly = true)
+    public TransitBatchDecryptResponse decryptBatch(TransitBatchDecryptRequest request, UUID teamId) {
+        TransitKey key = transitKeyRepository.findByTeamIdAndName(teamId, request.keyName())
+                .orElseThrow(() -> new NotFoundException("TransitKey", "name", request.keyName()));
+
+        List<String> inputs = request.batchInput();
+        String[] errors = new String[inputs.size()];
+        byte[][] itemKeys = resolveItemKeys(key, inputs, errors, batchKeyMaterialLoader());
+
+        TransitBatchDecryptResult[] results = new TransitBatchDecryptResult[inputs.size()];
+        forEachItem(inputs.size(), i -> {
+            if (errors[i] != null) {
+                results[i] = new TransitBatchDecryptResult(null, errors[i]);
+                return;
+            }
+            try {
+                results[i] = new TransitBatchDecryptResult(
+                        encryptionService.decryptWithKey(inputs.get(i), itemKeys[i]), null);
+            } catch (RuntimeException e) {
+                results[i] = new TransitBatchDecryptResult(null, e.getMessage());
+            }
+        });
+
+        int errorCount = (int) Arrays.stream(results).filter(r -> r.error() != null).count();
+        log.debug("Batch decrypted {} items with transit key '{}' ({} failed)",
+                inputs.size(), request.keyName(), errorCount);
+        auditKeyOperation(teamId, "TRANSIT_BATCH_DECRYPT", key, Map.of("items", inputs.size(), "failed", errorCount));
+        return new TransitBatchDecryptResponse(request.keyName(), errorCount, List.of(results));
+    }
+
+    /**
+     * Re-encrypts many ciphertexts with the current key version without
+     * exposing the plaintexts.
+     *
+     * @param request Contains keyName and the existing ciphertexts.
+     * @param teamId  Team ID from JWT.
+     * @return TransitBatchEncryptResponse with one result per input item, in input order.
+     * @throws NotFoundException if the key does not exist.
+     */
+    @Transactional(readOnly = true)
+    public TransitBatchEncryptResponse rewrapBatch(TransitBatchRewrapRequest request, UUID teamId) {
+        TransitKey key = transitKeyRepository.findByTeamIdAndName(teamId, request.keyName())
+                .orElseThrow(() -> new NotFoundException("TransitKey", "name", request.keyName()));
+        Function<TransitKey, List<KeyVersion>> keyMaterialLoader = batchKeyMaterialLoader();
+        int currentVersion = key.getCurrentVersion();
+        byte[] newKeyBytes = getKeyForVersion(key, currentVersion, keyMaterialLoader);
+        String newKeyId = key.getName() + ":v" + currentVersion;
+
+        List<String> inputs = request.batchInput();
+        String[] errors = new String[inputs.size()];
+        byte[][] itemKeys = resolveItemKeys(key, inputs, errors, keyMaterialLoader);
+
+        TransitBatchEncryptResult[] results = new TransitBatchEncryptResult[inputs.size()];
+        forEachItem(inputs.size(), i -> {
+            if (errors[i] != null) {
+                results[i] = new TransitBatchEncryptResult(null, null, errors[i]);
+                return;
+            }
+            try {
+                String rewrapped = encryptionService.rewrap(inputs.get(i), itemKeys[i], newKeyBytes, newKeyId);
+                results[i] = new TransitBatchEncryptResult(rewrapped, currentVersion, null);
+            } catch (RuntimeException e) {
+                results[i] = new TransitBatchEncryptResult(null, null, e.getMessage());
+            }
+        });
+
+        int errorCount = (int) Arrays.stream(results).filter(r -> r.error() != null).count();
+        log.debug("Batch rewrapped {} items to transit key '{}' version {} ({} failed)",
+                inputs.size(), request.keyName(), currentVersion, errorCount);
+        auditKeyOperation(teamId, "TRANSIT_BATCH_REWRAP", key, Map.of("items", inputs.size(), "failed", errorCount));
+        return new TransitBatchEncryptResponse(request.keyName(), errorCount, List.of(results));
+    }
+
+    // ─── Streaming Operations ───────────────────────────────
+
+    /**
+     * Encrypts a binary stream with the current version of a named transit key.
+     *
+     * <p>Not transactional: the key is loaded before streaming starts, so no
+     * database connection is held while the payload is transferred.</p>
+     *
+     * @param keyName Key name to encrypt with.
+     * @param teamId  Team ID from JWT.
+     * @param in      The plaintext stream.
+     * @param out     Receives the segmented encrypted stream.
+     * @return Number of plaintext bytes encrypted.
+     * @throws NotFoundException if the key does not exist or is inactive.
+     */
+    public long encryptStream(String keyName, UUID teamId, InputStream in, OutputStream out) {
+        TransitKey key = findActiveKeyByName(teamId, keyName);
+        int version = key.getCurrentVersion();
+        byte[] keyBytes = getKeyForVersion(key, version);
+
+        long bytes = encryptionService.encryptStream(in, out, key.getName() + ":v" + version, keyBytes);
+
+        log.debug("Stream-encrypted {} bytes with transit key '{}' version {}", bytes, keyName, version);
+        auditKeyOperation(teamId, "TRANSIT_STREAM_ENCRYPT", key, Map.of("bytes", bytes));
+        return bytes;
+    }
+
+    /**
+     * Decrypts a binary stream produced by {@link #encryptStream}.
+     *
+     * <p>The key version is read from the stream header. Not transactional,
+     * for the same reason as {@link #encryptStream}.</p>
+     *
+     * @param keyName Key name to decrypt with.
+     * @param teamId  Team ID from JWT.
+     * @param in      The segmented encrypted stream.
+     * @param out     Receives the plaintext.
+     * @return Number of plaintext bytes written.
+     * @throws NotFoundException     if the key does not exist.
+     * @throws ValidationException   if the key version is below minDecryptionVersion.
+     * @throws CodeOpsVaultException if decryption fails.
+     */
+    public long decryptStream(String keyName, UUID teamId, InputStream in, OutputStream out) {
+        TransitKey key = transitKeyRepository.findByTeamIdAndName(teamId, keyName)
+                .orElseThrow(() -> new NotFoundException("TransitKey", "name", keyName));
+
+        long bytes = encryptionService.decryptStream(in, out,
+                embeddedKeyId -> getKeyForVersion(key, extractVersionFromKeyId(embeddedKeyId)));
+
+        log.debug("Stream-decrypted {} bytes with transit key '{}'", bytes, keyName);
+        auditKeyOperation(teamId, "TRANSIT_STREAM_DECRYPT", key, Map.of("bytes", bytes));
+        return bytes;
+    }
+
     // ─── Internal Key Material Access (package-private) ─────
 
     /**
@@ -419,6 +630,9 @@ public class TransitService {
     /**
      * Gets the raw key bytes for a specific version.
      *
+     * <p>Served from the {@link TransitKeyRingCache} when possible; the
+     * returned array is a private copy the caller may discard.</p>
+     *
      * @param transitKey    The transit key entity.
      * @param versionNumber The version to retrieve.
      * @return Raw key bytes (32 bytes for AES-256).
@@ -426,17 +640,7 @@ public class TransitService {
      * @throws ValidationException if the version is below minDecryptionVersion.
      */
     byte[] getKeyForVersion(TransitKey transitKey, int versionNumber) {
-        if (versionNumber < transitKey.getMinDecryptionVersion()) {
-            throw new ValidationException("Key version " + versionNumber + " is below minimum decryption version "
-                    + transitKey.getMinDecryptionVersion());
-        }
-
-        List<KeyVersion> keyVersions = loadKeyMaterial(transitKey);
-        return keyVersions.stream()
-                .filter(kv -> kv.version() == versionNumber)
-                .findFirst()
-                .map(kv -> Base64.getDecoder().decode(kv.key()))
-                .orElseThrow(() -> new NotFoundException("KeyVersion", "version", String.valueOf(versionNumber)));
+        return getKeyForVersion(transitKey, versionNumber, this::loadKeyMaterial);
     }
 
     // ─── Statistics ─────────────────────────────────────────
@@ -502,6 +706,91 @@ public class TransitService {
         }
     }
 
+    /**
+     * Gets the raw key bytes for a specific version, loading the key ring
+     * through {@code keyMaterialLoader} on a cache miss.
+     */
+    private byte[] getKeyForVersion(TransitKey transitKey, int versionNumber,
+                                    Function<TransitKey, List<KeyVersion>> keyMaterialLoader) {
+        if (versionNumber < transitKey.getMinDecryptionVersion()) {
+            throw new ValidationException("Key version " + versionNumber + " is below minimum decryption version "
+                    + transitKey.getMinDecryptionVersion());
+        }
+
+        byte[] keyBytes = keyRingCache.getKey(transitKey, versionNumber, keyMaterialLoader);
+        if (keyBytes == null) {
+            throw new NotFoundException("KeyVersion", "version", String.valueOf(versionNumber));
+        }
+        return keyBytes;
+    }
+
+    /**
+     * Resolves the key bytes for every ciphertext of a batch, resolving each
+     * distinct key version once. Items whose version cannot be determined or
+     * resolved get an entry in {@code errors} and a null key.
+     */
+    private byte[][] resolveItemKeys(TransitKey key, List<String> ciphertexts, String[] errors,
+                                     Function<TransitKey, List<KeyVersion>> keyMaterialLoader) {
+        byte[][] itemKeys = new byte[ciphertexts.size()][];
+        Map<Integer, byte[]> keysByVersion = new HashMap<>();
+        Map<Integer, String> versionErrors = new HashMap<>();
+        for (int i = 0; i < ciphertexts.size(); i++) {
+            try {
+                String embeddedKeyId = encryptionService.extractKeyId(requireItem(ciphertexts.get(i)));
+                int version = extractVersionFromKeyId(embeddedKeyId);
+                if (!keysByVersion.containsKey(version) && !versionErrors.containsKey(version)) {
+                    try {
+                        keysByVersion.put(version, getKeyForVersion(key, version, keyMaterialLoader));
+                    } catch (RuntimeException e) {
+                        versionErrors.put(version, e.getMessage());
+                    }
+                }
+                itemKeys[i] = keysByVersion.get(version);
+                errors[i] = versionErrors.get(version);
+            } catch (RuntimeException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        return itemKeys;
+    }
+
+    /**
+     * Returns a key material loader that decrypts each key ring at most once,
+     * so a batch never decrypts the same ring twice even when the
+     * {@link TransitKeyRingCache} is inactive. Not thread-safe.
+     */
+    private Function<TransitKey, List<KeyVersion>> batchKeyMaterialLoader() {
+        Map<UUID, List<KeyVersion>> loaded = new HashMap<>();
+        return transitKey -> loaded.computeIfAbsent(transitKey.getId(), id -> loadKeyMaterial(transitKey));
+    }
+
+    /**
+     * Runs {@code action} for every item index, in parallel across cores once
+     * the batch reaches {@link AppConstants#TRANSIT_BATCH_PARALLEL_THRESHOLD}.
+     * Each index must only write its own result slot.
+     */
+    private void forEachItem(int size, IntConsumer action) {
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= AppConstants.TRANSIT_BATCH_PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(action);
+    }
+
+    private static String requireItem(String item) {
+        if (item == null || item.isBlank()) {
+            throw new ValidationException("Batch item must not be blank");
+        }
+        return item;
+    }
+
+    private void auditKeyOperation(UUID teamId, String operation, TransitKey key, Map<String, Object> details) {
+        try {
+            String detailsJson = objectMapper.writeValueAsString(details);
+            auditService.logSuccess(teamId, null, operation, key.getName(), "TRANSIT_KEY", key.getId(), detailsJson);
+        } catch (Exception e) { log.warn("Audit log failed for {}: {}", operation, e.getMessage()); }
+    }
+
     /**
      * Extracts the version number from an embedded key ID.
      *
@@ -146,7 +146,7 @@ class AuditControllerTest {
         stats.put("writeOperations", 30L);
         stats.put("deleteOperations", 10L);
 
-        when(auditService.getAuditStats(TEST_TEAM_ID)).thenReturn(stats);
+        when(auditService.getAuditStats(TEST_TEAM_ID, null, null)).thenReturn(stats);
 
         mockMvc.perform(get(BASE_PATH + "/stats"))
                 .andExpect(status().isOk())
@@ -157,6 +157,20 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$.deleteOperations").value(10));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAuditStats_withWindow_passesBounds() throws Exception {
+        Instant from = Instant.parse("2026-10-01T00:00:00Z");
+        Instant to = Instant.parse("2026-10-02T00:00:00Z");
+        when(auditService.getAuditStats(TEST_TEAM_ID, from, to)).thenReturn(Map.of("totalEntries", 7L));
+
+        mockMvc.perform(get(BASE_PATH + "/stats")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalEntries").value(7));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getAuditStats_noAdmin_returns403() throws Exception {
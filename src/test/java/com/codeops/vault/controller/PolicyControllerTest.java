@@ -1,10 +1,14 @@
 package com.codeops.vault.controller;
 
+import com.codeops.vault.dto.request.AccessCheck;
 import com.codeops.vault.dto.request.CreateBindingRequest;
 import com.codeops.vault.dto.request.CreatePolicyRequest;
+import com.codeops.vault.dto.request.PolicyBatchEvaluateRequest;
 import com.codeops.vault.dto.request.UpdatePolicyRequest;
 import com.codeops.vault.dto.response.AccessPolicyResponse;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.PolicyBatchEvaluateResponse;
+import com.codeops.vault.dto.response.PolicyBatchEvaluateResult;
 import com.codeops.vault.dto.response.PolicyBindingResponse;
 import com.codeops.vault.entity.enums.BindingType;
 import com.codeops.vault.entity.enums.PolicyPermission;
@@ -285,6 +289,43 @@ class PolicyControllerTest {
                 .andExpect(jsonPath("$.allowed").value(false));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void evaluateBatch_returnsDecisionPerCheck() throws Exception {
+        UUID serviceId = UUID.randomUUID();
+        PolicyBatchEvaluateRequest request = new PolicyBatchEvaluateRequest(BindingType.SERVICE, serviceId,
+                List.of(new AccessCheck("/services/app/db", PolicyPermission.READ),
+                        new AccessCheck("/services/app/db", PolicyPermission.WRITE)));
+
+        when(policyService.evaluateBatch(any(PolicyBatchEvaluateRequest.class), eq(TEST_TEAM_ID)))
+                .thenReturn(new PolicyBatchEvaluateResponse(1, List.of(
+                        new PolicyBatchEvaluateResult("/services/app/db", PolicyPermission.READ,
+                                AccessDecision.allowed(TEST_POLICY_ID, "read")),
+                        new PolicyBatchEvaluateResult("/services/app/db", PolicyPermission.WRITE,
+                                AccessDecision.defaultDenied()))));
+
+        mockMvc.perform(post(BASE_PATH + "/evaluate:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.allowedCount").value(1))
+                .andExpect(jsonPath("$.results[0].decision.allowed").value(true))
+                .andExpect(jsonPath("$.results[1].permission").value("WRITE"))
+                .andExpect(jsonPath("$.results[1].decision.allowed").value(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void evaluateBatch_emptyChecks_returns400() throws Exception {
+        PolicyBatchEvaluateRequest request =
+                new PolicyBatchEvaluateRequest(BindingType.USER, UUID.randomUUID(), List.of());
+
+        mockMvc.perform(post(BASE_PATH + "/evaluate:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     // ─── Security & Statistics Tests ────────────────────────
 
     @Test
@@ -1,8 +1,11 @@
 package com.codeops.vault.controller;
 
 import com.codeops.vault.dto.request.CreateSecretRequest;
+import com.codeops.vault.dto.request.SecretBatchGetRequest;
 import com.codeops.vault.dto.request.UpdateSecretRequest;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.SecretBatchGetResponse;
+import com.codeops.vault.dto.response.SecretBatchGetResult;
 import com.codeops.vault.dto.response.SecretResponse;
 import com.codeops.vault.dto.response.SecretValueResponse;
 import com.codeops.vault.dto.response.SecretVersionResponse;
@@ -163,6 +166,40 @@ class SecretControllerTest {
                 .andExpect(jsonPath("$.path").value("/services/app/db"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void batchGetSecretValues_returns200() throws Exception {
+        SecretValueResponse valueResponse = new SecretValueResponse(
+                TEST_SECRET_ID, "/services/app/db", "db-password",
+                1, "super-secret", Instant.now());
+        SecretBatchGetRequest request = new SecretBatchGetRequest(
+                List.of(TEST_SECRET_ID), List.of("/services/missing"), null);
+
+        when(secretService.batchGetSecretValues(any(SecretBatchGetRequest.class), eq(TEST_TEAM_ID), eq(TEST_USER_ID)))
+                .thenReturn(new SecretBatchGetResponse(1, List.of(
+                        new SecretBatchGetResult(TEST_SECRET_ID.toString(), valueResponse, null),
+                        new SecretBatchGetResult("/services/missing", null, "Secret not found"))));
+
+        mockMvc.perform(post(BASE_PATH + "/values:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorCount").value(1))
+                .andExpect(jsonPath("$.results[0].secret.value").value("super-secret"))
+                .andExpect(jsonPath("$.results[1].error").value("Secret not found"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void batchGetSecretValues_invalidPrefix_returns400() throws Exception {
+        SecretBatchGetRequest request = new SecretBatchGetRequest(null, null, "no-leading-slash");
+
+        mockMvc.perform(post(BASE_PATH + "/values:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void readSecretValue_returns200() throws Exception {
@@ -228,6 +265,23 @@ class SecretControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void listSecretsAfter_returns200WithCursor() throws Exception {
+        PageResponse<SecretResponse> pageResponse = new PageResponse<>(
+                List.of(testSecretResponse), 0, 1, -1, -1, false, "next-cursor");
+
+        when(secretService.listSecretsAfter(TEST_TEAM_ID, true, "prev-cursor", 1))
+                .thenReturn(pageResponse);
+
+        mockMvc.perform(get(BASE_PATH + "/cursor")
+                        .param("after", "prev-cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(TEST_SECRET_ID.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void searchSecrets_returns200() throws Exception {
@@ -1,14 +1,21 @@
 package com.codeops.vault.controller;
 
 import com.codeops.vault.dto.request.CreateTransitKeyRequest;
+import com.codeops.vault.dto.request.TransitBatchDecryptRequest;
+import com.codeops.vault.dto.request.TransitBatchEncryptRequest;
 import com.codeops.vault.dto.request.TransitDecryptRequest;
 import com.codeops.vault.dto.request.TransitEncryptRequest;
 import com.codeops.vault.dto.request.TransitRewrapRequest;
 import com.codeops.vault.dto.request.UpdateTransitKeyRequest;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.TransitBatchDecryptResponse;
+import com.codeops.vault.dto.response.TransitBatchDecryptResult;
+import com.codeops.vault.dto.response.TransitBatchEncryptResponse;
+import com.codeops.vault.dto.response.TransitBatchEncryptResult;
 import com.codeops.vault.dto.response.TransitDecryptResponse;
 import com.codeops.vault.dto.response.TransitEncryptResponse;
 import com.codeops.vault.dto.response.TransitKeyResponse;
+import com.codeops.vault.exception.NotFoundException;
 import com.codeops.vault.security.SecurityUtils;
 import com.codeops.vault.service.SealService;
 import com.codeops.vault.service.TransitService;
@@ -26,6 +33,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -227,6 +235,87 @@ class TransitControllerTest {
                 .andExpect(jsonPath("$.keyVersion").value(2));
     }
 
+    // ─── Batch Tests ────────────────────────────────────────
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void encryptBatch_valid_returns200WithPerItemResults() throws Exception {
+        TransitBatchEncryptRequest request = new TransitBatchEncryptRequest("my-key", List.of("YQ==", "Yg=="));
+        TransitBatchEncryptResponse response = new TransitBatchEncryptResponse("my-key", 1, List.of(
+                new TransitBatchEncryptResult("encrypted-a", 1, null),
+                new TransitBatchEncryptResult(null, null, "Encryption failed")));
+
+        when(transitService.encryptBatch(any(), eq(TEST_TEAM_ID))).thenReturn(response);
+
+        mockMvc.perform(post(BASE_PATH + "/encrypt/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorCount").value(1))
+                .andExpect(jsonPath("$.batchResults[0].ciphertext").value("encrypted-a"))
+                .andExpect(jsonPath("$.batchResults[1].error").value("Encryption failed"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void encryptBatch_emptyBatch_returns400() throws Exception {
+        TransitBatchEncryptRequest request = new TransitBatchEncryptRequest("my-key", List.of());
+
+        mockMvc.perform(post(BASE_PATH + "/encrypt/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void decryptBatch_valid_returns200() throws Exception {
+        TransitBatchDecryptRequest request = new TransitBatchDecryptRequest("my-key", List.of("encrypted-a"));
+        TransitBatchDecryptResponse response = new TransitBatchDecryptResponse("my-key", 0,
+                List.of(new TransitBatchDecryptResult("YQ==", null)));
+
+        when(transitService.decryptBatch(any(), eq(TEST_TEAM_ID))).thenReturn(response);
+
+        mockMvc.perform(post(BASE_PATH + "/decrypt/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.batchResults[0].plaintext").value("YQ=="));
+    }
+
+    // ─── Streaming Tests ────────────────────────────────────
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void encryptStream_octetStream_returnsEncryptedBytes() throws Exception {
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(3);
+            out.write(new byte[]{2, 0, 1});
+            return 3L;
+        }).when(transitService).encryptStream(eq("my-key"), eq(TEST_TEAM_ID), any(), any());
+
+        mockMvc.perform(post(BASE_PATH + "/encrypt")
+                        .param("keyName", "my-key")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[]{1, 2, 3}))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(new byte[]{2, 0, 1}));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void decryptStream_unknownKey_returns404() throws Exception {
+        when(transitService.decryptStream(eq("missing"), eq(TEST_TEAM_ID), any(), any()))
+                .thenThrow(new NotFoundException("TransitKey", "name", "missing"));
+
+        mockMvc.perform(post(BASE_PATH + "/decrypt")
+                        .param("keyName", "missing")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[]{2}))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void generateDataKey_returns200() throws Exception {
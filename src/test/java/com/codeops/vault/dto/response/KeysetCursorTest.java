@@ -0,0 +1,68 @@
+package com.codeops.vault.dto.response;
+
+import com.codeops.vault.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link KeysetCursor} encoding and decoding.
+ */
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsUuidId() {
+        UUID id = UUID.randomUUID();
+        KeysetCursor cursor = KeysetCursor.of(Instant.parse("2026-03-01T12:00:00.123456Z"), id);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded.createdAt()).isEqualTo(Instant.parse("2026-03-01T12:00:00.123456Z"));
+        assertThat(decoded.uuidId()).isEqualTo(id);
+    }
+
+    @Test
+    void encodeDecode_roundTripsLongId() {
+        KeysetCursor cursor = KeysetCursor.of(Instant.parse("2026-03-01T12:00:00Z"), 123456789L);
+
+        assertThat(KeysetCursor.decode(cursor.encode()).longId()).isEqualTo(123456789L);
+    }
+
+    @Test
+    void encode_isUrlSafe() {
+        String encoded = KeysetCursor.of(Instant.now(), UUID.randomUUID()).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_blank_returnsNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void decode_malformed_throwsValidation() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-03-01T12:00:00Z".getBytes(StandardCharsets.UTF_8));
+        String badTimestamp = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(noSeparator)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badTimestamp)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void uuidIdAndLongId_wrongType_throwValidation() {
+        KeysetCursor numeric = KeysetCursor.of(Instant.now(), 7L);
+        KeysetCursor uuid = KeysetCursor.of(Instant.now(), UUID.randomUUID());
+
+        assertThatThrownBy(numeric::uuidId).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(uuid::longId).isInstanceOf(ValidationException.class);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
@@ -68,4 +69,26 @@ class PageResponseTest {
         assertThat(response.page()).isEqualTo(2);
         assertThat(response.isLast()).isTrue();
     }
+
+    @Test
+    void ofCursor_withNextCursor_encodesCursorAndOmitsTotals() {
+        KeysetCursor next = KeysetCursor.of(Instant.parse("2026-01-01T00:00:00Z"), 42L);
+
+        PageResponse<String> response = PageResponse.ofCursor(List.of("alpha", "beta"), 2, next);
+
+        assertThat(response.content()).containsExactly("alpha", "beta");
+        assertThat(response.size()).isEqualTo(2);
+        assertThat(response.totalElements()).isEqualTo(-1);
+        assertThat(response.totalPages()).isEqualTo(-1);
+        assertThat(response.isLast()).isFalse();
+        assertThat(KeysetCursor.decode(response.nextCursor())).isEqualTo(next);
+    }
+
+    @Test
+    void ofCursor_lastPage_hasNoCursor() {
+        PageResponse<String> response = PageResponse.ofCursor(List.of("alpha"), 2, null);
+
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.nextCursor()).isNull();
+    }
 }
@@ -1,5 +1,6 @@
 package com.codeops.vault.repository;
 
+import com.codeops.vault.dto.request.AuditQueryRequest;
 import com.codeops.vault.entity.AuditEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
@@ -78,6 +80,56 @@ class AuditEntryRepositoryTest {
         assertThat(page.getContent()).hasSize(4);
     }
 
+    @Test
+    void findPageAfter_walksTeamEntriesNewestFirstWithoutGaps() {
+        Slice<AuditEntry> first = auditEntryRepository.findPageAfter(TEAM_ID,
+                Instant.parse("9999-12-31T23:59:59Z"), 0L, PageRequest.of(0, 3));
+        AuditEntry last = first.getContent().get(2);
+        Slice<AuditEntry> second = auditEntryRepository.findPageAfter(TEAM_ID,
+                last.getCreatedAt(), last.getId(), PageRequest.of(0, 3));
+
+        assertThat(first.getContent()).extracting(AuditEntry::getOperation)
+                .containsExactly("POLICY_CREATE", "DELETE", "WRITE");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(AuditEntry::getOperation).containsExactly("READ");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void findAll_matchingSpecification_appliesAllFiltersTogether() {
+        AuditQueryRequest query = new AuditQueryRequest(
+                USER_ID, "WRITE", null, "SECRET", RESOURCE_ID, true, null, null);
+
+        Page<AuditEntry> page = auditEntryRepository.findAll(
+                AuditEntrySpecifications.matching(TEAM_ID, query), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(AuditEntry::getOperation).containsExactly("WRITE");
+    }
+
+    @Test
+    void findAll_matchingSpecification_failedOnlyAndOpenTimeRange() {
+        AuditQueryRequest query = new AuditQueryRequest(
+                null, null, null, null, null, false, Instant.now().minus(1, ChronoUnit.HOURS), null);
+
+        Page<AuditEntry> page = auditEntryRepository.findAll(
+                AuditEntrySpecifications.matching(TEAM_ID, query), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(AuditEntry::getOperation).containsExactly("DELETE");
+    }
+
+    @Test
+    void findAll_matchingSpecification_userFilterIsTeamScoped() {
+        AuditQueryRequest query = new AuditQueryRequest(
+                USER_ID, null, null, null, null, null, null, null);
+
+        assertThat(auditEntryRepository.findAll(
+                AuditEntrySpecifications.matching(TEAM_ID, query), PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(3);
+        assertThat(auditEntryRepository.findAll(
+                AuditEntrySpecifications.matching(UUID.randomUUID(), query), PageRequest.of(0, 10)).getContent())
+                .isEmpty();
+    }
+
     @Test
     void findByUserId_returnsUserEntries() {
         Page<AuditEntry> page = auditEntryRepository.findByUserId(USER_ID, PageRequest.of(0, 10));
@@ -118,15 +170,4 @@ class AuditEntryRepositoryTest {
         assertThat(page.getContent()).hasSize(1);
         assertThat(page.getContent().get(0).getErrorMessage()).isEqualTo("Access denied");
     }
-
-    @Test
-    void countByTeamId_returnsCorrectCount() {
-        assertThat(auditEntryRepository.countByTeamId(TEAM_ID)).isEqualTo(4);
-    }
-
-    @Test
-    void countByTeamIdAndOperation_countsCorrectly() {
-        assertThat(auditEntryRepository.countByTeamIdAndOperation(TEAM_ID, "READ")).isEqualTo(1);
-        assertThat(auditEntryRepository.countByTeamIdAndOperation(TEAM_ID, "WRITE")).isEqualTo(1);
-    }
 }
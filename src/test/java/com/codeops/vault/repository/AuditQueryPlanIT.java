@@ -0,0 +1,100 @@
+package com.codeops.vault.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies on PostgreSQL that the audit log queries issued by
+ * {@link AuditEntrySpecifications} and the keyset listing are served by the
+ * composite indexes of {@code vault_audit_log}.
+ *
+ * <p>Seeds 50,000 entries across 50 teams, analyzes the table, and checks
+ * the {@code EXPLAIN} output of each query shape. Skipped when Docker is not
+ * available.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("integration")
+@Testcontainers(disabledWithoutDocker = true)
+class AuditQueryPlanIT {
+
+    private static final String TEAM_ID = "00000000-0000-0000-0000-000000000007";
+    private static final String RESOURCE_ID = "00000000-0000-0000-0001-000000000007";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO vault_audit_log
+                    (team_id, user_id, operation, path, resource_type, resource_id, success, created_at)
+                SELECT ('00000000-0000-0000-0000-' || lpad((g % 50)::text, 12, '0'))::uuid,
+                       gen_random_uuid(),
+                       (ARRAY['READ', 'WRITE', 'DELETE', 'ROTATE'])[g % 4 + 1],
+                       '/services/app-' || (g % 500),
+                       'SECRET',
+                       ('00000000-0000-0000-0001-' || lpad((g % 2000)::text, 12, '0'))::uuid,
+                       g % 10 <> 0,
+                       now() - make_interval(secs => g)
+                FROM generate_series(1, 50000) AS g
+                """);
+        jdbcTemplate.execute("ANALYZE vault_audit_log");
+    }
+
+    @Test
+    void teamListing_usesTeamCreatedIndex() {
+        assertThat(plan("WHERE team_id = '" + TEAM_ID + "' ORDER BY created_at DESC, id DESC"))
+                .contains("idx_val_team_created");
+    }
+
+    @Test
+    void keysetListing_usesTeamCreatedIndex() {
+        assertThat(plan("WHERE team_id = '" + TEAM_ID + "' AND (created_at, id) < (now(), 0) "
+                + "ORDER BY created_at DESC, id DESC"))
+                .contains("idx_val_team_created");
+    }
+
+    @Test
+    void operationFilter_usesTeamOperationIndex() {
+        assertThat(plan("WHERE team_id = '" + TEAM_ID + "' AND operation = 'WRITE' ORDER BY created_at DESC"))
+                .contains("idx_val_team_operation_created");
+    }
+
+    @Test
+    void resourceFilter_usesTeamResourceIndex() {
+        assertThat(plan("WHERE team_id = '" + TEAM_ID + "' AND resource_type = 'SECRET' "
+                + "AND resource_id = '" + RESOURCE_ID + "' ORDER BY created_at DESC"))
+                .contains("idx_val_team_resource_created");
+    }
+
+    private String plan(String whereAndOrder) {
+        List<String> rows = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM vault_audit_log " + whereAndOrder + " LIMIT 20", String.class);
+        return String.join("\n", rows);
+    }
+}
@@ -0,0 +1,108 @@
+package com.codeops.vault.repository;
+
+import com.codeops.vault.entity.DynamicLease;
+import com.codeops.vault.entity.enums.LeaseStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@link DynamicLeaseRepository#lockClaimableExpired} skips
+ * rows locked by another transaction on PostgreSQL, instead of waiting for
+ * them. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("integration")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DynamicLeaseClaimIT {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DynamicLeaseRepository dynamicLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void lockClaimableExpired_concurrentClaimersLockDisjointRows() throws Exception {
+        dynamicLeaseRepository.deleteAll();
+        UUID secretId = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            dynamicLeaseRepository.save(DynamicLease.builder()
+                    .leaseId("lease-expired-" + i)
+                    .secretId(secretId)
+                    .secretPath("/services/app/db/creds")
+                    .backendType("postgresql")
+                    .credentials("SEED:Y3JlZHM=")
+                    .status(LeaseStatus.ACTIVE)
+                    .ttlSeconds(3600)
+                    .expiresAt(Instant.now().minus(10 - i, ChronoUnit.MINUTES))
+                    .build());
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            List<String> locked = leaseIds(dynamicLeaseRepository.lockClaimableExpired(
+                    LeaseStatus.ACTIVE, Instant.now(), PageRequest.of(0, 2)));
+            firstLocked.countDown();
+            await(secondDone);
+            return locked;
+        }));
+        assertThat(firstLocked.await(30, TimeUnit.SECONDS)).isTrue();
+        List<String> second = transaction.execute(status -> leaseIds(dynamicLeaseRepository.lockClaimableExpired(
+                LeaseStatus.ACTIVE, Instant.now(), PageRequest.of(0, 2))));
+        secondDone.countDown();
+
+        assertThat(first.get(30, TimeUnit.SECONDS)).containsExactly("lease-expired-0", "lease-expired-1");
+        assertThat(second).containsExactly("lease-expired-2", "lease-expired-3");
+    }
+
+    private static List<String> leaseIds(List<DynamicLease> leases) {
+        return leases.stream().map(DynamicLease::getLeaseId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
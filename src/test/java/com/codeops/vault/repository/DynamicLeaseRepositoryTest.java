@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
@@ -13,6 +15,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -89,6 +92,22 @@ class DynamicLeaseRepositoryTest {
         assertThat(leases).hasSize(3);
     }
 
+    @Test
+    void findPageAfter_walksSecretLeasesNewestFirstWithoutGaps() {
+        Slice<DynamicLease> first = dynamicLeaseRepository.findPageAfter(SECRET_ID,
+                Instant.parse("9999-12-31T23:59:59Z"), new UUID(0, 0), PageRequest.of(0, 2));
+        DynamicLease last = first.getContent().get(1);
+        Slice<DynamicLease> second = dynamicLeaseRepository.findPageAfter(SECRET_ID,
+                last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(Stream.concat(first.stream(), second.stream()).map(DynamicLease::getLeaseId))
+                .containsExactlyInAnyOrder("lease-active-1", "lease-expired-1", "lease-revoked-1");
+    }
+
     @Test
     void findByStatus_returnsMatchingLeases() {
         List<DynamicLease> active = dynamicLeaseRepository.findByStatus(LeaseStatus.ACTIVE);
@@ -106,6 +125,40 @@ class DynamicLeaseRepositoryTest {
         assertThat(expired.get(0).getLeaseId()).isEqualTo("lease-expired-1");
     }
 
+    @Test
+    void lockClaimableExpired_skipsLeasesWithLiveClaim() {
+        Instant now = Instant.now();
+        List<DynamicLease> claimable = dynamicLeaseRepository
+                .lockClaimableExpired(LeaseStatus.ACTIVE, now, PageRequest.of(0, 10));
+        assertThat(claimable).extracting(DynamicLease::getLeaseId).containsExactly("lease-expired-1");
+
+        DynamicLease expired = claimable.get(0);
+        expired.setClaimedBy("node-a");
+        expired.setClaimExpiresAt(now.plus(5, ChronoUnit.MINUTES));
+        dynamicLeaseRepository.saveAndFlush(expired);
+
+        assertThat(dynamicLeaseRepository.lockClaimableExpired(LeaseStatus.ACTIVE, now, PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    void lockDueByLeaseIds_returnsOnlyDueActiveLeases() {
+        List<DynamicLease> due = dynamicLeaseRepository.lockDueByLeaseIds(
+                List.of("lease-active-1", "lease-expired-1", "lease-revoked-1"), LeaseStatus.ACTIVE, Instant.now());
+
+        assertThat(due).extracting(DynamicLease::getLeaseId).containsExactly("lease-expired-1");
+    }
+
+    @Test
+    void findExpiriesByStatus_returnsLeaseIdsAndExpiries() {
+        List<DynamicLeaseRepository.LeaseExpiry> expiries = dynamicLeaseRepository
+                .findExpiriesByStatus(LeaseStatus.ACTIVE);
+
+        assertThat(expiries).extracting(DynamicLeaseRepository.LeaseExpiry::getLeaseId)
+                .containsExactlyInAnyOrder("lease-active-1", "lease-expired-1");
+        assertThat(expiries).allSatisfy(expiry -> assertThat(expiry.getExpiresAt()).isNotNull());
+    }
+
     @Test
     void countBySecretIdAndStatus_countsCorrectly() {
         assertThat(dynamicLeaseRepository.countBySecretIdAndStatus(SECRET_ID, LeaseStatus.ACTIVE)).isEqualTo(2);
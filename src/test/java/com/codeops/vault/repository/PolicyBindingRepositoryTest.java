@@ -130,4 +130,11 @@ class PolicyBindingRepositoryTest {
         assertThat(active).hasSize(1);
         assertThat(active.get(0).getPolicy().getName()).isEqualTo("active-policy");
     }
+
+    @Test
+    void findActiveBindingsForTeam_returnsAllActiveBindingsWithPolicy() {
+        List<PolicyBinding> active = policyBindingRepository.findActiveBindingsForTeam(TEAM_ID);
+        assertThat(active).hasSize(2);
+        assertThat(active).allMatch(b -> b.getPolicy().getName().equals("active-policy"));
+    }
 }
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
@@ -94,6 +95,43 @@ class RotationPolicyRepositoryTest {
         assertThat(due.get(0).getSecret().getId()).isEqualTo(secret1.getId());
     }
 
+    @Test
+    void lockClaimableDue_skipsPoliciesWithLiveClaim() {
+        Instant now = Instant.now();
+        assertThat(rotationPolicyRepository.lockClaimableDue(now, PageRequest.of(0, 10))).hasSize(1);
+
+        RotationPolicy due = rotationPolicyRepository.findBySecretId(secret1.getId()).orElseThrow();
+        due.setClaimedBy("node-a");
+        due.setClaimExpiresAt(now.plus(5, ChronoUnit.MINUTES));
+        rotationPolicyRepository.saveAndFlush(due);
+        assertThat(rotationPolicyRepository.lockClaimableDue(now, PageRequest.of(0, 10))).isEmpty();
+
+        due.setClaimExpiresAt(now.minus(1, ChronoUnit.MINUTES));
+        rotationPolicyRepository.saveAndFlush(due);
+        assertThat(rotationPolicyRepository.lockClaimableDue(now, PageRequest.of(0, 10)))
+                .extracting(p -> p.getSecret().getId())
+                .containsExactly(secret1.getId());
+    }
+
+    @Test
+    void lockBySecretId_returnsPolicy() {
+        assertThat(rotationPolicyRepository.lockBySecretId(secret1.getId()))
+                .get()
+                .extracting(RotationPolicy::getStrategy)
+                .isEqualTo(RotationStrategy.RANDOM_GENERATE);
+    }
+
+    @Test
+    void releaseClaim_onlyReleasesOwnClaim() {
+        RotationPolicy due = rotationPolicyRepository.findBySecretId(secret1.getId()).orElseThrow();
+        due.setClaimedBy("node-b");
+        due.setClaimExpiresAt(Instant.now().plus(5, ChronoUnit.MINUTES));
+        rotationPolicyRepository.saveAndFlush(due);
+
+        assertThat(rotationPolicyRepository.releaseClaim(due.getId(), "node-a")).isZero();
+        assertThat(rotationPolicyRepository.releaseClaim(due.getId(), "node-b")).isEqualTo(1);
+    }
+
     @Test
     void findByIsActiveTrue_returnsActivePolicies() {
         List<RotationPolicy> active = rotationPolicyRepository.findByIsActiveTrue();
@@ -62,6 +62,29 @@ class SecretMetadataRepositoryTest {
         assertThat(metadata).hasSize(2);
     }
 
+    @Test
+    void findBySecretIdIn_returnsMetadataOfAllSecrets() {
+        Secret other = secretRepository.save(Secret.builder()
+                .teamId(secret.getTeamId())
+                .path("/test/other")
+                .name("Other Secret")
+                .secretType(SecretType.STATIC)
+                .build());
+        secretMetadataRepository.save(SecretMetadata.builder()
+                .secret(other)
+                .metadataKey("environment")
+                .metadataValue("staging")
+                .build());
+
+        List<SecretMetadata> metadata = secretMetadataRepository.findBySecretIdIn(
+                List.of(secret.getId(), other.getId()));
+
+        assertThat(metadata).hasSize(3);
+        assertThat(metadata).filteredOn(m -> m.getSecret().getId().equals(other.getId()))
+                .extracting(SecretMetadata::getMetadataValue)
+                .containsExactly("staging");
+    }
+
     @Test
     void findBySecretIdAndMetadataKey_existingKey_returnsMetadata() {
         Optional<SecretMetadata> result = secretMetadataRepository.findBySecretIdAndMetadataKey(secret.getId(), "environment");
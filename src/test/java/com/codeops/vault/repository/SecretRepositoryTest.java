@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
@@ -15,6 +16,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -169,4 +171,48 @@ class SecretRepositoryTest {
         assertThat(expired).hasSize(1);
         assertThat(expired.get(0).getPath()).isEqualTo("/services/app-a/db/password");
     }
+
+    @Test
+    void findByTeamIdAndPathIn_returnsOnlyTeamSecretsAtPaths() {
+        List<Secret> found = secretRepository.findByTeamIdAndPathIn(TEAM_ID,
+                List.of("/services/app-a/db/password", "/services/app-b/db/creds", "/missing"));
+
+        assertThat(found).extracting(Secret::getPath)
+                .containsExactlyInAnyOrder("/services/app-a/db/password", "/services/app-b/db/creds");
+        assertThat(secretRepository.findByTeamIdAndPathIn(OTHER_TEAM_ID,
+                List.of("/services/app-a/db/password"))).isEmpty();
+    }
+
+    @Test
+    void findByTeamIdAndIdIn_excludesOtherTeams() {
+        Secret own = secretRepository.findByTeamIdAndPath(TEAM_ID, "/services/app-a/api/key").orElseThrow();
+
+        assertThat(secretRepository.findByTeamIdAndIdIn(TEAM_ID, List.of(own.getId()))).hasSize(1);
+        assertThat(secretRepository.findByTeamIdAndIdIn(OTHER_TEAM_ID, List.of(own.getId()))).isEmpty();
+    }
+
+    @Test
+    void findPageAfter_walksTeamSecretsNewestFirstWithoutGaps() {
+        Slice<Secret> first = secretRepository.findPageAfter(TEAM_ID, false,
+                Instant.parse("9999-12-31T23:59:59Z"), new UUID(0, 0), PageRequest.of(0, 3));
+        Secret last = first.getContent().get(2);
+        Slice<Secret> second = secretRepository.findPageAfter(TEAM_ID, false,
+                last.getCreatedAt(), last.getId(), PageRequest.of(0, 3));
+
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent().get(0).getCreatedAt()).isBeforeOrEqualTo(last.getCreatedAt());
+        assertThat(Stream.concat(first.stream(), second.stream()).map(Secret::getId).distinct()).hasSize(4);
+    }
+
+    @Test
+    void findPageAfter_activeOnly_excludesInactive() {
+        Slice<Secret> slice = secretRepository.findPageAfter(TEAM_ID, true,
+                Instant.parse("9999-12-31T23:59:59Z"), new UUID(0, 0), PageRequest.of(0, 10));
+
+        assertThat(slice.getContent()).hasSize(3).allMatch(Secret::getIsActive);
+        assertThat(slice.hasNext()).isFalse();
+    }
 }
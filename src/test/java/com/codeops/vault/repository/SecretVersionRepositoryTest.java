@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -119,4 +120,61 @@ class SecretVersionRepositoryTest {
         assertThat(page.getContent()).hasSize(2);
         assertThat(page.getTotalElements()).isEqualTo(3);
     }
+
+    @Test
+    void findTextEnvelopes_returnsOnlyUndestroyedTextVersions() {
+        secretVersionRepository.save(SecretVersion.builder()
+                .secret(secret)
+                .versionNumber(4)
+                .encryptedValueBytes(new byte[]{1, 2, 3})
+                .build());
+
+        List<SecretVersion> pending = secretVersionRepository.findTextEnvelopes(PageRequest.of(0, 10));
+
+        assertThat(pending).extracting(SecretVersion::getVersionNumber).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void findTextEnvelopesAfter_returnsOnlyVersionsAfterId() {
+        List<SecretVersion> pending = secretVersionRepository.findTextEnvelopes(PageRequest.of(0, 10));
+
+        List<SecretVersion> after = secretVersionRepository.findTextEnvelopesAfter(
+                pending.get(0).getId(), PageRequest.of(0, 10));
+
+        assertThat(after).extracting(SecretVersion::getId).containsExactly(pending.get(1).getId());
+    }
+
+    @Test
+    void encryptedValueBytes_roundTripsThroughDatabase() {
+        SecretVersion saved = secretVersionRepository.saveAndFlush(SecretVersion.builder()
+                .secret(secret)
+                .versionNumber(5)
+                .encryptedValueBytes(new byte[]{0, -1, 127, -128})
+                .build());
+
+        SecretVersion loaded = secretVersionRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(loaded.getEncryptedValueBytes()).containsExactly(0, -1, 127, -128);
+        assertThat(loaded.getEncryptedValue()).isNull();
+    }
+
+    @Test
+    void findCurrentVersions_returnsCurrentVersionOfEachSecret() {
+        Secret other = secretRepository.save(Secret.builder()
+                .teamId(UUID.randomUUID())
+                .path("/test/other")
+                .name("Other Secret")
+                .secretType(SecretType.STATIC)
+                .currentVersion(1)
+                .build());
+        secretVersionRepository.save(SecretVersion.builder()
+                .secret(other)
+                .versionNumber(1)
+                .encryptedValue("SEED:b3RoZXI=")
+                .build());
+
+        List<SecretVersion> current = secretVersionRepository.findCurrentVersions(List.of(secret.getId(), other.getId()));
+
+        assertThat(current).extracting(SecretVersion::getVersionNumber).containsExactlyInAnyOrder(3, 1);
+    }
 }
@@ -156,4 +156,83 @@ class JwtTokenValidatorTest {
                 .compact();
         assertThat(validator.getPermissionsFromToken(token)).isEmpty();
     }
+
+    @Test
+    void authenticate_validToken_returnsAllClaims() {
+        UUID userId = UUID.randomUUID();
+        UUID teamId = UUID.randomUUID();
+        String token = buildToken(userId, teamId,
+                List.of("ADMIN"), List.of("vault:read"),
+                Instant.now().plus(1, ChronoUnit.HOURS));
+
+        JwtPrincipal principal = validator.authenticate(token).orElseThrow();
+
+        assertThat(principal.userId()).isEqualTo(userId);
+        assertThat(principal.teamId()).isEqualTo(teamId);
+        assertThat(principal.roles()).containsExactly("ADMIN");
+        assertThat(principal.permissions()).containsExactly("vault:read");
+        assertThat(principal.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void authenticate_invalidToken_returnsEmpty() {
+        assertThat(validator.authenticate("not.a.valid.jwt")).isEmpty();
+        assertThat(validator.verifiedTokenCacheSize()).isZero();
+    }
+
+    @Test
+    void authenticate_repeatedToken_servedFromCache() {
+        String token = buildToken(UUID.randomUUID(), UUID.randomUUID(),
+                List.of("MEMBER"), List.of(),
+                Instant.now().plus(1, ChronoUnit.HOURS));
+
+        JwtPrincipal first = validator.authenticate(token).orElseThrow();
+        JwtPrincipal second = validator.authenticate(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(validator.verifiedTokenCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticate_cacheBounded_staysWithinBound() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(VALID_SECRET);
+        props.setVerifiedTokenCacheSize(2);
+        JwtTokenValidator bounded = new JwtTokenValidator(props);
+
+        for (int i = 0; i < 3; i++) {
+            bounded.authenticate(buildToken(UUID.randomUUID(), null, List.of(), List.of(),
+                    Instant.now().plus(1, ChronoUnit.HOURS)));
+        }
+
+        assertThat(bounded.verifiedTokenCacheSize()).isEqualTo(2);
+    }
+
+    @Test
+    void authenticate_cacheDisabled_doesNotCache() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(VALID_SECRET);
+        props.setVerifiedTokenCacheSize(0);
+        JwtTokenValidator uncached = new JwtTokenValidator(props);
+        String token = buildToken(UUID.randomUUID(), null, List.of(), List.of(),
+                Instant.now().plus(1, ChronoUnit.HOURS));
+
+        JwtPrincipal first = uncached.authenticate(token).orElseThrow();
+        JwtPrincipal second = uncached.authenticate(token).orElseThrow();
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(uncached.verifiedTokenCacheSize()).isZero();
+    }
+
+    @Test
+    void authenticate_cachedTokenPastExpiry_rejected() throws InterruptedException {
+        String token = buildToken(UUID.randomUUID(), null, List.of(), List.of(),
+                Instant.now().plusMillis(1500));
+
+        assertThat(validator.authenticate(token)).isPresent();
+        Thread.sleep(2000);
+
+        assertThat(validator.authenticate(token)).isEmpty();
+        assertThat(validator.verifiedTokenCacheSize()).isZero();
+    }
 }
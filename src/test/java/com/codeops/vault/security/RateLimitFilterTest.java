@@ -1,28 +1,45 @@
 package com.codeops.vault.security;
 
+import com.codeops.vault.config.RateLimitProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 class RateLimitFilterTest {
 
+    private RateLimitProperties properties;
+    private AtomicLong clock;
     private RateLimitFilter filter;
     private FilterChain filterChain;
 
     @BeforeEach
     void setUp() {
-        filter = new RateLimitFilter();
+        properties = new RateLimitProperties();
+        clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        filter = new RateLimitFilter(properties, clock::get);
         filterChain = mock(FilterChain.class);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void requestsUnderLimit_pass() throws ServletException, IOException {
         MockHttpServletRequest request = new MockHttpServletRequest();
@@ -53,6 +70,7 @@ class RateLimitFilterTest {
                 assertThat(response.getStatus()).isNotEqualTo(429);
             } else {
                 assertThat(response.getStatus()).isEqualTo(429);
+                assertThat(response.getHeader("Retry-After")).isEqualTo("1");
             }
         }
     }
@@ -61,20 +79,102 @@ class RateLimitFilterTest {
     void differentIps_trackedSeparately() throws ServletException, IOException {
         // Fill up IP 1 to 100 requests
         for (int i = 0; i < 100; i++) {
-            MockHttpServletRequest request = new MockHttpServletRequest();
-            request.setRequestURI("/api/v1/vault/secrets");
-            request.setRemoteAddr("10.0.0.1");
-            MockHttpServletResponse response = new MockHttpServletResponse();
-            filter.doFilterInternal(request, response, filterChain);
+            send("/api/v1/vault/secrets", "10.0.0.1");
         }
 
         // IP 2 should still be able to make requests
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.2").getStatus()).isNotEqualTo(429);
+    }
+
+    @Test
+    void bucketRefillsContinuously() throws ServletException, IOException {
+        for (int i = 0; i < 100; i++) {
+            send("/api/v1/vault/secrets", "10.0.0.1");
+        }
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.1").getStatus()).isEqualTo(429);
+
+        // 100 per minute refills one token every 600 ms
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.1").getStatus()).isNotEqualTo(429);
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void nonVaultPaths_notLimited() throws ServletException, IOException {
+        properties.setRequestsPerMinute(1);
+        filter = new RateLimitFilter(properties, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("/health", "10.0.0.1").getStatus()).isNotEqualTo(429);
+        }
+    }
+
+    @Test
+    void routeOverride_hasOwnLimitAndBucket() throws ServletException, IOException {
+        RateLimitProperties.RouteLimit transit = new RateLimitProperties.RouteLimit();
+        transit.setPathPrefix("/api/v1/vault/transit/");
+        transit.setRequestsPerMinute(2);
+        properties.setRoutes(List.of(transit));
+        filter = new RateLimitFilter(properties, clock::get);
+
+        assertThat(send("/api/v1/vault/transit/encrypt", "10.0.0.1").getStatus()).isNotEqualTo(429);
+        assertThat(send("/api/v1/vault/transit/decrypt", "10.0.0.1").getStatus()).isNotEqualTo(429);
+        assertThat(send("/api/v1/vault/transit/encrypt", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.1").getStatus()).isNotEqualTo(429);
+    }
+
+    @Test
+    void principalOverride_appliesToAuthenticatedUser() throws ServletException, IOException {
+        UUID userId = UUID.randomUUID();
+        RateLimitProperties.PrincipalLimit limit = new RateLimitProperties.PrincipalLimit();
+        limit.setPrincipal(userId.toString());
+        limit.setRequestsPerMinute(60);
+        limit.setBurst(1);
+        properties.setPrincipals(List.of(limit));
+        filter = new RateLimitFilter(properties, clock::get);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.1").getStatus()).isNotEqualTo(429);
+        // Same user from another address shares the bucket
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.2").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void principalOverrideOfZero_exemptsPrincipal() throws ServletException, IOException {
+        RateLimitProperties.PrincipalLimit limit = new RateLimitProperties.PrincipalLimit();
+        limit.setPrincipal("10.0.0.9");
+        limit.setRequestsPerMinute(0);
+        properties.setPrincipals(List.of(limit));
+        filter = new RateLimitFilter(properties, clock::get);
+
+        for (int i = 0; i < 150; i++) {
+            assertThat(send("/api/v1/vault/secrets", "10.0.0.9").getStatus()).isNotEqualTo(429);
+        }
+        assertThat(filter.bucketCount()).isZero();
+    }
+
+    @Test
+    void evictIdle_dropsOnlyRefilledBuckets() throws ServletException, IOException {
+        send("/api/v1/vault/secrets", "10.0.0.1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        send("/api/v1/vault/secrets", "10.0.0.2");
+
+        assertThat(filter.evictIdle()).isEqualTo(1);
+        assertThat(filter.bucketCount()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(filter.evictIdle()).isEqualTo(1);
+        assertThat(filter.bucketCount()).isZero();
+        assertThat(send("/api/v1/vault/secrets", "10.0.0.2").getStatus()).isNotEqualTo(429);
+    }
+
+    private MockHttpServletResponse send(String uri, String ip) throws ServletException, IOException {
         MockHttpServletRequest request = new MockHttpServletRequest();
-        request.setRequestURI("/api/v1/vault/secrets");
-        request.setRemoteAddr("10.0.0.2");
+        request.setRequestURI(uri);
+        request.setRemoteAddr(ip);
         MockHttpServletResponse response = new MockHttpServletResponse();
-
         filter.doFilterInternal(request, response, filterChain);
-        assertThat(response.getStatus()).isNotEqualTo(429);
+        return response;
     }
 }
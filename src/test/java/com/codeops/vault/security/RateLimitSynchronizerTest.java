@@ -0,0 +1,136 @@
+package com.codeops.vault.security;
+
+import com.codeops.vault.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RateLimitSynchronizer} against the embedded test database.
+ *
+ * <p>Two filters stand in for two Vault instances sharing one database.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RateLimitSynchronizerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(2);
+        properties.setDistributed(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+    }
+
+    @Test
+    void synchronize_sharesUsageBetweenInstances() throws Exception {
+        RateLimitFilter first = filter();
+        RateLimitFilter second = filter();
+        RateLimitSynchronizer firstSync = synchronizer(first, NOW);
+        RateLimitSynchronizer secondSync = synchronizer(second, NOW);
+
+        assertThat(send(first)).isNotEqualTo(429);
+        assertThat(firstSync.synchronize()).isEqualTo(1);
+        assertThat(send(second)).isNotEqualTo(429);
+        assertThat(secondSync.synchronize()).isEqualTo(1);
+
+        // Both requests are charged to the shared bucket, so the limit of 2 is reached on both instances
+        assertThat(send(second)).isEqualTo(429);
+        assertThat(firstSync.synchronize()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT full_at_micros FROM rate_limit_buckets", Long.class))
+                .isEqualTo(micros(NOW.plusSeconds(60)));
+    }
+
+    @Test
+    void synchronize_movesLocalBucketForwardOnly() throws Exception {
+        RateLimitFilter filter = filter();
+        RateLimitSynchronizer synchronizer = synchronizer(filter, NOW);
+        jdbcTemplate.update(RateLimitSynchronizer.INSERT_SQL, "/api/v1/vault/ 10.0.0.1", micros(NOW.minusSeconds(300)));
+
+        send(filter);
+        synchronizer.synchronize();
+
+        // A stale shared bucket does not refill the local one
+        assertThat(send(filter)).isNotEqualTo(429);
+        assertThat(send(filter)).isEqualTo(429);
+    }
+
+    @Test
+    void purgeExpired_deletesRefilledBuckets() throws Exception {
+        RateLimitFilter filter = filter();
+        send(filter);
+        synchronizer(filter, NOW).synchronize();
+
+        assertThat(synchronizer(filter, NOW.plusSeconds(10)).purgeExpired()).isZero();
+        assertThat(synchronizer(filter, NOW.plusSeconds(31)).purgeExpired()).isEqualTo(1);
+    }
+
+    @Test
+    void synchronize_disabled_doesNothing() throws Exception {
+        properties.setDistributed(false);
+        RateLimitFilter filter = filter();
+        send(filter);
+
+        assertThat(synchronizer(filter, NOW).synchronize()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_buckets", Integer.class)).isZero();
+    }
+
+    private RateLimitFilter filter() {
+        return new RateLimitFilter(properties, () -> TimeUnit.HOURS.toNanos(1));
+    }
+
+    private RateLimitSynchronizer synchronizer(RateLimitFilter filter, Instant now) {
+        return new RateLimitSynchronizer(filter, properties, jdbcTemplate, transactionManager,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private int send(RateLimitFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/api/v1/vault/secrets");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(request, response, mock(FilterChain.class));
+        return response.getStatus();
+    }
+
+    private static long micros(Instant instant) {
+        return Duration.between(Instant.EPOCH, instant).toNanos() / 1000;
+    }
+}
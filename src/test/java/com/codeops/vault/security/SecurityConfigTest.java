@@ -34,11 +34,15 @@ class SecurityConfigTest {
     private JwtProperties jwtProperties;
 
     private String buildValidToken() {
+        return buildToken("MEMBER");
+    }
+
+    private String buildToken(String role) {
         SecretKey key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
         return Jwts.builder()
                 .subject(UUID.randomUUID().toString())
                 .claim("teamId", UUID.randomUUID().toString())
-                .claim("roles", List.of("MEMBER"))
+                .claim("roles", List.of(role))
                 .claim("permissions", List.of("vault:read"))
                 .issuedAt(Date.from(Instant.now()))
                 .expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
@@ -77,4 +81,34 @@ class SecurityConfigTest {
                 .andExpect(result ->
                         assertThat(result.getResponse().getHeader("X-Correlation-ID")).isNotBlank());
     }
+
+    @Test
+    void actuatorHealth_noAuth_returnsStatusWithoutDetails() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components").doesNotExist());
+    }
+
+    @Test
+    void actuatorHealth_adminToken_returnsDetails() throws Exception {
+        mockMvc.perform(get("/actuator/health")
+                        .header("Authorization", "Bearer " + buildToken("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components").exists());
+    }
+
+    @Test
+    void actuatorMetrics_memberToken_returns403() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + buildValidToken()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void actuatorMetrics_adminToken_returns200() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + buildToken("ADMIN")))
+                .andExpect(status().isOk());
+    }
 }
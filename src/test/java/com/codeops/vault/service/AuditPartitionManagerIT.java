@@ -0,0 +1,135 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.AuditProperties;
+import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies partitioned mode of {@link AuditPartitionManager} on PostgreSQL.
+ *
+ * <p>Seeds entries across six months, runs two instances' maintenance at
+ * once, and checks that the table is converted and archived exactly once,
+ * expired partitions are archived and dropped, upcoming partitions exist,
+ * inserts keep working, and time-ranged queries only scan the matching
+ * partition. Skipped when Docker is not available.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("integration")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditPartitionManagerIT {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuditEntryRepository auditEntryRepository;
+
+    @TempDir
+    Path archiveDirectory;
+
+    @Test
+    void maintain_partitionsTableAndArchivesExpiredMonths() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO vault_audit_log (team_id, user_id, operation, path, resource_type, success, created_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), 'READ', '/services/app', 'SECRET', true,
+                       timestamptz '2026-05-01 00:00:00+00' + make_interval(hours => g)
+                FROM generate_series(0, 4000) AS g
+                """);
+        Long before = jdbcTemplate.queryForObject("SELECT count(*) FROM vault_audit_log", Long.class);
+        Long expired = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM vault_audit_log WHERE created_at < '2026-07-01 00:00:00+00'", Long.class);
+
+        AuditProperties properties = new AuditProperties();
+        properties.setPartitioningEnabled(true);
+        properties.setRetentionMonths(3);
+        properties.setArchiveDirectory(archiveDirectory.toString());
+        AuditPartitionManager manager = new AuditPartitionManager(jdbcTemplate, transactionManager, properties,
+                new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+        AuditPartitionManager otherInstance = new AuditPartitionManager(jdbcTemplate, transactionManager,
+                properties, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(manager::maintain);
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(otherInstance::maintain);
+        assertThat(first.get(2, TimeUnit.MINUTES) + second.get(2, TimeUnit.MINUTES)).isEqualTo(expired);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = 'vault_audit_log'::regclass", String.class))
+                .isEqualTo("p");
+        assertThat(partitions()).contains("vault_audit_log_p202607", "vault_audit_log_p202612",
+                        AuditPartitionManager.DEFAULT_PARTITION)
+                .doesNotContain("vault_audit_log_p202605", "vault_audit_log_p202606");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM vault_audit_log", Long.class))
+                .isEqualTo(before - expired);
+        assertThat(Files.exists(archiveDirectory.resolve("vault_audit_log_p202605.csv.gz"))).isTrue();
+        assertThat(Files.exists(archiveDirectory.resolve("vault_audit_log_p202606.csv.gz"))).isTrue();
+
+        AuditEntry saved = auditEntryRepository.save(AuditEntry.builder()
+                .teamId(UUID.randomUUID()).operation("WRITE").success(true).build());
+        assertThat(saved.getId()).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT column_default FROM information_schema.columns
+                WHERE table_name = 'vault_audit_log' AND column_name = 'id'
+                """, String.class)).contains(AuditPartitionManager.SEQUENCE);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT * FROM vault_audit_log "
+                + "WHERE created_at >= '2026-08-01 00:00:00+00' AND created_at < '2026-08-15 00:00:00+00'",
+                String.class));
+        assertThat(plan).contains("vault_audit_log_p202608")
+                .doesNotContain("vault_audit_log_p202607")
+                .doesNotContain("vault_audit_log_p202609");
+
+        assertThat(manager.maintain()).isZero();
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'vault_audit_log'::regclass
+                """, String.class);
+    }
+}
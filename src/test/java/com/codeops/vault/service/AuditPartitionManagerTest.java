@@ -0,0 +1,196 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.AuditProperties;
+import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AuditPartitionManager} against the embedded test database.
+ *
+ * <p>The embedded database is not PostgreSQL, so these tests cover the
+ * unpartitioned retention path: archiving expired entries to a compressed
+ * file and deleting them in batches. Partitioned mode is covered by
+ * {@code AuditPartitionManagerIT}.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditPartitionManagerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    @Autowired
+    private AuditEntryRepository auditEntryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private final UUID teamId = UUID.randomUUID();
+    private AuditProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.setArchiveDirectory(archiveDirectory.toString());
+        properties.setArchiveBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditEntryRepository.deleteAll();
+        new JdbcTemplate(dataSource).update("DELETE FROM vault_audit_stats_hourly");
+    }
+
+    @Test
+    void maintain_archivesAndDeletesEntriesBeforeCutoff() throws IOException {
+        properties.setRetentionMonths(3);
+        write("READ", "2026-05-31T23:59:59Z");
+        write("WRITE", "2026-06-15T08:00:00Z");
+        write("DELETE, \"forced\"", "2026-06-30T23:59:59Z");
+        write("READ", "2026-07-01T00:00:00Z");
+        write("READ", "2026-10-18T11:00:00Z");
+
+        long archived = newManager().maintain();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(countForTeam()).isEqualTo(2);
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM vault_audit_stats_hourly WHERE team_id = ?", Long.class, teamId))
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("vault.audit.archive.rows").counter().count()).isEqualTo(3.0);
+
+        List<String> lines = readSingleArchive();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).contains("operation").contains("created_at");
+        assertThat(lines.get(1)).contains(",READ,").contains("2026-05-31T23:59:59Z");
+        assertThat(lines.get(2)).contains(",WRITE,");
+        assertThat(lines.get(3)).contains(",\"DELETE, \"\"forced\"\"\",");
+    }
+
+    @Test
+    void maintain_retentionDisabled_keepsEverything() throws IOException {
+        write("READ", "2020-01-01T00:00:00Z");
+
+        assertThat(newManager().maintain()).isZero();
+
+        assertThat(countForTeam()).isEqualTo(1);
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void maintain_nothingExpired_writesNoArchive() throws IOException {
+        properties.setRetentionMonths(1);
+        write("READ", "2026-09-01T00:00:00Z");
+
+        assertThat(newManager().maintain()).isZero();
+
+        assertThat(countForTeam()).isEqualTo(1);
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void maintain_partitioningOnNonPostgres_fallsBackToRowRetention() {
+        properties.setRetentionMonths(1);
+        properties.setPartitioningEnabled(true);
+        write("READ", "2026-08-31T00:00:00Z");
+
+        assertThat(newManager().maintain()).isEqualTo(1);
+
+        assertThat(countForTeam()).isZero();
+    }
+
+    @Test
+    void retentionCutoff_isStartOfOldestRetainedMonth() {
+        properties.setRetentionMonths(12);
+
+        assertThat(newManager().retentionCutoff(YearMonth.of(2026, 10)))
+                .isEqualTo(Instant.parse("2025-10-01T00:00:00Z"));
+    }
+
+    @Test
+    void partitionName_usesYearAndMonth() {
+        assertThat(AuditPartitionManager.partitionName(YearMonth.of(2026, 3)))
+                .isEqualTo("vault_audit_log_p202603");
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private AuditPartitionManager newManager() {
+        return new AuditPartitionManager(new JdbcTemplate(dataSource), transactionManager, properties,
+                meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void write(String operation, String createdAt) {
+        new JdbcTemplate(dataSource).update("INSERT INTO vault_audit_log "
+                        + "(team_id, user_id, operation, path, resource_type, success, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                teamId, UUID.randomUUID(), operation, "/services/app/db", "SECRET", true,
+                OffsetDateTime.ofInstant(Instant.parse(createdAt), ZoneOffset.UTC));
+        new AuditStatsRollup(new JdbcTemplate(dataSource), transactionManager, meterRegistry)
+                .record(List.of(AuditEntry.builder().teamId(teamId).operation(operation).success(true)
+                        .createdAt(Instant.parse(createdAt)).build()));
+    }
+
+    private List<String> readSingleArchive() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(archiveDirectory)) {
+            files = listing.toList();
+        }
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getFileName().toString())
+                .startsWith("vault_audit_log_before_20260701T000000Z_")
+                .endsWith(".csv.gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private long countForTeam() {
+        return auditEntryRepository.findByTeamId(teamId, PageRequest.of(0, 1)).getTotalElements();
+    }
+}
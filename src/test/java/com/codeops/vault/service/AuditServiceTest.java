@@ -3,9 +3,13 @@ package com.codeops.vault.service;
 import com.codeops.vault.dto.mapper.AuditMapper;
 import com.codeops.vault.dto.request.AuditQueryRequest;
 import com.codeops.vault.dto.response.AuditEntryResponse;
+import com.codeops.vault.dto.response.KeysetCursor;
 import com.codeops.vault.dto.response.PageResponse;
 import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.exception.ValidationException;
 import com.codeops.vault.repository.AuditEntryRepository;
+import com.codeops.vault.repository.AuditStatsBucketRepository;
+import com.codeops.vault.repository.AuditStatsBucketRepository.OperationTotal;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -16,6 +20,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
 import java.util.List;
@@ -23,6 +29,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -42,6 +49,12 @@ class AuditServiceTest {
     @Mock
     private AuditMapper auditMapper;
 
+    @Mock
+    private AuditWriter auditWriter;
+
+    @Mock
+    private AuditStatsBucketRepository auditStatsBucketRepository;
+
     @InjectMocks
     private AuditService auditService;
 
@@ -53,14 +66,11 @@ class AuditServiceTest {
 
     @Test
     void logSuccess_savesAuditEntryWithCorrectFields() {
-        when(auditEntryRepository.save(any(AuditEntry.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
         auditService.logSuccess(TEAM_ID, USER_ID, "WRITE", "/secrets/db/password",
                 "SECRET", RESOURCE_ID, null);
 
         ArgumentCaptor<AuditEntry> captor = ArgumentCaptor.forClass(AuditEntry.class);
-        verify(auditEntryRepository).save(captor.capture());
+        verify(auditWriter).write(captor.capture());
 
         AuditEntry saved = captor.getValue();
         assertThat(saved.getTeamId()).isEqualTo(TEAM_ID);
@@ -77,25 +87,22 @@ class AuditServiceTest {
 
     @Test
     void logSuccess_neverThrowsOnRepositoryFailure() {
-        when(auditEntryRepository.save(any(AuditEntry.class)))
-                .thenThrow(new RuntimeException("DB connection lost"));
+        doThrow(new RuntimeException("DB connection lost"))
+                .when(auditWriter).write(any(AuditEntry.class));
 
         // Should not throw — audit failures are silently logged
         auditService.logSuccess(TEAM_ID, USER_ID, "READ", "/secrets/test",
                 "SECRET", RESOURCE_ID, null);
 
-        verify(auditEntryRepository).save(any(AuditEntry.class));
+        verify(auditWriter).write(any(AuditEntry.class));
     }
 
     @Test
     void logSuccess_withNullUserAndTeam_savesSystemEntry() {
-        when(auditEntryRepository.save(any(AuditEntry.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
         auditService.logSuccess(null, null, "SEAL", null, "VAULT", null, null);
 
         ArgumentCaptor<AuditEntry> captor = ArgumentCaptor.forClass(AuditEntry.class);
-        verify(auditEntryRepository).save(captor.capture());
+        verify(auditWriter).write(captor.capture());
 
         AuditEntry saved = captor.getValue();
         assertThat(saved.getTeamId()).isNull();
@@ -108,14 +115,11 @@ class AuditServiceTest {
 
     @Test
     void logFailure_savesEntryWithErrorMessage() {
-        when(auditEntryRepository.save(any(AuditEntry.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
         auditService.logFailure(TEAM_ID, USER_ID, "DELETE", "/secrets/locked",
                 "SECRET", RESOURCE_ID, "Access denied");
 
         ArgumentCaptor<AuditEntry> captor = ArgumentCaptor.forClass(AuditEntry.class);
-        verify(auditEntryRepository).save(captor.capture());
+        verify(auditWriter).write(captor.capture());
 
         AuditEntry saved = captor.getValue();
         assertThat(saved.getSuccess()).isFalse();
@@ -125,119 +129,82 @@ class AuditServiceTest {
 
     @Test
     void logFailure_neverThrowsOnRepositoryFailure() {
-        when(auditEntryRepository.save(any(AuditEntry.class)))
-                .thenThrow(new RuntimeException("DB timeout"));
+        doThrow(new RuntimeException("DB timeout"))
+                .when(auditWriter).write(any(AuditEntry.class));
 
         // Should not throw
         auditService.logFailure(TEAM_ID, USER_ID, "WRITE", "/secrets/test",
                 "SECRET", RESOURCE_ID, "Some error");
 
-        verify(auditEntryRepository).save(any(AuditEntry.class));
+        verify(auditWriter).write(any(AuditEntry.class));
     }
 
     // ─── queryAuditLog Tests ─────────────────────────────────
 
     @Test
-    void queryAuditLog_withResourceFilter_usesResourceQuery() {
+    @SuppressWarnings("unchecked")
+    void queryAuditLog_combinedFilters_usesSingleSpecificationQuery() {
         Pageable pageable = PageRequest.of(0, 20);
         AuditEntry entry = buildAuditEntry();
         Page<AuditEntry> page = new PageImpl<>(List.of(entry), pageable, 1);
         AuditEntryResponse response = buildResponse();
 
-        when(auditEntryRepository.findByTeamIdAndResourceTypeAndResourceId(
-                TEAM_ID, "SECRET", RESOURCE_ID, pageable)).thenReturn(page);
+        when(auditEntryRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
         when(auditMapper.toResponses(List.of(entry))).thenReturn(List.of(response));
 
         AuditQueryRequest query = new AuditQueryRequest(
-                null, null, null, "SECRET", RESOURCE_ID, null, null, null);
+                USER_ID, "WRITE", null, "SECRET", RESOURCE_ID, true, null, null);
 
         PageResponse<AuditEntryResponse> result = auditService.queryAuditLog(TEAM_ID, query, pageable);
 
         assertThat(result.content()).hasSize(1);
         assertThat(result.totalElements()).isEqualTo(1);
-        verify(auditEntryRepository).findByTeamIdAndResourceTypeAndResourceId(TEAM_ID, "SECRET", RESOURCE_ID, pageable);
+        verify(auditEntryRepository).findAll(any(Specification.class), eq(pageable));
+        verify(auditEntryRepository, never()).findByUserId(any(), any());
     }
 
     @Test
-    void queryAuditLog_withUserIdFilter_usesUserIdQuery() {
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<AuditEntry> page = new PageImpl<>(List.of(), pageable, 0);
-
-        when(auditEntryRepository.findByUserId(USER_ID, pageable)).thenReturn(page);
-        when(auditMapper.toResponses(List.of())).thenReturn(List.of());
-
-        AuditQueryRequest query = new AuditQueryRequest(
-                USER_ID, null, null, null, null, null, null, null);
-
-        auditService.queryAuditLog(TEAM_ID, query, pageable);
-
-        verify(auditEntryRepository).findByUserId(USER_ID, pageable);
-    }
-
-    @Test
-    void queryAuditLog_withOperationFilter_usesOperationQuery() {
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<AuditEntry> page = new PageImpl<>(List.of(), pageable, 0);
-
-        when(auditEntryRepository.findByTeamIdAndOperation(TEAM_ID, "READ", pageable)).thenReturn(page);
-        when(auditMapper.toResponses(List.of())).thenReturn(List.of());
-
+    void queryAuditLog_startAfterEnd_throwsValidation() {
+        Instant end = Instant.now();
         AuditQueryRequest query = new AuditQueryRequest(
-                null, "READ", null, null, null, null, null, null);
+                null, null, null, null, null, null, end.plusSeconds(60), end);
 
-        auditService.queryAuditLog(TEAM_ID, query, pageable);
-
-        verify(auditEntryRepository).findByTeamIdAndOperation(TEAM_ID, "READ", pageable);
+        assertThatThrownBy(() -> auditService.queryAuditLog(TEAM_ID, query, PageRequest.of(0, 20)))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(auditEntryRepository);
     }
 
-    @Test
-    void queryAuditLog_withNoFilters_returnsAllTeamEntries() {
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<AuditEntry> page = new PageImpl<>(List.of(), pageable, 0);
-
-        when(auditEntryRepository.findByTeamId(TEAM_ID, pageable)).thenReturn(page);
-        when(auditMapper.toResponses(List.of())).thenReturn(List.of());
-
-        AuditQueryRequest query = new AuditQueryRequest(
-                null, null, null, null, null, null, null, null);
-
-        auditService.queryAuditLog(TEAM_ID, query, pageable);
-
-        verify(auditEntryRepository).findByTeamId(TEAM_ID, pageable);
-    }
+    // ─── listAuditLogAfter Tests ─────────────────────────────
 
     @Test
-    void queryAuditLog_withFailedOnly_usesFailedQuery() {
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<AuditEntry> page = new PageImpl<>(List.of(), pageable, 0);
-
-        when(auditEntryRepository.findByTeamIdAndSuccessFalse(TEAM_ID, pageable)).thenReturn(page);
-        when(auditMapper.toResponses(List.of())).thenReturn(List.of());
-
-        AuditQueryRequest query = new AuditQueryRequest(
-                null, null, null, null, null, false, null, null);
+    void listAuditLogAfter_firstPage_startsAtUpperBoundAndReturnsCursor() {
+        AuditEntry entry = buildAuditEntry();
+        when(auditEntryRepository.findPageAfter(TEAM_ID, KeysetCursor.UPPER_BOUND, 0L, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(entry), PageRequest.of(0, 1), true));
+        when(auditMapper.toResponses(List.of(entry))).thenReturn(List.of(buildResponse()));
 
-        auditService.queryAuditLog(TEAM_ID, query, pageable);
+        PageResponse<AuditEntryResponse> result = auditService.listAuditLogAfter(TEAM_ID, null, 1);
 
-        verify(auditEntryRepository).findByTeamIdAndSuccessFalse(TEAM_ID, pageable);
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.isLast()).isFalse();
+        assertThat(KeysetCursor.decode(result.nextCursor()))
+                .isEqualTo(KeysetCursor.of(entry.getCreatedAt(), entry.getId()));
     }
 
     @Test
-    void queryAuditLog_withTimeRange_usesTimeRangeQuery() {
-        Pageable pageable = PageRequest.of(0, 20);
-        Instant start = Instant.now().minusSeconds(3600);
-        Instant end = Instant.now();
-        Page<AuditEntry> page = new PageImpl<>(List.of(), pageable, 0);
-
-        when(auditEntryRepository.findByTeamIdAndCreatedAtBetween(TEAM_ID, start, end, pageable)).thenReturn(page);
+    void listAuditLogAfter_withCursor_resumesAfterIt() {
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        String after = KeysetCursor.of(createdAt, 99L).encode();
+        when(auditEntryRepository.findPageAfter(TEAM_ID, createdAt, 99L, PageRequest.of(0, 20)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
         when(auditMapper.toResponses(List.of())).thenReturn(List.of());
 
-        AuditQueryRequest query = new AuditQueryRequest(
-                null, null, null, null, null, null, start, end);
-
-        auditService.queryAuditLog(TEAM_ID, query, pageable);
+        PageResponse<AuditEntryResponse> result = auditService.listAuditLogAfter(TEAM_ID, after, 20);
 
-        verify(auditEntryRepository).findByTeamIdAndCreatedAtBetween(TEAM_ID, start, end, pageable);
+        assertThat(result.isLast()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+        verify(auditEntryRepository).findPageAfter(TEAM_ID, createdAt, 99L, PageRequest.of(0, 20));
+        verifyNoMoreInteractions(auditEntryRepository);
     }
 
     // ─── getAuditForResource Tests ───────────────────────────
@@ -264,23 +231,76 @@ class AuditServiceTest {
 
     @Test
     void getAuditStats_returnsAllCounts() {
-        when(auditEntryRepository.countByTeamId(TEAM_ID)).thenReturn(100L);
-        when(auditEntryRepository.countByTeamIdAndSuccessFalse(TEAM_ID)).thenReturn(5L);
-        when(auditEntryRepository.countByTeamIdAndOperation(TEAM_ID, "READ")).thenReturn(50L);
-        when(auditEntryRepository.countByTeamIdAndOperation(TEAM_ID, "WRITE")).thenReturn(30L);
-        when(auditEntryRepository.countByTeamIdAndOperation(TEAM_ID, "DELETE")).thenReturn(10L);
+        when(auditStatsBucketRepository.sumByOperation(eq(TEAM_ID), any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(
+                        operationTotal("READ", true, 48L),
+                        operationTotal("READ", false, 2L),
+                        operationTotal("WRITE", true, 27L),
+                        operationTotal("WRITE", false, 3L),
+                        operationTotal("DELETE", true, 10L),
+                        operationTotal("ROTATE", true, 10L)));
 
-        Map<String, Long> stats = auditService.getAuditStats(TEAM_ID);
+        Map<String, Long> stats = auditService.getAuditStats(TEAM_ID, null, null);
 
         assertThat(stats).containsEntry("totalEntries", 100L);
         assertThat(stats).containsEntry("failedEntries", 5L);
         assertThat(stats).containsEntry("readOperations", 50L);
         assertThat(stats).containsEntry("writeOperations", 30L);
         assertThat(stats).containsEntry("deleteOperations", 10L);
+        verifyNoInteractions(auditEntryRepository);
+    }
+
+    @Test
+    void getAuditStats_window_widenedToWholeHours() {
+        when(auditStatsBucketRepository.sumByOperation(any(), any(), any())).thenReturn(List.of());
+
+        Map<String, Long> stats = auditService.getAuditStats(TEAM_ID,
+                Instant.parse("2026-10-18T09:15:00Z"), Instant.parse("2026-10-18T11:00:00Z"));
+
+        assertThat(stats).containsEntry("totalEntries", 0L).containsEntry("readOperations", 0L);
+        verify(auditStatsBucketRepository).sumByOperation(TEAM_ID,
+                Instant.parse("2026-10-18T09:00:00Z"), Instant.parse("2026-10-18T11:00:00Z"));
+    }
+
+    @Test
+    void getAuditStats_windowEndNotOnHour_includesPartialHour() {
+        when(auditStatsBucketRepository.sumByOperation(any(), any(), any())).thenReturn(List.of());
+
+        auditService.getAuditStats(TEAM_ID, null, Instant.parse("2026-10-18T11:00:01Z"));
+
+        verify(auditStatsBucketRepository).sumByOperation(TEAM_ID,
+                Instant.EPOCH, Instant.parse("2026-10-18T12:00:00Z"));
+    }
+
+    @Test
+    void getAuditStats_fromAfterTo_throwsValidation() {
+        Instant now = Instant.now();
+
+        assertThatThrownBy(() -> auditService.getAuditStats(TEAM_ID, now, now.minusSeconds(1)))
+                .isInstanceOf(ValidationException.class);
     }
 
     // ─── Helpers ─────────────────────────────────────────────
 
+    private static OperationTotal operationTotal(String operation, boolean success, long entries) {
+        return new OperationTotal() {
+            @Override
+            public String getOperation() {
+                return operation;
+            }
+
+            @Override
+            public Boolean getSuccess() {
+                return success;
+            }
+
+            @Override
+            public Long getEntries() {
+                return entries;
+            }
+        };
+    }
+
     private AuditEntry buildAuditEntry() {
         return AuditEntry.builder()
                 .id(1L)
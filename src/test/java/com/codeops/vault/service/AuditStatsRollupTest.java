@@ -0,0 +1,211 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.repository.AuditEntryRepository;
+import com.codeops.vault.repository.AuditStatsBucketRepository;
+import com.codeops.vault.repository.AuditStatsBucketRepository.OperationTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AuditStatsRollup} and {@link AuditStatsBucketRepository}
+ * against the embedded test database.
+ *
+ * <p>Covers grouping entries into hourly buckets, incrementing existing
+ * buckets, a concurrent insert of the same bucket, isolating a failed update
+ * from the audit entries, the startup backfill, and summing buckets over a
+ * window.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditStatsRollupTest {
+
+    @Autowired
+    private AuditStatsBucketRepository auditStatsBucketRepository;
+
+    @Autowired
+    private AuditEntryRepository auditEntryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID teamId = UUID.randomUUID();
+    private JdbcTemplate jdbcTemplate;
+    private AuditStatsRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        rollup = new AuditStatsRollup(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditStatsBucketRepository.deleteAll();
+        auditEntryRepository.deleteAll();
+    }
+
+    @Test
+    void record_groupsEntriesIntoHourlyBuckets() {
+        rollup.record(List.of(
+                entry("READ", true, "2026-10-18T09:05:00Z"),
+                entry("READ", true, "2026-10-18T09:55:00Z"),
+                entry("READ", false, "2026-10-18T09:30:00Z"),
+                entry("READ", true, "2026-10-18T10:00:00Z")));
+
+        assertThat(auditStatsBucketRepository.count()).isEqualTo(3);
+        assertThat(totals("2026-10-18T09:00:00Z", "2026-10-18T10:00:00Z"))
+                .containsEntry("READ:true", 2L)
+                .containsEntry("READ:false", 1L)
+                .hasSize(2);
+    }
+
+    @Test
+    void record_incrementsExistingBuckets() {
+        rollup.record(List.of(entry("WRITE", true, "2026-10-18T09:05:00Z")));
+        rollup.record(List.of(entry("WRITE", true, "2026-10-18T09:10:00Z"),
+                entry("WRITE", true, "2026-10-18T09:20:00Z")));
+
+        assertThat(auditStatsBucketRepository.count()).isEqualTo(1);
+        assertThat(auditStatsBucketRepository.findAll().get(0).getEntryCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void record_skipsEntriesWithoutTeam() {
+        AuditEntry system = entry("SEAL", true, "2026-10-18T09:05:00Z");
+        system.setTeamId(null);
+
+        rollup.record(List.of(system));
+
+        assertThat(auditStatsBucketRepository.count()).isZero();
+    }
+
+    @Test
+    void record_concurrentInsertOfSameBucket_addsToIt() {
+        JdbcTemplate racing = new JdbcTemplate(dataSource) {
+            private boolean raced;
+
+            @Override
+            public int update(String sql, Object... args) {
+                int updated = super.update(sql, args);
+                if (AuditStatsRollup.UPDATE_SQL.equals(sql) && !raced) {
+                    raced = true;
+                    super.update(AuditStatsRollup.INSERT_SQL, args[1], args[2], args[3], args[4], 5L);
+                }
+                return updated;
+            }
+        };
+        AuditStatsRollup racingRollup = new AuditStatsRollup(racing, transactionManager, new SimpleMeterRegistry());
+
+        racingRollup.record(List.of(entry("READ", true, "2026-10-18T09:05:00Z")));
+
+        assertThat(auditStatsBucketRepository.count()).isEqualTo(1);
+        assertThat(auditStatsBucketRepository.findAll().get(0).getEntryCount()).isEqualTo(6L);
+    }
+
+    @Test
+    void record_failure_auditEntriesStillCommit() {
+        JdbcTemplate failing = new JdbcTemplate(dataSource) {
+            @Override
+            public int update(String sql, Object... args) {
+                if (AuditStatsRollup.UPDATE_SQL.equals(sql)) {
+                    throw new IllegalStateException("stats table unavailable");
+                }
+                return super.update(sql, args);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditStatsRollup failingRollup = new AuditStatsRollup(failing, transactionManager, meterRegistry);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            insertAuditRow("READ", true, "2026-10-18T09:05:00Z");
+            failingRollup.record(List.of(entry("READ", true, "2026-10-18T09:05:00Z")));
+        });
+
+        assertThat(auditEntryRepository.count()).isEqualTo(1);
+        assertThat(totals("2026-10-18T09:00:00Z", "2026-10-18T10:00:00Z")).isEmpty();
+        assertThat(meterRegistry.get("vault.audit.stats.record.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void backfillIfEmpty_countsStoredEntries() {
+        insertAuditRow("READ", true, "2026-10-18T08:15:00Z");
+        insertAuditRow("READ", true, "2026-10-18T08:45:00Z");
+        insertAuditRow("DELETE", false, "2026-10-18T09:00:00Z");
+
+        rollup.backfillIfEmpty();
+
+        assertThat(totals("2026-10-18T08:00:00Z", "2026-10-18T09:00:00Z"))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("READ:true", 2L));
+        assertThat(totals("2026-10-18T09:00:00Z", "2026-10-18T10:00:00Z"))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("DELETE:false", 1L));
+    }
+
+    @Test
+    void backfillIfEmpty_existingBuckets_doesNothing() {
+        rollup.record(List.of(entry("READ", true, "2026-10-18T09:05:00Z")));
+        insertAuditRow("READ", true, "2026-10-18T09:05:00Z");
+
+        rollup.backfillIfEmpty();
+
+        assertThat(auditStatsBucketRepository.findAll().get(0).getEntryCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void sumByOperation_excludesBucketsOutsideWindow() {
+        rollup.record(List.of(
+                entry("READ", true, "2026-10-18T07:59:59Z"),
+                entry("READ", true, "2026-10-18T08:00:00Z"),
+                entry("READ", true, "2026-10-18T10:00:00Z")));
+
+        assertThat(totals("2026-10-18T08:00:00Z", "2026-10-18T10:00:00Z"))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("READ:true", 1L));
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private Map<String, Long> totals(String from, String to) {
+        return auditStatsBucketRepository.sumByOperation(teamId, Instant.parse(from), Instant.parse(to)).stream()
+                .collect(Collectors.toMap(t -> t.getOperation() + ":" + t.getSuccess(), OperationTotal::getEntries));
+    }
+
+    private AuditEntry entry(String operation, boolean success, String createdAt) {
+        return AuditEntry.builder()
+                .teamId(teamId)
+                .operation(operation)
+                .success(success)
+                .createdAt(Instant.parse(createdAt))
+                .build();
+    }
+
+    private void insertAuditRow(String operation, boolean success, String createdAt) {
+        jdbcTemplate.update("INSERT INTO vault_audit_log (team_id, operation, success, created_at) "
+                        + "VALUES (?, ?, ?, ?)",
+                teamId, operation, success, OffsetDateTime.ofInstant(Instant.parse(createdAt), ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,211 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.AuditProperties;
+import com.codeops.vault.config.AuditProperties.Durability;
+import com.codeops.vault.entity.AuditEntry;
+import com.codeops.vault.exception.CodeOpsVaultException;
+import com.codeops.vault.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AuditWriter} against the embedded test database.
+ *
+ * <p>Runs outside a test-managed transaction so that entries committed by
+ * the background writer are visible. Covers each durability mode, shutdown
+ * flushing, and per-entry retry after a failed batch.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditWriterTest {
+
+    @Autowired
+    private AuditEntryRepository auditEntryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID teamId = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+    private AuditWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+        auditEntryRepository.deleteAll();
+    }
+
+    @Test
+    void write_sync_persistsImmediately() {
+        writer = newWriter(Durability.SYNC);
+
+        writer.write(entry("READ"));
+
+        assertThat(countForTeam()).isEqualTo(1);
+    }
+
+    @Test
+    void write_groupCommit_committedWhenCallReturns() {
+        writer = newWriter(Durability.GROUP_COMMIT);
+
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        writer.write(entry("READ"));
+
+        assertThat(countForTeam()).isEqualTo(1);
+        AuditEntry saved = auditEntryRepository.findByTeamId(teamId, PageRequest.of(0, 1)).getContent().get(0);
+        assertThat(saved.getOperation()).isEqualTo("READ");
+        assertThat(saved.getSuccess()).isTrue();
+        assertThat(saved.getCreatedAt()).isAfterOrEqualTo(before.minusSeconds(1));
+        assertThat(meterRegistry.get("vault.audit.batches").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void write_groupCommit_concurrentCallersAllCommitted() throws Exception {
+        writer = newWriter(Durability.GROUP_COMMIT);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(executor.submit(() -> writer.write(entry("READ"))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(countForTeam()).isEqualTo(40);
+        assertThat(meterRegistry.get("vault.audit.entries.written").counter().count()).isEqualTo(40.0);
+        assertThat(meterRegistry.get("vault.audit.batches").counter().count()).isBetween(1.0, 40.0);
+    }
+
+    @Test
+    void write_async_returnsBeforeCommitAndFlushesOnStop() {
+        writer = newWriter(Durability.ASYNC);
+
+        for (int i = 0; i < 25; i++) {
+            writer.write(entry("WRITE"));
+        }
+        writer.stop();
+
+        assertThat(writer.pending()).isZero();
+        assertThat(countForTeam()).isEqualTo(25);
+    }
+
+    @Test
+    void write_afterStop_fallsBackToSync() {
+        writer = newWriter(Durability.ASYNC);
+        writer.stop();
+
+        writer.write(entry("DELETE"));
+
+        assertThat(countForTeam()).isEqualTo(1);
+    }
+
+    @Test
+    void write_groupCommit_invalidEntryFailsAlone() {
+        writer = newWriter(Durability.GROUP_COMMIT);
+
+        AuditEntry invalid = entry(null);
+
+        assertThatThrownBy(() -> writer.write(invalid))
+                .isInstanceOf(CodeOpsVaultException.class);
+        writer.write(entry("READ"));
+
+        assertThat(countForTeam()).isEqualTo(1);
+        assertThat(meterRegistry.get("vault.audit.write.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void write_groupCommit_timeout_entryStillCommits() {
+        AuditProperties properties = new AuditProperties();
+        properties.setDurability(Durability.GROUP_COMMIT);
+        properties.setCommitTimeoutMs(0);
+        writer = newWriter(properties);
+
+        assertThatThrownBy(() -> writer.write(entry("READ")))
+                .isInstanceOf(CodeOpsVaultException.class)
+                .hasMessageContaining("Timed out");
+        writer.stop();
+
+        assertThat(countForTeam()).isEqualTo(1);
+        assertThat(meterRegistry.get("vault.audit.commit.timeouts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void writeAll_groupCommit_allCommittedWhenCallReturns() {
+        writer = newWriter(Durability.GROUP_COMMIT);
+
+        writer.writeAll(List.of(entry("READ"), entry("READ"), entry("READ")));
+
+        assertThat(countForTeam()).isEqualTo(3);
+        assertThat(meterRegistry.get("vault.audit.batches").counter().count()).isBetween(1.0, 3.0);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private AuditWriter newWriter(Durability durability) {
+        AuditProperties properties = new AuditProperties();
+        properties.setDurability(durability);
+        return newWriter(properties);
+    }
+
+    private AuditWriter newWriter(AuditProperties properties) {
+        properties.setBatchSize(10);
+        properties.setFlushIntervalMs(50);
+        meterRegistry = new SimpleMeterRegistry();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        AuditStatsRollup rollup = new AuditStatsRollup(jdbcTemplate, transactionManager, meterRegistry);
+        AuditWriter created = new AuditWriter(auditEntryRepository, rollup, jdbcTemplate,
+                transactionManager, properties, meterRegistry);
+        created.start();
+        return created;
+    }
+
+    private AuditEntry entry(String operation) {
+        return AuditEntry.builder()
+                .teamId(teamId)
+                .userId(UUID.randomUUID())
+                .operation(operation)
+                .path("/services/app/db")
+                .resourceType("SECRET")
+                .resourceId(UUID.randomUUID())
+                .success(true)
+                .ipAddress("127.0.0.1")
+                .correlationId("test-correlation")
+                .build();
+    }
+
+    private long countForTeam() {
+        return auditEntryRepository.findByTeamId(teamId, PageRequest.of(0, 1)).getTotalElements();
+    }
+}
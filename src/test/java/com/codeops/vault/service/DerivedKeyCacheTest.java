@@ -0,0 +1,146 @@
+package com.codeops.vault.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DerivedKeyCache}.
+ *
+ * <p>Covers seal-aware caching, key copy semantics, wiping on seal,
+ * and the derivation metrics.</p>
+ */
+class DerivedKeyCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DerivedKeyCache cache;
+    private AtomicInteger derivationCount;
+    private Function<String, byte[]> deriver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new DerivedKeyCache(meterRegistry);
+        derivationCount = new AtomicInteger();
+        deriver = purpose -> {
+            derivationCount.incrementAndGet();
+            byte[] key = new byte[32];
+            key[0] = (byte) purpose.length();
+            key[31] = 42;
+            return key;
+        };
+    }
+
+    @Test
+    void get_whileSealed_derivesEveryTimeWithoutCaching() {
+        cache.get("secret-storage", deriver);
+        cache.get("secret-storage", deriver);
+
+        assertThat(derivationCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_whileUnsealed_derivesOnce() {
+        cache.onUnsealed();
+
+        byte[] first = cache.get("secret-storage", deriver);
+        byte[] second = cache.get("secret-storage", deriver);
+
+        assertThat(derivationCount.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_differentPurposes_cachedSeparately() {
+        cache.onUnsealed();
+
+        cache.get("secret-storage", deriver);
+        cache.get("transit", deriver);
+
+        assertThat(derivationCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void get_returnsCopy_mutationDoesNotAffectCache() {
+        cache.onUnsealed();
+
+        byte[] first = cache.get("secret-storage", deriver);
+        first[31] = 0;
+        byte[] second = cache.get("secret-storage", deriver);
+
+        assertThat(second[31]).isEqualTo((byte) 42);
+    }
+
+    @Test
+    void onSealed_wipesCacheAndDisablesCaching() {
+        cache.onUnsealed();
+        byte[] held = cache.get("secret-storage", deriver);
+
+        cache.onSealed();
+
+        assertThat(cache.size()).isZero();
+        // Callers keep their own copy — wiping never zeroes in-flight keys
+        assertThat(held[31]).isEqualTo((byte) 42);
+
+        cache.get("secret-storage", deriver);
+        assertThat(cache.size()).isZero();
+        assertThat(derivationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void onUnsealed_afterSeal_reenablesCaching() {
+        cache.onUnsealed();
+        cache.get("secret-storage", deriver);
+        cache.onSealed();
+        cache.onUnsealed();
+
+        cache.get("secret-storage", deriver);
+        cache.get("secret-storage", deriver);
+
+        assertThat(derivationCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_concurrentWithSeal_neverReturnsZeroedKey() throws Exception {
+        cache.onUnsealed();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread sealer = new Thread(() -> {
+            while (!done.get()) {
+                cache.onSealed();
+                cache.onUnsealed();
+            }
+        });
+        sealer.start();
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                assertThat(cache.get("secret-storage", deriver)[31]).isEqualTo((byte) 42);
+            }
+        } finally {
+            done.set(true);
+            sealer.join();
+        }
+    }
+
+    @Test
+    void metrics_trackDerivationsAndAvoided() {
+        cache.onUnsealed();
+
+        cache.get("secret-storage", deriver);
+        cache.get("secret-storage", deriver);
+        cache.get("secret-storage", deriver);
+
+        assertThat(meterRegistry.get("vault.kek.derivations").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("vault.kek.derivations.avoided").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("vault.kek.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+}
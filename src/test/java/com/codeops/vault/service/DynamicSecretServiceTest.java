@@ -4,6 +4,7 @@ import com.codeops.vault.config.DynamicSecretProperties;
 import com.codeops.vault.dto.mapper.LeaseMapper;
 import com.codeops.vault.dto.request.CreateDynamicLeaseRequest;
 import com.codeops.vault.dto.response.DynamicLeaseResponse;
+import com.codeops.vault.dto.response.KeysetCursor;
 import com.codeops.vault.dto.response.PageResponse;
 import com.codeops.vault.entity.DynamicLease;
 import com.codeops.vault.entity.Secret;
@@ -25,6 +26,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -65,6 +67,12 @@ class DynamicSecretServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ScheduledWorkClaimer scheduledWorkClaimer;
+
+    @Mock
+    private LeaseExpiryTimer leaseExpiryTimer;
+
     @InjectMocks
     private DynamicSecretService dynamicSecretService;
 
@@ -104,6 +112,7 @@ class DynamicSecretServiceTest {
         assertThat(result).isEqualTo(expectedResponse);
         assertThat(result.connectionDetails()).isNotNull();
         verify(leaseRepository).save(any(DynamicLease.class));
+        verify(leaseExpiryTimer).schedule(startsWith("lease-"), any(Instant.class));
     }
 
     @Test
@@ -346,6 +355,24 @@ class DynamicSecretServiceTest {
         assertThat(result.totalElements()).isEqualTo(1);
     }
 
+    @Test
+    void listLeasesAfter_fullPage_returnsCursorOfLastLease() {
+        UUID secretId = UUID.randomUUID();
+        DynamicLease lease = buildLease("lease-1", LeaseStatus.ACTIVE);
+        lease.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+
+        when(leaseRepository.findPageAfter(secretId, KeysetCursor.UPPER_BOUND, new UUID(0, 0), PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(lease), PageRequest.of(0, 1), true));
+        when(leaseMapper.toResponse(lease, null))
+                .thenReturn(buildLeaseResponse(secretId, LeaseStatus.ACTIVE, false));
+
+        PageResponse<DynamicLeaseResponse> result = dynamicSecretService.listLeasesAfter(secretId, null, 1);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(KeysetCursor.decode(result.nextCursor()).uuidId()).isEqualTo(lease.getId());
+        verify(leaseRepository, never()).findBySecretId(any(), any(Pageable.class));
+    }
+
     @Test
     void revokeLease_active_marksRevoked() {
         String leaseId = "lease-revoke-1";
@@ -361,6 +388,7 @@ class DynamicSecretServiceTest {
         assertThat(lease.getRevokedAt()).isNotNull();
         assertThat(lease.getRevokedByUserId()).isEqualTo(userId);
         verify(leaseRepository).save(lease);
+        verify(leaseExpiryTimer).cancel(leaseId);
     }
 
     @Test
@@ -422,6 +450,29 @@ class DynamicSecretServiceTest {
 
     // ─── Expiry Processing ──────────────────────────────────
 
+    @Test
+    void expireLeases_expiresLockedDueLeasesAndRecordsLag() {
+        DynamicLease due = buildLease("lease-due", LeaseStatus.ACTIVE);
+        due.setExpiresAt(Instant.now().minus(1, ChronoUnit.SECONDS));
+
+        when(leaseRepository.lockDueByLeaseIds(eq(List.of("lease-due", "lease-revoked")), eq(LeaseStatus.ACTIVE),
+                any(Instant.class))).thenReturn(List.of(due));
+        when(leaseRepository.save(any(DynamicLease.class))).thenAnswer(i -> i.getArgument(0));
+
+        int count = dynamicSecretService.expireLeases(List.of("lease-due", "lease-revoked"));
+
+        assertThat(count).isEqualTo(1);
+        assertThat(due.getStatus()).isEqualTo(LeaseStatus.EXPIRED);
+        verify(leaseExpiryTimer).recordExpiry(due.getExpiresAt());
+    }
+
+    @Test
+    void expireLeases_empty_doesNotQuery() {
+        assertThat(dynamicSecretService.expireLeases(List.of())).isZero();
+
+        verifyNoInteractions(leaseRepository);
+    }
+
     @Test
     void processExpiredLeases_expiresActivePastTTL() {
         DynamicLease lease = buildLease("lease-expired-1", LeaseStatus.ACTIVE);
@@ -474,6 +525,54 @@ class DynamicSecretServiceTest {
         assertThat(count).isEqualTo(2);
     }
 
+    @Test
+    void processExpiredLeases_claiming_expiresOnlyLeasesClaimedByThisNode() {
+        DynamicLease ours = buildLease("lease-ours", LeaseStatus.ACTIVE);
+        ours.setClaimedBy("node-a");
+        DynamicLease reclaimed = buildLease("lease-reclaimed", LeaseStatus.ACTIVE);
+        reclaimed.setClaimedBy("node-b");
+
+        when(scheduledWorkClaimer.isEnabled()).thenReturn(true);
+        when(scheduledWorkClaimer.nodeId()).thenReturn("node-a");
+        when(scheduledWorkClaimer.batchSize()).thenReturn(100);
+        when(scheduledWorkClaimer.claimExpiredLeases()).thenReturn(List.of(ours.getId(), reclaimed.getId()));
+        when(leaseRepository.findAllById(List.of(ours.getId(), reclaimed.getId())))
+                .thenReturn(List.of(ours, reclaimed));
+        when(leaseRepository.save(any(DynamicLease.class))).thenAnswer(i -> i.getArgument(0));
+
+        int count = dynamicSecretService.processExpiredLeases();
+
+        assertThat(count).isEqualTo(1);
+        assertThat(ours.getStatus()).isEqualTo(LeaseStatus.EXPIRED);
+        assertThat(ours.getClaimedBy()).isNull();
+        assertThat(reclaimed.getStatus()).isEqualTo(LeaseStatus.ACTIVE);
+        verify(leaseRepository, never()).findByStatusAndExpiresAtBefore(any(), any());
+    }
+
+    @Test
+    void processExpiredLeases_claiming_claimsUntilBatchIsNotFull() {
+        DynamicLease first = buildLease("lease-1", LeaseStatus.ACTIVE);
+        first.setClaimedBy("node-a");
+        DynamicLease second = buildLease("lease-2", LeaseStatus.ACTIVE);
+        second.setClaimedBy("node-a");
+
+        when(scheduledWorkClaimer.isEnabled()).thenReturn(true);
+        when(scheduledWorkClaimer.nodeId()).thenReturn("node-a");
+        when(scheduledWorkClaimer.batchSize()).thenReturn(1);
+        when(scheduledWorkClaimer.claimExpiredLeases())
+                .thenReturn(List.of(first.getId()))
+                .thenReturn(List.of(second.getId()))
+                .thenReturn(List.of());
+        when(leaseRepository.findAllById(List.of(first.getId()))).thenReturn(List.of(first));
+        when(leaseRepository.findAllById(List.of(second.getId()))).thenReturn(List.of(second));
+        when(leaseRepository.save(any(DynamicLease.class))).thenAnswer(i -> i.getArgument(0));
+
+        int count = dynamicSecretService.processExpiredLeases();
+
+        assertThat(count).isEqualTo(2);
+        verify(scheduledWorkClaimer, times(3)).claimExpiredLeases();
+    }
+
     // ─── Backend Operations ─────────────────────────────────
 
     @Test
@@ -8,9 +8,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,6 +37,9 @@ class EncryptionServiceTest {
     @Autowired
     private EncryptionService encryptionService;
 
+    @Autowired
+    private DerivedKeyCache derivedKeyCache;
+
     // ═══════════════════════════════════════════
     //  Core Encryption / Decryption
     // ═══════════════════════════════════════════
@@ -140,6 +152,28 @@ class EncryptionServiceTest {
         assertThat(decrypted).isEqualTo(special);
     }
 
+    @Test
+    void encryptToBytes_decryptFromBytes_roundTrip() {
+        byte[] envelope = encryptionService.encryptToBytes("binary-stored-secret");
+
+        assertThat(envelope[0]).isEqualTo(AppConstants.ENCRYPTION_FORMAT_VERSION);
+        assertThat(encryptionService.decryptFromBytes(envelope)).isEqualTo("binary-stored-secret");
+    }
+
+    @Test
+    void decryptFromBytes_acceptsDecodedTextEnvelope() {
+        String text = encryptionService.encrypt("migrated-secret");
+
+        assertThat(encryptionService.decryptFromBytes(Base64.getDecoder().decode(text)))
+                .isEqualTo("migrated-secret");
+    }
+
+    @Test
+    void decryptFromBytes_emptyEnvelope_throwsValidation() {
+        assertThatThrownBy(() -> encryptionService.decryptFromBytes(new byte[0]))
+                .isInstanceOf(ValidationException.class);
+    }
+
     // ═══════════════════════════════════════════
     //  Key-Specific Encryption
     // ═══════════════════════════════════════════
@@ -220,6 +254,17 @@ class EncryptionServiceTest {
         assertThat(key1).isNotEqualTo(key2);
     }
 
+    @Test
+    void encrypt_whileUnsealed_cachesSecretStorageKey() {
+        encryptionService.encrypt("cache-warmup");
+
+        assertThat(derivedKeyCache.size()).isGreaterThanOrEqualTo(1);
+        byte[] cached = derivedKeyCache.get("secret-storage", purpose -> {
+            throw new AssertionError("secret-storage key should already be cached");
+        });
+        assertThat(cached).isEqualTo(encryptionService.deriveKey("secret-storage"));
+    }
+
     @Test
     void deriveKey_produces32Bytes() {
         byte[] key = encryptionService.deriveKey("test-purpose");
@@ -303,6 +348,137 @@ class EncryptionServiceTest {
                 .isInstanceOf(ValidationException.class);
     }
 
+    @Test
+    void decrypt_truncatedEnvelope_throwsValidation() {
+        byte[] envelope = Base64.getDecoder().decode(encryptionService.encrypt("truncate-me"));
+        String truncated = Base64.getEncoder().encodeToString(Arrays.copyOf(envelope, envelope.length - 30));
+
+        assertThatThrownBy(() -> encryptionService.decrypt(truncated))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    @Test
+    void decrypt_unexpectedDekBlockLength_throwsValidation() {
+        byte[] key = encryptionService.generateDataKey();
+        byte[] envelope = Base64.getDecoder().decode(encryptionService.encryptWithKey("data", "k1", key));
+        int dekBlockLengthOffset = 1 + 4 + "k1".length();
+        envelope[dekBlockLengthOffset + 3]++;
+
+        assertThatThrownBy(() -> encryptionService.decryptWithKey(Base64.getEncoder().encodeToString(envelope), key))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("DEK block length");
+    }
+
+    @Test
+    void encryptDecrypt_concurrentThreads_roundTrip() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String plaintext = "concurrent-value-" + i;
+                futures.add(executor.submit(() ->
+                        plaintext.equals(encryptionService.decrypt(encryptionService.encrypt(plaintext)))));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // ═══════════════════════════════════════════
+    //  Streaming Operations
+    // ═══════════════════════════════════════════
+
+    @Test
+    void encryptStream_decryptStream_multiSegmentRoundTrip() {
+        byte[] plaintext = randomBytes(3 * AppConstants.STREAM_SEGMENT_SIZE_BYTES + 123);
+        byte[] key = encryptionService.generateDataKey();
+
+        byte[] encrypted = encryptStream(plaintext, key);
+        byte[] decrypted = decryptStream(encrypted, key);
+
+        assertThat(decrypted).isEqualTo(plaintext);
+        assertThat(encrypted[0]).isEqualTo(AppConstants.STREAM_ENCRYPTION_FORMAT_VERSION);
+    }
+
+    @Test
+    void encryptStream_exactSegmentMultipleAndEmpty_roundTrip() {
+        byte[] key = encryptionService.generateDataKey();
+        byte[] exact = randomBytes(2 * AppConstants.STREAM_SEGMENT_SIZE_BYTES);
+
+        assertThat(decryptStream(encryptStream(exact, key), key)).isEqualTo(exact);
+        assertThat(decryptStream(encryptStream(new byte[0], key), key)).isEmpty();
+    }
+
+    @Test
+    void decryptStream_resolvesKeyById() {
+        byte[] key = encryptionService.generateDataKey();
+        byte[] encrypted = encryptStream("hello".getBytes(), key);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String[] resolvedKeyId = new String[1];
+
+        encryptionService.decryptStream(new ByteArrayInputStream(encrypted), out, keyId -> {
+            resolvedKeyId[0] = keyId;
+            return key;
+        });
+
+        assertThat(resolvedKeyId[0]).isEqualTo("stream-key:v1");
+    }
+
+    @Test
+    void decryptStream_tamperedSegment_throwsCodeOpsVaultException() {
+        byte[] key = encryptionService.generateDataKey();
+        byte[] encrypted = encryptStream(randomBytes(1000), key);
+        encrypted[encrypted.length - 20] ^= 0x01;
+
+        assertThatThrownBy(() -> decryptStream(encrypted, key))
+                .isInstanceOf(CodeOpsVaultException.class)
+                .hasMessageContaining("authentication tag mismatch");
+    }
+
+    @Test
+    void decryptStream_droppedFinalSegment_throwsTruncated() {
+        byte[] key = encryptionService.generateDataKey();
+        byte[] encrypted = encryptStream(randomBytes(AppConstants.STREAM_SEGMENT_SIZE_BYTES + 10), key);
+        // Final segment: 4-byte frame + 10 bytes ciphertext + 16-byte tag
+        byte[] truncated = Arrays.copyOf(encrypted, encrypted.length - (4 + 10 + 16));
+
+        assertThatThrownBy(() -> decryptStream(truncated, key))
+                .isInstanceOf(CodeOpsVaultException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    @Test
+    void decryptStream_trailingData_throwsCodeOpsVaultException() {
+        byte[] key = encryptionService.generateDataKey();
+        byte[] encrypted = encryptStream(randomBytes(100), key);
+        byte[] extended = Arrays.copyOf(encrypted, encrypted.length + 1);
+
+        assertThatThrownBy(() -> decryptStream(extended, key))
+                .isInstanceOf(CodeOpsVaultException.class)
+                .hasMessageContaining("after final segment");
+    }
+
+    @Test
+    void decryptStream_wrongKey_throwsCodeOpsVaultException() {
+        byte[] encrypted = encryptStream(randomBytes(100), encryptionService.generateDataKey());
+
+        assertThatThrownBy(() -> decryptStream(encrypted, encryptionService.generateDataKey()))
+                .isInstanceOf(CodeOpsVaultException.class);
+    }
+
+    @Test
+    void decryptStream_envelopeFormat_throwsValidation() {
+        byte[] envelope = Base64.getDecoder().decode(encryptionService.encrypt("not-a-stream"));
+
+        assertThatThrownBy(() -> decryptStream(envelope, encryptionService.generateDataKey()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Unsupported stream encryption format version");
+    }
+
     // ═══════════════════════════════════════════
     //  Utility — Random String Generation
     // ═══════════════════════════════════════════
@@ -432,4 +608,24 @@ class EncryptionServiceTest {
         // All 100 generated keys should be unique
         assertThat(keys).hasSize(100);
     }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private byte[] encryptStream(byte[] plaintext, byte[] key) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encryptionService.encryptStream(new ByteArrayInputStream(plaintext), out, "stream-key:v1", key);
+        return out.toByteArray();
+    }
+
+    private byte[] decryptStream(byte[] encrypted, byte[] key) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encryptionService.decryptStream(new ByteArrayInputStream(encrypted), out, keyId -> key);
+        return out.toByteArray();
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
 }
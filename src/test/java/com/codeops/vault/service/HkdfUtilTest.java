@@ -2,7 +2,12 @@ package com.codeops.vault.service;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -138,4 +143,23 @@ class HkdfUtilTest {
 
         assertThat(result1).isEqualTo(result2);
     }
+
+    @Test
+    void derive_concurrentThreads_matchSingleThreadedOutput() throws Exception {
+        byte[] ikm = "concurrent-key".getBytes();
+        byte[] expected = HkdfUtil.derive(ikm, null, "concurrent-info".getBytes(), 80);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> HkdfUtil.derive(ikm, null, "concurrent-info".getBytes(), 80)));
+            }
+            for (Future<byte[]> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.DynamicSecretProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LeaseExpiryScheduler}.
+ *
+ * <p>Covers isolating a failing lease by bisecting its batch, exponential
+ * retry backoff, and giving up after the maximum number of attempts.</p>
+ */
+class LeaseExpirySchedulerTest {
+
+    private DynamicSecretService dynamicSecretService;
+    private LeaseExpiryTimer leaseExpiryTimer;
+    private LeaseExpiryScheduler scheduler;
+    private List<String> expired;
+
+    @BeforeEach
+    void setUp() {
+        dynamicSecretService = mock(DynamicSecretService.class);
+        leaseExpiryTimer = mock(LeaseExpiryTimer.class);
+        scheduler = new LeaseExpiryScheduler(dynamicSecretService, leaseExpiryTimer, new DynamicSecretProperties());
+        expired = new ArrayList<>();
+        when(dynamicSecretService.expireLeases(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> leaseIds = invocation.getArgument(0);
+            if (leaseIds.contains("bad")) {
+                throw new IllegalStateException("cleanup failed");
+            }
+            expired.addAll(leaseIds);
+            return leaseIds.size();
+        });
+    }
+
+    @Test
+    void expireDueLeases_failingLease_othersInBatchStillExpired() {
+        when(leaseExpiryTimer.pollDue()).thenReturn(List.of("a", "b", "bad", "c", "d"));
+
+        scheduler.expireDueLeases();
+
+        assertThat(expired).containsExactlyInAnyOrder("a", "b", "c", "d");
+        verify(leaseExpiryTimer, times(1)).schedule(eq("bad"), any(Instant.class));
+        verify(leaseExpiryTimer, never()).schedule(eq("a"), any(Instant.class));
+    }
+
+    @Test
+    void expireDueLeases_repeatedFailure_backsOffExponentially() {
+        when(leaseExpiryTimer.pollDue()).thenReturn(List.of("bad"));
+
+        scheduler.expireDueLeases();
+        verify(leaseExpiryTimer).schedule(eq("bad"), argThat(at -> isAbout(at, 1)));
+        scheduler.expireDueLeases();
+        verify(leaseExpiryTimer).schedule(eq("bad"), argThat(at -> isAbout(at, 2)));
+        scheduler.expireDueLeases();
+        verify(leaseExpiryTimer).schedule(eq("bad"), argThat(at -> isAbout(at, 4)));
+    }
+
+    @Test
+    void expireDueLeases_maxAttemptsReached_leavesLeaseToReconciliation() {
+        when(leaseExpiryTimer.pollDue()).thenReturn(List.of("bad"));
+
+        for (int i = 0; i < 6; i++) {
+            scheduler.expireDueLeases();
+        }
+
+        verify(dynamicSecretService, times(6)).expireLeases(anyCollection());
+        verify(leaseExpiryTimer, times(5)).schedule(eq("bad"), any(Instant.class));
+    }
+
+    private static boolean isAbout(Instant at, long seconds) {
+        if (at == null) {
+            return false;
+        }
+        Instant expected = Instant.now().plusSeconds(seconds);
+        return Math.abs(ChronoUnit.MILLIS.between(expected, at)) < 500;
+    }
+}
@@ -0,0 +1,122 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.DynamicSecretProperties;
+import com.codeops.vault.entity.enums.LeaseStatus;
+import com.codeops.vault.repository.DynamicLeaseRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LeaseExpiryTimer}.
+ *
+ * <p>Covers scheduling, cancelling after commit, rebuilding from the
+ * database, and the expiry lag histogram.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaseExpiryTimerTest {
+
+    private static final Instant START = Instant.parse("2026-10-18T12:00:00Z");
+
+    @Mock
+    private DynamicLeaseRepository leaseRepository;
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private LeaseExpiryTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(START.toEpochMilli());
+        meterRegistry = new SimpleMeterRegistry();
+        timer = new LeaseExpiryTimer(leaseRepository, new DynamicSecretProperties(), meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void pollDue_returnsLeaseOnceItExpires() {
+        timer.schedule("lease-1", START.plusSeconds(30));
+        timer.schedule("lease-2", START.plusSeconds(90));
+
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(29));
+        assertThat(timer.pollDue()).isEmpty();
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        assertThat(timer.pollDue()).containsExactly("lease-1");
+        assertThat(timer.scheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void scheduleAndCancel_inTransaction_applyAfterCommit() {
+        timer.schedule("lease-1", START.plusSeconds(30));
+        TransactionSynchronizationManager.initSynchronization();
+
+        timer.cancel("lease-1");
+        timer.schedule("lease-2", START.plusSeconds(30));
+        assertThat(timer.scheduledCount()).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(30));
+        assertThat(timer.pollDue()).containsExactly("lease-2");
+    }
+
+    @Test
+    void rebuild_schedulesActiveLeases() {
+        when(leaseRepository.findExpiriesByStatus(LeaseStatus.ACTIVE))
+                .thenReturn(List.of(expiry("lease-overdue", START.minusSeconds(10)),
+                        expiry("lease-later", START.plusSeconds(60))));
+
+        assertThat(timer.rebuild()).isEqualTo(2);
+
+        assertThat(timer.pollDue()).containsExactly("lease-overdue");
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(60));
+        assertThat(timer.pollDue()).containsExactly("lease-later");
+    }
+
+    @Test
+    void recordExpiry_publishesLagHistogram() {
+        clock.addAndGet(250);
+
+        timer.recordExpiry(START);
+        timer.recordExpiry(START.plusSeconds(5));
+
+        Timer lag = meterRegistry.get("vault.lease.expiry.lag").timer();
+        assertThat(lag.count()).isEqualTo(2);
+        assertThat(lag.max(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(meterRegistry.get("vault.lease.expiry.scheduled").gauge().value()).isZero();
+    }
+
+    private static DynamicLeaseRepository.LeaseExpiry expiry(String leaseId, Instant expiresAt) {
+        return new DynamicLeaseRepository.LeaseExpiry() {
+            @Override
+            public String getLeaseId() {
+                return leaseId;
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
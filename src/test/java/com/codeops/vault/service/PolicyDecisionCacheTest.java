@@ -0,0 +1,160 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.entity.enums.BindingType;
+import com.codeops.vault.entity.enums.PolicyPermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PolicyDecisionCache}.
+ *
+ * <p>Covers hits and misses per access tuple, generation-based invalidation,
+ * the race with a concurrent invalidation, the size bound, concurrent lookups, disabling, and
+ * the cache metrics.</p>
+ */
+class PolicyDecisionCacheTest {
+
+    private static final UUID TEAM_ID = UUID.randomUUID();
+    private static final UUID SERVICE_ID = UUID.randomUUID();
+    private static final String PATH = "/services/app/db";
+
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyDecisionCache cache;
+    private AtomicInteger evaluations;
+    private Supplier<AccessDecision> evaluator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PolicyDecisionCache(new CacheProperties(), meterRegistry);
+        evaluations = new AtomicInteger();
+        evaluator = () -> {
+            evaluations.incrementAndGet();
+            return AccessDecision.allowed(UUID.randomUUID(), "allow-read");
+        };
+    }
+
+    @Test
+    void get_sameTuple_evaluatesOnce() {
+        AccessDecision first = get(PATH, PolicyPermission.READ);
+        AccessDecision second = get(PATH, PolicyPermission.READ);
+
+        assertThat(second).isSameAs(first);
+        assertThat(evaluations.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("vault.policy.decision.cache.hits").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("vault.policy.decision.cache.misses").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("vault.policy.decision.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void get_differentTuples_cachedSeparately() {
+        get(PATH, PolicyPermission.READ);
+        get(PATH, PolicyPermission.WRITE);
+        get("/services/other/db", PolicyPermission.READ);
+        cache.get(BindingType.USER, SERVICE_ID, TEAM_ID, PATH, PolicyPermission.READ, evaluator);
+
+        assertThat(evaluations.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    void invalidateAll_dropsDecisionsAndBumpsGeneration() {
+        get(PATH, PolicyPermission.READ);
+        long generation = cache.generation();
+
+        cache.invalidateAll();
+        get(PATH, PolicyPermission.READ);
+
+        assertThat(cache.generation()).isGreaterThan(generation);
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("vault.policy.decision.cache.invalidations").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void get_invalidatedWhileEvaluating_decisionNotKept() {
+        cache.get(BindingType.SERVICE, SERVICE_ID, TEAM_ID, PATH, PolicyPermission.READ, () -> {
+            cache.invalidateAll();
+            return AccessDecision.defaultDenied();
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_sizeBound_evictsDownToBound() {
+        CacheProperties properties = new CacheProperties();
+        properties.setPolicyDecisionMaxEntries(2);
+        cache = new PolicyDecisionCache(properties, meterRegistry);
+
+        get("/a", PolicyPermission.READ);
+        get("/b", PolicyPermission.READ);
+        get("/a", PolicyPermission.READ);
+        get("/c", PolicyPermission.READ);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(evaluations.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("vault.policy.decision.cache.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void get_entryFromSupersededGeneration_notServed() {
+        get(PATH, PolicyPermission.READ);
+        cache.invalidateAll();
+        get(PATH, PolicyPermission.READ);
+        get(PATH, PolicyPermission.READ);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_concurrentLookups_allServed() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<AccessDecision>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                String path = "/services/app-" + (i % 10);
+                futures.add(executor.submit(() -> get(path, PolicyPermission.READ)));
+            }
+            for (Future<AccessDecision> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).allowed()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(evaluations.get()).isLessThan(1000);
+    }
+
+    @Test
+    void get_ttlZero_alwaysEvaluates() {
+        CacheProperties properties = new CacheProperties();
+        properties.setPolicyDecisionTtlSeconds(0);
+        cache = new PolicyDecisionCache(properties, meterRegistry);
+
+        get(PATH, PolicyPermission.READ);
+        get(PATH, PolicyPermission.READ);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private AccessDecision get(String path, PolicyPermission permission) {
+        return cache.get(BindingType.SERVICE, SERVICE_ID, TEAM_ID, path, permission, evaluator);
+    }
+}
@@ -0,0 +1,157 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.dto.request.AccessCheck;
+import com.codeops.vault.entity.AccessPolicy;
+import com.codeops.vault.entity.PolicyBinding;
+import com.codeops.vault.entity.enums.BindingType;
+import com.codeops.vault.entity.enums.PolicyPermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PolicyIndex}.
+ *
+ * <p>Covers compilation reuse, trie matching, invalidation by team,
+ * policy and binding, the maximum index age, and the index metrics.</p>
+ */
+class PolicyIndexTest {
+
+    private static final UUID TEAM_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyIndex index;
+    private AtomicInteger loadCount;
+    private AccessPolicy policy;
+    private PolicyBinding binding;
+    private Supplier<List<PolicyBinding>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new PolicyIndex(new CacheProperties(), meterRegistry);
+        loadCount = new AtomicInteger();
+        policy = buildPolicy("allow-read", "/services/*/db", "READ,LIST", false);
+        binding = buildBinding(policy, BindingType.USER, USER_ID);
+        loader = () -> {
+            loadCount.incrementAndGet();
+            return List.of(binding);
+        };
+    }
+
+    @Test
+    void evaluate_compilesOncePerTeam() {
+        index.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+        index.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/other/db", PolicyPermission.LIST, loader);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("vault.policy.index.builds").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void evaluate_matchesSegmentsLikeMatchesPath() {
+        assertThat(index.evaluate(TEAM_ID, BindingType.USER, USER_ID,
+                "/services/app/db/", PolicyPermission.READ, loader).allowed()).isTrue();
+        assertThat(index.evaluate(TEAM_ID, BindingType.USER, USER_ID,
+                "/services/db", PolicyPermission.READ, loader).allowed()).isFalse();
+        assertThat(index.evaluate(TEAM_ID, BindingType.USER, USER_ID,
+                "/services/app/db/password", PolicyPermission.READ, loader).allowed()).isFalse();
+        assertThat(index.evaluate(TEAM_ID, BindingType.USER, USER_ID,
+                "", PolicyPermission.READ, loader).allowed()).isFalse();
+        assertThat(index.evaluate(TEAM_ID, BindingType.USER, USER_ID,
+                "/services/app/db", PolicyPermission.WRITE, loader).allowed()).isFalse();
+    }
+
+    @Test
+    void evaluateAll_compilesOnceAndReturnsDecisionsInOrder() {
+        List<AccessDecision> decisions = index.evaluateAll(TEAM_ID, BindingType.USER, USER_ID, List.of(
+                new AccessCheck("/services/app/db", PolicyPermission.READ),
+                new AccessCheck("/services/app/db", PolicyPermission.WRITE),
+                new AccessCheck("/services/other/db", PolicyPermission.LIST)), loader);
+
+        assertThat(decisions).extracting(AccessDecision::allowed).containsExactly(true, false, true);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void evaluate_otherPrincipal_notGrantedByUserBinding() {
+        AccessDecision decision = index.evaluate(TEAM_ID, BindingType.USER, UUID.randomUUID(),
+                "/services/app/db", PolicyPermission.READ, loader);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.decidingPolicyId()).isNull();
+    }
+
+    @Test
+    void invalidateTeam_forcesRecompile() {
+        index.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+
+        index.invalidateTeam(TEAM_ID);
+        index.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidatePolicyAndBinding_dropOnlyIndexesContainingThem() {
+        index.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+
+        index.invalidatePolicy(UUID.randomUUID());
+        index.invalidateBinding(UUID.randomUUID());
+        assertThat(index.size()).isEqualTo(1);
+
+        index.invalidatePolicy(policy.getId());
+        assertThat(index.size()).isZero();
+
+        index.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+        index.invalidateBinding(binding.getId());
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void evaluate_zeroMaxAge_recompilesEveryTime() {
+        CacheProperties properties = new CacheProperties();
+        properties.setPolicyIndexMaxAgeSeconds(0);
+        PolicyIndex uncached = new PolicyIndex(properties, new SimpleMeterRegistry());
+
+        uncached.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+        uncached.evaluate(TEAM_ID, BindingType.USER, USER_ID, "/services/app/db", PolicyPermission.READ, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private AccessPolicy buildPolicy(String name, String pathPattern, String permissions, boolean deny) {
+        AccessPolicy built = AccessPolicy.builder()
+                .teamId(TEAM_ID)
+                .name(name)
+                .pathPattern(pathPattern)
+                .permissions(permissions)
+                .isDenyPolicy(deny)
+                .isActive(true)
+                .build();
+        built.setId(UUID.randomUUID());
+        return built;
+    }
+
+    private PolicyBinding buildBinding(AccessPolicy target, BindingType type, UUID targetId) {
+        PolicyBinding built = PolicyBinding.builder()
+                .policy(target)
+                .bindingType(type)
+                .bindingTargetId(targetId)
+                .build();
+        built.setId(UUID.randomUUID());
+        return built;
+    }
+}
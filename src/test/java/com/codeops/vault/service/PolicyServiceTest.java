@@ -1,11 +1,15 @@
 package com.codeops.vault.service;
 
+import com.codeops.vault.config.CacheProperties;
 import com.codeops.vault.dto.mapper.PolicyMapper;
+import com.codeops.vault.dto.request.AccessCheck;
 import com.codeops.vault.dto.request.CreateBindingRequest;
 import com.codeops.vault.dto.request.CreatePolicyRequest;
+import com.codeops.vault.dto.request.PolicyBatchEvaluateRequest;
 import com.codeops.vault.dto.request.UpdatePolicyRequest;
 import com.codeops.vault.dto.response.AccessPolicyResponse;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.PolicyBatchEvaluateResponse;
 import com.codeops.vault.dto.response.PolicyBindingResponse;
 import com.codeops.vault.entity.AccessPolicy;
 import com.codeops.vault.entity.PolicyBinding;
@@ -15,11 +19,13 @@ import com.codeops.vault.exception.NotFoundException;
 import com.codeops.vault.exception.ValidationException;
 import com.codeops.vault.repository.AccessPolicyRepository;
 import com.codeops.vault.repository.PolicyBindingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -62,6 +68,13 @@ class PolicyServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Spy
+    private PolicyIndex policyIndex = new PolicyIndex(new CacheProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private PolicyDecisionCache policyDecisionCache =
+            new PolicyDecisionCache(new CacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private PolicyService policyService;
 
@@ -378,10 +391,8 @@ class PolicyServiceTest {
         AccessPolicy allowPolicy = buildPolicy("allow-read", "/services/app/*", "READ", false);
         PolicyBinding binding = buildBinding(allowPolicy, BindingType.USER, USER_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(binding));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateAccess(
                 USER_ID, TEAM_ID, "/services/app/password", PolicyPermission.READ);
@@ -398,10 +409,8 @@ class PolicyServiceTest {
         PolicyBinding allowBinding = buildBinding(allowPolicy, BindingType.USER, USER_ID);
         PolicyBinding denyBinding = buildBinding(denyPolicy, BindingType.TEAM, TEAM_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
-                .thenReturn(List.of(allowBinding));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of(denyBinding));
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
+                .thenReturn(List.of(allowBinding, denyBinding));
 
         AccessDecision result = policyService.evaluateAccess(
                 USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
@@ -413,9 +422,7 @@ class PolicyServiceTest {
 
     @Test
     void evaluateAccess_noMatchingPolicy_returnsDefaultDenied() {
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
-                .thenReturn(List.of());
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateAccess(
@@ -431,10 +438,8 @@ class PolicyServiceTest {
         AccessPolicy allowPolicy = buildPolicy("allow-read", "/services/*", "READ", false);
         PolicyBinding binding = buildBinding(allowPolicy, BindingType.USER, USER_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(binding));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateAccess(
                 USER_ID, TEAM_ID, "/services/app", PolicyPermission.WRITE);
@@ -447,9 +452,7 @@ class PolicyServiceTest {
         AccessPolicy teamPolicy = buildPolicy("team-read", "/services/*", "READ,LIST", false);
         PolicyBinding teamBinding = buildBinding(teamPolicy, BindingType.TEAM, TEAM_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
-                .thenReturn(List.of());
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(teamBinding));
 
         AccessDecision result = policyService.evaluateAccess(
@@ -465,10 +468,8 @@ class PolicyServiceTest {
         AccessPolicy userPolicy = buildPolicy("user-read", "/services/*", "READ", false);
         PolicyBinding userBinding = buildBinding(userPolicy, BindingType.USER, USER_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, otherUserId))
-                .thenReturn(List.of());
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
+                .thenReturn(List.of(userBinding));
 
         AccessDecision result = policyService.evaluateAccess(
                 otherUserId, TEAM_ID, "/services/app", PolicyPermission.READ);
@@ -478,9 +479,7 @@ class PolicyServiceTest {
 
     @Test
     void evaluateAccess_inactivePolicy_ignored() {
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
-                .thenReturn(List.of());
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateAccess(
@@ -498,10 +497,8 @@ class PolicyServiceTest {
         PolicyBinding binding1 = buildBinding(noMatchPolicy, BindingType.USER, USER_ID);
         PolicyBinding binding2 = buildBinding(matchPolicy, BindingType.USER, USER_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(binding1, binding2));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateAccess(
                 USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
@@ -518,10 +515,8 @@ class PolicyServiceTest {
         PolicyBinding denyBinding = buildBinding(denyPolicy, BindingType.USER, USER_ID);
         PolicyBinding allowBinding = buildBinding(allowPolicy, BindingType.USER, USER_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(denyBinding, allowBinding));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateAccess(
                 USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
@@ -534,10 +529,8 @@ class PolicyServiceTest {
         AccessPolicy allowPolicy = buildPolicy("allow-read-only", "/services/*", "READ", false);
         PolicyBinding binding = buildBinding(allowPolicy, BindingType.USER, USER_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.USER, USER_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(binding));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
 
         AccessDecision readResult = policyService.evaluateAccess(
                 USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
@@ -553,10 +546,8 @@ class PolicyServiceTest {
         AccessPolicy servicePolicy = buildPolicy("service-read", "/services/*", "READ", false);
         PolicyBinding serviceBinding = buildBinding(servicePolicy, BindingType.SERVICE, SERVICE_ID);
 
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.SERVICE, SERVICE_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of(serviceBinding));
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
-                .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateServiceAccess(
                 SERVICE_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
@@ -567,9 +558,7 @@ class PolicyServiceTest {
 
     @Test
     void evaluateServiceAccess_noBinding_defaultDeny() {
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.SERVICE, SERVICE_ID))
-                .thenReturn(List.of());
-        when(bindingRepository.findActiveBindingsForTarget(TEAM_ID, BindingType.TEAM, TEAM_ID))
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
                 .thenReturn(List.of());
 
         AccessDecision result = policyService.evaluateServiceAccess(
@@ -579,6 +568,139 @@ class PolicyServiceTest {
         assertThat(result.decidingPolicyId()).isNull();
     }
 
+    @Test
+    void evaluateAccess_repeatedCalls_compileTeamIndexOnce() {
+        AccessPolicy allowPolicy = buildPolicy("allow-read", "/services/*", "READ", false);
+        PolicyBinding binding = buildBinding(allowPolicy, BindingType.USER, USER_ID);
+
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
+                .thenReturn(List.of(binding));
+
+        policyService.evaluateAccess(USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
+        policyService.evaluateAccess(USER_ID, TEAM_ID, "/services/other", PolicyPermission.WRITE);
+        policyService.evaluateServiceAccess(SERVICE_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
+
+        verify(bindingRepository, times(1)).findActiveBindingsForTeam(TEAM_ID);
+    }
+
+    @Test
+    void evaluateServiceAccess_repeatedTuple_servedFromDecisionCache() {
+        AccessPolicy servicePolicy = buildPolicy("service-read", "/services/*", "READ", false);
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
+                .thenReturn(List.of(buildBinding(servicePolicy, BindingType.SERVICE, SERVICE_ID)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(policyService.evaluateServiceAccess(
+                    SERVICE_ID, TEAM_ID, "/services/app", PolicyPermission.READ).allowed()).isTrue();
+        }
+
+        verify(policyIndex, times(1)).evaluate(eq(TEAM_ID), eq(BindingType.SERVICE), eq(SERVICE_ID),
+                eq("/services/app"), eq(PolicyPermission.READ), any());
+    }
+
+    @Test
+    void evaluateBatch_loadsBindingsOnceAndKeepsOrder() {
+        AccessPolicy allowRead = buildPolicy("service-read", "/services/*", "READ", false);
+        AccessPolicy denyDb = buildPolicy("deny-db", "/services/db", "READ", true);
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID)).thenReturn(List.of(
+                buildBinding(allowRead, BindingType.SERVICE, SERVICE_ID),
+                buildBinding(denyDb, BindingType.TEAM, TEAM_ID)));
+
+        PolicyBatchEvaluateResponse response = policyService.evaluateBatch(new PolicyBatchEvaluateRequest(
+                BindingType.SERVICE, SERVICE_ID, List.of(
+                        new AccessCheck("/services/app", PolicyPermission.READ),
+                        new AccessCheck("/services/db", PolicyPermission.READ),
+                        new AccessCheck("/services/app", PolicyPermission.WRITE),
+                        new AccessCheck("/other/app", PolicyPermission.READ))), TEAM_ID);
+
+        assertThat(response.allowedCount()).isEqualTo(1);
+        assertThat(response.results()).extracting(r -> r.decision().allowed())
+                .containsExactly(true, false, false, false);
+        assertThat(response.results().get(1).decision().decidingPolicyName()).isEqualTo("deny-db");
+        assertThat(response.results().get(2).permission()).isEqualTo(PolicyPermission.WRITE);
+        verify(bindingRepository, times(1)).findActiveBindingsForTeam(TEAM_ID);
+    }
+
+    @Test
+    void evaluateBatch_teamPrincipal_throwsValidation() {
+        PolicyBatchEvaluateRequest request = new PolicyBatchEvaluateRequest(BindingType.TEAM, TEAM_ID,
+                List.of(new AccessCheck("/services/app", PolicyPermission.READ)));
+
+        assertThatThrownBy(() -> policyService.evaluateBatch(request, TEAM_ID))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void deleteBinding_invalidatesDecisionCache() {
+        when(bindingRepository.existsById(BINDING_ID)).thenReturn(true);
+
+        policyService.deleteBinding(BINDING_ID);
+
+        verify(policyDecisionCache).invalidateAll();
+    }
+
+    @Test
+    void evaluateAccess_afterCreateBinding_recompilesIndex() {
+        AccessPolicy policy = buildPolicy("allow-read", "/services/*", "READ", false);
+        PolicyBinding binding = buildBinding(policy, BindingType.USER, USER_ID);
+
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
+                .thenReturn(List.of())
+                .thenReturn(List.of(binding));
+        when(policyRepository.findById(POLICY_ID)).thenReturn(Optional.of(policy));
+        when(bindingRepository.save(any(PolicyBinding.class))).thenReturn(binding);
+        when(policyMapper.toBindingResponse(any(), anyString())).thenReturn(buildBindingResponse());
+
+        AccessDecision before = policyService.evaluateAccess(
+                USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
+        policyService.createBinding(new CreateBindingRequest(POLICY_ID, BindingType.USER, USER_ID), USER_ID);
+        AccessDecision after = policyService.evaluateAccess(
+                USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
+
+        assertThat(before.allowed()).isFalse();
+        assertThat(after.allowed()).isTrue();
+    }
+
+    @Test
+    void evaluateAccess_afterDeleteBinding_recompilesIndex() {
+        AccessPolicy policy = buildPolicy("allow-read", "/services/*", "READ", false);
+        PolicyBinding binding = buildBinding(policy, BindingType.USER, USER_ID);
+
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID))
+                .thenReturn(List.of(binding))
+                .thenReturn(List.of());
+        when(bindingRepository.existsById(BINDING_ID)).thenReturn(true);
+
+        AccessDecision before = policyService.evaluateAccess(
+                USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
+        policyService.deleteBinding(BINDING_ID);
+        AccessDecision after = policyService.evaluateAccess(
+                USER_ID, TEAM_ID, "/services/app", PolicyPermission.READ);
+
+        assertThat(before.allowed()).isTrue();
+        assertThat(after.allowed()).isFalse();
+    }
+
+    @Test
+    void evaluateAccess_wildcardAndExactPatterns_bothConsidered() {
+        AccessPolicy exactDeny = buildPolicy("deny-db", "/services/app/db", "READ", true);
+        AccessPolicy wildcardAllow = buildPolicy("allow-app", "/services/app/*", "READ", false);
+
+        when(bindingRepository.findActiveBindingsForTeam(TEAM_ID)).thenReturn(List.of(
+                buildBinding(wildcardAllow, BindingType.TEAM, TEAM_ID),
+                buildBinding(exactDeny, BindingType.USER, USER_ID)));
+
+        AccessDecision db = policyService.evaluateAccess(
+                USER_ID, TEAM_ID, "/services/app/db", PolicyPermission.READ);
+        AccessDecision cache = policyService.evaluateAccess(
+                USER_ID, TEAM_ID, "/services/app/cache", PolicyPermission.READ);
+
+        assertThat(db.allowed()).isFalse();
+        assertThat(db.decidingPolicyName()).isEqualTo("deny-db");
+        assertThat(cache.allowed()).isTrue();
+        assertThat(cache.decidingPolicyName()).isEqualTo("allow-app");
+    }
+
     // ═══════════════════════════════════════════
     //  AccessDecision Tests
     // ═══════════════════════════════════════════
@@ -0,0 +1,229 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.RotationProperties;
+import com.codeops.vault.entity.RotationPolicy;
+import com.codeops.vault.entity.Secret;
+import com.codeops.vault.entity.enums.RotationStrategy;
+import com.codeops.vault.exception.CodeOpsVaultException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RotationExecutor}.
+ *
+ * <p>Covers running every due rotation, failure isolation, overall and
+ * per-strategy concurrency limits, queue depth, call timeouts, and the
+ * capacity used to size rotation claims.</p>
+ */
+class RotationExecutorTest {
+
+    private RotationProperties properties;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private RotationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RotationProperties();
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void runAll_rotatesEverySecretInItsOwnTransaction() {
+        executor = newExecutor();
+        List<RotationPolicy> policies = policies(RotationStrategy.RANDOM_GENERATE, 5);
+        Set<UUID> rotated = ConcurrentHashMap.newKeySet();
+
+        int count = executor.runAll(policies, rotated::add);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(rotated).containsExactlyInAnyOrderElementsOf(
+                policies.stream().map(p -> p.getSecret().getId()).toList());
+        verify(transactionManager, times(5)).getTransaction(any());
+        verify(transactionManager, times(5)).commit(any());
+    }
+
+    @Test
+    void runAll_failureDoesNotStopOthers() {
+        executor = newExecutor();
+        List<RotationPolicy> policies = policies(RotationStrategy.RANDOM_GENERATE, 3);
+        UUID failing = policies.get(0).getSecret().getId();
+        Set<UUID> rotated = ConcurrentHashMap.newKeySet();
+
+        int count = executor.runAll(policies, secretId -> {
+            if (secretId.equals(failing)) {
+                throw new IllegalStateException("boom");
+            }
+            rotated.add(secretId);
+        });
+
+        assertThat(count).isEqualTo(3);
+        assertThat(rotated).hasSize(2).doesNotContain(failing);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void runAll_respectsStrategyAndOverallLimits() {
+        properties.setMaxConcurrentRotations(3);
+        properties.setStrategyConcurrency(Map.of(RotationStrategy.EXTERNAL_API, 1));
+        executor = newExecutor();
+        List<RotationPolicy> policies = new ArrayList<>(policies(RotationStrategy.EXTERNAL_API, 4));
+        policies.addAll(policies(RotationStrategy.RANDOM_GENERATE, 6));
+        Set<UUID> external = ConcurrentHashMap.newKeySet();
+        policies.stream().filter(p -> p.getStrategy() == RotationStrategy.EXTERNAL_API)
+                .forEach(p -> external.add(p.getSecret().getId()));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger runningExternal = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger maxRunningExternal = new AtomicInteger();
+
+        executor.runAll(policies, secretId -> {
+            boolean isExternal = external.contains(secretId);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            if (isExternal) {
+                maxRunningExternal.accumulateAndGet(runningExternal.incrementAndGet(), Math::max);
+            }
+            sleep(20);
+            if (isExternal) {
+                runningExternal.decrementAndGet();
+            }
+            running.decrementAndGet();
+        });
+
+        assertThat(maxRunning.get()).isBetween(1, 3);
+        assertThat(maxRunningExternal.get()).isEqualTo(1);
+    }
+
+    @Test
+    void queueDepth_countsRotationsWaitingForPermit() throws Exception {
+        properties.setMaxConcurrentRotations(2);
+        executor = newExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> run = CompletableFuture.supplyAsync(() -> executor.runAll(
+                policies(RotationStrategy.RANDOM_GENERATE, 5), secretId -> await(release)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.queueDepth() != 3 && System.nanoTime() < deadline) {
+            sleep(5);
+        }
+        assertThat(executor.queueDepth()).isEqualTo(3);
+        assertThat(meterRegistry.get("vault.rotation.queue.depth").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("vault.rotation.running").gauge().value()).isEqualTo(2.0);
+
+        release.countDown();
+        assertThat(run.get(5, TimeUnit.SECONDS)).isEqualTo(5);
+        assertThat(executor.queueDepth()).isZero();
+    }
+
+    @Test
+    void callWithTimeout_returnsResult() {
+        executor = newExecutor();
+
+        assertThat(executor.callWithTimeout(() -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void callWithTimeout_slowCall_throwsAndInterrupts() {
+        properties.setCallTimeoutMs(50);
+        executor = newExecutor();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> executor.callWithTimeout(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }))
+                .isInstanceOf(CodeOpsVaultException.class)
+                .hasMessageContaining("timed out");
+        assertThat(await(interrupted)).isTrue();
+        assertThat(meterRegistry.get("vault.rotation.call.timeouts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void callWithTimeout_runtimeException_propagatesUnchanged() {
+        executor = newExecutor();
+
+        assertThatThrownBy(() -> executor.callWithTimeout(() -> {
+            throw new IllegalArgumentException("bad");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad");
+    }
+
+    @Test
+    void capacityWithin_defaults_boundedByMostConstrainedStrategy() {
+        executor = newExecutor();
+
+        // EXTERNAL_API=4 concurrent, 15 s timeout: 4 x 300 s / 15 s
+        assertThat(executor.capacityWithin(300)).isEqualTo(80);
+        assertThat(executor.capacityWithin(1)).isEqualTo(1);
+    }
+
+    @Test
+    void capacityWithin_timeoutDisabled_unbounded() {
+        properties.setCallTimeoutMs(0);
+        executor = newExecutor();
+
+        assertThat(executor.capacityWithin(300)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private RotationExecutor newExecutor() {
+        return new RotationExecutor(properties, transactionManager, meterRegistry);
+    }
+
+    private List<RotationPolicy> policies(RotationStrategy strategy, int count) {
+        List<RotationPolicy> policies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Secret secret = Secret.builder().path("/test/secret-" + i).build();
+            secret.setId(UUID.randomUUID());
+            policies.add(RotationPolicy.builder().secret(secret).strategy(strategy).build());
+        }
+        return policies;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.codeops.vault.service;
 
+import com.codeops.vault.config.RotationProperties;
 import com.codeops.vault.dto.mapper.RotationMapper;
 import com.codeops.vault.dto.request.CreateRotationPolicyRequest;
 import com.codeops.vault.dto.request.UpdateRotationPolicyRequest;
@@ -17,11 +18,13 @@ import com.codeops.vault.exception.NotFoundException;
 import com.codeops.vault.repository.RotationHistoryRepository;
 import com.codeops.vault.repository.RotationPolicyRepository;
 import com.codeops.vault.repository.SecretRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -31,6 +34,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -78,6 +82,13 @@ class RotationServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ScheduledWorkClaimer scheduledWorkClaimer;
+
+    @Spy
+    private RotationExecutor rotationExecutor = new RotationExecutor(
+            new RotationProperties(), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
     @InjectMocks
     private RotationService rotationService;
 
@@ -708,6 +719,72 @@ class RotationServiceTest {
         verify(secretService, never()).updateSecret(any(), any(), any());
     }
 
+    @Test
+    void processDueRotations_claiming_rotatesClaimedPoliciesAndReleasesClaim() {
+        UUID secretId = UUID.randomUUID();
+        Secret secret = buildSecret(secretId);
+        RotationPolicy policy = buildPolicy(secretId, secret);
+        policy.setClaimedBy("node-a");
+        policy.setClaimExpiresAt(Instant.now().plus(5, ChronoUnit.MINUTES));
+        Secret updatedSecret = buildSecret(secretId);
+        updatedSecret.setCurrentVersion(2);
+
+        when(scheduledWorkClaimer.isEnabled()).thenReturn(true);
+        when(scheduledWorkClaimer.batchSize()).thenReturn(100);
+        when(scheduledWorkClaimer.claimTtlSeconds()).thenReturn(300L);
+        when(scheduledWorkClaimer.nodeId()).thenReturn("node-a");
+        when(scheduledWorkClaimer.claimDueRotations(80)).thenReturn(List.of(policy.getId()));
+        when(rotationPolicyRepository.findAllById(List.of(policy.getId()))).thenReturn(List.of(policy));
+        when(rotationPolicyRepository.lockBySecretId(secretId)).thenReturn(Optional.of(policy));
+        when(secretRepository.findById(secretId))
+                .thenReturn(Optional.of(secret))
+                .thenReturn(Optional.of(updatedSecret));
+        when(rotationPolicyRepository.findBySecretId(secretId)).thenReturn(Optional.of(policy));
+        when(encryptionService.generateRandomString(anyInt(), anyString())).thenReturn("val");
+        when(rotationHistoryRepository.save(any(RotationHistory.class))).thenAnswer(i -> i.getArgument(0));
+        when(rotationPolicyRepository.save(any(RotationPolicy.class))).thenAnswer(i -> i.getArgument(0));
+        when(secretRepository.save(any(Secret.class))).thenAnswer(i -> i.getArgument(0));
+
+        int count = rotationService.processDueRotations();
+
+        assertThat(count).isEqualTo(1);
+        verify(secretService).updateSecret(eq(secretId), any(), isNull());
+        verify(rotationPolicyRepository).releaseClaim(policy.getId(), "node-a");
+        verify(rotationPolicyRepository, never()).findByIsActiveTrueAndNextRotationAtBefore(any());
+        verify(scheduledWorkClaimer, times(1)).claimDueRotations(80);
+    }
+
+    @Test
+    void rotateClaimedSecret_claimTakenOverByOtherNode_skipsRotation() {
+        UUID secretId = UUID.randomUUID();
+        RotationPolicy policy = buildPolicy(secretId, buildSecret(secretId));
+        policy.setClaimedBy("node-b");
+        policy.setClaimExpiresAt(Instant.now().plus(5, ChronoUnit.MINUTES));
+
+        when(scheduledWorkClaimer.nodeId()).thenReturn("node-a");
+        when(rotationPolicyRepository.lockBySecretId(secretId)).thenReturn(Optional.of(policy));
+
+        rotationService.rotateClaimedSecret(secretId);
+
+        verify(secretService, never()).updateSecret(any(), any(), any());
+        verify(rotationPolicyRepository, never()).releaseClaim(any(), any());
+    }
+
+    @Test
+    void rotateClaimedSecret_claimLapsed_skipsRotation() {
+        UUID secretId = UUID.randomUUID();
+        RotationPolicy policy = buildPolicy(secretId, buildSecret(secretId));
+        policy.setClaimedBy("node-a");
+        policy.setClaimExpiresAt(Instant.now().minus(1, ChronoUnit.SECONDS));
+
+        when(scheduledWorkClaimer.nodeId()).thenReturn("node-a");
+        when(rotationPolicyRepository.lockBySecretId(secretId)).thenReturn(Optional.of(policy));
+
+        rotationService.rotateClaimedSecret(secretId);
+
+        verify(secretService, never()).updateSecret(any(), any(), any());
+    }
+
     // ─── History ────────────────────────────────────────────
 
     @Test
@@ -0,0 +1,107 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.SchedulingProperties;
+import com.codeops.vault.entity.DynamicLease;
+import com.codeops.vault.entity.RotationPolicy;
+import com.codeops.vault.entity.enums.LeaseStatus;
+import com.codeops.vault.repository.DynamicLeaseRepository;
+import com.codeops.vault.repository.RotationPolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ScheduledWorkClaimer}.
+ *
+ * <p>Covers node identifiers, batch sizes, and recording claims on
+ * rotation policies and leases.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class ScheduledWorkClaimerTest {
+
+    @Mock
+    private RotationPolicyRepository rotationPolicyRepository;
+
+    @Mock
+    private DynamicLeaseRepository leaseRepository;
+
+    private SchedulingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SchedulingProperties();
+        properties.setNodeId("node-a");
+        properties.setClaimBatchSize(25);
+        properties.setClaimTtlSeconds(120);
+    }
+
+    @Test
+    void nodeId_blank_generatesUniqueIdentifier() {
+        properties.setNodeId("");
+
+        String first = newClaimer().nodeId();
+        String second = newClaimer().nodeId();
+
+        assertThat(first).isNotBlank().isNotEqualTo(second);
+    }
+
+    @Test
+    void claimDueRotations_recordsOwnerAndExpiry() {
+        RotationPolicy policy = RotationPolicy.builder().build();
+        policy.setId(UUID.randomUUID());
+        when(rotationPolicyRepository.lockClaimableDue(any(Instant.class), eq(PageRequest.of(0, 25))))
+                .thenReturn(List.of(policy));
+
+        List<UUID> claimed = newClaimer().claimDueRotations(100);
+
+        assertThat(claimed).containsExactly(policy.getId());
+        assertThat(policy.getClaimedBy()).isEqualTo("node-a");
+        assertThat(policy.getClaimExpiresAt())
+                .isCloseTo(Instant.now().plus(120, ChronoUnit.SECONDS), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void claimDueRotations_limitBelowBatchSize_claimsAtMostLimit() {
+        when(rotationPolicyRepository.lockClaimableDue(any(Instant.class), eq(PageRequest.of(0, 10))))
+                .thenReturn(List.of());
+
+        assertThat(newClaimer().claimDueRotations(10)).isEmpty();
+    }
+
+    @Test
+    void claimExpiredLeases_recordsOwnerAndExpiry() {
+        DynamicLease lease = DynamicLease.builder().status(LeaseStatus.ACTIVE).build();
+        lease.setId(UUID.randomUUID());
+        when(leaseRepository.lockClaimableExpired(eq(LeaseStatus.ACTIVE), any(Instant.class),
+                eq(PageRequest.of(0, 25)))).thenReturn(List.of(lease));
+
+        List<UUID> claimed = newClaimer().claimExpiredLeases();
+
+        assertThat(claimed).containsExactly(lease.getId());
+        assertThat(lease.getClaimedBy()).isEqualTo("node-a");
+        assertThat(lease.getClaimExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void batchSize_atLeastOne() {
+        properties.setClaimBatchSize(0);
+
+        assertThat(newClaimer().batchSize()).isEqualTo(1);
+    }
+
+    private ScheduledWorkClaimer newClaimer() {
+        return new ScheduledWorkClaimer(rotationPolicyRepository, leaseRepository, properties);
+    }
+}
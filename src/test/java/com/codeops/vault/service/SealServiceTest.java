@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Base64;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -455,6 +456,73 @@ class SealServiceTest {
         assertThat(service.isUnsealed()).isTrue();
     }
 
+    // ─── Seal State Listener Tests ──────────────────────────
+
+    @Test
+    void initialize_autoUnseal_notifiesListeners() {
+        RecordingListener listener = new RecordingListener();
+        SealService service = new SealService(vaultProperties, null, List.of(listener));
+        setField(service, "autoUnseal", true);
+        setField(service, "configuredTotalShares", 5);
+        setField(service, "configuredThreshold", 3);
+
+        service.initialize();
+
+        assertThat(listener.unsealedCount).isEqualTo(1);
+        assertThat(listener.sealedCount).isZero();
+    }
+
+    @Test
+    void seal_notifiesListeners() {
+        RecordingListener listener = new RecordingListener();
+        SealService service = new SealService(vaultProperties, null, List.of(listener));
+        setField(service, "autoUnseal", true);
+        setField(service, "configuredTotalShares", 5);
+        setField(service, "configuredThreshold", 3);
+        service.initialize();
+
+        service.seal();
+
+        assertThat(listener.sealedCount).isEqualTo(1);
+    }
+
+    @Test
+    void submitKeyShare_thresholdReached_notifiesListeners() {
+        String[] shares = createAutoUnsealService().generateKeyShares();
+        RecordingListener listener = new RecordingListener();
+        SealService service = new SealService(vaultProperties, null, List.of(listener));
+        setField(service, "autoUnseal", false);
+        setField(service, "configuredTotalShares", 5);
+        setField(service, "configuredThreshold", 3);
+        service.initialize();
+        assertThat(listener.unsealedCount).isZero();
+
+        service.submitKeyShare(shares[0]);
+        service.submitKeyShare(shares[1]);
+        service.submitKeyShare(shares[2]);
+
+        assertThat(listener.unsealedCount).isEqualTo(1);
+    }
+
+    @Test
+    void seal_failingListener_stillSeals() {
+        SealStateListener failing = new SealStateListener() {
+            @Override public void onUnsealed() {}
+            @Override public void onSealed() { throw new IllegalStateException("boom"); }
+        };
+        RecordingListener recording = new RecordingListener();
+        SealService service = new SealService(vaultProperties, null, List.of(failing, recording));
+        setField(service, "autoUnseal", true);
+        setField(service, "configuredTotalShares", 5);
+        setField(service, "configuredThreshold", 3);
+        service.initialize();
+
+        service.seal();
+
+        assertThat(service.isUnsealed()).isFalse();
+        assertThat(recording.sealedCount).isEqualTo(1);
+    }
+
     // ─── getSealInfo Test ───────────────────────────────────
 
     @Test
@@ -472,6 +540,24 @@ class SealServiceTest {
 
     // ─── Helper ─────────────────────────────────────────────
 
+    /**
+     * Listener that counts seal state notifications.
+     */
+    private static class RecordingListener implements SealStateListener {
+        int unsealedCount;
+        int sealedCount;
+
+        @Override
+        public void onUnsealed() {
+            unsealedCount++;
+        }
+
+        @Override
+        public void onSealed() {
+            sealedCount++;
+        }
+    }
+
     /**
      * Creates a fake share with random data that won't reconstruct to the master key.
      */
@@ -0,0 +1,128 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.StorageProperties;
+import com.codeops.vault.entity.Secret;
+import com.codeops.vault.entity.enums.SecretType;
+import com.codeops.vault.repository.SecretRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SecretAccessTracker} against the embedded test database.
+ *
+ * <p>Runs outside a test-managed transaction so that flushed access times
+ * are committed and visible. Covers coalescing, batched flushing across
+ * chunks, monotonic timestamps, and the tracker metrics.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecretAccessTrackerTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private SecretRepository secretRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecretAccessTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        StorageProperties properties = new StorageProperties();
+        properties.setAccessFlushBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new SecretAccessTracker(new JdbcTemplate(dataSource), transactionManager, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        secretRepository.deleteAll();
+    }
+
+    @Test
+    void record_coalescesToLatestAccessPerSecret() {
+        UUID secretId = saveSecret("/a").getId();
+
+        tracker.record(secretId, BASE.plusSeconds(5));
+        tracker.record(secretId, BASE.plusSeconds(1));
+
+        assertThat(tracker.pending()).isEqualTo(1);
+        assertThat(tracker.flush()).isEqualTo(1);
+        assertThat(lastAccessedAt(secretId)).isEqualTo(BASE.plusSeconds(5));
+        assertThat(tracker.pending()).isZero();
+    }
+
+    @Test
+    void flush_updatesEverySecretAcrossChunks() {
+        UUID first = saveSecret("/a").getId();
+        UUID second = saveSecret("/b").getId();
+        UUID third = saveSecret("/c").getId();
+
+        tracker.record(first, BASE);
+        tracker.record(second, BASE.plusSeconds(1));
+        tracker.record(third, BASE.plusSeconds(2));
+
+        assertThat(tracker.flush()).isEqualTo(3);
+        assertThat(lastAccessedAt(first)).isEqualTo(BASE);
+        assertThat(lastAccessedAt(second)).isEqualTo(BASE.plusSeconds(1));
+        assertThat(lastAccessedAt(third)).isEqualTo(BASE.plusSeconds(2));
+        assertThat(meterRegistry.get("vault.secret.access.flushed").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void flush_neverMovesTimestampBackwards() {
+        Secret secret = saveSecret("/a");
+        secret.setLastAccessedAt(BASE.plusSeconds(60));
+        secretRepository.save(secret);
+
+        tracker.record(secret.getId(), BASE);
+        tracker.flush();
+
+        assertThat(lastAccessedAt(secret.getId())).isEqualTo(BASE.plusSeconds(60));
+    }
+
+    @Test
+    void flush_nothingPending_returnsZero() {
+        assertThat(tracker.flush()).isZero();
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private Secret saveSecret(String path) {
+        return secretRepository.save(Secret.builder()
+                .teamId(UUID.randomUUID())
+                .path(path)
+                .name("secret" + path.replace('/', '-'))
+                .secretType(SecretType.STATIC)
+                .ownerUserId(UUID.randomUUID())
+                .build());
+    }
+
+    private Instant lastAccessedAt(UUID secretId) {
+        Instant value = secretRepository.findById(secretId).orElseThrow().getLastAccessedAt();
+        return value != null ? value.truncatedTo(ChronoUnit.SECONDS) : null;
+    }
+}
@@ -1,10 +1,15 @@
 package com.codeops.vault.service;
 
 import com.codeops.vault.config.AppConstants;
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.config.StorageProperties;
 import com.codeops.vault.dto.mapper.SecretMapper;
 import com.codeops.vault.dto.request.CreateSecretRequest;
+import com.codeops.vault.dto.request.SecretBatchGetRequest;
 import com.codeops.vault.dto.request.UpdateSecretRequest;
+import com.codeops.vault.dto.response.KeysetCursor;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.SecretBatchGetResponse;
 import com.codeops.vault.dto.response.SecretResponse;
 import com.codeops.vault.dto.response.SecretValueResponse;
 import com.codeops.vault.dto.response.SecretVersionResponse;
@@ -17,22 +22,28 @@ import com.codeops.vault.exception.ValidationException;
 import com.codeops.vault.repository.SecretMetadataRepository;
 import com.codeops.vault.repository.SecretRepository;
 import com.codeops.vault.repository.SecretVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,6 +82,15 @@ class SecretServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Spy
+    private StorageProperties storageProperties = new StorageProperties();
+
+    @Spy
+    private SecretValueCache secretValueCache = unsealedValueCache();
+
+    @Mock
+    private SecretAccessTracker secretAccessTracker;
+
     @InjectMocks
     private SecretService secretService;
 
@@ -329,17 +349,14 @@ class SecretServiceTest {
         when(secretVersionRepository.findBySecretIdAndVersionNumber(SECRET_ID, 2))
                 .thenReturn(Optional.of(version));
         when(encryptionService.decrypt("encrypted-data")).thenReturn("decrypted-value");
-        when(secretRepository.save(any(Secret.class))).thenAnswer(i -> i.getArgument(0));
 
         SecretValueResponse result = secretService.readSecretValue(SECRET_ID);
 
         assertThat(result.value()).isEqualTo("decrypted-value");
         assertThat(result.versionNumber()).isEqualTo(2);
         verify(encryptionService).decrypt("encrypted-data");
-
-        ArgumentCaptor<Secret> captor = ArgumentCaptor.forClass(Secret.class);
-        verify(secretRepository).save(captor.capture());
-        assertThat(captor.getValue().getLastAccessedAt()).isNotNull();
+        verify(secretAccessTracker).record(SECRET_ID);
+        verify(secretRepository, never()).save(any(Secret.class));
     }
 
     @Test
@@ -361,12 +378,13 @@ class SecretServiceTest {
         when(secretVersionRepository.findBySecretIdAndVersionNumber(SECRET_ID, 2))
                 .thenReturn(Optional.of(version));
         when(encryptionService.decrypt("encrypted-v2")).thenReturn("plaintext-v2");
-        when(secretRepository.save(any(Secret.class))).thenAnswer(i -> i.getArgument(0));
 
         SecretValueResponse result = secretService.readSecretVersionValue(SECRET_ID, 2);
 
         assertThat(result.value()).isEqualTo("plaintext-v2");
         assertThat(result.versionNumber()).isEqualTo(2);
+        verify(secretAccessTracker).record(SECRET_ID);
+        verify(secretRepository, never()).save(any(Secret.class));
     }
 
     @Test
@@ -395,7 +413,7 @@ class SecretServiceTest {
         Page<Secret> page = new PageImpl<>(List.of(secret), pageable, 1);
 
         when(secretRepository.findByTeamId(TEAM_ID, pageable)).thenReturn(page);
-        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
         when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
 
         PageResponse<SecretResponse> result = secretService.listSecrets(
@@ -405,6 +423,56 @@ class SecretServiceTest {
         assertThat(result.totalElements()).isEqualTo(1);
     }
 
+    @Test
+    void listSecrets_loadsMetadataForWholePageInOneQuery() {
+        Secret first = buildSecret();
+        Secret second = buildSecret();
+        second.setId(UUID.randomUUID());
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Secret> page = new PageImpl<>(List.of(first, second), pageable, 2);
+        SecretMetadata firstEnv = SecretMetadata.builder()
+                .secret(first).metadataKey("env").metadataValue("prod").build();
+        SecretMetadata secondEnv = SecretMetadata.builder()
+                .secret(second).metadataKey("env").metadataValue("staging").build();
+
+        when(secretRepository.findByTeamId(TEAM_ID, pageable)).thenReturn(page);
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID, second.getId())))
+                .thenReturn(List.of(firstEnv, secondEnv));
+        when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
+
+        secretService.listSecrets(TEAM_ID, null, null, false, pageable);
+
+        verify(secretMetadataRepository, never()).findBySecretId(any());
+        verify(secretMapper).toResponse(first, Map.of("env", "prod"));
+        verify(secretMapper).toResponse(second, Map.of("env", "staging"));
+    }
+
+    @Test
+    void listSecretsAfter_withCursor_resumesAfterItWithoutCounting() {
+        Secret secret = buildSecret();
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        UUID lastId = UUID.randomUUID();
+        String after = KeysetCursor.of(createdAt, lastId).encode();
+
+        when(secretRepository.findPageAfter(TEAM_ID, true, createdAt, lastId, PageRequest.of(0, 20)))
+                .thenReturn(new SliceImpl<>(List.of(secret), PageRequest.of(0, 20), false));
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
+        when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
+
+        PageResponse<SecretResponse> result = secretService.listSecretsAfter(TEAM_ID, true, after, 20);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.isLast()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalElements()).isEqualTo(-1);
+    }
+
+    @Test
+    void listSecretsAfter_malformedCursor_throwsValidation() {
+        assertThatThrownBy(() -> secretService.listSecretsAfter(TEAM_ID, true, "%%%", 20))
+                .isInstanceOf(ValidationException.class);
+    }
+
     @Test
     void listSecrets_byType_filtersCorrectly() {
         Secret secret = buildSecret();
@@ -413,7 +481,7 @@ class SecretServiceTest {
 
         when(secretRepository.findByTeamIdAndSecretType(TEAM_ID, SecretType.STATIC, pageable))
                 .thenReturn(page);
-        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
         when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
 
         PageResponse<SecretResponse> result = secretService.listSecrets(
@@ -431,7 +499,7 @@ class SecretServiceTest {
 
         when(secretRepository.findByTeamIdAndPathStartingWith(TEAM_ID, "/services/", pageable))
                 .thenReturn(page);
-        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
         when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
 
         PageResponse<SecretResponse> result = secretService.listSecrets(
@@ -448,7 +516,7 @@ class SecretServiceTest {
         Page<Secret> page = new PageImpl<>(List.of(secret), pageable, 1);
 
         when(secretRepository.findByTeamIdAndIsActiveTrue(TEAM_ID, pageable)).thenReturn(page);
-        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
         when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
 
         PageResponse<SecretResponse> result = secretService.listSecrets(
@@ -466,7 +534,7 @@ class SecretServiceTest {
 
         when(secretRepository.findByTeamIdAndNameContainingIgnoreCase(TEAM_ID, "test", pageable))
                 .thenReturn(page);
-        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
         when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
 
         PageResponse<SecretResponse> result = secretService.searchSecrets(TEAM_ID, "test", pageable);
@@ -1010,7 +1078,7 @@ class SecretServiceTest {
         expiringSecret.setIsActive(true);
 
         when(secretRepository.findByTeamId(TEAM_ID)).thenReturn(List.of(expiringSecret));
-        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMetadataRepository.findBySecretIdIn(List.of(SECRET_ID))).thenReturn(List.of());
         when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
 
         List<SecretResponse> result = secretService.getExpiringSecrets(TEAM_ID, 3);
@@ -1031,10 +1099,264 @@ class SecretServiceTest {
         assertThat(result).isEmpty();
     }
 
+    // ═══════════════════════════════════════════
+    //  Secret Value Cache Tests
+    // ═══════════════════════════════════════════
+
+    @Test
+    void readSecretValue_secondRead_servedFromCacheAndAudited() {
+        stubCurrentVersionRead();
+
+        SecretValueResponse first = secretService.readSecretValue(SECRET_ID);
+        SecretValueResponse second = secretService.readSecretValue(SECRET_ID);
+
+        assertThat(second).isEqualTo(first);
+        verify(secretRepository, times(1)).findById(SECRET_ID);
+        verify(secretAccessTracker, times(2)).record(SECRET_ID);
+        verify(encryptionService, times(1)).decrypt("encrypted-data");
+        verify(auditService, times(2)).logSuccess(eq(TEAM_ID), isNull(), eq("READ"), anyString(),
+                eq("SECRET"), eq(SECRET_ID), isNull());
+    }
+
+    @Test
+    void updateSecret_invalidatesCachedValue() {
+        stubCurrentVersionRead();
+        when(secretMetadataRepository.findBySecretId(SECRET_ID)).thenReturn(List.of());
+        when(secretMapper.toResponse(any(Secret.class), anyMap())).thenReturn(buildSecretResponse());
+
+        secretService.readSecretValue(SECRET_ID);
+        secretService.updateSecret(SECRET_ID,
+                new UpdateSecretRequest(null, null, "new description", null, null, null, null), USER_ID);
+        secretService.readSecretValue(SECRET_ID);
+
+        verify(encryptionService, times(2)).decrypt("encrypted-data");
+    }
+
+    @Test
+    void softDeleteSecret_invalidatesCachedValue() {
+        stubCurrentVersionRead();
+
+        secretService.readSecretValue(SECRET_ID);
+        secretService.softDeleteSecret(SECRET_ID);
+
+        assertThat(secretValueCache.size()).isZero();
+    }
+
+    @Test
+    void hardDeleteSecret_invalidatesCachedValue() {
+        stubCurrentVersionRead();
+
+        secretService.readSecretValue(SECRET_ID);
+        secretService.hardDeleteSecret(SECRET_ID);
+
+        assertThat(secretValueCache.size()).isZero();
+    }
+
+    // ═══════════════════════════════════════════
+    //  Bulk Read Tests
+    // ═══════════════════════════════════════════
+
+    @Test
+    void batchGetSecretValues_idsAndPaths_returnsPerItemResults() {
+        Secret secret = buildSecret();
+        SecretVersion version = buildVersion(secret, 1);
+        version.setEncryptedValue("encrypted-data");
+        UUID missingId = UUID.randomUUID();
+
+        when(secretRepository.findByTeamIdAndIdIn(TEAM_ID, List.of(SECRET_ID, missingId))).thenReturn(List.of(secret));
+        when(secretRepository.findByTeamIdAndPathIn(TEAM_ID, List.of("/test/path"))).thenReturn(List.of(secret));
+        when(secretVersionRepository.findCurrentVersions(Set.of(SECRET_ID))).thenReturn(List.of(version));
+        when(encryptionService.decrypt("encrypted-data")).thenReturn("decrypted-value");
+
+        SecretBatchGetResponse response = secretService.batchGetSecretValues(
+                new SecretBatchGetRequest(List.of(SECRET_ID, missingId), List.of("/test/path"), null), TEAM_ID, USER_ID);
+
+        assertThat(response.errorCount()).isEqualTo(1);
+        assertThat(response.results()).hasSize(3);
+        assertThat(response.results().get(0).secret().value()).isEqualTo("decrypted-value");
+        assertThat(response.results().get(1).error()).isEqualTo("Secret not found");
+        assertThat(response.results().get(2).requested()).isEqualTo("/test/path");
+        assertThat(response.results().get(2).secret().value()).isEqualTo("decrypted-value");
+        verify(encryptionService, times(1)).decrypt("encrypted-data");
+        verify(secretAccessTracker).record(SECRET_ID);
+        verify(auditService).logSuccessForEach(TEAM_ID, USER_ID, "READ", "SECRET", Map.of(SECRET_ID, "/test/path"));
+    }
+
+    @Test
+    void batchGetSecretValues_destroyedCurrentVersion_reportedWithoutDecrypting() {
+        Secret secret = buildSecret();
+        SecretVersion version = buildVersion(secret, 1);
+        version.setIsDestroyed(true);
+        version.setEncryptedValue("DESTROYED");
+
+        when(secretRepository.findByTeamIdAndIdIn(TEAM_ID, List.of(SECRET_ID))).thenReturn(List.of(secret));
+        when(secretVersionRepository.findCurrentVersions(Set.of(SECRET_ID))).thenReturn(List.of(version));
+
+        SecretBatchGetResponse response = secretService.batchGetSecretValues(
+                new SecretBatchGetRequest(List.of(SECRET_ID), null, null), TEAM_ID, USER_ID);
+
+        assertThat(response.errorCount()).isEqualTo(1);
+        assertThat(response.results().get(0).error()).isEqualTo("Version 1 has been destroyed and cannot be read");
+        verifyNoInteractions(encryptionService);
+        verifyNoInteractions(secretAccessTracker);
+    }
+
+    @Test
+    void batchGetSecretValues_pathPrefix_decryptsEachMatchInParallel() {
+        List<Secret> secrets = new ArrayList<>();
+        List<SecretVersion> versions = new ArrayList<>();
+        for (int i = 0; i < AppConstants.SECRET_BATCH_PARALLEL_THRESHOLD + 4; i++) {
+            Secret secret = buildSecret();
+            secret.setId(UUID.randomUUID());
+            secret.setPath(String.format("/config/%02d", i));
+            SecretVersion version = buildVersion(secret, 1);
+            version.setEncryptedValue("encrypted-" + i);
+            secrets.add(secret);
+            versions.add(version);
+        }
+
+        when(secretRepository.findByTeamIdAndPathStartingWithAndIsActiveTrue(TEAM_ID, "/config/")).thenReturn(secrets);
+        when(secretVersionRepository.findCurrentVersions(anyCollection())).thenReturn(versions);
+        when(encryptionService.decrypt(anyString())).thenAnswer(i -> "plain-" + i.getArgument(0));
+
+        SecretBatchGetResponse response = secretService.batchGetSecretValues(
+                new SecretBatchGetRequest(null, null, "/config/"), TEAM_ID, USER_ID);
+
+        assertThat(response.errorCount()).isZero();
+        assertThat(response.results()).extracting(r -> r.secret().value())
+                .containsExactlyElementsOf(versions.stream().map(v -> "plain-" + v.getEncryptedValue()).toList());
+    }
+
+    @Test
+    void batchGetSecretValues_cachedValue_notReloaded() {
+        stubCurrentVersionRead();
+        secretService.readSecretValue(SECRET_ID);
+        when(secretRepository.findByTeamIdAndIdIn(TEAM_ID, List.of(SECRET_ID))).thenReturn(List.of(buildSecret()));
+
+        SecretBatchGetResponse response = secretService.batchGetSecretValues(
+                new SecretBatchGetRequest(List.of(SECRET_ID), null, null), TEAM_ID, USER_ID);
+
+        assertThat(response.results().get(0).secret().value()).isEqualTo("decrypted-value");
+        verify(secretVersionRepository, never()).findCurrentVersions(anyCollection());
+    }
+
+    @Test
+    void batchGetSecretValues_noSelector_throwsValidation() {
+        assertThatThrownBy(() -> secretService.batchGetSecretValues(
+                new SecretBatchGetRequest(List.of(), null, " "), TEAM_ID, USER_ID))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    // ═══════════════════════════════════════════
+    //  Binary Envelope Storage Tests
+    // ═══════════════════════════════════════════
+
+    @Test
+    void createSecret_binaryEnvelopes_storesBytesOnly() {
+        storageProperties.setBinaryEnvelopes(true);
+        CreateSecretRequest request = new CreateSecretRequest(
+                "/test/path", "test-secret", "my-secret-value", "desc",
+                SecretType.STATIC, null, null, null, null, null);
+        byte[] envelope = {1, 2, 3};
+
+        when(secretRepository.existsByTeamIdAndPath(TEAM_ID, "/test/path")).thenReturn(false);
+        when(secretRepository.save(any(Secret.class))).thenAnswer(invocation -> {
+            Secret s = invocation.getArgument(0);
+            s.setId(SECRET_ID);
+            return s;
+        });
+        when(encryptionService.encryptToBytes("my-secret-value")).thenReturn(envelope);
+
+        secretService.createSecret(request, TEAM_ID, USER_ID);
+
+        ArgumentCaptor<SecretVersion> captor = ArgumentCaptor.forClass(SecretVersion.class);
+        verify(secretVersionRepository).save(captor.capture());
+        assertThat(captor.getValue().getEncryptedValueBytes()).isEqualTo(envelope);
+        assertThat(captor.getValue().getEncryptedValue()).isNull();
+        verify(encryptionService, never()).encrypt(anyString());
+    }
+
+    @Test
+    void readSecretValue_binaryEnvelope_decryptsFromBytes() {
+        Secret secret = buildSecret();
+        SecretVersion version = buildVersion(secret, 1);
+        version.setEncryptedValue(null);
+        version.setEncryptedValueBytes(new byte[]{1, 2, 3});
+
+        when(secretRepository.findById(SECRET_ID)).thenReturn(Optional.of(secret));
+        when(secretVersionRepository.findBySecretIdAndVersionNumber(SECRET_ID, 1))
+                .thenReturn(Optional.of(version));
+        when(encryptionService.decryptFromBytes(version.getEncryptedValueBytes())).thenReturn("decrypted-value");
+
+        SecretValueResponse result = secretService.readSecretValue(SECRET_ID);
+
+        assertThat(result.value()).isEqualTo("decrypted-value");
+        verify(encryptionService, never()).decrypt(anyString());
+    }
+
+    @Test
+    void migrateTextEnvelopes_decodesTextAndSkipsInvalidBase64() {
+        Secret secret = buildSecret();
+        SecretVersion legacy = buildVersion(secret, 1);
+        legacy.setEncryptedValue(Base64.getEncoder().encodeToString(new byte[]{9, 8, 7}));
+        SecretVersion invalid = buildVersion(secret, 2);
+        invalid.setEncryptedValue("SEED:not-base64");
+
+        when(secretVersionRepository.findTextEnvelopes(any(Pageable.class))).thenReturn(List.of(legacy, invalid));
+
+        EnvelopeMigrationBatch batch = secretService.migrateTextEnvelopes(null, 100);
+
+        assertThat(batch.migrated()).isEqualTo(1);
+        assertThat(batch.skipped()).isEqualTo(1);
+        assertThat(batch.lastId()).isEqualTo(invalid.getId());
+        assertThat(legacy.getEncryptedValueBytes()).containsExactly(9, 8, 7);
+        assertThat(legacy.getEncryptedValue()).isNull();
+        assertThat(invalid.getEncryptedValueBytes()).isNull();
+        assertThat(invalid.getEncryptedValue()).isEqualTo("SEED:not-base64");
+        verifyNoInteractions(encryptionService);
+    }
+
+    @Test
+    void migrateTextEnvelopes_afterId_continuesAfterPreviousBatch() {
+        Secret secret = buildSecret();
+        SecretVersion legacy = buildVersion(secret, 3);
+        legacy.setEncryptedValue(Base64.getEncoder().encodeToString(new byte[]{1}));
+        UUID afterId = UUID.randomUUID();
+
+        when(secretVersionRepository.findTextEnvelopesAfter(eq(afterId), any(Pageable.class)))
+                .thenReturn(List.of(legacy));
+
+        EnvelopeMigrationBatch batch = secretService.migrateTextEnvelopes(afterId, 100);
+
+        assertThat(batch.migrated()).isEqualTo(1);
+        assertThat(batch.lastId()).isEqualTo(legacy.getId());
+        verify(secretVersionRepository, never()).findTextEnvelopes(any(Pageable.class));
+    }
+
     // ═══════════════════════════════════════════
     //  Test Helpers
     // ═══════════════════════════════════════════
 
+    private static SecretValueCache unsealedValueCache() {
+        CacheProperties properties = new CacheProperties();
+        properties.setSecretValueEnabled(true);
+        SecretValueCache cache = new SecretValueCache(properties, new SimpleMeterRegistry());
+        cache.onUnsealed();
+        return cache;
+    }
+
+    private void stubCurrentVersionRead() {
+        Secret secret = buildSecret();
+        SecretVersion version = buildVersion(secret, 1);
+        version.setEncryptedValue("encrypted-data");
+
+        when(secretRepository.findById(SECRET_ID)).thenReturn(Optional.of(secret));
+        when(secretVersionRepository.findBySecretIdAndVersionNumber(SECRET_ID, 1))
+                .thenReturn(Optional.of(version));
+        when(encryptionService.decrypt("encrypted-data")).thenReturn("decrypted-value");
+        lenient().when(secretRepository.save(any(Secret.class))).thenAnswer(i -> i.getArgument(0));
+    }
+
     private Secret buildSecret() {
         Secret secret = Secret.builder()
                 .teamId(TEAM_ID)
@@ -0,0 +1,136 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.dto.response.SecretValueResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SecretValueCache}.
+ *
+ * <p>Covers opt-in enablement, seal-aware caching, invalidation and the
+ * generation guard, path-prefix eligibility, the size bound, and the
+ * cache metrics.</p>
+ */
+class SecretValueCacheTest {
+
+    private static final UUID TEAM_ID = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheProperties properties;
+    private SecretValueCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new CacheProperties();
+        properties.setSecretValueEnabled(true);
+        properties.setSecretValueMaxEntries(2);
+        cache = new SecretValueCache(properties, meterRegistry);
+    }
+
+    @Test
+    void get_whileUnsealed_returnsCachedValue() {
+        cache.onUnsealed();
+        SecretValueResponse response = response("/config/app", "value-1");
+
+        cache.put(cache.generation(), TEAM_ID, response);
+        SecretValueCache.CachedSecretValue cached = cache.get(response.secretId());
+
+        assertThat(cached.teamId()).isEqualTo(TEAM_ID);
+        assertThat(cached.response()).isEqualTo(response);
+        assertThat(meterRegistry.get("vault.secret.value.cache.hits").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void put_whileSealed_doesNotCache() {
+        SecretValueResponse response = response("/config/app", "value-1");
+
+        cache.put(cache.generation(), TEAM_ID, response);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(response.secretId())).isNull();
+        assertThat(meterRegistry.get("vault.secret.value.cache.misses").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledByDefault_neverCaches() {
+        SecretValueCache disabled = new SecretValueCache(new CacheProperties(), new SimpleMeterRegistry());
+        disabled.onUnsealed();
+        SecretValueResponse response = response("/config/app", "value-1");
+
+        disabled.put(disabled.generation(), TEAM_ID, response);
+
+        assertThat(disabled.size()).isZero();
+        assertThat(disabled.get(response.secretId())).isNull();
+    }
+
+    @Test
+    void onSealed_wipesAndStopsServing() {
+        cache.onUnsealed();
+        SecretValueResponse response = response("/config/app", "value-1");
+        cache.put(cache.generation(), TEAM_ID, response);
+
+        cache.onSealed();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(response.secretId())).isNull();
+    }
+
+    @Test
+    void invalidate_dropsEntryAndRejectsInFlightLoad() {
+        cache.onUnsealed();
+        SecretValueResponse response = response("/config/app", "value-1");
+        cache.put(cache.generation(), TEAM_ID, response);
+
+        long loadGeneration = cache.generation();
+        cache.invalidate(response.secretId());
+        cache.put(loadGeneration, TEAM_ID, response("/config/app", "stale"));
+
+        assertThat(cache.get(response.secretId())).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_pathOutsidePrefixes_notCached() {
+        properties.setSecretValuePathPrefixes(List.of("/config/"));
+        SecretValueCache prefixed = new SecretValueCache(properties, new SimpleMeterRegistry());
+        prefixed.onUnsealed();
+
+        prefixed.put(prefixed.generation(), TEAM_ID, response("/services/db/password", "value"));
+        prefixed.put(prefixed.generation(), TEAM_ID, response("/config/feature-flags", "value"));
+
+        assertThat(prefixed.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        cache.onUnsealed();
+        SecretValueResponse first = response("/config/a", "a");
+        SecretValueResponse second = response("/config/b", "b");
+        SecretValueResponse third = response("/config/c", "c");
+
+        cache.put(cache.generation(), TEAM_ID, first);
+        cache.put(cache.generation(), TEAM_ID, second);
+        cache.get(first.secretId());
+        cache.put(cache.generation(), TEAM_ID, third);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(second.secretId())).isNull();
+        assertThat(cache.get(first.secretId())).isNotNull();
+        assertThat(meterRegistry.get("vault.secret.value.cache.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private SecretValueResponse response(String path, String value) {
+        return new SecretValueResponse(UUID.randomUUID(), path, "name", 1, value, Instant.now());
+    }
+}
@@ -0,0 +1,114 @@
+package com.codeops.vault.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TimerWheel}.
+ *
+ * <p>Covers firing at the deadline, cascading across levels, overflow,
+ * cancellation and rescheduling.</p>
+ */
+class TimerWheelTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void advance_firesAtDeadlineNotBefore() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, START);
+        wheel.schedule("a", START + 250);
+
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 299)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_cascadesDistantDeadlinesDownTheLevels() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, START);
+        long deadline = START + TimeUnit.HOURS.toMillis(20) + 7;
+        wheel.schedule("far", deadline);
+
+        assertThat(wheel.advance(deadline - 100)).isEmpty();
+        assertThat(wheel.advance(deadline + 100)).containsExactly("far");
+    }
+
+    @Test
+    void advance_deadlineBeyondTopLevel_firesFromOverflow() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, START);
+        long range = 1L << (TimerWheel.LEVELS * 6);
+        wheel.schedule("overflow", START + range + 5);
+
+        assertThat(wheel.advance(START + range)).isEmpty();
+        assertThat(wheel.advance(START + range + 5)).containsExactly("overflow");
+    }
+
+    @Test
+    void advance_randomDeadlines_fireInOrderWithinOneTick() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(10, START);
+        Random random = new Random(42);
+        long[] deadlines = new long[500];
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = START + random.nextInt((int) TimeUnit.MINUTES.toMillis(30));
+            wheel.schedule(i, deadlines[i]);
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        for (long now = START; now <= START + TimeUnit.MINUTES.toMillis(30) + 10; now += 1000) {
+            for (int key : wheel.advance(now)) {
+                assertThat(deadlines[key]).isLessThanOrEqualTo(now).isGreaterThan(now - 1000 - 10);
+                fired.add(key);
+            }
+        }
+        assertThat(fired).hasSize(deadlines.length).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void schedule_pastDeadline_firesOnNextAdvance() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, START);
+        wheel.schedule("late", START - 5000);
+
+        assertThat(wheel.advance(START)).containsExactly("late");
+    }
+
+    @Test
+    void cancel_removesDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, START);
+        wheel.schedule("a", START + 1000);
+        wheel.schedule("b", START - 1000);
+
+        assertThat(wheel.cancel("a")).isTrue();
+        assertThat(wheel.cancel("b")).isTrue();
+        assertThat(wheel.cancel("c")).isFalse();
+        assertThat(wheel.advance(START + 5000)).isEmpty();
+    }
+
+    @Test
+    void cancel_dueKey_keepsOtherDueKeysInOrder() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, START);
+        wheel.schedule("a", START - 3000);
+        wheel.schedule("b", START - 2000);
+        wheel.schedule("c", START - 1000);
+
+        assertThat(wheel.cancel("b")).isTrue();
+        assertThat(wheel.advance(START)).containsExactly("a", "c");
+    }
+
+    @Test
+    void schedule_existingKey_replacesDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, START);
+        wheel.schedule("a", START + 1000);
+        wheel.schedule("a", START + 5000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 1000)).isEmpty();
+        assertThat(wheel.advance(START + 5000)).containsExactly("a");
+    }
+}
@@ -0,0 +1,187 @@
+package com.codeops.vault.service;
+
+import com.codeops.vault.config.CacheProperties;
+import com.codeops.vault.entity.TransitKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TransitKeyRingCache}.
+ *
+ * <p>Covers seal-aware caching, version lookup, staleness detection,
+ * invalidation, the size bound, and the cache metrics.</p>
+ */
+class TransitKeyRingCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransitKeyRingCache cache;
+    private AtomicInteger loadCount;
+    private Function<TransitKey, List<KeyVersion>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CacheProperties properties = new CacheProperties();
+        properties.setTransitKeyRingMaxEntries(2);
+        cache = new TransitKeyRingCache(properties, meterRegistry);
+        loadCount = new AtomicInteger();
+        loader = key -> {
+            loadCount.incrementAndGet();
+            List<KeyVersion> versions = new ArrayList<>();
+            for (int v = 1; v <= key.getCurrentVersion(); v++) {
+                byte[] raw = new byte[32];
+                raw[0] = (byte) v;
+                versions.add(new KeyVersion(v, Base64.getEncoder().encodeToString(raw)));
+            }
+            return versions;
+        };
+    }
+
+    @Test
+    void getKey_whileSealed_loadsEveryTimeWithoutCaching() {
+        TransitKey key = buildKey(2, "material-a");
+
+        cache.getKey(key, 1, loader);
+        cache.getKey(key, 2, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getKey_whileUnsealed_loadsRingOnceForAllVersions() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(3, "material-a");
+
+        byte[] v1 = cache.getKey(key, 1, loader);
+        byte[] v3 = cache.getKey(key, 3, loader);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(v1[0]).isEqualTo((byte) 1);
+        assertThat(v3[0]).isEqualTo((byte) 3);
+    }
+
+    @Test
+    void getKey_unknownVersion_returnsNull() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(2, "material-a");
+
+        assertThat(cache.getKey(key, 5, loader)).isNull();
+        assertThat(cache.getKey(key, 0, loader)).isNull();
+    }
+
+    @Test
+    void getKey_returnsCopy_mutationDoesNotAffectCache() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(1, "material-a");
+
+        byte[] first = cache.getKey(key, 1, loader);
+        first[0] = 0;
+
+        assertThat(cache.getKey(key, 1, loader)[0]).isEqualTo((byte) 1);
+    }
+
+    @Test
+    void getKey_changedKeyMaterial_reloadsRing() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(1, "material-a");
+        cache.getKey(key, 1, loader);
+
+        key.setKeyMaterial("material-b");
+        key.setCurrentVersion(2);
+        byte[] v2 = cache.getKey(key, 2, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(v2[0]).isEqualTo((byte) 2);
+    }
+
+    @Test
+    void invalidate_dropsRing() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(1, "material-a");
+        cache.getKey(key, 1, loader);
+
+        cache.invalidate(key.getId());
+        cache.getKey(key, 1, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void getKey_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        cache.onUnsealed();
+        TransitKey a = buildKey(1, "material-a");
+        TransitKey b = buildKey(1, "material-b");
+        TransitKey c = buildKey(1, "material-c");
+
+        cache.getKey(a, 1, loader);
+        cache.getKey(b, 1, loader);
+        cache.getKey(a, 1, loader);
+        cache.getKey(c, 1, loader);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("vault.transit.keyring.evictions").counter().count()).isEqualTo(1.0);
+
+        // "a" was used most recently before "c" arrived, so "b" was evicted
+        cache.getKey(a, 1, loader);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void onSealed_wipesCacheAndDisablesCaching() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(1, "material-a");
+        byte[] held = cache.getKey(key, 1, loader);
+
+        cache.onSealed();
+
+        assertThat(cache.size()).isZero();
+        assertThat(held[0]).isEqualTo((byte) 1);
+
+        cache.getKey(key, 1, loader);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void metrics_trackHitsAndMisses() {
+        cache.onUnsealed();
+        TransitKey key = buildKey(1, "material-a");
+
+        cache.getKey(key, 1, loader);
+        cache.getKey(key, 1, loader);
+        cache.getKey(key, 1, loader);
+
+        assertThat(meterRegistry.get("vault.transit.keyring.misses").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("vault.transit.keyring.hits").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("vault.transit.keyring.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────
+
+    private TransitKey buildKey(int currentVersion, String keyMaterial) {
+        TransitKey key = TransitKey.builder()
+                .teamId(UUID.randomUUID())
+                .name("key-" + keyMaterial)
+                .currentVersion(currentVersion)
+                .minDecryptionVersion(1)
+                .keyMaterial(keyMaterial)
+                .algorithm("AES-256-GCM")
+                .isDeletable(false)
+                .isExportable(false)
+                .isActive(true)
+                .createdByUserId(UUID.randomUUID())
+                .build();
+        key.setId(UUID.randomUUID());
+        return key;
+    }
+}
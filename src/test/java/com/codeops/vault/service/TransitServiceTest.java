@@ -1,21 +1,29 @@
 package com.codeops.vault.service;
 
+import com.codeops.vault.config.CacheProperties;
 import com.codeops.vault.dto.mapper.TransitKeyMapper;
 import com.codeops.vault.dto.request.CreateTransitKeyRequest;
+import com.codeops.vault.dto.request.TransitBatchDecryptRequest;
+import com.codeops.vault.dto.request.TransitBatchEncryptRequest;
+import com.codeops.vault.dto.request.TransitBatchRewrapRequest;
 import com.codeops.vault.dto.request.TransitDecryptRequest;
 import com.codeops.vault.dto.request.TransitEncryptRequest;
 import com.codeops.vault.dto.request.TransitRewrapRequest;
 import com.codeops.vault.dto.request.UpdateTransitKeyRequest;
 import com.codeops.vault.dto.response.PageResponse;
+import com.codeops.vault.dto.response.TransitBatchDecryptResponse;
+import com.codeops.vault.dto.response.TransitBatchEncryptResponse;
 import com.codeops.vault.dto.response.TransitDecryptResponse;
 import com.codeops.vault.dto.response.TransitEncryptResponse;
 import com.codeops.vault.dto.response.TransitKeyResponse;
 import com.codeops.vault.entity.TransitKey;
+import com.codeops.vault.exception.CodeOpsVaultException;
 import com.codeops.vault.exception.NotFoundException;
 import com.codeops.vault.exception.ValidationException;
 import com.codeops.vault.repository.TransitKeyRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -28,12 +36,16 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -63,6 +75,9 @@ class TransitServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Spy
+    private TransitKeyRingCache keyRingCache = new TransitKeyRingCache(new CacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private TransitService transitService;
 
@@ -214,6 +229,7 @@ class TransitServiceTest {
         // Verify the new material includes both version 1 and 2
         verify(encryptionService).encrypt(argThat(json ->
                 json.contains("\"version\":1") && json.contains("\"version\":2")));
+        verify(keyRingCache).invalidate(keyId);
     }
 
     @Test
@@ -472,6 +488,228 @@ class TransitServiceTest {
                 .hasMessageContaining("below minimum");
     }
 
+    @Test
+    void getKeyForVersion_whileUnsealed_decryptsKeyRingOnce() {
+        keyRingCache.onUnsealed();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "cached-key", 2);
+
+        byte[] rawKey = new byte[32];
+        rawKey[0] = 7;
+        String b64Key = Base64.getEncoder().encodeToString(rawKey);
+        String keyMaterialJson = "[{\"version\":1,\"key\":\"" + b64Key + "\"},{\"version\":2,\"key\":\"" + b64Key + "\"}]";
+
+        when(encryptionService.decrypt(key.getKeyMaterial())).thenReturn(keyMaterialJson);
+
+        byte[] first = transitService.getKeyForVersion(key, 2);
+        byte[] second = transitService.getKeyForVersion(key, 1);
+
+        assertThat(first[0]).isEqualTo((byte) 7);
+        assertThat(second[0]).isEqualTo((byte) 7);
+        verify(encryptionService, times(1)).decrypt(key.getKeyMaterial());
+    }
+
+    @Test
+    void updateKey_invalidatesCachedKeyRing() {
+        keyRingCache.onUnsealed();
+        UUID keyId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(keyId, "update-cached-key", 1);
+
+        byte[] rawKey = new byte[32];
+        String b64Key = Base64.getEncoder().encodeToString(rawKey);
+        when(encryptionService.decrypt(key.getKeyMaterial()))
+                .thenReturn("[{\"version\":1,\"key\":\"" + b64Key + "\"}]");
+        transitService.getKeyForVersion(key, 1);
+        assertThat(keyRingCache.size()).isEqualTo(1);
+
+        when(transitKeyRepository.findById(keyId)).thenReturn(Optional.of(key));
+        when(transitKeyRepository.save(any(TransitKey.class))).thenAnswer(i -> i.getArgument(0));
+        when(transitKeyMapper.toResponse(any(TransitKey.class))).thenReturn(buildKeyResponse("update-cached-key", 1));
+
+        transitService.updateKey(keyId, new UpdateTransitKeyRequest(null, 1, null, null, null));
+
+        assertThat(keyRingCache.size()).isZero();
+    }
+
+    @Test
+    void deleteKey_invalidatesCachedKeyRing() {
+        UUID keyId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(keyId, "delete-cached-key", 1);
+        key.setIsDeletable(true);
+
+        when(transitKeyRepository.findById(keyId)).thenReturn(Optional.of(key));
+
+        transitService.deleteKey(keyId);
+
+        verify(keyRingCache).invalidate(keyId);
+    }
+
+    // ─── Batch Operations ───────────────────────────────────
+
+    @Test
+    void encryptBatch_resolvesKeyOnceAndReportsPerItemErrors() {
+        UUID teamId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "batch-key", 1);
+        byte[] rawKey = new byte[32];
+
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "batch-key")).thenReturn(Optional.of(key));
+        when(encryptionService.decrypt(key.getKeyMaterial())).thenReturn(keyMaterialJson(rawKey));
+        when(encryptionService.encryptWithKey(anyString(), eq("batch-key:v1"), eq(rawKey)))
+                .thenAnswer(inv -> "enc:" + inv.getArgument(0));
+        when(encryptionService.encryptWithKey(eq("bad"), eq("batch-key:v1"), eq(rawKey)))
+                .thenThrow(new CodeOpsVaultException("Encryption failed"));
+
+        TransitBatchEncryptResponse result = transitService.encryptBatch(
+                new TransitBatchEncryptRequest("batch-key", List.of("a", "bad", " ", "c")), teamId);
+
+        assertThat(result.errorCount()).isEqualTo(2);
+        assertThat(result.batchResults()).extracting("ciphertext").containsExactly("enc:a", null, null, "enc:c");
+        assertThat(result.batchResults().get(0).keyVersion()).isEqualTo(1);
+        assertThat(result.batchResults().get(1).error()).isEqualTo("Encryption failed");
+        assertThat(result.batchResults().get(2).error()).contains("must not be blank");
+        verify(encryptionService, times(1)).decrypt(key.getKeyMaterial());
+        verify(auditService, times(1)).logSuccess(eq(teamId), isNull(), eq("TRANSIT_BATCH_ENCRYPT"),
+                eq("batch-key"), eq("TRANSIT_KEY"), eq(key.getId()), contains("\"failed\":2"));
+    }
+
+    @Test
+    void encryptBatch_largeBatch_preservesInputOrder() {
+        UUID teamId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "large-key", 1);
+        byte[] rawKey = new byte[32];
+
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "large-key")).thenReturn(Optional.of(key));
+        when(encryptionService.decrypt(key.getKeyMaterial())).thenReturn(keyMaterialJson(rawKey));
+        when(encryptionService.encryptWithKey(anyString(), eq("large-key:v1"), eq(rawKey)))
+                .thenAnswer(inv -> "enc:" + inv.getArgument(0));
+
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            inputs.add("item-" + i);
+        }
+
+        TransitBatchEncryptResponse result = transitService.encryptBatch(
+                new TransitBatchEncryptRequest("large-key", inputs), teamId);
+
+        assertThat(result.errorCount()).isZero();
+        for (int i = 0; i < inputs.size(); i++) {
+            assertThat(result.batchResults().get(i).ciphertext()).isEqualTo("enc:item-" + i);
+        }
+    }
+
+    @Test
+    void decryptBatch_mixedVersions_resolvesEachVersionOnce() {
+        UUID teamId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "mixed-key", 3);
+        key.setMinDecryptionVersion(2);
+        byte[] rawKey2 = new byte[32];
+        rawKey2[0] = 2;
+        byte[] rawKey3 = new byte[32];
+        rawKey3[0] = 3;
+        String keyMaterialJson = "[{\"version\":2,\"key\":\"" + Base64.getEncoder().encodeToString(rawKey2)
+                + "\"},{\"version\":3,\"key\":\"" + Base64.getEncoder().encodeToString(rawKey3) + "\"}]";
+
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "mixed-key")).thenReturn(Optional.of(key));
+        when(encryptionService.decrypt(key.getKeyMaterial())).thenReturn(keyMaterialJson);
+        when(encryptionService.extractKeyId("ct-old")).thenReturn("mixed-key:v1");
+        when(encryptionService.extractKeyId("ct-2a")).thenReturn("mixed-key:v2");
+        when(encryptionService.extractKeyId("ct-2b")).thenReturn("mixed-key:v2");
+        when(encryptionService.extractKeyId("ct-3")).thenReturn("mixed-key:v3");
+        when(encryptionService.decryptWithKey("ct-2a", rawKey2)).thenReturn("p-2a");
+        when(encryptionService.decryptWithKey("ct-2b", rawKey2)).thenReturn("p-2b");
+        when(encryptionService.decryptWithKey("ct-3", rawKey3)).thenReturn("p-3");
+
+        TransitBatchDecryptResponse result = transitService.decryptBatch(
+                new TransitBatchDecryptRequest("mixed-key", List.of("ct-2a", "ct-old", "ct-2b", "ct-3")), teamId);
+
+        assertThat(result.errorCount()).isEqualTo(1);
+        assertThat(result.batchResults()).extracting("plaintext").containsExactly("p-2a", null, "p-2b", "p-3");
+        assertThat(result.batchResults().get(1).error()).contains("below minimum decryption version");
+        verify(encryptionService, times(1)).decrypt(key.getKeyMaterial());
+        verify(auditService, times(1)).logSuccess(eq(teamId), isNull(), eq("TRANSIT_BATCH_DECRYPT"),
+                eq("mixed-key"), eq("TRANSIT_KEY"), eq(key.getId()), anyString());
+    }
+
+    @Test
+    void decryptBatch_unknownKey_throwsNotFound() {
+        UUID teamId = UUID.randomUUID();
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> transitService.decryptBatch(
+                new TransitBatchDecryptRequest("missing", List.of("ct")), teamId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void rewrapBatch_rewrapsToCurrentVersion() {
+        UUID teamId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "rewrap-batch-key", 2);
+        byte[] rawKey1 = new byte[32];
+        rawKey1[0] = 1;
+        byte[] rawKey2 = new byte[32];
+        rawKey2[0] = 2;
+        String keyMaterialJson = "[{\"version\":1,\"key\":\"" + Base64.getEncoder().encodeToString(rawKey1)
+                + "\"},{\"version\":2,\"key\":\"" + Base64.getEncoder().encodeToString(rawKey2) + "\"}]";
+
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "rewrap-batch-key")).thenReturn(Optional.of(key));
+        when(encryptionService.decrypt(key.getKeyMaterial())).thenReturn(keyMaterialJson);
+        when(encryptionService.extractKeyId("ct-v1")).thenReturn("rewrap-batch-key:v1");
+        when(encryptionService.extractKeyId("garbage")).thenThrow(new ValidationException("Invalid envelope"));
+        when(encryptionService.rewrap("ct-v1", rawKey1, rawKey2, "rewrap-batch-key:v2")).thenReturn("ct-v2");
+
+        TransitBatchEncryptResponse result = transitService.rewrapBatch(
+                new TransitBatchRewrapRequest("rewrap-batch-key", List.of("ct-v1", "garbage")), teamId);
+
+        assertThat(result.errorCount()).isEqualTo(1);
+        assertThat(result.batchResults().get(0).ciphertext()).isEqualTo("ct-v2");
+        assertThat(result.batchResults().get(0).keyVersion()).isEqualTo(2);
+        assertThat(result.batchResults().get(1).error()).isEqualTo("Invalid envelope");
+    }
+
+    // ─── Streaming Operations ───────────────────────────────
+
+    @Test
+    void encryptStream_usesCurrentVersionAndAudits() {
+        UUID teamId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "stream-key", 1);
+        byte[] rawKey = new byte[32];
+        ByteArrayInputStream in = new ByteArrayInputStream(new byte[10]);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "stream-key")).thenReturn(Optional.of(key));
+        when(encryptionService.decrypt(key.getKeyMaterial())).thenReturn(keyMaterialJson(rawKey));
+        when(encryptionService.encryptStream(in, out, "stream-key:v1", rawKey)).thenReturn(10L);
+
+        long bytes = transitService.encryptStream("stream-key", teamId, in, out);
+
+        assertThat(bytes).isEqualTo(10L);
+        verify(auditService).logSuccess(eq(teamId), isNull(), eq("TRANSIT_STREAM_ENCRYPT"),
+                eq("stream-key"), eq("TRANSIT_KEY"), eq(key.getId()), contains("\"bytes\":10"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void decryptStream_resolvesVersionFromStreamHeader() {
+        UUID teamId = UUID.randomUUID();
+        TransitKey key = buildTransitKey(UUID.randomUUID(), "stream-key", 2);
+        key.setMinDecryptionVersion(2);
+        byte[] rawKey = new byte[32];
+        ByteArrayInputStream in = new ByteArrayInputStream(new byte[10]);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        when(transitKeyRepository.findByTeamIdAndName(teamId, "stream-key")).thenReturn(Optional.of(key));
+        when(encryptionService.decryptStream(eq(in), eq(out), any())).thenAnswer(inv -> {
+            Function<String, byte[]> resolver = inv.getArgument(2);
+            assertThatThrownBy(() -> resolver.apply("stream-key:v1"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("below minimum decryption version");
+            return 0L;
+        });
+
+        transitService.decryptStream("stream-key", teamId, in, out);
+
+        verify(encryptionService).decryptStream(eq(in), eq(out), any(Function.class));
+    }
+
     // ─── Helpers ────────────────────────────────────────────
 
     private TransitKey buildTransitKey(UUID keyId, String name, int currentVersion) {
@@ -492,6 +730,10 @@ class TransitServiceTest {
         return key;
     }
 
+    private String keyMaterialJson(byte[] rawKey) {
+        return "[{\"version\":1,\"key\":\"" + Base64.getEncoder().encodeToString(rawKey) + "\"}]";
+    }
+
     private TransitKeyResponse buildKeyResponse(String name, int currentVersion) {
         return new TransitKeyResponse(
                 UUID.randomUUID(), UUID.randomUUID(), name, "Test key",